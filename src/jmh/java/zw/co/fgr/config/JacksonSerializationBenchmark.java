@@ -0,0 +1,162 @@
+package zw.co.fgr.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import zw.co.fgr.domain.CdmsSubmission;
+import zw.co.fgr.domain.Customer;
+import zw.co.fgr.domain.CustomerIdentifier;
+import zw.co.fgr.domain.KycCase;
+import zw.co.fgr.domain.KycConsent;
+import zw.co.fgr.domain.KycDocument;
+import zw.co.fgr.domain.KycNotification;
+import zw.co.fgr.domain.enumeration.ChannelType;
+import zw.co.fgr.domain.enumeration.CustomerType;
+import zw.co.fgr.domain.enumeration.DocumentType;
+import zw.co.fgr.domain.enumeration.IdentifierType;
+import zw.co.fgr.domain.enumeration.KycStatus;
+import zw.co.fgr.domain.enumeration.NotificationType;
+import zw.co.fgr.domain.enumeration.SubmissionStatus;
+
+/**
+ * Measures JSON serialization of fully populated {@link KycCase} and {@link Customer} graphs with the modules registered
+ * by {@link JacksonConfiguration}, the way the REST resources write them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JacksonSerializationBenchmark {
+
+    /**
+     * Number of documents and notifications attached to the case, and of cases and identifiers attached to the customer.
+     */
+    @Param({ "1", "10" })
+    public int children;
+
+    private ObjectMapper objectMapper;
+
+    private KycCase kycCase;
+
+    private Customer customer;
+
+    @Setup
+    public void setUp() {
+        JacksonConfiguration jacksonConfiguration = new JacksonConfiguration();
+        objectMapper = new ObjectMapper()
+            .registerModule(jacksonConfiguration.javaTimeModule())
+            .registerModule(jacksonConfiguration.jdk8TimeModule())
+            .registerModule(jacksonConfiguration.hibernate6Module())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        Instant now = Instant.now();
+        customer = new Customer()
+            .id(1L)
+            .customerRef("FGR-CUST-00000001")
+            .customerType(CustomerType.INDIVIDUAL)
+            .fullName("Tendai Moyo")
+            .dateOfBirth(LocalDate.of(1990, 1, 1))
+            .idNumber("63-123456A78")
+            .address("12 Samora Machel Avenue, Harare")
+            .phoneNumber("+263771234567")
+            .createdAt(now)
+            .updatedAt(now);
+
+        kycCase = newKycCase(1L, now)
+            .consent(
+                new KycConsent()
+                    .id(1L)
+                    .consentText("I consent to the processing of my personal data.")
+                    .consented(true)
+                    .consentedAt(now)
+                    .channel(ChannelType.WHATSAPP)
+                    .consentVersion("v1")
+            )
+            .submission(
+                new CdmsSubmission()
+                    .id(1L)
+                    .submissionRef("SUB-00000001")
+                    .status(SubmissionStatus.PENDING)
+                    .attempts(0)
+                    .submittedAt(now)
+            );
+        kycCase.customer(customer);
+        customer.addKycCase(kycCase);
+
+        for (long i = 1; i <= children; i++) {
+            kycCase.addKycDocument(
+                new KycDocument()
+                    .id(i)
+                    .documentType(DocumentType.NATIONAL_ID)
+                    .fileName("national-id-" + i + ".jpg")
+                    .mimeType("image/jpeg")
+                    .storagePath("ab/cd/abcdef" + i)
+                    .fileSize(250_000L)
+                    .uploadedAt(now)
+                    .deleted(false)
+                    .checksum("e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855")
+            );
+            kycCase.addKycNotification(
+                new KycNotification()
+                    .id(i)
+                    .notificationType(NotificationType.DOCUMENT_RECEIVED)
+                    .message("We received your document.")
+                    .sentAt(now)
+                    .delivered(true)
+                    .deliveredAt(now)
+            );
+            customer.addCustomerIdentifier(
+                new CustomerIdentifier()
+                    .id(i)
+                    .identifierType(IdentifierType.PHONE_NUMBER)
+                    .identifierValue("+26377123456" + i)
+                    .channel(ChannelType.WHATSAPP)
+                    .verified(true)
+                    .isPrimary(i == 1)
+                    .createdAt(now)
+            );
+            if (i > 1) {
+                customer.addKycCase(newKycCase(i, now));
+            }
+        }
+    }
+
+    private static KycCase newKycCase(long id, Instant now) {
+        return new KycCase()
+            .id(id)
+            .kycRef(String.format("FGR%08d-%03d", 20261017, id))
+            .status(KycStatus.IN_PROGRESS)
+            .channel(ChannelType.WHATSAPP)
+            .startedAt(now.minus(1, ChronoUnit.HOURS))
+            .lastActivityAt(now)
+            .lastUpdatedAt(now)
+            .expiresAt(now.plus(30, ChronoUnit.DAYS));
+    }
+
+    @Benchmark
+    public byte[] serializeKycCase() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(kycCase);
+    }
+
+    @Benchmark
+    public byte[] serializeCustomer() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(customer);
+    }
+}
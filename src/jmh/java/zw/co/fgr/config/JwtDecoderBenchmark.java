@@ -0,0 +1,95 @@
+package zw.co.fgr.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.test.util.ReflectionTestUtils;
+import zw.co.fgr.management.SecurityMetersService;
+import zw.co.fgr.security.jwt.JwtAuthenticationTestUtils;
+
+/**
+ * Measures the {@link JwtDecoder} built by {@link SecurityJwtConfiguration}, which runs on every authenticated request,
+ * for a valid token and for the expired and badly signed tokens that go through its error classification.
+ * <p>
+ * The valid token is decoded both by the default decoder, where it is resent and hits the cache of verified tokens, and
+ * by a decoder with {@code application.jwt-cache.enabled} off, where it is verified on every call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtDecoderBenchmark {
+
+    // Same secret as jhipster.security.authentication.jwt.base64-secret in the test configuration
+    private static final String JWT_KEY =
+        "MjNjYWMzZjg2MWQ5NTlhOTg0OGNlYTgyYTRkNzVjN2MxMzVhOGNhNzY3NzZkOWY2NDM0ODdmMTVlN2JiMzE3MmY3NmVmNDUwYmJkYWYyZGM1ZGU1ZjQzM2ZlNzYxNjViZDIxY2I5NGZmMTJmMzc1NTkzZjM1MGQyYmQ2NDhlMDg=";
+
+    private JwtDecoder jwtDecoder;
+
+    private JwtDecoder uncachedJwtDecoder;
+
+    private String validToken;
+
+    private String expiredToken;
+
+    private String invalidSignatureToken;
+
+    @Setup
+    public void setUp() {
+        SecurityJwtConfiguration securityJwtConfiguration = new SecurityJwtConfiguration();
+        ReflectionTestUtils.setField(securityJwtConfiguration, "jwtKey", JWT_KEY);
+        SecurityMetersService metersService = new SecurityMetersService(new SimpleMeterRegistry());
+        jwtDecoder = securityJwtConfiguration.jwtDecoder(metersService, new ApplicationProperties());
+        ApplicationProperties uncached = new ApplicationProperties();
+        uncached.getJwtCache().setEnabled(false);
+        uncachedJwtDecoder = securityJwtConfiguration.jwtDecoder(metersService, uncached);
+
+        // the valid token expires after 60 seconds, tokens are created per trial which runs well within that
+        validToken = JwtAuthenticationTestUtils.createValidToken(JWT_KEY);
+        expiredToken = JwtAuthenticationTestUtils.createExpiredToken(JWT_KEY);
+        invalidSignatureToken = JwtAuthenticationTestUtils.createTokenWithDifferentSignature();
+    }
+
+    @Benchmark
+    public Jwt decodeValidToken() {
+        return jwtDecoder.decode(validToken);
+    }
+
+    @Benchmark
+    public Jwt decodeValidTokenUncached() {
+        return uncachedJwtDecoder.decode(validToken);
+    }
+
+    @Benchmark
+    public JwtException decodeExpiredToken() {
+        return decodeRejected(expiredToken);
+    }
+
+    @Benchmark
+    public JwtException decodeInvalidSignatureToken() {
+        return decodeRejected(invalidSignatureToken);
+    }
+
+    private JwtException decodeRejected(String token) {
+        try {
+            jwtDecoder.decode(token);
+        } catch (JwtException e) {
+            return e;
+        }
+        throw new IllegalStateException("Token was accepted");
+    }
+}
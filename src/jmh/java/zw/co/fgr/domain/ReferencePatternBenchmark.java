@@ -0,0 +1,82 @@
+package zw.co.fgr.domain;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures validation of the {@code kycRef} and {@code customerRef} patterns through Bean Validation, as done on every
+ * create and update, against matching the same expressions with a precompiled {@link Pattern}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReferencePatternBenchmark {
+
+    private static final Pattern KYC_REF_PATTERN = Pattern.compile("^FGR[0-9]{8}-[0-9]{3}$");
+
+    private static final Pattern CUSTOMER_REF_PATTERN = Pattern.compile("^FGR-CUST-[0-9]{8}$");
+
+    @Param({ "true", "false" })
+    public boolean valid;
+
+    private ValidatorFactory validatorFactory;
+
+    private Validator validator;
+
+    private KycCase kycCase;
+
+    private Customer customer;
+
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        kycCase = new KycCase().kycRef(valid ? "FGR20261017-001" : "FGR2026101-0001");
+        customer = new Customer().customerRef(valid ? "FGR-CUST-00000001" : "FGR-CUST-0000001X");
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<KycCase>> validateKycRef() {
+        return validator.validateProperty(kycCase, "kycRef");
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<Customer>> validateCustomerRef() {
+        return validator.validateProperty(customer, "customerRef");
+    }
+
+    @Benchmark
+    public boolean matchKycRef() {
+        return KYC_REF_PATTERN.matcher(kycCase.getKycRef()).matches();
+    }
+
+    @Benchmark
+    public boolean matchCustomerRef() {
+        return CUSTOMER_REF_PATTERN.matcher(customer.getCustomerRef()).matches();
+    }
+}
@@ -0,0 +1,144 @@
+package zw.co.fgr.service;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.MySQLDialect;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.data.jpa.domain.Specification;
+import zw.co.fgr.domain.KycCase;
+import zw.co.fgr.domain.enumeration.ChannelType;
+import zw.co.fgr.domain.enumeration.KycStatus;
+import zw.co.fgr.service.criteria.KycCaseCriteria;
+
+/**
+ * Measures how long {@link KycCaseQueryService#createSpecification(KycCaseCriteria)} takes to turn the criteria sent by
+ * the KYC case grid into the predicate of a {@code KycCase} criteria query, from an empty filter up to one using every
+ * kind of filter.
+ * <p>
+ * The predicates are built against the criteria builder of a Hibernate session factory booted from the entities of the
+ * domain package, with the MySQL dialect and without any database access, so that the joins and paths are resolved
+ * against the real metamodel.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KycCaseQueryServiceBenchmark {
+
+    private SessionFactory sessionFactory;
+
+    private CriteriaBuilder criteriaBuilder;
+
+    private KycCaseQueryService kycCaseQueryService;
+
+    private KycCaseCriteria emptyCriteria;
+
+    private KycCaseCriteria typicalCriteria;
+
+    private KycCaseCriteria fullCriteria;
+
+    @Setup
+    public void setUp() {
+        StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+            .applySettings(
+                Map.of(
+                    AvailableSettings.DIALECT,
+                    MySQLDialect.class.getName(),
+                    AvailableSettings.ALLOW_METADATA_ON_BOOT,
+                    false,
+                    AvailableSettings.USE_SECOND_LEVEL_CACHE,
+                    false,
+                    AvailableSettings.HBM2DDL_AUTO,
+                    "none"
+                )
+            )
+            .build();
+        MetadataSources metadataSources = new MetadataSources(registry);
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AnnotationTypeFilter(Entity.class));
+        for (BeanDefinition entity : scanner.findCandidateComponents(KycCase.class.getPackageName())) {
+            metadataSources.addAnnotatedClassName(entity.getBeanClassName());
+        }
+        sessionFactory = metadataSources.buildMetadata().buildSessionFactory();
+        criteriaBuilder = sessionFactory.getCriteriaBuilder();
+
+        // toPredicate only needs the criteria builder, so neither the repository nor the projection service is needed
+        kycCaseQueryService = new KycCaseQueryService(null, null);
+
+        emptyCriteria = new KycCaseCriteria();
+
+        typicalCriteria = new KycCaseCriteria();
+        typicalCriteria.status().setIn(List.of(KycStatus.STARTED, KycStatus.IN_PROGRESS, KycStatus.AWAITING_DOCUMENTS));
+        typicalCriteria.lastActivityAt().setLessThan(Instant.now().minus(1, ChronoUnit.DAYS));
+
+        fullCriteria = new KycCaseCriteria();
+        fullCriteria.id().setGreaterThan(0L);
+        fullCriteria.kycRef().setContains("FGR2026");
+        fullCriteria.status().setIn(List.of(KycStatus.SUBMITTED, KycStatus.APPROVED));
+        fullCriteria.channel().setEquals(ChannelType.WHATSAPP);
+        fullCriteria.startedAt().setGreaterThanOrEqual(Instant.now().minus(30, ChronoUnit.DAYS));
+        fullCriteria.lastActivityAt().setLessThan(Instant.now());
+        fullCriteria.lastUpdatedAt().setSpecified(true);
+        fullCriteria.completedAt().setSpecified(false);
+        fullCriteria.expiresAt().setGreaterThan(Instant.now());
+        fullCriteria.consentId().setSpecified(true);
+        fullCriteria.submissionId().setEquals(1L);
+        fullCriteria.customerId().setIn(List.of(1L, 2L, 3L));
+        fullCriteria.setDistinct(true);
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public Predicate emptyCriteria() {
+        return toPredicate(emptyCriteria);
+    }
+
+    @Benchmark
+    public Predicate typicalCriteria() {
+        return toPredicate(typicalCriteria);
+    }
+
+    @Benchmark
+    public Predicate fullCriteria() {
+        return toPredicate(fullCriteria);
+    }
+
+    private Predicate toPredicate(KycCaseCriteria criteria) {
+        Specification<KycCase> specification = kycCaseQueryService.createSpecification(criteria);
+        CriteriaQuery<KycCase> query = criteriaBuilder.createQuery(KycCase.class);
+        Root<KycCase> root = query.from(KycCase.class);
+        return specification.toPredicate(root, query, criteriaBuilder);
+    }
+}
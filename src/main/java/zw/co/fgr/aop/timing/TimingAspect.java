@@ -0,0 +1,148 @@
+package zw.co.fgr.aop.timing;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Aspect recording the execution time of service and repository Spring components as the {@value #METER_NAME} timer,
+ * tagged with the {@code class} and {@code method} called and the {@code exception} thrown, if any.
+ * <p>
+ * Unlike {@link zw.co.fgr.aop.logging.LoggingAspect} it is meant to stay enabled in production: timers are looked up once
+ * per method and cached, arguments are never rendered, and only a fraction of the calls can be recorded
+ * ({@code sampleRate}), in which case the timer counts are sampled counts. Calls slower than {@code slowThreshold} are
+ * always logged, sampled or not.
+ */
+@Aspect
+public class TimingAspect {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TimingAspect.class);
+
+    public static final String METER_NAME = "method.timed";
+
+    private static final String APPLICATION_PACKAGE = "zw.co.fgr.";
+
+    private static final String NO_EXCEPTION = "none";
+
+    private final MeterRegistry registry;
+
+    private final double sampleRate;
+
+    private final long slowThresholdNanos;
+
+    private final Map<Class<?>, Map<Method, Timer>> timers = new ConcurrentHashMap<>();
+
+    private final Map<Class<?>, String> classNames = new ConcurrentHashMap<>();
+
+    /**
+     * @param registry the registry to publish to.
+     * @param sampleRate the fraction of calls recorded, from {@code 0} (none) to {@code 1} (all).
+     * @param slowThreshold calls taking longer are logged; {@code null} or zero disables the log.
+     */
+    public TimingAspect(MeterRegistry registry, double sampleRate, Duration slowThreshold) {
+        this.registry = registry;
+        this.sampleRate = sampleRate;
+        this.slowThresholdNanos = slowThreshold == null || slowThreshold.isZero() ? Long.MAX_VALUE : slowThreshold.toNanos();
+    }
+
+    /**
+     * Pointcut that matches all services.
+     */
+    @Pointcut("within(zw.co.fgr.service..*) && within(@org.springframework.stereotype.Service *)")
+    public void servicePointcut() {
+        // Method is empty as this is just a Pointcut, the implementations are in the advices.
+    }
+
+    /**
+     * Pointcut that matches all Spring Data repositories, including the methods they inherit.
+     */
+    @Pointcut("target(org.springframework.data.repository.Repository)")
+    public void repositoryPointcut() {
+        // Method is empty as this is just a Pointcut, the implementations are in the advices.
+    }
+
+    /**
+     * Advice that times a method call.
+     *
+     * @param joinPoint join point for advice.
+     * @return result.
+     * @throws Throwable whatever the method throws.
+     */
+    @Around("servicePointcut() || repositoryPointcut()")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        long start = System.nanoTime();
+        Throwable failure = null;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            boolean sampled = sampleRate >= 1 || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+            if (sampled) {
+                timer(joinPoint, failure).record(elapsed, TimeUnit.NANOSECONDS);
+            }
+            if (elapsed >= slowThresholdNanos) {
+                LOG.warn(
+                    "Slow call: {}.{}() took {} ms",
+                    className(joinPoint.getThis().getClass()),
+                    joinPoint.getSignature().getName(),
+                    TimeUnit.NANOSECONDS.toMillis(elapsed)
+                );
+            }
+        }
+    }
+
+    private Timer timer(ProceedingJoinPoint joinPoint, Throwable failure) {
+        Class<?> type = joinPoint.getThis().getClass();
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        if (failure != null) {
+            // not cached: failures are rare and the exception type is only known now
+            return timer(type, method, failure.getClass().getSimpleName());
+        }
+        return timers
+            .computeIfAbsent(type, key -> new ConcurrentHashMap<>())
+            .computeIfAbsent(method, key -> timer(type, key, NO_EXCEPTION));
+    }
+
+    private Timer timer(Class<?> type, Method method, String exception) {
+        return Timer.builder(METER_NAME)
+            .description("Execution time of service and repository methods")
+            .tag("class", className(type))
+            .tag("method", method.getName())
+            .tag("exception", exception)
+            .register(registry);
+    }
+
+    /**
+     * Resolves the name used for a proxy class: the bean class for class-based proxies of services, the application
+     * interface for JDK proxies such as the ones implementing Spring Data repositories.
+     */
+    private String className(Class<?> type) {
+        return classNames.computeIfAbsent(type, key -> {
+            if (Proxy.isProxyClass(key)) {
+                for (Class<?> candidate : key.getInterfaces()) {
+                    if (candidate.getName().startsWith(APPLICATION_PACKAGE)) {
+                        return candidate.getSimpleName();
+                    }
+                }
+            }
+            return ClassUtils.getUserClass(key).getSimpleName();
+        });
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Timing aspect.
+ */
+package zw.co.fgr.aop.timing;
@@ -1,6 +1,13 @@
 package zw.co.fgr.config;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import zw.co.fgr.domain.enumeration.ChannelType;
 
 /**
  * Properties specific to Fgr Know Your Customer.
@@ -13,12 +20,90 @@ public class ApplicationProperties {
 
     private final Liquibase liquibase = new Liquibase();
 
+    private final KycCaseSweeper kycCaseSweeper = new KycCaseSweeper();
+
+    private final Cdms cdms = new Cdms();
+
+    private final DocumentStorage documentStorage = new DocumentStorage();
+
+    private final RequestStatistics requestStatistics = new RequestStatistics();
+
+    private final Timing timing = new Timing();
+
+    private final VirtualThreads virtualThreads = new VirtualThreads();
+
+    private final Mail mail = new Mail();
+
+    private final Notifications notifications = new Notifications();
+
+    private final Cache cache = new Cache();
+
+    private final ReadReplicas readReplicas = new ReadReplicas();
+
+    private final JwtCache jwtCache = new JwtCache();
+
+    private final KycFunnel kycFunnel = new KycFunnel();
+
+    private final KycCaseStream kycCaseStream = new KycCaseStream();
+
     // jhipster-needle-application-properties-property
 
     public Liquibase getLiquibase() {
         return liquibase;
     }
 
+    public KycCaseSweeper getKycCaseSweeper() {
+        return kycCaseSweeper;
+    }
+
+    public Cdms getCdms() {
+        return cdms;
+    }
+
+    public DocumentStorage getDocumentStorage() {
+        return documentStorage;
+    }
+
+    public RequestStatistics getRequestStatistics() {
+        return requestStatistics;
+    }
+
+    public Timing getTiming() {
+        return timing;
+    }
+
+    public VirtualThreads getVirtualThreads() {
+        return virtualThreads;
+    }
+
+    public Mail getMail() {
+        return mail;
+    }
+
+    public Notifications getNotifications() {
+        return notifications;
+    }
+
+    public Cache getCache() {
+        return cache;
+    }
+
+    public ReadReplicas getReadReplicas() {
+        return readReplicas;
+    }
+
+    public JwtCache getJwtCache() {
+        return jwtCache;
+    }
+
+    public KycFunnel getKycFunnel() {
+        return kycFunnel;
+    }
+
+    public KycCaseStream getKycCaseStream() {
+        return kycCaseStream;
+    }
+
     // jhipster-needle-application-properties-property-getter
 
     public static class Liquibase {
@@ -34,5 +119,1089 @@ public class ApplicationProperties {
         }
     }
 
+    public static class KycCaseSweeper {
+
+        private boolean enabled = true;
+
+        /**
+         * Delay between the end of a sweep and the start of the next one, read by the {@code @Scheduled} trigger.
+         */
+        private Duration fixedDelay = Duration.ofMinutes(1);
+
+        /**
+         * Open cases without activity for longer than this are moved to {@code TIMEOUT}.
+         */
+        private Duration inactivityTimeout = Duration.ofHours(72);
+
+        private int chunkSize = 500;
+
+        private int maxChunksPerRun = 20;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Duration getFixedDelay() {
+            return fixedDelay;
+        }
+
+        public void setFixedDelay(Duration fixedDelay) {
+            this.fixedDelay = fixedDelay;
+        }
+
+        public Duration getInactivityTimeout() {
+            return inactivityTimeout;
+        }
+
+        public void setInactivityTimeout(Duration inactivityTimeout) {
+            this.inactivityTimeout = inactivityTimeout;
+        }
+
+        public int getChunkSize() {
+            return chunkSize;
+        }
+
+        public void setChunkSize(int chunkSize) {
+            this.chunkSize = chunkSize;
+        }
+
+        public int getMaxChunksPerRun() {
+            return maxChunksPerRun;
+        }
+
+        public void setMaxChunksPerRun(int maxChunksPerRun) {
+            this.maxChunksPerRun = maxChunksPerRun;
+        }
+    }
+
+    public static class Cdms {
+
+        /**
+         * Base URL of the CDMS submission API. The HTTP client is only created when this is set.
+         */
+        private String baseUrl;
+
+        private String apiKey;
+
+        private Duration connectTimeout = Duration.ofSeconds(5);
+
+        private Duration readTimeout = Duration.ofSeconds(30);
+
+        private final Dispatcher dispatcher = new Dispatcher();
+
+        public String getBaseUrl() {
+            return baseUrl;
+        }
+
+        public void setBaseUrl(String baseUrl) {
+            this.baseUrl = baseUrl;
+        }
+
+        public String getApiKey() {
+            return apiKey;
+        }
+
+        public void setApiKey(String apiKey) {
+            this.apiKey = apiKey;
+        }
+
+        public Duration getConnectTimeout() {
+            return connectTimeout;
+        }
+
+        public void setConnectTimeout(Duration connectTimeout) {
+            this.connectTimeout = connectTimeout;
+        }
+
+        public Duration getReadTimeout() {
+            return readTimeout;
+        }
+
+        public void setReadTimeout(Duration readTimeout) {
+            this.readTimeout = readTimeout;
+        }
+
+        public Dispatcher getDispatcher() {
+            return dispatcher;
+        }
+
+        public static class Dispatcher {
+
+            private boolean enabled = true;
+
+            /**
+             * Delay between the end of a dispatch run and the start of the next one, read by the {@code @Scheduled} trigger.
+             */
+            private Duration fixedDelay = Duration.ofSeconds(10);
+
+            /**
+             * Maximum number of due submissions claimed per run.
+             */
+            private int batchSize = 50;
+
+            /**
+             * Number of submissions sent to CDMS concurrently.
+             */
+            private int workerThreads = 4;
+
+            /**
+             * Attempts after which a submission is marked {@code FAILED}; capped by the entity's own limit of 3.
+             */
+            private int maxAttempts = 3;
+
+            private Duration initialBackoff = Duration.ofMinutes(1);
+
+            private Duration maxBackoff = Duration.ofHours(1);
+
+            /**
+             * How long a claimed submission stays invisible to other dispatchers while its call to CDMS is in flight.
+             */
+            private Duration lease = Duration.ofMinutes(5);
+
+            public boolean isEnabled() {
+                return enabled;
+            }
+
+            public void setEnabled(boolean enabled) {
+                this.enabled = enabled;
+            }
+
+            public Duration getFixedDelay() {
+                return fixedDelay;
+            }
+
+            public void setFixedDelay(Duration fixedDelay) {
+                this.fixedDelay = fixedDelay;
+            }
+
+            public int getBatchSize() {
+                return batchSize;
+            }
+
+            public void setBatchSize(int batchSize) {
+                this.batchSize = batchSize;
+            }
+
+            public int getWorkerThreads() {
+                return workerThreads;
+            }
+
+            public void setWorkerThreads(int workerThreads) {
+                this.workerThreads = workerThreads;
+            }
+
+            public int getMaxAttempts() {
+                return maxAttempts;
+            }
+
+            public void setMaxAttempts(int maxAttempts) {
+                this.maxAttempts = maxAttempts;
+            }
+
+            public Duration getInitialBackoff() {
+                return initialBackoff;
+            }
+
+            public void setInitialBackoff(Duration initialBackoff) {
+                this.initialBackoff = initialBackoff;
+            }
+
+            public Duration getMaxBackoff() {
+                return maxBackoff;
+            }
+
+            public void setMaxBackoff(Duration maxBackoff) {
+                this.maxBackoff = maxBackoff;
+            }
+
+            public Duration getLease() {
+                return lease;
+            }
+
+            public void setLease(Duration lease) {
+                this.lease = lease;
+            }
+        }
+    }
+
+    public static class DocumentStorage {
+
+        /**
+         * Directory under which document contents are stored, by content address.
+         */
+        private String rootDirectory = "data/documents";
+
+        /**
+         * Default retention of uploaded documents, used when the upload does not set {@code expiresAt}.
+         */
+        private Duration retention = Duration.ofDays(365);
+
+        public String getRootDirectory() {
+            return rootDirectory;
+        }
+
+        public void setRootDirectory(String rootDirectory) {
+            this.rootDirectory = rootDirectory;
+        }
+
+        public Duration getRetention() {
+            return retention;
+        }
+
+        public void setRetention(Duration retention) {
+            this.retention = retention;
+        }
+    }
+
+    public static class RequestStatistics {
+
+        private boolean enabled = true;
+
+        /**
+         * Requests preparing more JDBC statements than this are logged as possible N+1 selects; {@code 0} disables the warning.
+         */
+        private int statementWarnThreshold = 20;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getStatementWarnThreshold() {
+            return statementWarnThreshold;
+        }
+
+        public void setStatementWarnThreshold(int statementWarnThreshold) {
+            this.statementWarnThreshold = statementWarnThreshold;
+        }
+    }
+
+    public static class Timing {
+
+        private boolean enabled = true;
+
+        /**
+         * Fraction of service and repository calls recorded by the timing aspect, from {@code 0} to {@code 1}.
+         */
+        private double sampleRate = 1;
+
+        /**
+         * Service and repository calls taking longer than this are logged; zero disables the log.
+         */
+        private Duration slowThreshold = Duration.ofMillis(500);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public double getSampleRate() {
+            return sampleRate;
+        }
+
+        public void setSampleRate(double sampleRate) {
+            this.sampleRate = sampleRate;
+        }
+
+        public Duration getSlowThreshold() {
+            return slowThreshold;
+        }
+
+        public void setSlowThreshold(Duration slowThreshold) {
+            this.slowThreshold = slowThreshold;
+        }
+    }
+
+    public static class VirtualThreads {
+
+        /**
+         * Virtual threads pinned to their carrier for longer than this are recorded and logged.
+         */
+        private Duration pinnedThreshold = Duration.ofMillis(20);
+
+        public Duration getPinnedThreshold() {
+            return pinnedThreshold;
+        }
+
+        public void setPinnedThreshold(Duration pinnedThreshold) {
+            this.pinnedThreshold = pinnedThreshold;
+        }
+    }
+
+    public static class Mail {
+
+        /**
+         * Messages waiting to be sent; when full, new messages go straight to the retry store.
+         */
+        private int queueCapacity = 1000;
+
+        /**
+         * Delay between two flushes of the queue, read by the {@code @Scheduled} trigger.
+         */
+        private Duration fixedDelay = Duration.ofSeconds(1);
+
+        /**
+         * Maximum number of messages sent over one SMTP connection.
+         */
+        private int batchSize = 50;
+
+        /**
+         * Messages sent per minute to any one recipient domain; {@code 0} disables the limit.
+         */
+        private int ratePerMinute = 60;
+
+        /**
+         * Per-domain overrides of {@code rate-per-minute}, keyed by domain.
+         */
+        private final Map<String, Integer> domainRatesPerMinute = new LinkedHashMap<>();
+
+        private final Retry retry = new Retry();
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public Duration getFixedDelay() {
+            return fixedDelay;
+        }
+
+        public void setFixedDelay(Duration fixedDelay) {
+            this.fixedDelay = fixedDelay;
+        }
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public int getRatePerMinute() {
+            return ratePerMinute;
+        }
+
+        public void setRatePerMinute(int ratePerMinute) {
+            this.ratePerMinute = ratePerMinute;
+        }
+
+        public Map<String, Integer> getDomainRatesPerMinute() {
+            return domainRatesPerMinute;
+        }
+
+        public Retry getRetry() {
+            return retry;
+        }
+
+        public static class Retry {
+
+            private boolean enabled = true;
+
+            /**
+             * Delay between the end of a retry run and the start of the next one, read by the {@code @Scheduled} trigger.
+             */
+            private Duration fixedDelay = Duration.ofMinutes(1);
+
+            /**
+             * Maximum number of stored messages claimed per run.
+             */
+            private int batchSize = 50;
+
+            /**
+             * Attempts after which a stored message is given up on and kept for inspection only.
+             */
+            private int maxAttempts = 5;
+
+            /**
+             * How long a given-up message is kept for inspection before being purged.
+             */
+            private Duration retention = Duration.ofDays(7);
+
+            private Duration initialBackoff = Duration.ofMinutes(1);
+
+            private Duration maxBackoff = Duration.ofHours(1);
+
+            /**
+             * How long a claimed message stays invisible to other nodes while it is being sent.
+             */
+            private Duration lease = Duration.ofMinutes(5);
+
+            public boolean isEnabled() {
+                return enabled;
+            }
+
+            public void setEnabled(boolean enabled) {
+                this.enabled = enabled;
+            }
+
+            public Duration getFixedDelay() {
+                return fixedDelay;
+            }
+
+            public void setFixedDelay(Duration fixedDelay) {
+                this.fixedDelay = fixedDelay;
+            }
+
+            public int getBatchSize() {
+                return batchSize;
+            }
+
+            public void setBatchSize(int batchSize) {
+                this.batchSize = batchSize;
+            }
+
+            public int getMaxAttempts() {
+                return maxAttempts;
+            }
+
+            public void setMaxAttempts(int maxAttempts) {
+                this.maxAttempts = maxAttempts;
+            }
+
+            public Duration getRetention() {
+                return retention;
+            }
+
+            public void setRetention(Duration retention) {
+                this.retention = retention;
+            }
+
+            public Duration getInitialBackoff() {
+                return initialBackoff;
+            }
+
+            public void setInitialBackoff(Duration initialBackoff) {
+                this.initialBackoff = initialBackoff;
+            }
+
+            public Duration getMaxBackoff() {
+                return maxBackoff;
+            }
+
+            public void setMaxBackoff(Duration maxBackoff) {
+                this.maxBackoff = maxBackoff;
+            }
+
+            public Duration getLease() {
+                return lease;
+            }
+
+            public void setLease(Duration lease) {
+                this.lease = lease;
+            }
+        }
+    }
+
+    public static class Notifications {
+
+        private boolean enabled = true;
+
+        /**
+         * Delay between the end of a dispatch run and the start of the next one, read by the {@code @Scheduled} trigger.
+         */
+        private Duration fixedDelay = Duration.ofSeconds(5);
+
+        /**
+         * Maximum number of due notifications claimed per channel and run; their outcomes are saved in one transaction.
+         */
+        private int batchSize = 200;
+
+        /**
+         * Number of notifications sent concurrently on each channel, unless overridden in {@code channels}.
+         */
+        private int concurrency = 4;
+
+        /**
+         * Notifications sent per minute on each channel, unless overridden in {@code channels}; {@code 0} means unlimited.
+         */
+        private int ratePerMinute = 0;
+
+        /**
+         * Attempts after which a notification is moved to {@code DEAD_LETTER}.
+         */
+        private int maxAttempts = 5;
+
+        private Duration initialBackoff = Duration.ofSeconds(30);
+
+        private Duration maxBackoff = Duration.ofMinutes(30);
+
+        /**
+         * How long a claimed notification stays invisible to other dispatchers while it is being sent.
+         */
+        private Duration lease = Duration.ofMinutes(5);
+
+        private final Map<ChannelType, Channel> channels = new EnumMap<>(ChannelType.class);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Duration getFixedDelay() {
+            return fixedDelay;
+        }
+
+        public void setFixedDelay(Duration fixedDelay) {
+            this.fixedDelay = fixedDelay;
+        }
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public int getConcurrency() {
+            return concurrency;
+        }
+
+        public void setConcurrency(int concurrency) {
+            this.concurrency = concurrency;
+        }
+
+        public int getRatePerMinute() {
+            return ratePerMinute;
+        }
+
+        public void setRatePerMinute(int ratePerMinute) {
+            this.ratePerMinute = ratePerMinute;
+        }
+
+        public int getMaxAttempts() {
+            return maxAttempts;
+        }
+
+        public void setMaxAttempts(int maxAttempts) {
+            this.maxAttempts = maxAttempts;
+        }
+
+        public Duration getInitialBackoff() {
+            return initialBackoff;
+        }
+
+        public void setInitialBackoff(Duration initialBackoff) {
+            this.initialBackoff = initialBackoff;
+        }
+
+        public Duration getMaxBackoff() {
+            return maxBackoff;
+        }
+
+        public void setMaxBackoff(Duration maxBackoff) {
+            this.maxBackoff = maxBackoff;
+        }
+
+        public Duration getLease() {
+            return lease;
+        }
+
+        public void setLease(Duration lease) {
+            this.lease = lease;
+        }
+
+        public Map<ChannelType, Channel> getChannels() {
+            return channels;
+        }
+
+        /**
+         * Per-channel overrides; unset values fall back to the defaults above.
+         */
+        public static class Channel {
+
+            private Integer concurrency;
+
+            private Integer ratePerMinute;
+
+            public Integer getConcurrency() {
+                return concurrency;
+            }
+
+            public void setConcurrency(Integer concurrency) {
+                this.concurrency = concurrency;
+            }
+
+            public Integer getRatePerMinute() {
+                return ratePerMinute;
+            }
+
+            public void setRatePerMinute(Integer ratePerMinute) {
+                this.ratePerMinute = ratePerMinute;
+            }
+        }
+    }
+
+    public static class Cache {
+
+        /**
+         * {@code ehcache} keeps the second-level cache local to each node; {@code hazelcast} shares it between the nodes
+         * of a cluster.
+         */
+        private Provider provider = Provider.EHCACHE;
+
+        private final Hazelcast hazelcast = new Hazelcast();
+
+        /**
+         * Directory of the disk tier; a region's {@code disk-mb} is only allowed when this is set.
+         */
+        private String diskDirectory;
+
+        /**
+         * Per-region sizing and expiry, keyed by cache name with the {@code zw.co.fgr.domain.} prefix left out, e.g.
+         * {@code Customer}, {@code '[Customer.kycCases]'} or {@code usersByLogin}. Regions not listed here fall back to
+         * {@code jhipster.cache.ehcache}.
+         */
+        private final Map<String, Region> regions = new LinkedHashMap<>();
+
+        public Provider getProvider() {
+            return provider;
+        }
+
+        public void setProvider(Provider provider) {
+            this.provider = provider;
+        }
+
+        public Hazelcast getHazelcast() {
+            return hazelcast;
+        }
+
+        public String getDiskDirectory() {
+            return diskDirectory;
+        }
+
+        public void setDiskDirectory(String diskDirectory) {
+            this.diskDirectory = diskDirectory;
+        }
+
+        public Map<String, Region> getRegions() {
+            return regions;
+        }
+
+        public enum Provider {
+            EHCACHE,
+            HAZELCAST,
+        }
+
+        public static class Hazelcast {
+
+            /**
+             * Nodes only join members with the same cluster name.
+             */
+            private String clusterName = "fgrKnowYourCustomer";
+
+            /**
+             * First port tried by the member; the next ones are tried when it is taken.
+             */
+            private int port = 5701;
+
+            /**
+             * Addresses of the other members, e.g. {@code 10.0.0.2:5701}; discovery is TCP/IP only.
+             */
+            private List<String> members = new ArrayList<>();
+
+            /**
+             * Number of synchronous backups of each cache entry, kept on other members.
+             */
+            private int backupCount = 1;
+
+            public String getClusterName() {
+                return clusterName;
+            }
+
+            public void setClusterName(String clusterName) {
+                this.clusterName = clusterName;
+            }
+
+            public int getPort() {
+                return port;
+            }
+
+            public void setPort(int port) {
+                this.port = port;
+            }
+
+            public List<String> getMembers() {
+                return members;
+            }
+
+            public void setMembers(List<String> members) {
+                this.members = members;
+            }
+
+            public int getBackupCount() {
+                return backupCount;
+            }
+
+            public void setBackupCount(int backupCount) {
+                this.backupCount = backupCount;
+            }
+        }
+
+        /**
+         * Unset values fall back to {@code jhipster.cache.ehcache}; off-heap and disk tiers are only added when set, and
+         * only with Ehcache.
+         */
+        public static class Region {
+
+            private Long heapEntries;
+
+            private Long offHeapMb;
+
+            private Long diskMb;
+
+            private Duration timeToLive;
+
+            /**
+             * When set, entries expire this long after their last access instead of after {@code time-to-live}.
+             */
+            private Duration timeToIdle;
+
+            public Long getHeapEntries() {
+                return heapEntries;
+            }
+
+            public void setHeapEntries(Long heapEntries) {
+                this.heapEntries = heapEntries;
+            }
+
+            public Long getOffHeapMb() {
+                return offHeapMb;
+            }
+
+            public void setOffHeapMb(Long offHeapMb) {
+                this.offHeapMb = offHeapMb;
+            }
+
+            public Long getDiskMb() {
+                return diskMb;
+            }
+
+            public void setDiskMb(Long diskMb) {
+                this.diskMb = diskMb;
+            }
+
+            public Duration getTimeToLive() {
+                return timeToLive;
+            }
+
+            public void setTimeToLive(Duration timeToLive) {
+                this.timeToLive = timeToLive;
+            }
+
+            public Duration getTimeToIdle() {
+                return timeToIdle;
+            }
+
+            public void setTimeToIdle(Duration timeToIdle) {
+                this.timeToIdle = timeToIdle;
+            }
+        }
+    }
+
+    public static class ReadReplicas {
+
+        /**
+         * Route read-only transactions to the replicas; everything else keeps using {@code spring.datasource}.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Replica pools; they copy the {@code spring.datasource.hikari} settings and credentials of the primary pool.
+         */
+        private List<Replica> replicas = new ArrayList<>();
+
+        /**
+         * Replicas lagging further behind the primary are taken out of rotation until they catch up.
+         */
+        private Duration maxLag = Duration.ofSeconds(5);
+
+        /**
+         * Delay between two lag checks, read by the {@code @Scheduled} trigger.
+         */
+        private Duration lagCheckInterval = Duration.ofSeconds(5);
+
+        /**
+         * Query returning the replication status, and the column holding the lag in seconds.
+         */
+        private String lagQuery = "SHOW REPLICA STATUS";
+
+        private String lagColumn = "Seconds_Behind_Source";
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public List<Replica> getReplicas() {
+            return replicas;
+        }
+
+        public void setReplicas(List<Replica> replicas) {
+            this.replicas = replicas;
+        }
+
+        public Duration getMaxLag() {
+            return maxLag;
+        }
+
+        public void setMaxLag(Duration maxLag) {
+            this.maxLag = maxLag;
+        }
+
+        public Duration getLagCheckInterval() {
+            return lagCheckInterval;
+        }
+
+        public void setLagCheckInterval(Duration lagCheckInterval) {
+            this.lagCheckInterval = lagCheckInterval;
+        }
+
+        public String getLagQuery() {
+            return lagQuery;
+        }
+
+        public void setLagQuery(String lagQuery) {
+            this.lagQuery = lagQuery;
+        }
+
+        public String getLagColumn() {
+            return lagColumn;
+        }
+
+        public void setLagColumn(String lagColumn) {
+            this.lagColumn = lagColumn;
+        }
+
+        public static class Replica {
+
+            private String url;
+
+            /**
+             * Defaults to the primary's.
+             */
+            private String username;
+
+            /**
+             * Defaults to the primary's.
+             */
+            private String password;
+
+            /**
+             * Defaults to the primary's {@code maximum-pool-size}.
+             */
+            private Integer maximumPoolSize;
+
+            public String getUrl() {
+                return url;
+            }
+
+            public void setUrl(String url) {
+                this.url = url;
+            }
+
+            public String getUsername() {
+                return username;
+            }
+
+            public void setUsername(String username) {
+                this.username = username;
+            }
+
+            public String getPassword() {
+                return password;
+            }
+
+            public void setPassword(String password) {
+                this.password = password;
+            }
+
+            public Integer getMaximumPoolSize() {
+                return maximumPoolSize;
+            }
+
+            public void setMaximumPoolSize(Integer maximumPoolSize) {
+                this.maximumPoolSize = maximumPoolSize;
+            }
+        }
+    }
+
+    public static class JwtCache {
+
+        /**
+         * Remember the tokens already verified, so that a client resending the same token skips the verification.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Maximum number of tokens remembered; each entry stays until its token expires or it is evicted.
+         */
+        private long maximumSize = 10_000;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public long getMaximumSize() {
+            return maximumSize;
+        }
+
+        public void setMaximumSize(long maximumSize) {
+            this.maximumSize = maximumSize;
+        }
+    }
+
+    public static class KycFunnel {
+
+        private boolean enabled = true;
+
+        /**
+         * Delay between the end of an aggregation and the start of the next one, read by the {@code @Scheduled} trigger.
+         */
+        private Duration fixedDelay = Duration.ofMinutes(1);
+
+        private int chunkSize = 1000;
+
+        private int maxChunksPerRun = 20;
+
+        /**
+         * Period covered by the {@code kyc.funnel.*} gauges, ending at the last aggregation.
+         */
+        private Duration gaugeWindow = Duration.ofHours(24);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Duration getFixedDelay() {
+            return fixedDelay;
+        }
+
+        public void setFixedDelay(Duration fixedDelay) {
+            this.fixedDelay = fixedDelay;
+        }
+
+        public int getChunkSize() {
+            return chunkSize;
+        }
+
+        public void setChunkSize(int chunkSize) {
+            this.chunkSize = chunkSize;
+        }
+
+        public int getMaxChunksPerRun() {
+            return maxChunksPerRun;
+        }
+
+        public void setMaxChunksPerRun(int maxChunksPerRun) {
+            this.maxChunksPerRun = maxChunksPerRun;
+        }
+
+        public Duration getGaugeWindow() {
+            return gaugeWindow;
+        }
+
+        public void setGaugeWindow(Duration gaugeWindow) {
+            this.gaugeWindow = gaugeWindow;
+        }
+    }
+
+    public static class KycCaseStream {
+
+        /**
+         * Lifetime of a subscription; clients reconnect when it ends, as {@code EventSource} does by itself.
+         */
+        private Duration timeout = Duration.ofMinutes(30);
+
+        /**
+         * Delay between two heartbeat comments, which keep idle connections open through proxies and detect the
+         * clients that went away.
+         */
+        private Duration heartbeat = Duration.ofSeconds(15);
+
+        /**
+         * Events waiting to be sent to a subscriber; a subscriber that falls further behind is disconnected.
+         */
+        private int queueCapacity = 256;
+
+        /**
+         * Threads sending the events to the subscribers.
+         */
+        private int senderThreads = 8;
+
+        /**
+         * Time a client may take to read a sent event before it is disconnected; checked on every heartbeat.
+         */
+        private Duration sendTimeout = Duration.ofSeconds(10);
+
+        public Duration getTimeout() {
+            return timeout;
+        }
+
+        public void setTimeout(Duration timeout) {
+            this.timeout = timeout;
+        }
+
+        public Duration getHeartbeat() {
+            return heartbeat;
+        }
+
+        public void setHeartbeat(Duration heartbeat) {
+            this.heartbeat = heartbeat;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public int getSenderThreads() {
+            return senderThreads;
+        }
+
+        public void setSenderThreads(int senderThreads) {
+            this.senderThreads = senderThreads;
+        }
+
+        public Duration getSendTimeout() {
+            return sendTimeout;
+        }
+
+        public void setSendTimeout(Duration sendTimeout) {
+            this.sendTimeout = sendTimeout;
+        }
+    }
+
     // jhipster-needle-application-properties-property-class
 }
@@ -1,11 +1,36 @@
 package zw.co.fgr.config;
 
+import com.hazelcast.cache.HazelcastCachingProvider;
+import com.hazelcast.cache.HazelcastMemberCachingProvider;
+import com.hazelcast.config.CacheConfig;
+import com.hazelcast.config.Config;
+import com.hazelcast.config.EvictionConfig;
+import com.hazelcast.config.EvictionPolicy;
+import com.hazelcast.config.JoinConfig;
+import com.hazelcast.config.MaxSizePolicy;
+import com.hazelcast.config.NetworkConfig;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import java.io.File;
 import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import javax.cache.Caching;
+import javax.cache.expiry.AccessedExpiryPolicy;
+import javax.cache.expiry.CreatedExpiryPolicy;
+import javax.cache.spi.CachingProvider;
 import org.ehcache.config.builders.*;
+import org.ehcache.config.units.EntryUnit;
+import org.ehcache.config.units.MemoryUnit;
+import org.ehcache.core.config.DefaultConfiguration;
+import org.ehcache.impl.config.persistence.DefaultPersistenceConfiguration;
+import org.ehcache.impl.serialization.PlainJavaSerializer;
 import org.ehcache.jsr107.Eh107Configuration;
+import org.ehcache.jsr107.EhcacheCachingProvider;
 import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.cache.JCacheManagerCustomizer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
 import org.springframework.boot.info.BuildProperties;
 import org.springframework.boot.info.GitProperties;
@@ -19,24 +44,79 @@ import tech.jhipster.config.cache.PrefixedKeyGenerator;
 @EnableCaching
 public class CacheConfiguration {
 
+    private static final String DOMAIN_PREFIX = "zw.co.fgr.domain.";
+
     private GitProperties gitProperties;
     private BuildProperties buildProperties;
-    private final javax.cache.configuration.Configuration<Object, Object> jcacheConfiguration;
-
-    public CacheConfiguration(JHipsterProperties jHipsterProperties) {
-        var ehcache = jHipsterProperties.getCache().getEhcache();
-
-        jcacheConfiguration = Eh107Configuration.fromEhcacheCacheConfiguration(
-            CacheConfigurationBuilder.newCacheConfigurationBuilder(
-                Object.class,
-                Object.class,
-                ResourcePoolsBuilder.heap(ehcache.getMaxEntries())
-            )
-                .withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(Duration.ofSeconds(ehcache.getTimeToLiveSeconds())))
-                .build()
+    private final JHipsterProperties.Cache.Ehcache defaults;
+    private final ApplicationProperties.Cache properties;
+
+    public CacheConfiguration(JHipsterProperties jHipsterProperties, ApplicationProperties applicationProperties) {
+        this.defaults = jHipsterProperties.getCache().getEhcache();
+        this.properties = applicationProperties.getCache();
+    }
+
+    /**
+     * JCache manager replacing Spring Boot's default one: either an Ehcache manager, which can be given a persistence
+     * directory for the regions with a disk tier, or a Hazelcast manager backed by the cluster member of this node.
+     */
+    @Bean
+    public javax.cache.CacheManager jCacheCacheManager(
+        ObjectProvider<HazelcastInstance> hazelcastInstance,
+        ObjectProvider<JCacheManagerCustomizer> customizers
+    ) {
+        javax.cache.CacheManager cacheManager = properties.getProvider() == ApplicationProperties.Cache.Provider.HAZELCAST
+            ? hazelcastCacheManager(hazelcastInstance.getObject())
+            : ehcacheCacheManager();
+        customizers.orderedStream().forEach(customizer -> customizer.customize(cacheManager));
+        return cacheManager;
+    }
+
+    private javax.cache.CacheManager ehcacheCacheManager() {
+        EhcacheCachingProvider provider = (EhcacheCachingProvider) Caching.getCachingProvider(EhcacheCachingProvider.class.getName());
+        ClassLoader classLoader = getClass().getClassLoader();
+        DefaultConfiguration configuration = properties.getDiskDirectory() == null
+            ? new DefaultConfiguration(classLoader)
+            : new DefaultConfiguration(classLoader, new DefaultPersistenceConfiguration(new File(properties.getDiskDirectory())));
+        return provider.getCacheManager(provider.getDefaultURI(), configuration);
+    }
+
+    static javax.cache.CacheManager hazelcastCacheManager(HazelcastInstance hazelcastInstance) {
+        // the default URI and class loader keep the distributed cache names identical on every member
+        CachingProvider provider = new HazelcastMemberCachingProvider();
+        return provider.getCacheManager(
+            provider.getDefaultURI(),
+            provider.getDefaultClassLoader(),
+            HazelcastCachingProvider.propertiesByInstanceItself(hazelcastInstance)
         );
     }
 
+    @Bean(destroyMethod = "shutdown")
+    @ConditionalOnProperty(prefix = "application.cache", name = "provider", havingValue = "hazelcast")
+    public HazelcastInstance hazelcastInstance() {
+        return Hazelcast.newHazelcastInstance(hazelcastConfig(properties.getHazelcast()));
+    }
+
+    /**
+     * Build the configuration of the Hazelcast member of this node, which joins the listed members over TCP/IP.
+     *
+     * @param hazelcast the cluster properties.
+     * @return the member configuration.
+     */
+    static Config hazelcastConfig(ApplicationProperties.Cache.Hazelcast hazelcast) {
+        Config config = new Config();
+        config.setClusterName(hazelcast.getClusterName());
+        config.setProperty("hazelcast.logging.type", "slf4j");
+        config.setProperty("hazelcast.phone.home.enabled", "false");
+        NetworkConfig network = config.getNetworkConfig();
+        network.setPort(hazelcast.getPort()).setPortAutoIncrement(true);
+        JoinConfig join = network.getJoin();
+        join.getMulticastConfig().setEnabled(false);
+        join.getAutoDetectionConfig().setEnabled(false);
+        join.getTcpIpConfig().setEnabled(true).setMembers(hazelcast.getMembers());
+        return config;
+    }
+
     @Bean
     public HibernatePropertiesCustomizer hibernatePropertiesCustomizer(javax.cache.CacheManager cacheManager) {
         return hibernateProperties -> hibernateProperties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
@@ -54,6 +134,7 @@ public class CacheConfiguration {
             createCache(cm, zw.co.fgr.domain.Customer.class.getName() + ".customerIdentifiers");
             createCache(cm, zw.co.fgr.domain.Customer.class.getName() + ".kycCases");
             createCache(cm, zw.co.fgr.domain.CustomerIdentifier.class.getName());
+            createCache(cm, zw.co.fgr.repository.CustomerIdentifierRepository.CUSTOMER_IDS_BY_IDENTIFIER_CACHE);
             createCache(cm, zw.co.fgr.domain.KycCase.class.getName());
             createCache(cm, zw.co.fgr.domain.KycCase.class.getName() + ".kycDocuments");
             createCache(cm, zw.co.fgr.domain.KycCase.class.getName() + ".kycNotifications");
@@ -61,17 +142,101 @@ public class CacheConfiguration {
             createCache(cm, zw.co.fgr.domain.KycDocument.class.getName());
             createCache(cm, zw.co.fgr.domain.CdmsSubmission.class.getName());
             createCache(cm, zw.co.fgr.domain.KycNotification.class.getName());
+            createCache(cm, zw.co.fgr.domain.CustomerKycStatus.class.getName());
             // jhipster-needle-ehcache-add-entry
         };
     }
 
     private void createCache(javax.cache.CacheManager cm, String cacheName) {
         javax.cache.Cache<Object, Object> cache = cm.getCache(cacheName);
-        if (cache != null) {
+        if (cache == null) {
+            cm.createCache(cacheName, regionConfiguration(cacheName));
+        } else if (properties.getProvider() == ApplicationProperties.Cache.Provider.EHCACHE) {
+            // a Hazelcast region is shared with the other members, which are still using it
             cache.clear();
-        } else {
-            cm.createCache(cacheName, jcacheConfiguration);
         }
+        cm.enableStatistics(cacheName, true);
+    }
+
+    /**
+     * Build the configuration of a cache region from its {@code application.cache.regions} entry.
+     *
+     * @param cacheName the name of the region.
+     * @return the JCache configuration of the region, for the configured provider.
+     */
+    javax.cache.configuration.Configuration<Object, Object> regionConfiguration(String cacheName) {
+        ApplicationProperties.Cache.Region region = properties
+            .getRegions()
+            .getOrDefault(cacheName.replace(DOMAIN_PREFIX, ""), new ApplicationProperties.Cache.Region());
+        long entries = region.getHeapEntries() != null ? region.getHeapEntries() : defaults.getMaxEntries();
+        Duration timeToLive = region.getTimeToLive() != null ? region.getTimeToLive() : Duration.ofSeconds(defaults.getTimeToLiveSeconds());
+        return properties.getProvider() == ApplicationProperties.Cache.Provider.HAZELCAST
+            ? hazelcastRegionConfiguration(region, entries, timeToLive)
+            : ehcacheRegionConfiguration(cacheName, region, entries, timeToLive);
+    }
+
+    private javax.cache.configuration.Configuration<Object, Object> ehcacheRegionConfiguration(
+        String cacheName,
+        ApplicationProperties.Cache.Region region,
+        long entries,
+        Duration timeToLive
+    ) {
+        ResourcePoolsBuilder resourcePools = ResourcePoolsBuilder.newResourcePoolsBuilder().heap(entries, EntryUnit.ENTRIES);
+        boolean serialized = false;
+        if (region.getOffHeapMb() != null && region.getOffHeapMb() > 0) {
+            resourcePools = resourcePools.offheap(region.getOffHeapMb(), MemoryUnit.MB);
+            serialized = true;
+        }
+        if (region.getDiskMb() != null && region.getDiskMb() > 0) {
+            if (properties.getDiskDirectory() == null) {
+                throw new IllegalStateException(
+                    "Cache region " + cacheName + " has a disk tier but application.cache.disk-directory is not set"
+                );
+            }
+            resourcePools = resourcePools.disk(region.getDiskMb(), MemoryUnit.MB, true);
+            serialized = true;
+        }
+        CacheConfigurationBuilder<Object, Object> builder = CacheConfigurationBuilder.newCacheConfigurationBuilder(
+            Object.class,
+            Object.class,
+            resourcePools
+        ).withExpiry(
+            region.getTimeToIdle() != null
+                ? ExpiryPolicyBuilder.timeToIdleExpiration(region.getTimeToIdle())
+                : ExpiryPolicyBuilder.timeToLiveExpiration(timeToLive)
+        );
+        if (serialized) {
+            // entities, collection entries and cache keys are all Serializable, but Ehcache has no serializer for Object
+            builder = builder
+                .withKeySerializer(new PlainJavaSerializer<>(getClass().getClassLoader()))
+                .withValueSerializer(new PlainJavaSerializer<>(getClass().getClassLoader()));
+        }
+        return Eh107Configuration.fromEhcacheCacheConfiguration(builder.build());
+    }
+
+    /**
+     * Hazelcast keeps each entry on a single owner member, plus its backups, so every node reads the same value and
+     * {@code READ_WRITE} regions stay coherent without invalidation messages. The entry count is per member.
+     */
+    private javax.cache.configuration.Configuration<Object, Object> hazelcastRegionConfiguration(
+        ApplicationProperties.Cache.Region region,
+        long entries,
+        Duration timeToLive
+    ) {
+        CacheConfig<Object, Object> configuration = new CacheConfig<>();
+        configuration.setEvictionConfig(
+            new EvictionConfig()
+                .setEvictionPolicy(EvictionPolicy.LRU)
+                .setMaxSizePolicy(MaxSizePolicy.ENTRY_COUNT)
+                .setSize((int) Math.min(entries, Integer.MAX_VALUE))
+        );
+        configuration.setBackupCount(properties.getHazelcast().getBackupCount());
+        configuration.setExpiryPolicyFactory(
+            region.getTimeToIdle() != null
+                ? AccessedExpiryPolicy.factoryOf(new javax.cache.expiry.Duration(TimeUnit.MILLISECONDS, region.getTimeToIdle().toMillis()))
+                : CreatedExpiryPolicy.factoryOf(new javax.cache.expiry.Duration(TimeUnit.MILLISECONDS, timeToLive.toMillis()))
+        );
+        return configuration;
     }
 
     @Autowired(required = false)
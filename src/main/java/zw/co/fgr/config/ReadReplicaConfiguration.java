@@ -0,0 +1,100 @@
+package zw.co.fgr.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+import zw.co.fgr.management.ReadReplicaDataSource;
+
+/**
+ * Sends read-only transactions, such as those of the {@code *QueryService}s, to the read replicas and everything else to
+ * the primary.
+ * <p>
+ * The {@link DataSource} used by JPA and Liquibase is a {@link LazyConnectionDataSourceProxy}: it only fetches a
+ * physical connection on the first statement, after Spring has marked the connection read-only or not, and takes it
+ * from the {@link ReadReplicaDataSource} for read-only ones. Replica pools copy the Hikari settings of the primary pool
+ * and publish their own {@code hikaricp.*} metrics, tagged with their pool name.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "application.read-replicas", name = "enabled", havingValue = "true")
+public class ReadReplicaConfiguration {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        if (StringUtils.hasText(properties.getName())) {
+            dataSource.setPoolName(properties.getName());
+        }
+        return dataSource;
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReadReplicaDataSource readReplicaDataSource(
+        HikariDataSource primaryDataSource,
+        ApplicationProperties applicationProperties,
+        MeterRegistry meterRegistry
+    ) {
+        ApplicationProperties.ReadReplicas properties = applicationProperties.getReadReplicas();
+        List<ApplicationProperties.ReadReplicas.Replica> replicas = properties.getReplicas();
+        Map<String, DataSource> pools = new LinkedHashMap<>();
+        for (int i = 0; i < replicas.size(); i++) {
+            String name = primaryDataSource.getPoolName() + "-replica-" + (i + 1);
+            pools.put(name, replicaPool(primaryDataSource, replicas.get(i), name, meterRegistry));
+        }
+        return new ReadReplicaDataSource(primaryDataSource, pools, properties, meterRegistry);
+    }
+
+    private static HikariDataSource replicaPool(
+        HikariDataSource primary,
+        ApplicationProperties.ReadReplicas.Replica replica,
+        String name,
+        MeterRegistry meterRegistry
+    ) {
+        HikariConfig config = new HikariConfig();
+        primary.copyStateTo(config);
+        config.setPoolName(name);
+        config.setJdbcUrl(replica.getUrl());
+        if (replica.getUsername() != null) {
+            config.setUsername(replica.getUsername());
+        }
+        if (replica.getPassword() != null) {
+            config.setPassword(replica.getPassword());
+        }
+        if (replica.getMaximumPoolSize() != null) {
+            config.setMaximumPoolSize(replica.getMaximumPoolSize());
+        }
+        config.setReadOnly(true);
+        if (config.getMetricRegistry() == null && config.getMetricsTrackerFactory() == null) {
+            config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        }
+        return new HikariDataSource(config);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReadReplicaDataSource readReplicaDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(readReplicaDataSource);
+        dataSource.setDefaultAutoCommit(primaryDataSource.isAutoCommit());
+        return dataSource;
+    }
+
+    @Bean
+    public HealthIndicator readReplicasHealthIndicator(ReadReplicaDataSource readReplicaDataSource) {
+        return readReplicaDataSource::health;
+    }
+}
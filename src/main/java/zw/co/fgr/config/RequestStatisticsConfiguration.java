@@ -0,0 +1,55 @@
+package zw.co.fgr.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import zw.co.fgr.management.RequestStatisticsFactory;
+import zw.co.fgr.management.RequestStatisticsInterceptor;
+
+/**
+ * Publishes the Hibernate work (statements, entity loads, collection fetches, second-level cache hits and misses) done by
+ * each REST handler method as Micrometer metrics.
+ * <p>
+ * This turns on {@code hibernate.generate_statistics}, which Hibernate needs to report anything.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "application.request-statistics", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RequestStatisticsConfiguration implements WebMvcConfigurer {
+
+    private static final String REST_PACKAGE = "zw.co.fgr.web.rest";
+
+    private final MeterRegistry meterRegistry;
+
+    private final ApplicationProperties applicationProperties;
+
+    public RequestStatisticsConfiguration(MeterRegistry meterRegistry, ApplicationProperties applicationProperties) {
+        this.meterRegistry = meterRegistry;
+        this.applicationProperties = applicationProperties;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer requestStatisticsHibernatePropertiesCustomizer() {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.GENERATE_STATISTICS, true);
+            hibernateProperties.put(AvailableSettings.STATS_BUILDER, new RequestStatisticsFactory());
+        };
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry
+            .addInterceptor(
+                new RequestStatisticsInterceptor(
+                    meterRegistry,
+                    REST_PACKAGE,
+                    applicationProperties.getRequestStatistics().getStatementWarnThreshold()
+                )
+            )
+            .addPathPatterns("/api/**");
+    }
+}
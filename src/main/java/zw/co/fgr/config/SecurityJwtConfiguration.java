@@ -3,7 +3,10 @@ package zw.co.fgr.config;
 import static zw.co.fgr.security.SecurityUtils.JWT_ALGORITHM;
 
 import com.nimbusds.jose.jwk.source.ImmutableSecret;
+import com.nimbusds.jose.proc.BadJOSEException;
+import com.nimbusds.jose.proc.BadJWSException;
 import com.nimbusds.jose.util.Base64;
+import java.text.ParseException;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
 import org.slf4j.Logger;
@@ -11,11 +14,15 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.oauth2.jwt.BadJwtException;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.JwtValidationException;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
 import zw.co.fgr.management.SecurityMetersService;
+import zw.co.fgr.security.CachingJwtDecoder;
 
 @Configuration
 public class SecurityJwtConfiguration {
@@ -26,28 +33,33 @@ public class SecurityJwtConfiguration {
     private String jwtKey;
 
     @Bean
-    public JwtDecoder jwtDecoder(SecurityMetersService metersService) {
+    public JwtDecoder jwtDecoder(SecurityMetersService metersService, ApplicationProperties applicationProperties) {
         NimbusJwtDecoder jwtDecoder = NimbusJwtDecoder.withSecretKey(getSecretKey()).macAlgorithm(JWT_ALGORITHM).build();
-        return token -> {
+        JwtDecoder trackingJwtDecoder = token -> {
             try {
                 return jwtDecoder.decode(token);
-            } catch (Exception e) {
-                if (e.getMessage().contains("Invalid signature")) {
+            } catch (JwtValidationException e) {
+                // claims are only validated once the signature is verified, the timestamps are all our tokens can fail on
+                metersService.trackTokenExpired();
+                throw e;
+            } catch (BadJwtException e) {
+                if (e.getCause() instanceof BadJWSException) {
                     metersService.trackTokenInvalidSignature();
-                } else if (e.getMessage().contains("Jwt expired at")) {
-                    metersService.trackTokenExpired();
-                } else if (
-                    e.getMessage().contains("Invalid JWT serialization") ||
-                    e.getMessage().contains("Malformed token") ||
-                    e.getMessage().contains("Invalid unsecured/JWS/JWE")
-                ) {
+                } else if (e.getCause() instanceof ParseException) {
                     metersService.trackTokenMalformed();
+                } else if (e.getCause() instanceof BadJOSEException) {
+                    metersService.trackTokenUnsupported();
                 } else {
                     LOG.error("Unknown JWT error {}", e.getMessage());
                 }
                 throw e;
+            } catch (JwtException e) {
+                LOG.error("Unknown JWT error {}", e.getMessage());
+                throw e;
             }
         };
+        ApplicationProperties.JwtCache jwtCache = applicationProperties.getJwtCache();
+        return jwtCache.isEnabled() ? new CachingJwtDecoder(trackingJwtDecoder, jwtCache.getMaximumSize()) : trackingJwtDecoder;
     }
 
     @Bean
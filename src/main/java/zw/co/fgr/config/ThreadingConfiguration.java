@@ -0,0 +1,75 @@
+package zw.co.fgr.config;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.config.MeterFilter;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.autoconfigure.metrics.MeterRegistryCustomizer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.system.JavaVersion;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import zw.co.fgr.management.VirtualThreadPinningMonitor;
+
+/**
+ * Virtual-thread execution mode, switched on with {@code spring.threads.virtual.enabled}.
+ * <p>
+ * When it is active (Java 21 or later), Spring Boot serves requests and runs scheduled jobs on virtual threads, and
+ * {@link AsyncConfiguration} runs {@code @Async} methods on them. This configuration tags the executor and scheduled
+ * task metrics with the {@code threading} mode in use, so both modes can be compared on the same dashboards, and
+ * watches for pinned virtual threads.
+ */
+@Configuration
+public class ThreadingConfiguration {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ThreadingConfiguration.class);
+
+    /**
+     * Prefixes of the meters tagged with the threading mode: executor pools and scheduled tasks.
+     */
+    static final List<String> THREADING_METER_PREFIXES = List.of("executor", "tasks.scheduled");
+
+    private final Environment environment;
+
+    public ThreadingConfiguration(Environment environment) {
+        this.environment = environment;
+        if (environment.getProperty("spring.threads.virtual.enabled", boolean.class, false) && !Threading.VIRTUAL.isActive(environment)) {
+            LOG.warn("Virtual threads require Java 21 or later, running on Java {}: using platform threads", JavaVersion.getJavaVersion());
+        }
+    }
+
+    @Bean
+    public MeterRegistryCustomizer<MeterRegistry> threadingMeterRegistryCustomizer() {
+        MeterFilter filter = threadingMeterFilter(threading(environment));
+        return registry -> registry.config().meterFilter(filter);
+    }
+
+    static String threading(Environment environment) {
+        return Threading.VIRTUAL.isActive(environment) ? "virtual" : "platform";
+    }
+
+    static MeterFilter threadingMeterFilter(String threading) {
+        return new MeterFilter() {
+            @Override
+            public Meter.Id map(Meter.Id id) {
+                return THREADING_METER_PREFIXES.stream().anyMatch(prefix -> id.getName().startsWith(prefix))
+                    ? id.withTag(Tag.of("threading", threading))
+                    : id;
+            }
+        };
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+        MeterRegistry meterRegistry,
+        ApplicationProperties applicationProperties
+    ) {
+        return new VirtualThreadPinningMonitor(meterRegistry, applicationProperties.getVirtualThreads().getPinnedThreshold());
+    }
+}
@@ -0,0 +1,20 @@
+package zw.co.fgr.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import zw.co.fgr.aop.timing.TimingAspect;
+
+@Configuration
+@EnableAspectJAutoProxy
+@ConditionalOnProperty(prefix = "application.timing", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class TimingAspectConfiguration {
+
+    @Bean
+    public TimingAspect timingAspect(MeterRegistry meterRegistry, ApplicationProperties applicationProperties) {
+        ApplicationProperties.Timing timing = applicationProperties.getTiming();
+        return new TimingAspect(meterRegistry, timing.getSampleRate(), timing.getSlowThreshold());
+    }
+}
@@ -1,5 +1,6 @@
 package zw.co.fgr.domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.persistence.*;
@@ -26,7 +27,8 @@ public class CustomerIdentifier implements Serializable {
     private static final long serialVersionUID = 1L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sequenceGenerator")
+    @SequenceGenerator(name = "sequenceGenerator", sequenceName = "sequence_generator", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
@@ -40,6 +42,10 @@ public class CustomerIdentifier implements Serializable {
     @Column(name = "identifier_value", length = 255, nullable = false)
     private String identifierValue;
 
+    @JsonIgnore
+    @Column(name = "normalized_value", length = 255, nullable = false)
+    private String normalizedValue;
+
     @NotNull
     @Enumerated(EnumType.STRING)
     @Column(name = "channel", nullable = false)
@@ -104,6 +110,18 @@ public class CustomerIdentifier implements Serializable {
         this.identifierValue = identifierValue;
     }
 
+    public String getNormalizedValue() {
+        return this.normalizedValue;
+    }
+
+    @PrePersist
+    @PreUpdate
+    protected void updateNormalizedValue() {
+        if (this.identifierType != null && this.identifierValue != null) {
+            this.normalizedValue = this.identifierType.normalize(this.identifierValue);
+        }
+    }
+
     public ChannelType getChannel() {
         return this.channel;
     }
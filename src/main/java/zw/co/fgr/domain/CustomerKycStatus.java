@@ -0,0 +1,210 @@
+package zw.co.fgr.domain;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.*;
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.Instant;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import zw.co.fgr.domain.enumeration.KycStatus;
+
+/**
+ * KYC status of a customer: a copy of their latest {@link KycCase}, keyed by the customer id.
+ * <p>
+ * It answers "is this customer KYC-approved?" with a primary key read instead of a walk through the customer's cases,
+ * and is kept up to date by {@link zw.co.fgr.service.CustomerKycStatusService} whenever a case changes.
+ */
+@Entity
+@Table(name = "customer_kyc_status")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class CustomerKycStatus implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @Column(name = "customer_id")
+    private Long customerId;
+
+    @NotNull
+    @Column(name = "kyc_case_id", nullable = false)
+    private Long kycCaseId;
+
+    @NotNull
+    @Column(name = "kyc_ref", nullable = false)
+    private String kycRef;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private KycStatus status;
+
+    @NotNull
+    @Column(name = "started_at", nullable = false)
+    private Instant startedAt;
+
+    @Column(name = "approved_at")
+    private Instant approvedAt;
+
+    @Column(name = "expires_at")
+    private Instant expiresAt;
+
+    @NotNull
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    public Long getCustomerId() {
+        return this.customerId;
+    }
+
+    public CustomerKycStatus customerId(Long customerId) {
+        this.setCustomerId(customerId);
+        return this;
+    }
+
+    public void setCustomerId(Long customerId) {
+        this.customerId = customerId;
+    }
+
+    public Long getKycCaseId() {
+        return this.kycCaseId;
+    }
+
+    public CustomerKycStatus kycCaseId(Long kycCaseId) {
+        this.setKycCaseId(kycCaseId);
+        return this;
+    }
+
+    public void setKycCaseId(Long kycCaseId) {
+        this.kycCaseId = kycCaseId;
+    }
+
+    public String getKycRef() {
+        return this.kycRef;
+    }
+
+    public CustomerKycStatus kycRef(String kycRef) {
+        this.setKycRef(kycRef);
+        return this;
+    }
+
+    public void setKycRef(String kycRef) {
+        this.kycRef = kycRef;
+    }
+
+    public KycStatus getStatus() {
+        return this.status;
+    }
+
+    public CustomerKycStatus status(KycStatus status) {
+        this.setStatus(status);
+        return this;
+    }
+
+    public void setStatus(KycStatus status) {
+        this.status = status;
+    }
+
+    public Instant getStartedAt() {
+        return this.startedAt;
+    }
+
+    public CustomerKycStatus startedAt(Instant startedAt) {
+        this.setStartedAt(startedAt);
+        return this;
+    }
+
+    public void setStartedAt(Instant startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public Instant getApprovedAt() {
+        return this.approvedAt;
+    }
+
+    public CustomerKycStatus approvedAt(Instant approvedAt) {
+        this.setApprovedAt(approvedAt);
+        return this;
+    }
+
+    public void setApprovedAt(Instant approvedAt) {
+        this.approvedAt = approvedAt;
+    }
+
+    public Instant getExpiresAt() {
+        return this.expiresAt;
+    }
+
+    public CustomerKycStatus expiresAt(Instant expiresAt) {
+        this.setExpiresAt(expiresAt);
+        return this;
+    }
+
+    public void setExpiresAt(Instant expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return this.updatedAt;
+    }
+
+    public CustomerKycStatus updatedAt(Instant updatedAt) {
+        this.setUpdatedAt(updatedAt);
+        return this;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    /**
+     * Copy the state of the given case, which becomes the latest case of the customer.
+     *
+     * @param kycCase the latest case of the customer.
+     * @param now the update time.
+     * @return this snapshot.
+     */
+    public CustomerKycStatus latestCase(KycCase kycCase, Instant now) {
+        return this.kycCaseId(kycCase.getId())
+            .kycRef(kycCase.getKycRef())
+            .status(kycCase.getStatus())
+            .startedAt(kycCase.getStartedAt())
+            .approvedAt(kycCase.getStatus() == KycStatus.APPROVED ? kycCase.getCompletedAt() : null)
+            .expiresAt(kycCase.getExpiresAt())
+            .updatedAt(now);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CustomerKycStatus)) {
+            return false;
+        }
+        return getCustomerId() != null && getCustomerId().equals(((CustomerKycStatus) o).getCustomerId());
+    }
+
+    @Override
+    public int hashCode() {
+        // see https://vladmihalcea.com/how-to-implement-equals-and-hashcode-using-the-jpa-entity-identifier/
+        return getClass().hashCode();
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "CustomerKycStatus{" +
+            "customerId=" + getCustomerId() +
+            ", kycCaseId=" + getKycCaseId() +
+            ", kycRef='" + getKycRef() + "'" +
+            ", status='" + getStatus() + "'" +
+            ", startedAt='" + getStartedAt() + "'" +
+            ", approvedAt='" + getApprovedAt() + "'" +
+            ", expiresAt='" + getExpiresAt() + "'" +
+            ", updatedAt='" + getUpdatedAt() + "'" +
+            "}";
+    }
+}
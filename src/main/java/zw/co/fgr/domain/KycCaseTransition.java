@@ -0,0 +1,223 @@
+package zw.co.fgr.domain;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.*;
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.Instant;
+import zw.co.fgr.domain.enumeration.ChannelType;
+import zw.co.fgr.domain.enumeration.KycStatus;
+
+/**
+ * A status change of a {@link KycCase}, in the append-only history the KYC funnel metrics are aggregated from.
+ * <p>
+ * The first transition of a case has no {@link #getFromStatus() fromStatus}. The case id is not a foreign key, so that
+ * the history outlives deleted cases.
+ */
+@Entity
+@Table(name = "kyc_case_transition")
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class KycCaseTransition implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sequenceGenerator")
+    @SequenceGenerator(name = "sequenceGenerator", sequenceName = "sequence_generator", allocationSize = 50)
+    @Column(name = "id")
+    private Long id;
+
+    @NotNull
+    @Column(name = "kyc_case_id", nullable = false)
+    private Long kycCaseId;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "channel", nullable = false)
+    private ChannelType channel;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "from_status")
+    private KycStatus fromStatus;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "to_status", nullable = false)
+    private KycStatus toStatus;
+
+    @NotNull
+    @Column(name = "occurred_at", nullable = false)
+    private Instant occurredAt;
+
+    /**
+     * Time the case spent in {@link #getFromStatus() fromStatus}, in milliseconds.
+     */
+    @Min(value = 0L)
+    @Column(name = "time_in_from_status_ms")
+    private Long timeInFromStatusMs;
+
+    /**
+     * Why the status was changed, when given by a reviewer.
+     */
+    @Size(max = 500)
+    @Column(name = "reason", length = 500)
+    private String reason;
+
+    /**
+     * Whether the transition is already counted in the {@link KycFunnelBucket}s.
+     */
+    @NotNull
+    @Column(name = "aggregated", nullable = false)
+    private Boolean aggregated;
+
+    public Long getId() {
+        return this.id;
+    }
+
+    public KycCaseTransition id(Long id) {
+        this.setId(id);
+        return this;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getKycCaseId() {
+        return this.kycCaseId;
+    }
+
+    public KycCaseTransition kycCaseId(Long kycCaseId) {
+        this.setKycCaseId(kycCaseId);
+        return this;
+    }
+
+    public void setKycCaseId(Long kycCaseId) {
+        this.kycCaseId = kycCaseId;
+    }
+
+    public ChannelType getChannel() {
+        return this.channel;
+    }
+
+    public KycCaseTransition channel(ChannelType channel) {
+        this.setChannel(channel);
+        return this;
+    }
+
+    public void setChannel(ChannelType channel) {
+        this.channel = channel;
+    }
+
+    public KycStatus getFromStatus() {
+        return this.fromStatus;
+    }
+
+    public KycCaseTransition fromStatus(KycStatus fromStatus) {
+        this.setFromStatus(fromStatus);
+        return this;
+    }
+
+    public void setFromStatus(KycStatus fromStatus) {
+        this.fromStatus = fromStatus;
+    }
+
+    public KycStatus getToStatus() {
+        return this.toStatus;
+    }
+
+    public KycCaseTransition toStatus(KycStatus toStatus) {
+        this.setToStatus(toStatus);
+        return this;
+    }
+
+    public void setToStatus(KycStatus toStatus) {
+        this.toStatus = toStatus;
+    }
+
+    public Instant getOccurredAt() {
+        return this.occurredAt;
+    }
+
+    public KycCaseTransition occurredAt(Instant occurredAt) {
+        this.setOccurredAt(occurredAt);
+        return this;
+    }
+
+    public void setOccurredAt(Instant occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+
+    public Long getTimeInFromStatusMs() {
+        return this.timeInFromStatusMs;
+    }
+
+    public KycCaseTransition timeInFromStatusMs(Long timeInFromStatusMs) {
+        this.setTimeInFromStatusMs(timeInFromStatusMs);
+        return this;
+    }
+
+    public void setTimeInFromStatusMs(Long timeInFromStatusMs) {
+        this.timeInFromStatusMs = timeInFromStatusMs;
+    }
+
+    public String getReason() {
+        return this.reason;
+    }
+
+    public KycCaseTransition reason(String reason) {
+        this.setReason(reason);
+        return this;
+    }
+
+    public void setReason(String reason) {
+        this.reason = reason;
+    }
+
+    public Boolean getAggregated() {
+        return this.aggregated;
+    }
+
+    public KycCaseTransition aggregated(Boolean aggregated) {
+        this.setAggregated(aggregated);
+        return this;
+    }
+
+    public void setAggregated(Boolean aggregated) {
+        this.aggregated = aggregated;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof KycCaseTransition)) {
+            return false;
+        }
+        return getId() != null && getId().equals(((KycCaseTransition) o).getId());
+    }
+
+    @Override
+    public int hashCode() {
+        // see https://vladmihalcea.com/how-to-implement-equals-and-hashcode-using-the-jpa-entity-identifier/
+        return getClass().hashCode();
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "KycCaseTransition{" +
+            "id=" + getId() +
+            ", kycCaseId=" + getKycCaseId() +
+            ", channel='" + getChannel() + "'" +
+            ", fromStatus='" + getFromStatus() + "'" +
+            ", toStatus='" + getToStatus() + "'" +
+            ", occurredAt='" + getOccurredAt() + "'" +
+            ", timeInFromStatusMs=" + getTimeInFromStatusMs() +
+            ", reason='" + getReason() + "'" +
+            ", aggregated='" + getAggregated() + "'" +
+            "}";
+    }
+}
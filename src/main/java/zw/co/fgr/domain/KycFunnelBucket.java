@@ -0,0 +1,188 @@
+package zw.co.fgr.domain;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.*;
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.Instant;
+import zw.co.fgr.domain.enumeration.ChannelType;
+import zw.co.fgr.domain.enumeration.KycStatus;
+
+/**
+ * KYC funnel counters of one channel and status over one hour: the cases that entered the status, those that left it,
+ * and a histogram of the time the latter spent in it.
+ * <p>
+ * Buckets are aggregated from the {@link KycCaseTransition}s by {@link zw.co.fgr.service.funnel.KycFunnelAggregator},
+ * and can be rebuilt from them at any time.
+ */
+@Entity
+@Table(name = "kyc_funnel_bucket")
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class KycFunnelBucket implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sequenceGenerator")
+    @SequenceGenerator(name = "sequenceGenerator", sequenceName = "sequence_generator", allocationSize = 50)
+    @Column(name = "id")
+    private Long id;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "channel", nullable = false)
+    private ChannelType channel;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private KycStatus status;
+
+    /**
+     * Start of the hour covered by the bucket.
+     */
+    @NotNull
+    @Column(name = "bucket_start", nullable = false)
+    private Instant bucketStart;
+
+    @NotNull
+    @Min(value = 0L)
+    @Column(name = "entered", nullable = false)
+    private Long entered;
+
+    @NotNull
+    @Min(value = 0L)
+    @Column(name = "exited", nullable = false)
+    private Long exited;
+
+    /**
+     * Counts of {@link zw.co.fgr.service.funnel.DurationHistogram}, comma-separated.
+     */
+    @NotNull
+    @Size(max = 255)
+    @Column(name = "time_in_status_histogram", length = 255, nullable = false)
+    private String timeInStatusHistogram;
+
+    public Long getId() {
+        return this.id;
+    }
+
+    public KycFunnelBucket id(Long id) {
+        this.setId(id);
+        return this;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public ChannelType getChannel() {
+        return this.channel;
+    }
+
+    public KycFunnelBucket channel(ChannelType channel) {
+        this.setChannel(channel);
+        return this;
+    }
+
+    public void setChannel(ChannelType channel) {
+        this.channel = channel;
+    }
+
+    public KycStatus getStatus() {
+        return this.status;
+    }
+
+    public KycFunnelBucket status(KycStatus status) {
+        this.setStatus(status);
+        return this;
+    }
+
+    public void setStatus(KycStatus status) {
+        this.status = status;
+    }
+
+    public Instant getBucketStart() {
+        return this.bucketStart;
+    }
+
+    public KycFunnelBucket bucketStart(Instant bucketStart) {
+        this.setBucketStart(bucketStart);
+        return this;
+    }
+
+    public void setBucketStart(Instant bucketStart) {
+        this.bucketStart = bucketStart;
+    }
+
+    public Long getEntered() {
+        return this.entered;
+    }
+
+    public KycFunnelBucket entered(Long entered) {
+        this.setEntered(entered);
+        return this;
+    }
+
+    public void setEntered(Long entered) {
+        this.entered = entered;
+    }
+
+    public Long getExited() {
+        return this.exited;
+    }
+
+    public KycFunnelBucket exited(Long exited) {
+        this.setExited(exited);
+        return this;
+    }
+
+    public void setExited(Long exited) {
+        this.exited = exited;
+    }
+
+    public String getTimeInStatusHistogram() {
+        return this.timeInStatusHistogram;
+    }
+
+    public KycFunnelBucket timeInStatusHistogram(String timeInStatusHistogram) {
+        this.setTimeInStatusHistogram(timeInStatusHistogram);
+        return this;
+    }
+
+    public void setTimeInStatusHistogram(String timeInStatusHistogram) {
+        this.timeInStatusHistogram = timeInStatusHistogram;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof KycFunnelBucket)) {
+            return false;
+        }
+        return getId() != null && getId().equals(((KycFunnelBucket) o).getId());
+    }
+
+    @Override
+    public int hashCode() {
+        // see https://vladmihalcea.com/how-to-implement-equals-and-hashcode-using-the-jpa-entity-identifier/
+        return getClass().hashCode();
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "KycFunnelBucket{" +
+            "id=" + getId() +
+            ", channel='" + getChannel() + "'" +
+            ", status='" + getStatus() + "'" +
+            ", bucketStart='" + getBucketStart() + "'" +
+            ", entered=" + getEntered() +
+            ", exited=" + getExited() +
+            ", timeInStatusHistogram='" + getTimeInStatusHistogram() + "'" +
+            "}";
+    }
+}
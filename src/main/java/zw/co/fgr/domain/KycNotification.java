@@ -9,6 +9,7 @@ import java.io.Serializable;
 import java.time.Instant;
 import org.hibernate.annotations.Cache;
 import org.hibernate.annotations.CacheConcurrencyStrategy;
+import zw.co.fgr.domain.enumeration.DeliveryStatus;
 import zw.co.fgr.domain.enumeration.NotificationType;
 
 /**
@@ -25,7 +26,8 @@ public class KycNotification implements Serializable {
     private static final long serialVersionUID = 1L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sequenceGenerator")
+    @SequenceGenerator(name = "sequenceGenerator", sequenceName = "sequence_generator", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
@@ -53,6 +55,17 @@ public class KycNotification implements Serializable {
     @Column(name = "error_message", length = 500)
     private String errorMessage;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "delivery_status")
+    private DeliveryStatus deliveryStatus;
+
+    @Min(value = 0)
+    @Column(name = "attempts")
+    private Integer attempts;
+
+    @Column(name = "next_attempt_at")
+    private Instant nextAttemptAt;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JsonIgnoreProperties(value = { "consent", "submission", "kycDocuments", "kycNotifications", "customer" }, allowSetters = true)
     private KycCase kycCase;
@@ -150,6 +163,45 @@ public class KycNotification implements Serializable {
         this.errorMessage = errorMessage;
     }
 
+    public DeliveryStatus getDeliveryStatus() {
+        return this.deliveryStatus;
+    }
+
+    public KycNotification deliveryStatus(DeliveryStatus deliveryStatus) {
+        this.setDeliveryStatus(deliveryStatus);
+        return this;
+    }
+
+    public void setDeliveryStatus(DeliveryStatus deliveryStatus) {
+        this.deliveryStatus = deliveryStatus;
+    }
+
+    public Integer getAttempts() {
+        return this.attempts;
+    }
+
+    public KycNotification attempts(Integer attempts) {
+        this.setAttempts(attempts);
+        return this;
+    }
+
+    public void setAttempts(Integer attempts) {
+        this.attempts = attempts;
+    }
+
+    public Instant getNextAttemptAt() {
+        return this.nextAttemptAt;
+    }
+
+    public KycNotification nextAttemptAt(Instant nextAttemptAt) {
+        this.setNextAttemptAt(nextAttemptAt);
+        return this;
+    }
+
+    public void setNextAttemptAt(Instant nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
     public KycCase getKycCase() {
         return this.kycCase;
     }
@@ -193,6 +245,9 @@ public class KycNotification implements Serializable {
             ", delivered='" + getDelivered() + "'" +
             ", deliveredAt='" + getDeliveredAt() + "'" +
             ", errorMessage='" + getErrorMessage() + "'" +
+            ", deliveryStatus='" + getDeliveryStatus() + "'" +
+            ", attempts=" + getAttempts() +
+            ", nextAttemptAt='" + getNextAttemptAt() + "'" +
             "}";
     }
 }
@@ -0,0 +1,11 @@
+package zw.co.fgr.domain.enumeration;
+
+/**
+ * The DeliveryStatus enumeration.
+ */
+public enum DeliveryStatus {
+    PENDING,
+    RETRYING,
+    DELIVERED,
+    DEAD_LETTER,
+}
@@ -1,13 +1,42 @@
 package zw.co.fgr.domain.enumeration;
 
+import java.util.Locale;
+
 /**
  * The IdentifierType enumeration.
  */
 public enum IdentifierType {
-    PHONE_NUMBER,
-    EMAIL,
-    USERNAME,
+    PHONE_NUMBER {
+        @Override
+        public String normalize(String value) {
+            return value.replaceAll("[^0-9]", "");
+        }
+    },
+    EMAIL {
+        @Override
+        public String normalize(String value) {
+            return value.strip().toLowerCase(Locale.ROOT);
+        }
+    },
+    USERNAME {
+        @Override
+        public String normalize(String value) {
+            return value.strip().toLowerCase(Locale.ROOT);
+        }
+    },
     NATIONAL_ID,
     PASSPORT,
-    COMPANY_REGISTRATION,
+    COMPANY_REGISTRATION;
+
+    /**
+     * Normalize a raw identifier value into the canonical form used for lookups, so that
+     * "+263 77-123 4567" and "263771234567" resolve to the same customer.
+     * Document numbers are upper-cased with whitespace and dashes removed.
+     *
+     * @param value the raw identifier value, not null.
+     * @return the normalized value.
+     */
+    public String normalize(String value) {
+        return value.replaceAll("[\\s-]", "").toUpperCase(Locale.ROOT);
+    }
 }
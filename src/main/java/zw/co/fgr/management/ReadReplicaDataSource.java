@@ -0,0 +1,215 @@
+package zw.co.fgr.management;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import zw.co.fgr.config.ApplicationProperties;
+
+/**
+ * Data source spreading the connections of read-only transactions over the read replicas, round-robin.
+ * <p>
+ * {@link #checkLag()} queries the replication lag of every replica. A replica that cannot be queried, or that lags
+ * further behind than {@code max-lag}, is taken out of rotation until it catches up. Replicas start out of rotation
+ * until their first check. When no replica is in rotation, connections come from the primary, so reads get slower
+ * instead of failing or returning stale data.
+ */
+public class ReadReplicaDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ReadReplicaDataSource.class);
+
+    /**
+     * Health status of the replicas when some of them are out of rotation; it does not bring the application down.
+     */
+    public static final Status DEGRADED = new Status("DEGRADED", "Some read replicas are out of rotation");
+
+    public static final String ROUTING_METER_NAME = "datasource.read.routing";
+
+    public static final String LAG_METER_NAME = "datasource.replica.lag";
+
+    private final DataSource primary;
+
+    private final List<Replica> replicas = new ArrayList<>();
+
+    private final ApplicationProperties.ReadReplicas properties;
+
+    private final Counter primaryReads;
+
+    private final AtomicInteger next = new AtomicInteger();
+
+    /**
+     * @param primary the data source used when no replica is in rotation.
+     * @param replicas the replica data sources, by name.
+     * @param properties the lag guard settings.
+     * @param registry the registry to publish to.
+     */
+    public ReadReplicaDataSource(
+        DataSource primary,
+        Map<String, DataSource> replicas,
+        ApplicationProperties.ReadReplicas properties,
+        MeterRegistry registry
+    ) {
+        this.primary = primary;
+        this.properties = properties;
+        replicas.forEach((name, dataSource) -> this.replicas.add(new Replica(name, dataSource, registry)));
+        this.primaryReads = routingCounter(registry, "primary");
+    }
+
+    private static Counter routingCounter(MeterRegistry registry, String target) {
+        return Counter.builder(ROUTING_METER_NAME)
+            .description("Connections handed out to read-only transactions, by target data source")
+            .tag("target", target)
+            .register(registry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return nextDataSource().getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return nextDataSource().getConnection(username, password);
+    }
+
+    private DataSource nextDataSource() {
+        int size = replicas.size();
+        int start = size == 0 ? 0 : Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.inRotation) {
+                replica.reads.increment();
+                return replica.dataSource;
+            }
+        }
+        primaryReads.increment();
+        return primary;
+    }
+
+    /**
+     * Check the replication lag of every replica and update the rotation.
+     * <p>
+     * This is scheduled to get fired with a fixed delay, {@code application.read-replicas.lag-check-interval}.
+     */
+    @Scheduled(fixedDelayString = "${application.read-replicas.lag-check-interval:PT5S}")
+    public void checkLag() {
+        replicas.forEach(this::checkLag);
+    }
+
+    private void checkLag(Replica replica) {
+        Duration lag = null;
+        String failure;
+        try {
+            lag = lag(replica.dataSource);
+            failure = lag.compareTo(properties.getMaxLag()) > 0
+                ? "lagging " + lag.toSeconds() + "s behind the primary, over " + properties.getMaxLag().toSeconds() + "s"
+                : null;
+        } catch (SQLException | RuntimeException e) {
+            failure = e.getMessage();
+        }
+        boolean inRotation = failure == null;
+        if (inRotation && !replica.inRotation) {
+            LOG.info("Read replica {} is back in rotation", replica.name);
+        } else if (!inRotation && replica.inRotation) {
+            LOG.warn("Read replica {} is out of rotation: {}", replica.name, failure);
+        }
+        replica.lag = lag;
+        replica.failure = failure;
+        replica.inRotation = inRotation;
+    }
+
+    private Duration lag(DataSource dataSource) throws SQLException {
+        try (
+            Connection connection = dataSource.getConnection();
+            Statement statement = connection.createStatement();
+            ResultSet resultSet = statement.executeQuery(properties.getLagQuery())
+        ) {
+            if (!resultSet.next()) {
+                throw new SQLException("no replication status, is this a replica?");
+            }
+            long seconds = resultSet.getLong(properties.getLagColumn());
+            if (resultSet.wasNull()) {
+                throw new SQLException("replication is not running");
+            }
+            return Duration.ofSeconds(seconds);
+        }
+    }
+
+    /**
+     * @return {@code UP} when every replica is in rotation, {@link #DEGRADED} otherwise, with the state of each replica.
+     */
+    public Health health() {
+        boolean allInRotation = replicas.stream().allMatch(replica -> replica.inRotation);
+        Health.Builder builder = allInRotation ? Health.up() : Health.status(DEGRADED);
+        for (Replica replica : replicas) {
+            Map<String, Object> details = new LinkedHashMap<>();
+            details.put("inRotation", replica.inRotation);
+            if (replica.lag != null) {
+                details.put("lagSeconds", replica.lag.toSeconds());
+            }
+            if (replica.failure != null) {
+                details.put("error", replica.failure);
+            }
+            builder.withDetail(replica.name, details);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Close the replica data sources. A replica that fails to close is logged, and the others are still closed.
+     */
+    @Override
+    public void close() {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    LOG.warn("Read replica {} could not be closed: {}", replica.name, e.getMessage());
+                }
+            }
+        }
+    }
+
+    private static final class Replica {
+
+        private final String name;
+
+        private final DataSource dataSource;
+
+        private final Counter reads;
+
+        private volatile boolean inRotation;
+
+        private volatile Duration lag;
+
+        private volatile String failure = "not checked yet";
+
+        private Replica(String name, DataSource dataSource, MeterRegistry registry) {
+            this.name = name;
+            this.dataSource = dataSource;
+            this.reads = routingCounter(registry, name);
+            Gauge.builder(LAG_METER_NAME, this, replica -> replica.lag == null ? Double.NaN : replica.lag.toSeconds())
+                .description("Replication lag of the read replica, NaN when it cannot be read")
+                .baseUnit("seconds")
+                .tag("replica", name)
+                .register(registry);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package zw.co.fgr.management;
+
+/**
+ * Hibernate work done on behalf of the current request, collected by {@link RequestStatisticsFactory} for the thread
+ * that serves the request between {@link #start()} and {@link #stop()}.
+ */
+public final class RequestStatistics {
+
+    private static final ThreadLocal<RequestStatistics> CURRENT = new ThreadLocal<>();
+
+    private long statements;
+
+    private long entityLoads;
+
+    private long collectionFetches;
+
+    private long cacheHits;
+
+    private long cacheMisses;
+
+    private long queryTimeMillis;
+
+    /**
+     * Starts collecting for the current thread, discarding anything collected before.
+     *
+     * @return the statistics of the current thread.
+     */
+    public static RequestStatistics start() {
+        RequestStatistics statistics = new RequestStatistics();
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    /**
+     * Stops collecting for the current thread.
+     *
+     * @return what was collected since {@link #start()}, or {@code null} if collection was not started.
+     */
+    public static RequestStatistics stop() {
+        RequestStatistics statistics = CURRENT.get();
+        CURRENT.remove();
+        return statistics;
+    }
+
+    static RequestStatistics current() {
+        return CURRENT.get();
+    }
+
+    void statementPrepared() {
+        statements++;
+    }
+
+    void entityLoaded() {
+        entityLoads++;
+    }
+
+    void collectionFetched() {
+        collectionFetches++;
+    }
+
+    void cacheHit() {
+        cacheHits++;
+    }
+
+    void cacheMissed() {
+        cacheMisses++;
+    }
+
+    void queryExecuted(long timeMillis) {
+        queryTimeMillis += timeMillis;
+    }
+
+    public long getStatements() {
+        return statements;
+    }
+
+    public long getEntityLoads() {
+        return entityLoads;
+    }
+
+    public long getCollectionFetches() {
+        return collectionFetches;
+    }
+
+    public long getCacheHits() {
+        return cacheHits;
+    }
+
+    public long getCacheMisses() {
+        return cacheMisses;
+    }
+
+    public long getQueryTimeMillis() {
+        return queryTimeMillis;
+    }
+}
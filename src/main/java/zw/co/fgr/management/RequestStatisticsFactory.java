@@ -0,0 +1,127 @@
+package zw.co.fgr.management;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.model.domain.NavigableRole;
+import org.hibernate.stat.internal.StatisticsImpl;
+import org.hibernate.stat.spi.StatisticsFactory;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+/**
+ * Builds Hibernate statistics that, besides the usual session factory wide counters, also feed the
+ * {@link RequestStatistics} of the calling thread.
+ * <p>
+ * Registered through {@code hibernate.stats.factory}; Hibernate only reports to it when {@code hibernate.generate_statistics}
+ * is enabled.
+ */
+public class RequestStatisticsFactory implements StatisticsFactory {
+
+    @Override
+    public StatisticsImplementor buildStatistics(SessionFactoryImplementor sessionFactory) {
+        return new RequestAwareStatistics(sessionFactory);
+    }
+
+    static class RequestAwareStatistics extends StatisticsImpl {
+
+        RequestAwareStatistics(SessionFactoryImplementor sessionFactory) {
+            super(sessionFactory);
+        }
+
+        @Override
+        public void prepareStatement() {
+            super.prepareStatement();
+            RequestStatistics statistics = RequestStatistics.current();
+            if (statistics != null) {
+                statistics.statementPrepared();
+            }
+        }
+
+        @Override
+        public void loadEntity(String entityName) {
+            super.loadEntity(entityName);
+            RequestStatistics statistics = RequestStatistics.current();
+            if (statistics != null) {
+                statistics.entityLoaded();
+            }
+        }
+
+        @Override
+        public void fetchCollection(String role) {
+            super.fetchCollection(role);
+            RequestStatistics statistics = RequestStatistics.current();
+            if (statistics != null) {
+                statistics.collectionFetched();
+            }
+        }
+
+        @Override
+        public void entityCacheHit(NavigableRole entityName, String regionName) {
+            super.entityCacheHit(entityName, regionName);
+            cacheHit();
+        }
+
+        @Override
+        public void entityCacheMiss(NavigableRole entityName, String regionName) {
+            super.entityCacheMiss(entityName, regionName);
+            cacheMiss();
+        }
+
+        @Override
+        public void collectionCacheHit(NavigableRole role, String regionName) {
+            super.collectionCacheHit(role, regionName);
+            cacheHit();
+        }
+
+        @Override
+        public void collectionCacheMiss(NavigableRole role, String regionName) {
+            super.collectionCacheMiss(role, regionName);
+            cacheMiss();
+        }
+
+        @Override
+        public void naturalIdCacheHit(NavigableRole rootEntityName, String regionName) {
+            super.naturalIdCacheHit(rootEntityName, regionName);
+            cacheHit();
+        }
+
+        @Override
+        public void naturalIdCacheMiss(NavigableRole rootEntityName, String regionName) {
+            super.naturalIdCacheMiss(rootEntityName, regionName);
+            cacheMiss();
+        }
+
+        @Override
+        public void queryCacheHit(String hql, String regionName) {
+            super.queryCacheHit(hql, regionName);
+            cacheHit();
+        }
+
+        @Override
+        public void queryCacheMiss(String hql, String regionName) {
+            super.queryCacheMiss(hql, regionName);
+            cacheMiss();
+        }
+
+        @Override
+        public void queryExecuted(String hql, int rows, long time) {
+            super.queryExecuted(hql, rows, time);
+            RequestStatistics statistics = RequestStatistics.current();
+            if (statistics != null) {
+                statistics.queryExecuted(time);
+            }
+        }
+
+        private static void cacheHit() {
+            RequestStatistics statistics = RequestStatistics.current();
+            if (statistics != null) {
+                statistics.cacheHit();
+            }
+        }
+
+        private static void cacheMiss() {
+            RequestStatistics statistics = RequestStatistics.current();
+            if (statistics != null) {
+                statistics.cacheMissed();
+            }
+        }
+    }
+}
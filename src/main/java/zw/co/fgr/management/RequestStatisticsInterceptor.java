@@ -0,0 +1,107 @@
+package zw.co.fgr.management;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * Collects the {@link RequestStatistics} of each request handled by a controller of the given package and publishes them
+ * per handler method, tagged with its {@code class} and {@code method}.
+ * <p>
+ * A warning is logged when a request prepares more JDBC statements than the threshold, which usually means lazy
+ * associations are loaded one by one (N+1 selects).
+ */
+public class RequestStatisticsInterceptor implements AsyncHandlerInterceptor {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RequestStatisticsInterceptor.class);
+
+    public static final String STATEMENTS_METER_NAME = "hibernate.request.statements";
+    public static final String ENTITY_LOADS_METER_NAME = "hibernate.request.entity.loads";
+    public static final String COLLECTION_FETCHES_METER_NAME = "hibernate.request.collection.fetches";
+    public static final String CACHE_HITS_METER_NAME = "hibernate.request.cache.hits";
+    public static final String CACHE_MISSES_METER_NAME = "hibernate.request.cache.misses";
+    public static final String QUERY_TIME_METER_NAME = "hibernate.request.query.time";
+
+    private final MeterRegistry registry;
+
+    private final String handlerPackage;
+
+    private final int statementWarnThreshold;
+
+    /**
+     * @param registry the registry to publish to.
+     * @param handlerPackage only handlers from this package and its sub-packages are instrumented.
+     * @param statementWarnThreshold requests preparing more statements than this are logged; {@code 0} disables the warning.
+     */
+    public RequestStatisticsInterceptor(MeterRegistry registry, String handlerPackage, int statementWarnThreshold) {
+        this.registry = registry;
+        this.handlerPackage = handlerPackage;
+        this.statementWarnThreshold = statementWarnThreshold;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod && handlerMethod.getBeanType().getPackageName().startsWith(handlerPackage)) {
+            RequestStatistics.start();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // the rest of the request is handled on other threads, which this thread-bound collection cannot follow
+        RequestStatistics.stop();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        RequestStatistics statistics = RequestStatistics.stop();
+        if (statistics == null) {
+            return;
+        }
+        HandlerMethod handlerMethod = (HandlerMethod) handler;
+        String className = handlerMethod.getBeanType().getSimpleName();
+        String methodName = handlerMethod.getMethod().getName();
+        Tags tags = Tags.of("class", className, "method", methodName);
+
+        summary(STATEMENTS_METER_NAME, "JDBC statements prepared per request", "statements", tags).record(statistics.getStatements());
+        summary(ENTITY_LOADS_METER_NAME, "Entities loaded from the database per request", "entities", tags).record(
+            statistics.getEntityLoads()
+        );
+        summary(COLLECTION_FETCHES_METER_NAME, "Lazy collections fetched per request", "collections", tags).record(
+            statistics.getCollectionFetches()
+        );
+        summary(CACHE_HITS_METER_NAME, "Second-level cache hits per request", "hits", tags).record(statistics.getCacheHits());
+        summary(CACHE_MISSES_METER_NAME, "Second-level cache misses per request", "misses", tags).record(statistics.getCacheMisses());
+        Timer.builder(QUERY_TIME_METER_NAME)
+            .description("Time spent executing HQL and criteria queries per request")
+            .tags(tags)
+            .register(registry)
+            .record(Duration.ofMillis(statistics.getQueryTimeMillis()));
+
+        if (statementWarnThreshold > 0 && statistics.getStatements() > statementWarnThreshold) {
+            LOG.warn(
+                "Possible N+1 selects: {}.{}() prepared {} statements ({} entity loads, {} collection fetches) for {} {}",
+                className,
+                methodName,
+                statistics.getStatements(),
+                statistics.getEntityLoads(),
+                statistics.getCollectionFetches(),
+                request.getMethod(),
+                request.getRequestURI()
+            );
+        }
+    }
+
+    private DistributionSummary summary(String name, String description, String baseUnit, Tags tags) {
+        return DistributionSummary.builder(name).description(description).baseUnit(baseUnit).tags(tags).register(registry);
+    }
+}
@@ -0,0 +1,87 @@
+package zw.co.fgr.management;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Streams the JFR {@value #PINNED_EVENT} events, emitted when a virtual thread blocks while pinned to its carrier
+ * thread (typically blocking I/O inside a {@code synchronized} block, such as in older JDBC drivers), records them as
+ * the {@value #PINNED_METER_NAME} timer and logs where they happen.
+ * <p>
+ * Pinned virtual threads hold a carrier thread each, so a few of them on a hot path are enough to starve the scheduler.
+ */
+public class VirtualThreadPinningMonitor implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    public static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    public static final String PINNED_METER_NAME = "jvm.threads.virtual.pinned";
+
+    private static final String APPLICATION_PACKAGE = "zw.co.fgr.";
+
+    private final Timer pinned;
+
+    private final Duration threshold;
+
+    private RecordingStream recordingStream;
+
+    /**
+     * @param registry the registry to publish to.
+     * @param threshold virtual threads pinned for less than this are ignored.
+     */
+    public VirtualThreadPinningMonitor(MeterRegistry registry, Duration threshold) {
+        this.pinned = Timer.builder(PINNED_METER_NAME)
+            .description("Time virtual threads spent blocked while pinned to their carrier thread")
+            .register(registry);
+        this.threshold = threshold;
+    }
+
+    public synchronized void start() {
+        if (recordingStream != null) {
+            return;
+        }
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+        LOG.info("Monitoring virtual threads pinned for more than {} ms", threshold.toMillis());
+    }
+
+    void onPinned(RecordedEvent event) {
+        pinned.record(event.getDuration());
+        LOG.warn("Virtual thread pinned for {} ms at {}", event.getDuration().toMillis(), location(event.getStackTrace()));
+    }
+
+    /**
+     * The first application frame of the stack, where the pinning can be fixed, or the top frame if there is none.
+     */
+    private static String location(RecordedStackTrace stackTrace) {
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return "unknown location";
+        }
+        RecordedFrame location = stackTrace.getFrames().get(0);
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            if (frame.isJavaFrame() && frame.getMethod().getType().getName().startsWith(APPLICATION_PACKAGE)) {
+                location = frame;
+                break;
+            }
+        }
+        return location.getMethod().getType().getName() + "." + location.getMethod().getName() + ":" + location.getLineNumber();
+    }
+
+    @Override
+    public synchronized void close() {
+        if (recordingStream != null) {
+            recordingStream.close();
+            recordingStream = null;
+        }
+    }
+}
@@ -1,6 +1,10 @@
 package zw.co.fgr.repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import zw.co.fgr.domain.CdmsSubmission;
 
@@ -9,4 +13,36 @@ import zw.co.fgr.domain.CdmsSubmission;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface CdmsSubmissionRepository extends JpaRepository<CdmsSubmission, Long>, JpaSpecificationExecutor<CdmsSubmission> {}
+public interface CdmsSubmissionRepository extends JpaRepository<CdmsSubmission, Long>, JpaSpecificationExecutor<CdmsSubmission> {
+    /**
+     * Lock and return the ids of submissions in one of the given statuses that are due for an attempt. Rows locked by
+     * another dispatcher are skipped, so several nodes can dispatch concurrently. Served by the (status, next_retry_at)
+     * index.
+     */
+    @Query(
+        value = "select id from cdms_submission where status in (:statuses)" +
+        " and (next_retry_at is null or next_retry_at <= :now)" +
+        " order by next_retry_at, id limit :limit for update skip locked",
+        nativeQuery = true
+    )
+    List<Long> findDueIdsForUpdate(
+        @Param("statuses") Collection<String> statuses,
+        @Param("now") Instant now,
+        @Param("limit") int limit
+    );
+
+    /**
+     * Push the next attempt of the given submissions to {@code leaseUntil}, hiding them from other dispatchers while
+     * they are in flight. Should the owning node die, they become due again once the lease has passed.
+     */
+    @Modifying
+    @Query("update CdmsSubmission cdmsSubmission set cdmsSubmission.nextRetryAt = :leaseUntil where cdmsSubmission.id in :ids")
+    int lease(@Param("ids") Collection<Long> ids, @Param("leaseUntil") Instant leaseUntil);
+
+    @Query(
+        "select cdmsSubmission from CdmsSubmission cdmsSubmission" +
+        " left join fetch cdmsSubmission.kycCase kycCase left join fetch kycCase.customer" +
+        " where cdmsSubmission.id in :ids"
+    )
+    List<CdmsSubmission> findAllWithKycCaseByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -1,8 +1,13 @@
 package zw.co.fgr.repository;
 
+import java.util.List;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import zw.co.fgr.domain.CustomerIdentifier;
+import zw.co.fgr.domain.enumeration.ChannelType;
+import zw.co.fgr.domain.enumeration.IdentifierType;
 
 /**
  * Spring Data JPA repository for the CustomerIdentifier entity.
@@ -10,4 +15,19 @@ import zw.co.fgr.domain.CustomerIdentifier;
 @SuppressWarnings("unused")
 @Repository
 public interface CustomerIdentifierRepository
-    extends JpaRepository<CustomerIdentifier, Long>, JpaSpecificationExecutor<CustomerIdentifier> {}
+    extends JpaRepository<CustomerIdentifier, Long>, JpaSpecificationExecutor<CustomerIdentifier> {
+    String CUSTOMER_IDS_BY_IDENTIFIER_CACHE = "customerIdsByIdentifier";
+
+    @Query(
+        "select customerIdentifier.customer.id from CustomerIdentifier customerIdentifier" +
+        " where customerIdentifier.identifierType = :identifierType and customerIdentifier.channel = :channel" +
+        " and customerIdentifier.normalizedValue = :normalizedValue and customerIdentifier.customer is not null" +
+        " order by customerIdentifier.id"
+    )
+    List<Long> findCustomerIds(
+        @Param("identifierType") IdentifierType identifierType,
+        @Param("channel") ChannelType channel,
+        @Param("normalizedValue") String normalizedValue,
+        Limit limit
+    );
+}
@@ -0,0 +1,35 @@
+package zw.co.fgr.repository;
+
+import jakarta.persistence.LockModeType;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import zw.co.fgr.domain.CustomerKycStatus;
+
+/**
+ * Spring Data JPA repository for the CustomerKycStatus entity.
+ */
+@SuppressWarnings("unused")
+@Repository
+public interface CustomerKycStatusRepository extends JpaRepository<CustomerKycStatus, Long> {
+    /**
+     * Served by the kyc_case_id index.
+     */
+    List<CustomerKycStatus> findAllByKycCaseIdIn(Collection<Long> kycCaseIds);
+
+    /**
+     * Lock the customer row, which serializes the writers of the snapshot of that customer, whether or not it exists.
+     */
+    @Query(value = "select id from customer where id = :customerId for update", nativeQuery = true)
+    Optional<Long> lockCustomer(@Param("customerId") Long customerId);
+
+    /**
+     * Read the snapshot with a locking read, which sees the latest committed row rather than the transaction snapshot.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select customerKycStatus from CustomerKycStatus customerKycStatus where customerKycStatus.customerId = :customerId")
+    Optional<CustomerKycStatus> findByCustomerIdForUpdate(@Param("customerId") Long customerId);
+}
@@ -1,12 +1,119 @@
 package zw.co.fgr.repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import zw.co.fgr.domain.KycCase;
+import zw.co.fgr.domain.enumeration.KycStatus;
 
 /**
  * Spring Data JPA repository for the KycCase entity.
  */
 @SuppressWarnings("unused")
 @Repository
-public interface KycCaseRepository extends JpaRepository<KycCase, Long>, JpaSpecificationExecutor<KycCase> {}
+public interface KycCaseRepository extends JpaRepository<KycCase, Long>, JpaSpecificationExecutor<KycCase> {
+    /**
+     * Load a case with its customer, consent and submission in a single query.
+     */
+    @EntityGraph(attributePaths = { "customer", "consent", "submission" })
+    Optional<KycCase> findWithToOneRelationshipsById(Long id);
+
+    /**
+     * Find the latest case of a customer, the one started last.
+     */
+    Optional<KycCase> findFirstByCustomerIdOrderByStartedAtDescIdDesc(Long customerId);
+
+    /**
+     * Lock and return the ids of cases in one of the given statuses whose expiry date has passed. Rows locked by
+     * another sweeper are skipped, so several nodes can sweep concurrently. Served by the (status, expires_at) index.
+     */
+    @Query(
+        value = "select id from kyc_case where status in (:statuses) and expires_at < :now" +
+        " order by expires_at limit :limit for update skip locked",
+        nativeQuery = true
+    )
+    List<Long> findExpiredIdsForUpdate(
+        @Param("statuses") Collection<String> statuses,
+        @Param("now") Instant now,
+        @Param("limit") int limit
+    );
+
+    /**
+     * Lock and return the ids of cases in one of the given statuses without activity since the cutoff. Rows locked by
+     * another sweeper are skipped. Served by the (status, last_activity_at) index.
+     */
+    @Query(
+        value = "select id from kyc_case where status in (:statuses) and last_activity_at < :cutoff" +
+        " order by last_activity_at limit :limit for update skip locked",
+        nativeQuery = true
+    )
+    List<Long> findInactiveIdsForUpdate(
+        @Param("statuses") Collection<String> statuses,
+        @Param("cutoff") Instant cutoff,
+        @Param("limit") int limit
+    );
+
+    /**
+     * Find the customers of the given cases, without loading the cases.
+     */
+    @Query(
+        "select kycCase.id as id, customer.id as customerId from KycCase kycCase left join kycCase.customer customer" +
+        " where kycCase.id in :ids"
+    )
+    List<KycCaseCustomer> findCustomersByIdIn(@Param("ids") Collection<Long> ids);
+
+    interface KycCaseCustomer {
+        Long getId();
+
+        Long getCustomerId();
+    }
+
+    /**
+     * Lock and return the status of the given cases. Rows locked by another transaction are skipped, so a bulk change
+     * never waits on a case being changed concurrently.
+     */
+    @Query(value = "select id as id, status as status from kyc_case where id in (:ids) for update skip locked", nativeQuery = true)
+    List<KycCaseCurrentStatus> findStatusesByIdInForUpdate(@Param("ids") Collection<Long> ids);
+
+    interface KycCaseCurrentStatus {
+        Long getId();
+
+        String getStatus();
+    }
+
+    @Query("select kycCase.id from KycCase kycCase where kycCase.id in :ids")
+    List<Long> findIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query(
+        "update KycCase kycCase set kycCase.status = :status, kycCase.lastUpdatedAt = :now" +
+        " where kycCase.id in :ids and kycCase.status in :expectedStatuses"
+    )
+    int updateStatus(
+        @Param("ids") Collection<Long> ids,
+        @Param("expectedStatuses") Collection<KycStatus> expectedStatuses,
+        @Param("status") KycStatus status,
+        @Param("now") Instant now
+    );
+
+    /**
+     * Same as {@link #updateStatus}, also setting the completion date of the cases when {@code completedAt} is given.
+     */
+    @Modifying
+    @Query(
+        "update KycCase kycCase set kycCase.status = :status, kycCase.lastUpdatedAt = :now," +
+        " kycCase.completedAt = coalesce(:completedAt, kycCase.completedAt)" +
+        " where kycCase.id in :ids and kycCase.status in :expectedStatuses"
+    )
+    int updateStatus(
+        @Param("ids") Collection<Long> ids,
+        @Param("expectedStatuses") Collection<KycStatus> expectedStatuses,
+        @Param("status") KycStatus status,
+        @Param("now") Instant now,
+        @Param("completedAt") Instant completedAt
+    );
+}
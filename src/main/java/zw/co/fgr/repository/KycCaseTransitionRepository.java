@@ -0,0 +1,56 @@
+package zw.co.fgr.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import zw.co.fgr.domain.KycCaseTransition;
+
+/**
+ * Spring Data JPA repository for the KycCaseTransition entity.
+ */
+@SuppressWarnings("unused")
+@Repository
+public interface KycCaseTransitionRepository extends JpaRepository<KycCaseTransition, Long> {
+    /**
+     * Find the last transition of a case. Served by the (kyc_case_id, occurred_at) index.
+     */
+    Optional<KycCaseTransition> findFirstByKycCaseIdOrderByOccurredAtDescIdDesc(Long kycCaseId);
+
+    /**
+     * Find the last transition of each of the given cases. Served by the (kyc_case_id, occurred_at) index.
+     */
+    @Query(
+        "select transition from KycCaseTransition transition where transition.kycCaseId in :kycCaseIds" +
+        " and not exists (select later.id from KycCaseTransition later where later.kycCaseId = transition.kycCaseId" +
+        " and (later.occurredAt > transition.occurredAt or (later.occurredAt = transition.occurredAt and later.id > transition.id)))"
+    )
+    List<KycCaseTransition> findLastByKycCaseIdIn(@Param("kycCaseIds") Collection<Long> kycCaseIds);
+
+    /**
+     * Lock and return the ids of transitions not aggregated yet. Rows locked by another aggregator are skipped, so
+     * several nodes can aggregate concurrently. Served by the aggregated index.
+     */
+    @Query(
+        value = "select id from kyc_case_transition where aggregated = false order by id limit :limit for update skip locked",
+        nativeQuery = true
+    )
+    List<Long> findNotAggregatedIdsForUpdate(@Param("limit") int limit);
+
+    /**
+     * Lock every transition not aggregated yet, waiting for the aggregators holding some of them, and the gap after
+     * them, so that no new transition can be claimed until the transaction ends. Served by the aggregated index.
+     */
+    @Query(value = "select count(id) from kyc_case_transition where aggregated = false for update", nativeQuery = true)
+    long lockNotAggregated();
+
+    @Modifying
+    @Query("update KycCaseTransition transition set transition.aggregated = true where transition.id in :ids")
+    int markAggregated(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("update KycCaseTransition transition set transition.aggregated = false where transition.aggregated = true")
+    int markAllNotAggregated();
+}
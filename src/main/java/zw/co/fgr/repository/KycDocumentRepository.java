@@ -1,5 +1,6 @@
 package zw.co.fgr.repository;
 
+import java.util.List;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.stereotype.Repository;
 import zw.co.fgr.domain.KycDocument;
@@ -9,4 +10,6 @@ import zw.co.fgr.domain.KycDocument;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface KycDocumentRepository extends JpaRepository<KycDocument, Long> {}
+public interface KycDocumentRepository extends JpaRepository<KycDocument, Long> {
+    List<KycDocument> findAllByKycCaseIdOrderByUploadedAtAscIdAsc(Long kycCaseId);
+}
@@ -0,0 +1,29 @@
+package zw.co.fgr.repository;
+
+import jakarta.persistence.LockModeType;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.stereotype.Repository;
+import zw.co.fgr.domain.KycFunnelBucket;
+import zw.co.fgr.domain.enumeration.ChannelType;
+import zw.co.fgr.domain.enumeration.KycStatus;
+
+/**
+ * Spring Data JPA repository for the KycFunnelBucket entity.
+ */
+@SuppressWarnings("unused")
+@Repository
+public interface KycFunnelBucketRepository extends JpaRepository<KycFunnelBucket, Long> {
+    /**
+     * Lock and return a bucket for update. Served by the (channel, status, bucket_start) unique index.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<KycFunnelBucket> findByChannelAndStatusAndBucketStart(ChannelType channel, KycStatus status, Instant bucketStart);
+
+    /**
+     * Served by the bucket_start index.
+     */
+    List<KycFunnelBucket> findAllByBucketStartGreaterThanEqualAndBucketStartLessThan(Instant from, Instant to);
+}
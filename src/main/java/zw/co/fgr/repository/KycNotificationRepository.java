@@ -1,6 +1,10 @@
 package zw.co.fgr.repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import zw.co.fgr.domain.KycNotification;
 
@@ -9,4 +13,40 @@ import zw.co.fgr.domain.KycNotification;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface KycNotificationRepository extends JpaRepository<KycNotification, Long> {}
+public interface KycNotificationRepository extends JpaRepository<KycNotification, Long> {
+    List<KycNotification> findAllByKycCaseIdOrderBySentAtAscIdAsc(Long kycCaseId);
+
+    /**
+     * Lock and return the ids of notifications in one of the given statuses, for cases on the given channel, that are
+     * due for an attempt. Only the notification rows are locked, and rows locked by another dispatcher are skipped.
+     * Served by the (delivery_status, next_attempt_at) index.
+     */
+    @Query(
+        value = "select n.id from kyc_notification n join kyc_case c on c.id = n.kyc_case_id" +
+        " where n.delivery_status in (:statuses) and c.channel = :channel" +
+        " and (n.next_attempt_at is null or n.next_attempt_at <= :now)" +
+        " order by n.next_attempt_at, n.id limit :limit for update of n skip locked",
+        nativeQuery = true
+    )
+    List<Long> findDueIdsForUpdate(
+        @Param("statuses") Collection<String> statuses,
+        @Param("channel") String channel,
+        @Param("now") Instant now,
+        @Param("limit") int limit
+    );
+
+    /**
+     * Push the next attempt of the given notifications to {@code leaseUntil}, hiding them from other dispatchers while
+     * they are in flight. Should the owning node die, they become due again once the lease has passed.
+     */
+    @Modifying
+    @Query("update KycNotification kycNotification set kycNotification.nextAttemptAt = :leaseUntil where kycNotification.id in :ids")
+    int lease(@Param("ids") Collection<Long> ids, @Param("leaseUntil") Instant leaseUntil);
+
+    @Query(
+        "select kycNotification from KycNotification kycNotification" +
+        " left join fetch kycNotification.kycCase kycCase left join fetch kycCase.customer" +
+        " where kycNotification.id in :ids"
+    )
+    List<KycNotification> findAllWithKycCaseByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,42 @@
+package zw.co.fgr.repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import zw.co.fgr.domain.PendingMail;
+
+/**
+ * Spring Data JPA repository for the PendingMail entity.
+ */
+@SuppressWarnings("unused")
+@Repository
+public interface PendingMailRepository extends JpaRepository<PendingMail, Long> {
+    /**
+     * Lock and return the ids of messages due for another attempt. Rows locked by another node are skipped, so several
+     * nodes can retry concurrently. Served by the next_attempt_at index.
+     */
+    @Query(
+        value = "select id from pending_mail where next_attempt_at <= :now" +
+        " order by next_attempt_at, id limit :limit for update skip locked",
+        nativeQuery = true
+    )
+    List<Long> findDueIdsForUpdate(@Param("now") Instant now, @Param("limit") int limit);
+
+    /**
+     * Push the next attempt of the given messages to {@code leaseUntil}, hiding them from other nodes while they are in
+     * flight. Should the owning node die, they become due again once the lease has passed.
+     */
+    @Modifying
+    @Query("update PendingMail pendingMail set pendingMail.nextAttemptAt = :leaseUntil where pendingMail.id in :ids")
+    int lease(@Param("ids") Collection<Long> ids, @Param("leaseUntil") Instant leaseUntil);
+
+    /**
+     * Delete the messages given up on whose last attempt is before {@code cutoff}.
+     */
+    @Modifying
+    @Query("delete from PendingMail pendingMail where pendingMail.nextAttemptAt is null and pendingMail.lastAttemptAt < :cutoff")
+    int deleteGivenUpBefore(@Param("cutoff") Instant cutoff);
+}
@@ -0,0 +1,93 @@
+package zw.co.fgr.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+/**
+ * {@link JwtDecoder} remembering the tokens it has already decoded, so that a client resending the same token skips the
+ * signature verification and the claims parsing of the delegate decoder.
+ * <p>
+ * Entries are keyed by the SHA-256 digest of the token, a fixed-size key whatever the length of the token, and expire
+ * when their token does. The cached {@link Jwt}s still hold their raw token, as {@link Jwt#getTokenValue()} does for
+ * the authentication built from them, so the cache keeps the bearer tokens of up to {@code maximumSize} clients in
+ * memory until they expire. Rejected tokens and tokens without expiry are never cached, they always go through the
+ * delegate.
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+    private final JwtDecoder delegate;
+
+    private final Cache<ByteBuffer, Jwt> cache;
+
+    private final Clock clock;
+
+    public CachingJwtDecoder(JwtDecoder delegate, long maximumSize) {
+        this(delegate, maximumSize, Clock.systemUTC(), Ticker.systemTicker());
+    }
+
+    CachingJwtDecoder(JwtDecoder delegate, long maximumSize, Clock clock, Ticker ticker) {
+        this.delegate = delegate;
+        this.clock = clock;
+        this.cache = Caffeine.newBuilder().maximumSize(maximumSize).expireAfter(new UntilExpiry()).ticker(ticker).build();
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        ByteBuffer key = digest(token);
+        Jwt jwt = cache.getIfPresent(key);
+        if (jwt != null) {
+            return jwt;
+        }
+        jwt = delegate.decode(token);
+        if (jwt.getExpiresAt() != null) {
+            cache.put(key, jwt);
+        }
+        return jwt;
+    }
+
+    /**
+     * @return the number of tokens currently remembered, for monitoring.
+     */
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    private static ByteBuffer digest(String token) {
+        try {
+            return ByteBuffer.wrap(MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is required of every Java platform", e);
+        }
+    }
+
+    private final class UntilExpiry implements Expiry<ByteBuffer, Jwt> {
+
+        @Override
+        public long expireAfterCreate(ByteBuffer key, Jwt jwt, long currentTime) {
+            Instant now = clock.instant();
+            return jwt.getExpiresAt().isAfter(now) ? Duration.between(now, jwt.getExpiresAt()).toNanos() : 0;
+        }
+
+        @Override
+        public long expireAfterUpdate(ByteBuffer key, Jwt jwt, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, jwt, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(ByteBuffer key, Jwt jwt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package zw.co.fgr.service;
 
 import jakarta.persistence.criteria.JoinType;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -27,8 +30,11 @@ public class CdmsSubmissionQueryService extends QueryService<CdmsSubmission> {
 
     private final CdmsSubmissionRepository cdmsSubmissionRepository;
 
-    public CdmsSubmissionQueryService(CdmsSubmissionRepository cdmsSubmissionRepository) {
+    private final FieldProjectionService fieldProjectionService;
+
+    public CdmsSubmissionQueryService(CdmsSubmissionRepository cdmsSubmissionRepository, FieldProjectionService fieldProjectionService) {
         this.cdmsSubmissionRepository = cdmsSubmissionRepository;
+        this.fieldProjectionService = fieldProjectionService;
     }
 
     /**
@@ -43,6 +49,21 @@ public class CdmsSubmissionQueryService extends QueryService<CdmsSubmission> {
         return cdmsSubmissionRepository.findAll(specification);
     }
 
+    /**
+     * Return a {@link List} of the given fields of the {@link CdmsSubmission} which match the criteria from the database.
+     * Only the selected columns are read, and no entity is loaded.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param fields The fields to select, see {@link FieldProjectionService#getSelectableFields(Class)}.
+     * @return the matching rows.
+     * @throws IllegalArgumentException if a field cannot be selected.
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> findByCriteria(CdmsSubmissionCriteria criteria, Collection<String> fields) {
+        LOG.debug("find by criteria : {}, fields: {}", criteria, fields);
+        final Specification<CdmsSubmission> specification = createSpecification(criteria);
+        return fieldProjectionService.findAll(CdmsSubmission.class, specification, fields, Pageable.unpaged(), () -> 0).getContent();
+    }
+
     /**
      * Return the number of matching entities in the database.
      * @param criteria The object which holds all the filters, which the entities should match.
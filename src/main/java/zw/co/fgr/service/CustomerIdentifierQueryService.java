@@ -1,6 +1,8 @@
 package zw.co.fgr.service;
 
 import jakarta.persistence.criteria.JoinType;
+import java.util.Collection;
+import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
@@ -28,8 +30,14 @@ public class CustomerIdentifierQueryService extends QueryService<CustomerIdentif
 
     private final CustomerIdentifierRepository customerIdentifierRepository;
 
-    public CustomerIdentifierQueryService(CustomerIdentifierRepository customerIdentifierRepository) {
+    private final FieldProjectionService fieldProjectionService;
+
+    public CustomerIdentifierQueryService(
+        CustomerIdentifierRepository customerIdentifierRepository,
+        FieldProjectionService fieldProjectionService
+    ) {
         this.customerIdentifierRepository = customerIdentifierRepository;
+        this.fieldProjectionService = fieldProjectionService;
     }
 
     /**
@@ -45,6 +53,24 @@ public class CustomerIdentifierQueryService extends QueryService<CustomerIdentif
         return customerIdentifierRepository.findAll(specification, page);
     }
 
+    /**
+     * Return a {@link Page} of the given fields of the {@link CustomerIdentifier} which match the criteria from the database.
+     * Only the selected columns are read, and no entity is loaded.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param fields The fields to select, see {@link FieldProjectionService#getSelectableFields(Class)}.
+     * @param page The page, which should be returned.
+     * @return the matching rows.
+     * @throws IllegalArgumentException if a field cannot be selected.
+     */
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> findByCriteria(CustomerIdentifierCriteria criteria, Collection<String> fields, Pageable page) {
+        LOG.debug("find by criteria : {}, fields: {}, page: {}", criteria, fields, page);
+        final Specification<CustomerIdentifier> specification = createSpecification(criteria);
+        return fieldProjectionService.findAll(CustomerIdentifier.class, specification, fields, page, () ->
+            customerIdentifierRepository.count(specification)
+        );
+    }
+
     /**
      * Return the number of matching entities in the database.
      * @param criteria The object which holds all the filters, which the entities should match.
@@ -0,0 +1,131 @@
+package zw.co.fgr.service;
+
+import java.util.Objects;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import zw.co.fgr.domain.Customer;
+import zw.co.fgr.domain.CustomerIdentifier;
+import zw.co.fgr.domain.enumeration.ChannelType;
+import zw.co.fgr.domain.enumeration.IdentifierType;
+import zw.co.fgr.repository.CustomerIdentifierRepository;
+import zw.co.fgr.repository.CustomerRepository;
+
+/**
+ * Service resolving inbound channel identifiers (phone number, WhatsApp number, USSD MSISDN...) to a {@link Customer}.
+ * <p>
+ * Lookups go through a read-through cache keyed on {@code (identifierType, channel, normalizedValue)} which only
+ * stores the customer id; the {@link Customer} itself is then served from the second-level cache.
+ * Entries are evicted by {@link CustomerIdentifierService} whenever an identifier is written.
+ */
+@Service
+@Transactional(readOnly = true)
+public class CustomerIdentifierResolutionService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CustomerIdentifierResolutionService.class);
+
+    private final CustomerIdentifierRepository customerIdentifierRepository;
+
+    private final CustomerRepository customerRepository;
+
+    private final CacheManager cacheManager;
+
+    public CustomerIdentifierResolutionService(
+        CustomerIdentifierRepository customerIdentifierRepository,
+        CustomerRepository customerRepository,
+        CacheManager cacheManager
+    ) {
+        this.customerIdentifierRepository = customerIdentifierRepository;
+        this.customerRepository = customerRepository;
+        this.cacheManager = cacheManager;
+    }
+
+    /**
+     * Resolve the id of the customer owning an identifier on a channel.
+     *
+     * @param identifierType the type of the identifier.
+     * @param channel the channel the identifier was received on.
+     * @param identifierValue the raw identifier value, normalized before lookup.
+     * @return the id of the owning customer, or empty if the identifier is unknown.
+     */
+    public Optional<Long> resolveCustomerId(IdentifierType identifierType, ChannelType channel, String identifierValue) {
+        String normalizedValue = identifierType.normalize(identifierValue);
+        String key = cacheKey(identifierType, channel, normalizedValue);
+        Cache cache = getCache();
+        Long customerId = cache.get(key, Long.class);
+        if (customerId == null) {
+            LOG.debug("Identifier cache miss for {}", key);
+            customerId = customerIdentifierRepository
+                .findCustomerIds(identifierType, channel, normalizedValue, Limit.of(1))
+                .stream()
+                .findFirst()
+                .orElse(null);
+            if (customerId == null) {
+                return Optional.empty();
+            }
+            cache.put(key, customerId);
+        }
+        return Optional.of(customerId);
+    }
+
+    /**
+     * Resolve the customer owning an identifier on a channel.
+     *
+     * @param identifierType the type of the identifier.
+     * @param channel the channel the identifier was received on.
+     * @param identifierValue the raw identifier value, normalized before lookup.
+     * @return the owning customer, or empty if the identifier is unknown.
+     */
+    public Optional<Customer> resolveCustomer(IdentifierType identifierType, ChannelType channel, String identifierValue) {
+        LOG.debug("Request to resolve Customer by {} on {}", identifierType, channel);
+        return resolveCustomerId(identifierType, channel, identifierValue).flatMap(customerRepository::findById);
+    }
+
+    /**
+     * Evict the cached resolution of an identifier. The entry is evicted immediately and, when called inside a
+     * transaction, once more after commit so that a concurrent lookup cannot re-populate it with the old value.
+     *
+     * @param customerIdentifier the identifier being written.
+     */
+    public void evict(CustomerIdentifier customerIdentifier) {
+        if (
+            customerIdentifier.getIdentifierType() == null ||
+            customerIdentifier.getChannel() == null ||
+            customerIdentifier.getIdentifierValue() == null
+        ) {
+            return;
+        }
+        String key = cacheKey(
+            customerIdentifier.getIdentifierType(),
+            customerIdentifier.getChannel(),
+            customerIdentifier.getIdentifierType().normalize(customerIdentifier.getIdentifierValue())
+        );
+        Cache cache = getCache();
+        cache.evictIfPresent(key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        cache.evictIfPresent(key);
+                    }
+                }
+            );
+        }
+    }
+
+    private Cache getCache() {
+        return Objects.requireNonNull(cacheManager.getCache(CustomerIdentifierRepository.CUSTOMER_IDS_BY_IDENTIFIER_CACHE));
+    }
+
+    private static String cacheKey(IdentifierType identifierType, ChannelType channel, String normalizedValue) {
+        return identifierType.name() + ':' + channel.name() + ':' + normalizedValue;
+    }
+}
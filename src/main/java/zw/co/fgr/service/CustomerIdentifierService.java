@@ -19,8 +19,14 @@ public class CustomerIdentifierService {
 
     private final CustomerIdentifierRepository customerIdentifierRepository;
 
-    public CustomerIdentifierService(CustomerIdentifierRepository customerIdentifierRepository) {
+    private final CustomerIdentifierResolutionService customerIdentifierResolutionService;
+
+    public CustomerIdentifierService(
+        CustomerIdentifierRepository customerIdentifierRepository,
+        CustomerIdentifierResolutionService customerIdentifierResolutionService
+    ) {
         this.customerIdentifierRepository = customerIdentifierRepository;
+        this.customerIdentifierResolutionService = customerIdentifierResolutionService;
     }
 
     /**
@@ -31,6 +37,7 @@ public class CustomerIdentifierService {
      */
     public CustomerIdentifier save(CustomerIdentifier customerIdentifier) {
         LOG.debug("Request to save CustomerIdentifier : {}", customerIdentifier);
+        customerIdentifierResolutionService.evict(customerIdentifier);
         return customerIdentifierRepository.save(customerIdentifier);
     }
 
@@ -42,6 +49,8 @@ public class CustomerIdentifierService {
      */
     public CustomerIdentifier update(CustomerIdentifier customerIdentifier) {
         LOG.debug("Request to update CustomerIdentifier : {}", customerIdentifier);
+        customerIdentifierRepository.findById(customerIdentifier.getId()).ifPresent(customerIdentifierResolutionService::evict);
+        customerIdentifierResolutionService.evict(customerIdentifier);
         return customerIdentifierRepository.save(customerIdentifier);
     }
 
@@ -57,6 +66,7 @@ public class CustomerIdentifierService {
         return customerIdentifierRepository
             .findById(customerIdentifier.getId())
             .map(existingCustomerIdentifier -> {
+                customerIdentifierResolutionService.evict(existingCustomerIdentifier);
                 if (customerIdentifier.getIdentifierType() != null) {
                     existingCustomerIdentifier.setIdentifierType(customerIdentifier.getIdentifierType());
                 }
@@ -79,6 +89,7 @@ public class CustomerIdentifierService {
                     existingCustomerIdentifier.setVerifiedAt(customerIdentifier.getVerifiedAt());
                 }
 
+                customerIdentifierResolutionService.evict(existingCustomerIdentifier);
                 return existingCustomerIdentifier;
             })
             .map(customerIdentifierRepository::save);
@@ -103,6 +114,7 @@ public class CustomerIdentifierService {
      */
     public void delete(Long id) {
         LOG.debug("Request to delete CustomerIdentifier : {}", id);
+        customerIdentifierRepository.findById(id).ifPresent(customerIdentifierResolutionService::evict);
         customerIdentifierRepository.deleteById(id);
     }
 }
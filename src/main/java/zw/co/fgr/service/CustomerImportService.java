@@ -0,0 +1,293 @@
+package zw.co.fgr.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import zw.co.fgr.domain.Customer;
+import zw.co.fgr.domain.CustomerIdentifier;
+import zw.co.fgr.domain.enumeration.ChannelType;
+import zw.co.fgr.domain.enumeration.CustomerType;
+import zw.co.fgr.domain.enumeration.IdentifierType;
+import zw.co.fgr.service.dto.CustomerImportResultDTO;
+import zw.co.fgr.service.dto.CustomerImportRowDTO;
+
+/**
+ * Service for bulk importing {@link Customer} entities, with an optional {@link CustomerIdentifier} per row.
+ * <p>
+ * The body is streamed row by row and persisted in chunks, each chunk in its own transaction, so memory stays
+ * bounded whatever the size of the import. When a chunk fails (for example on a duplicate customer reference) its
+ * rows are retried one by one so that only the offending rows are reported as failed. Failed rows are reported with a
+ * fixed message, the database error being only logged.
+ */
+@Service
+public class CustomerImportService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CustomerImportService.class);
+
+    static final int CHUNK_SIZE = 250;
+
+    static final String DUPLICATE_ERROR = "duplicate customerRef";
+
+    static final String SAVE_ERROR = "could not be saved";
+
+    public enum Format {
+        CSV,
+        NDJSON,
+    }
+
+    private final CustomerService customerService;
+
+    private final CustomerIdentifierService customerIdentifierService;
+
+    private final Validator validator;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ObjectMapper jsonMapper;
+
+    private final CsvMapper csvMapper;
+
+    public CustomerImportService(
+        CustomerService customerService,
+        CustomerIdentifierService customerIdentifierService,
+        Validator validator,
+        PlatformTransactionManager transactionManager,
+        ObjectMapper objectMapper
+    ) {
+        this.customerService = customerService;
+        this.customerIdentifierService = customerIdentifierService;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.jsonMapper = objectMapper.copy().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        this.csvMapper = CsvMapper.builder().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES).build();
+    }
+
+    /**
+     * Import customers from a CSV (with a header line) or NDJSON stream.
+     *
+     * @param input the body to import, read until exhausted but not closed.
+     * @param format the format of the body.
+     * @param resultConsumer receives the results of each chunk, in row order, once the chunk is committed.
+     * @throws IOException if the body cannot be read.
+     */
+    public void importCustomers(InputStream input, Format format, Consumer<List<CustomerImportResultDTO>> resultConsumer)
+        throws IOException {
+        LOG.debug("Request to import Customers from {}", format);
+        List<ImportRow> chunk = new ArrayList<>(CHUNK_SIZE);
+        Consumer<ImportRow> accept = importRow -> {
+            chunk.add(importRow);
+            if (chunk.size() == CHUNK_SIZE) {
+                resultConsumer.accept(persistChunk(chunk));
+                chunk.clear();
+            }
+        };
+        if (format == Format.CSV) {
+            readCsv(input, accept);
+        } else {
+            readNdjson(input, accept);
+        }
+        if (!chunk.isEmpty()) {
+            resultConsumer.accept(persistChunk(chunk));
+        }
+    }
+
+    private void readCsv(InputStream input, Consumer<ImportRow> accept) throws IOException {
+        long row = 0;
+        try (
+            MappingIterator<CustomerImportRowDTO> iterator = csvMapper
+                .readerFor(CustomerImportRowDTO.class)
+                .with(CsvSchema.emptySchema().withHeader())
+                .readValues(input)
+        ) {
+            while (iterator.hasNext()) {
+                row++;
+                try {
+                    accept.accept(toImportRow(row, iterator.next()));
+                } catch (RuntimeJsonMappingException e) {
+                    accept.accept(ImportRow.rejected(row, null, List.of(e.getMessage())));
+                }
+            }
+        }
+    }
+
+    private void readNdjson(InputStream input, Consumer<ImportRow> accept) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        long row = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            row++;
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                accept.accept(toImportRow(row, jsonMapper.readValue(line, CustomerImportRowDTO.class)));
+            } catch (JsonProcessingException e) {
+                accept.accept(ImportRow.rejected(row, null, List.of(e.getOriginalMessage())));
+            }
+        }
+    }
+
+    private ImportRow toImportRow(long row, CustomerImportRowDTO dto) {
+        List<String> errors = new ArrayList<>();
+        Instant now = Instant.now();
+        Customer customer = new Customer()
+            .customerRef(trimToNull(dto.getCustomerRef()))
+            .customerType(parseEnum(dto.getCustomerType(), "customerType", CustomerType.class, errors))
+            .fullName(trimToNull(dto.getFullName()))
+            .dateOfBirth(parseDate(dto.getDateOfBirth(), "dateOfBirth", errors))
+            .idNumber(trimToNull(dto.getIdNumber()))
+            .registrationNumber(trimToNull(dto.getRegistrationNumber()))
+            .address(trimToNull(dto.getAddress()))
+            .phoneNumber(trimToNull(dto.getPhoneNumber()))
+            .createdAt(now);
+        addViolations(validator.validate(customer), "", errors);
+
+        CustomerIdentifier customerIdentifier = null;
+        if (trimToNull(dto.getIdentifierType()) != null || trimToNull(dto.getIdentifierValue()) != null) {
+            customerIdentifier = new CustomerIdentifier()
+                .identifierType(parseEnum(dto.getIdentifierType(), "identifierType", IdentifierType.class, errors))
+                .identifierValue(trimToNull(dto.getIdentifierValue()))
+                .channel(parseEnum(dto.getChannel(), "channel", ChannelType.class, errors))
+                .verified(false)
+                .isPrimary(true)
+                .createdAt(now);
+            addViolations(validator.validate(customerIdentifier), "identifier.", errors);
+        }
+
+        if (!errors.isEmpty()) {
+            return ImportRow.rejected(row, customer.getCustomerRef(), errors);
+        }
+        return new ImportRow(row, customer, customerIdentifier, null);
+    }
+
+    private List<CustomerImportResultDTO> persistChunk(List<ImportRow> chunk) {
+        List<ImportRow> valid = chunk.stream().filter(ImportRow::isValid).toList();
+        List<CustomerImportResultDTO> results = new ArrayList<>(chunk.size());
+        try {
+            transactionTemplate.executeWithoutResult(status -> valid.forEach(this::persist));
+            chunk.forEach(importRow -> results.add(importRow.isValid() ? importRow.created() : importRow.invalid()));
+        } catch (RuntimeException e) {
+            LOG.debug("Import chunk failed, retrying its rows one by one: {}", e.getMessage());
+            for (ImportRow importRow : chunk) {
+                results.add(importRow.isValid() ? persistAlone(importRow) : importRow.invalid());
+            }
+        }
+        return results;
+    }
+
+    private CustomerImportResultDTO persistAlone(ImportRow importRow) {
+        // ids handed out during the rolled back chunk must not be reused
+        importRow.customer().setId(null);
+        if (importRow.customerIdentifier() != null) {
+            importRow.customerIdentifier().setId(null);
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> persist(importRow));
+            return importRow.created();
+        } catch (RuntimeException e) {
+            LOG.warn("Import row {} failed: {}", importRow.row(), NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+            return new CustomerImportResultDTO(
+                importRow.row(),
+                CustomerImportResultDTO.Status.FAILED,
+                importRow.customer().getCustomerRef(),
+                null,
+                List.of(e instanceof DataIntegrityViolationException ? DUPLICATE_ERROR : SAVE_ERROR)
+            );
+        }
+    }
+
+    private void persist(ImportRow importRow) {
+        Customer customer = customerService.save(importRow.customer());
+        if (importRow.customerIdentifier() != null) {
+            customerIdentifierService.save(importRow.customerIdentifier().customer(customer));
+        }
+    }
+
+    private static <E extends Enum<E>> E parseEnum(String value, String field, Class<E> type, List<String> errors) {
+        String trimmed = trimToNull(value);
+        if (trimmed == null) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(type, trimmed.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            errors.add(field + ": invalid value '" + trimmed + "'");
+            return null;
+        }
+    }
+
+    private static LocalDate parseDate(String value, String field, List<String> errors) {
+        String trimmed = trimToNull(value);
+        if (trimmed == null) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(trimmed);
+        } catch (DateTimeParseException e) {
+            errors.add(field + ": invalid date '" + trimmed + "', expected yyyy-MM-dd");
+            return null;
+        }
+    }
+
+    private static void addViolations(Iterable<? extends ConstraintViolation<?>> violations, String prefix, List<String> errors) {
+        for (ConstraintViolation<?> violation : violations) {
+            errors.add(prefix + violation.getPropertyPath() + ": " + violation.getMessage());
+        }
+    }
+
+    private static String trimToNull(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return value.strip();
+    }
+
+    private record ImportRow(long row, Customer customer, CustomerIdentifier customerIdentifier, List<String> errors) {
+        static ImportRow rejected(long row, String customerRef, List<String> errors) {
+            return new ImportRow(row, new Customer().customerRef(customerRef), null, errors);
+        }
+
+        boolean isValid() {
+            return errors == null;
+        }
+
+        CustomerImportResultDTO created() {
+            return new CustomerImportResultDTO(
+                row,
+                CustomerImportResultDTO.Status.CREATED,
+                customer.getCustomerRef(),
+                customer.getId(),
+                null
+            );
+        }
+
+        CustomerImportResultDTO invalid() {
+            return new CustomerImportResultDTO(row, CustomerImportResultDTO.Status.INVALID, customer.getCustomerRef(), null, errors);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package zw.co.fgr.service;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import zw.co.fgr.domain.CustomerKycStatus;
+import zw.co.fgr.domain.KycCase;
+import zw.co.fgr.domain.enumeration.KycStatus;
+import zw.co.fgr.repository.CustomerKycStatusRepository;
+import zw.co.fgr.repository.KycCaseRepository;
+
+/**
+ * Service maintaining the {@link CustomerKycStatus} of each customer, incrementally, as their cases change.
+ * <p>
+ * The latest case of a customer is the one started last. A changed case replaces the snapshot of its customer when it
+ * is that case, or a later one; only deletions and moves between customers, which are rare, look the latest case up
+ * again.
+ * <p>
+ * Writers of the snapshot of a customer first lock the customer row, so that two first cases saved at once cannot both
+ * insert the snapshot: the second one waits, then finds and updates the snapshot of the first.
+ */
+@Service
+@Transactional
+public class CustomerKycStatusService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CustomerKycStatusService.class);
+
+    private final CustomerKycStatusRepository customerKycStatusRepository;
+
+    private final KycCaseRepository kycCaseRepository;
+
+    public CustomerKycStatusService(CustomerKycStatusRepository customerKycStatusRepository, KycCaseRepository kycCaseRepository) {
+        this.customerKycStatusRepository = customerKycStatusRepository;
+        this.kycCaseRepository = kycCaseRepository;
+    }
+
+    /**
+     * Record a created or updated case.
+     *
+     * @param kycCase the persisted case.
+     */
+    public void record(KycCase kycCase) {
+        LOG.debug("Request to record KycCase in CustomerKycStatus : {}", kycCase.getId());
+        Long customerId = kycCase.getCustomer() == null ? null : kycCase.getCustomer().getId();
+        for (CustomerKycStatus moved : customerKycStatusRepository.findAllByKycCaseIdIn(List.of(kycCase.getId()))) {
+            if (!moved.getCustomerId().equals(customerId)) {
+                refresh(moved.getCustomerId());
+            }
+        }
+        if (customerId == null) {
+            return;
+        }
+        CustomerKycStatus snapshot = lockSnapshot(customerId).orElse(null);
+        if (snapshot == null) {
+            customerKycStatusRepository.save(new CustomerKycStatus().customerId(customerId).latestCase(kycCase, Instant.now()));
+            return;
+        }
+        boolean sameCase = snapshot.getKycCaseId().equals(kycCase.getId());
+        if (sameCase && kycCase.getStartedAt().isBefore(snapshot.getStartedAt())) {
+            refresh(customerId);
+        } else if (sameCase || isLater(kycCase, snapshot)) {
+            snapshot.latestCase(kycCase, Instant.now());
+        }
+    }
+
+    private Optional<CustomerKycStatus> lockSnapshot(Long customerId) {
+        customerKycStatusRepository.lockCustomer(customerId);
+        return customerKycStatusRepository.findByCustomerIdForUpdate(customerId);
+    }
+
+    private static boolean isLater(KycCase kycCase, CustomerKycStatus snapshot) {
+        int byStart = kycCase.getStartedAt().compareTo(snapshot.getStartedAt());
+        return byStart > 0 || (byStart == 0 && kycCase.getId() > snapshot.getKycCaseId());
+    }
+
+    /**
+     * Record a status change applied to cases in bulk, without loading them.
+     *
+     * @param kycCaseIds the ids of the changed cases.
+     * @param status the new status of the cases.
+     * @param now the update time.
+     */
+    public void recordStatusChange(Collection<Long> kycCaseIds, KycStatus status, Instant now) {
+        customerKycStatusRepository
+            .findAllByKycCaseIdIn(kycCaseIds)
+            .forEach(snapshot -> snapshot.status(status).approvedAt(status == KycStatus.APPROVED ? now : null).updatedAt(now));
+    }
+
+    /**
+     * Look the latest case of a customer up again, after one of their cases was deleted or moved to another customer.
+     *
+     * @param customerId the id of the customer.
+     */
+    public void refresh(Long customerId) {
+        LOG.debug("Request to refresh CustomerKycStatus : {}", customerId);
+        Optional<CustomerKycStatus> existing = lockSnapshot(customerId);
+        Optional<KycCase> latest = kycCaseRepository.findFirstByCustomerIdOrderByStartedAtDescIdDesc(customerId);
+        if (latest.isEmpty()) {
+            existing.ifPresent(customerKycStatusRepository::delete);
+            return;
+        }
+        CustomerKycStatus snapshot = existing.orElseGet(() -> new CustomerKycStatus().customerId(customerId));
+        customerKycStatusRepository.save(snapshot.latestCase(latest.orElseThrow(), Instant.now()));
+    }
+
+    /**
+     * Get the KYC status of a customer.
+     *
+     * @param customerId the id of the customer.
+     * @return the status, empty when the customer has no case.
+     */
+    @Transactional(readOnly = true)
+    public Optional<CustomerKycStatus> findOne(Long customerId) {
+        LOG.debug("Request to get CustomerKycStatus : {}", customerId);
+        return customerKycStatusRepository.findById(customerId);
+    }
+}
@@ -0,0 +1,183 @@
+package zw.co.fgr.service;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import jakarta.persistence.metamodel.Attribute.PersistentAttributeType;
+import jakarta.persistence.metamodel.SingularAttribute;
+import java.lang.reflect.AnnotatedElement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service running list queries that only select some fields of an entity.
+ * <p>
+ * Results are tuples of the requested columns rather than entities: unselected columns, such as {@code @Lob} ones,
+ * are never read, and nothing enters the persistence context, so there is nothing to dirty check. The selectable
+ * fields of an entity are its basic attributes, plus {@code <relationship>Id} for the to-one relationships it owns,
+ * read from the foreign key without a join. Attributes hidden from the JSON of the entity, with {@code @JsonIgnore} or
+ * {@code @JsonIgnoreProperties}, cannot be selected either.
+ */
+@Service
+@Transactional(readOnly = true)
+public class FieldProjectionService {
+
+    static final String ID_SUFFIX = "Id";
+
+    private final EntityManager entityManager;
+
+    private final Map<Class<?>, Set<String>> selectableFields = new ConcurrentHashMap<>();
+
+    public FieldProjectionService(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Return the fields of an entity that can be selected.
+     *
+     * @param entityClass the entity class.
+     * @return the selectable fields, in declaration order of the metamodel.
+     */
+    public Set<String> getSelectableFields(Class<?> entityClass) {
+        return selectableFields.computeIfAbsent(entityClass, this::resolveSelectableFields);
+    }
+
+    /**
+     * Return a {@link Page} of the given fields of the entities matching a specification.
+     *
+     * @param entityClass the entity class.
+     * @param specification the specification the entities should match.
+     * @param fields the fields to select, see {@link #getSelectableFields(Class)}.
+     * @param page the page, which should be returned.
+     * @param total supplier of the total number of matching entities, only called when it cannot be inferred from the page.
+     * @param <E> the entity type.
+     * @return the matching rows, as maps from field to value in the order of {@code fields}.
+     * @throws IllegalArgumentException if {@code fields} is empty or contains a field that cannot be selected.
+     */
+    public <E> Page<Map<String, Object>> findAll(
+        Class<E> entityClass,
+        Specification<E> specification,
+        Collection<String> fields,
+        Pageable page,
+        LongSupplier total
+    ) {
+        Set<String> requested = new LinkedHashSet<>(fields);
+        if (requested.isEmpty()) {
+            throw new IllegalArgumentException("No field requested");
+        }
+        Set<String> selectable = getSelectableFields(entityClass);
+        for (String field : requested) {
+            if (!selectable.contains(field)) {
+                throw new IllegalArgumentException("Field cannot be selected: " + field);
+            }
+        }
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<E> root = query.from(entityClass);
+        List<Selection<?>> selections = new ArrayList<>(requested.size());
+        for (String field : requested) {
+            selections.add(path(root, field).alias(field));
+        }
+        query.multiselect(selections);
+        Predicate predicate = specification == null ? null : specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        if (page.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(page.getSort(), root, cb));
+        }
+
+        var typedQuery = entityManager.createQuery(query);
+        if (page.isPaged()) {
+            typedQuery.setFirstResult(Math.toIntExact(page.getOffset())).setMaxResults(page.getPageSize());
+        }
+        List<Map<String, Object>> content = typedQuery.getResultList().stream().map(FieldProjectionService::toMap).toList();
+        return PageableExecutionUtils.getPage(content, page, total);
+    }
+
+    private static Path<?> path(Root<?> root, String field) {
+        if (root.getModel().getAttributes().stream().anyMatch(attribute -> attribute.getName().equals(field))) {
+            return root.get(field);
+        }
+        return root.get(field.substring(0, field.length() - ID_SUFFIX.length())).get("id");
+    }
+
+    private static Map<String, Object> toMap(Tuple tuple) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (TupleElement<?> element : tuple.getElements()) {
+            row.put(element.getAlias(), tuple.get(element));
+        }
+        return row;
+    }
+
+    private Set<String> resolveSelectableFields(Class<?> entityClass) {
+        Set<String> fields = new LinkedHashSet<>();
+        Set<String> hidden = hiddenProperties(entityClass);
+        for (SingularAttribute<?, ?> attribute : entityManager.getMetamodel().entity(entityClass).getSingularAttributes()) {
+            if (hidden.contains(attribute.getName()) || isJsonIgnored(attribute)) {
+                continue;
+            }
+            PersistentAttributeType type = attribute.getPersistentAttributeType();
+            if (type == PersistentAttributeType.BASIC) {
+                fields.add(attribute.getName());
+            } else if (
+                type == PersistentAttributeType.MANY_TO_ONE || (type == PersistentAttributeType.ONE_TO_ONE && isOwningSide(attribute))
+            ) {
+                fields.add(attribute.getName() + ID_SUFFIX);
+            }
+        }
+        return Collections.unmodifiableSet(fields);
+    }
+
+    private static Set<String> hiddenProperties(Class<?> entityClass) {
+        Set<String> hidden = new LinkedHashSet<>();
+        for (Class<?> type = entityClass; type != null; type = type.getSuperclass()) {
+            JsonIgnoreProperties ignored = type.getAnnotation(JsonIgnoreProperties.class);
+            if (ignored != null && !ignored.allowGetters()) {
+                hidden.addAll(List.of(ignored.value()));
+            }
+        }
+        return hidden;
+    }
+
+    private static boolean isJsonIgnored(SingularAttribute<?, ?> attribute) {
+        if (attribute.getJavaMember() instanceof AnnotatedElement member) {
+            JsonIgnore ignored = member.getAnnotation(JsonIgnore.class);
+            return ignored != null && ignored.value();
+        }
+        return false;
+    }
+
+    private static boolean isOwningSide(SingularAttribute<?, ?> attribute) {
+        if (attribute.getJavaMember() instanceof AnnotatedElement member) {
+            OneToOne oneToOne = member.getAnnotation(OneToOne.class);
+            return oneToOne == null || oneToOne.mappedBy().isEmpty();
+        }
+        return false;
+    }
+}
@@ -0,0 +1,104 @@
+package zw.co.fgr.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+
+/**
+ * Encodes keyset scroll positions into opaque continuation tokens and back.
+ * <p>
+ * A token carries the sort key values of the last row of a window, so the next window is fetched with a
+ * {@code WHERE (sortKey, id) > (?, ?)} predicate instead of an offset, at a constant cost however deep the client
+ * scrolls. Only {@link Long} and {@link Instant} keys are supported, which covers the entity ids and timestamps.
+ */
+public final class KeysetCursors {
+
+    private static final char ENTRY_SEPARATOR = '\n';
+
+    private static final char FIELD_SEPARATOR = '\t';
+
+    private KeysetCursors() {}
+
+    /**
+     * Decode a continuation token.
+     *
+     * @param cursor the token returned with a previous window, or a blank string for the first window.
+     * @param properties the sort properties the token must carry, in sort order.
+     * @return the scroll position to resume from.
+     * @throws IllegalArgumentException if the token is malformed or was issued for another ordering.
+     */
+    public static ScrollPosition decode(String cursor, List<String> properties) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+        String decoded;
+        try {
+            decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Malformed cursor", e);
+        }
+        String[] entries = decoded.split(String.valueOf(ENTRY_SEPARATOR));
+        if (entries.length != properties.size()) {
+            throw new IllegalArgumentException("Cursor does not match the requested ordering");
+        }
+        Map<String, Object> keys = new LinkedHashMap<>();
+        for (int i = 0; i < entries.length; i++) {
+            String[] fields = entries[i].split(String.valueOf(FIELD_SEPARATOR), 3);
+            if (fields.length != 3 || !fields[0].equals(properties.get(i))) {
+                throw new IllegalArgumentException("Cursor does not match the requested ordering");
+            }
+            keys.put(fields[0], decodeValue(fields[1], fields[2]));
+        }
+        return ScrollPosition.forward(keys);
+    }
+
+    /**
+     * Build the continuation token pointing after the last element of a window.
+     *
+     * @param window a window fetched with a keyset scroll position.
+     * @return the token, or {@code null} if the window is the last one.
+     */
+    public static String nextCursor(Window<?> window) {
+        if (!window.hasNext() || window.isEmpty()) {
+            return null;
+        }
+        KeysetScrollPosition position = (KeysetScrollPosition) window.positionAt(window.size() - 1);
+        StringBuilder encoded = new StringBuilder();
+        for (Map.Entry<String, Object> key : position.getKeys().entrySet()) {
+            if (!encoded.isEmpty()) {
+                encoded.append(ENTRY_SEPARATOR);
+            }
+            encoded.append(key.getKey()).append(FIELD_SEPARATOR).append(encodeValue(key.getValue()));
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(encoded.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String encodeValue(Object value) {
+        if (value instanceof Long longValue) {
+            return "L" + FIELD_SEPARATOR + longValue;
+        }
+        if (value instanceof Instant instant) {
+            return "I" + FIELD_SEPARATOR + instant;
+        }
+        throw new IllegalStateException("Unsupported keyset value type: " + (value == null ? null : value.getClass()));
+    }
+
+    private static Object decodeValue(String type, String value) {
+        try {
+            return switch (type) {
+                case "L" -> Long.valueOf(value);
+                case "I" -> Instant.parse(value);
+                default -> throw new IllegalArgumentException("Malformed cursor");
+            };
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Malformed cursor", e);
+        }
+    }
+}
@@ -1,10 +1,16 @@
 package zw.co.fgr.service;
 
 import jakarta.persistence.criteria.JoinType;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -26,10 +32,20 @@ public class KycCaseQueryService extends QueryService<KycCase> {
 
     private static final Logger LOG = LoggerFactory.getLogger(KycCaseQueryService.class);
 
+    /**
+     * Properties of the keyset ordering used by {@link #findByCriteria(KycCaseCriteria, ScrollPosition, int)}.
+     */
+    public static final List<String> KEYSET_PROPERTIES = List.of("lastActivityAt", "id");
+
+    private static final Sort KEYSET_SORT = Sort.by(KEYSET_PROPERTIES.stream().map(Sort.Order::asc).toList());
+
     private final KycCaseRepository kycCaseRepository;
 
-    public KycCaseQueryService(KycCaseRepository kycCaseRepository) {
+    private final FieldProjectionService fieldProjectionService;
+
+    public KycCaseQueryService(KycCaseRepository kycCaseRepository, FieldProjectionService fieldProjectionService) {
         this.kycCaseRepository = kycCaseRepository;
+        this.fieldProjectionService = fieldProjectionService;
     }
 
     /**
@@ -45,6 +61,37 @@ public class KycCaseQueryService extends QueryService<KycCase> {
         return kycCaseRepository.findAll(specification, page);
     }
 
+    /**
+     * Return a {@link Page} of the given fields of the {@link KycCase} which match the criteria from the database.
+     * Only the selected columns are read, and no entity is loaded.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param fields The fields to select, see {@link FieldProjectionService#getSelectableFields(Class)}.
+     * @param page The page, which should be returned.
+     * @return the matching rows.
+     * @throws IllegalArgumentException if a field cannot be selected.
+     */
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> findByCriteria(KycCaseCriteria criteria, Collection<String> fields, Pageable page) {
+        LOG.debug("find by criteria : {}, fields: {}, page: {}", criteria, fields, page);
+        final Specification<KycCase> specification = createSpecification(criteria);
+        return fieldProjectionService.findAll(KycCase.class, specification, fields, page, () -> kycCaseRepository.count(specification));
+    }
+
+    /**
+     * Return a {@link Window} of {@link KycCase} which matches the criteria from the database, using keyset pagination
+     * ordered by {@code (lastActivityAt, id)}. Unlike offset pagination no count query is issued and the cost does not grow with depth.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param position The position to resume from, see {@link KeysetCursors#decode(String, List)}.
+     * @param limit The maximum number of entities to return.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Window<KycCase> findByCriteria(KycCaseCriteria criteria, ScrollPosition position, int limit) {
+        LOG.debug("find by criteria : {}, position: {}, limit: {}", criteria, position, limit);
+        final Specification<KycCase> specification = createSpecification(criteria);
+        return kycCaseRepository.findBy(specification, query -> query.sortBy(KEYSET_SORT).limit(limit).scroll(position));
+    }
+
     /**
      * Return the number of matching entities in the database.
      * @param criteria The object which holds all the filters, which the entities should match.
@@ -1,15 +1,35 @@
 package zw.co.fgr.service;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import zw.co.fgr.domain.Customer;
 import zw.co.fgr.domain.KycCase;
+import zw.co.fgr.domain.enumeration.KycStatus;
 import zw.co.fgr.repository.KycCaseRepository;
+import zw.co.fgr.repository.KycDocumentRepository;
+import zw.co.fgr.repository.KycNotificationRepository;
+import zw.co.fgr.service.dto.KycCaseFullDTO;
+import zw.co.fgr.service.dto.KycCaseTransitionResultDTO;
+import zw.co.fgr.service.dto.KycCaseTransitionResultDTO.Outcome;
+import zw.co.fgr.service.funnel.KycFunnelService;
 
 /**
  * Service Implementation for managing {@link zw.co.fgr.domain.KycCase}.
+ * <p>
+ * Every change to a case is recorded in the {@link zw.co.fgr.domain.CustomerKycStatus} of its customer and in the
+ * {@link zw.co.fgr.domain.KycCaseTransition} history of the funnel metrics, in the same transaction. Status changes are
+ * streamed to the subscribers of {@link KycCaseStreamService} after commit.
  */
 @Service
 @Transactional
@@ -17,10 +37,48 @@ public class KycCaseService {
 
     private static final Logger LOG = LoggerFactory.getLogger(KycCaseService.class);
 
+    /**
+     * Statuses reviewers can move cases to, with the statuses each of them can be reached from.
+     */
+    public static final Map<KycStatus, Set<KycStatus>> REVIEW_TRANSITIONS = Map.of(
+        KycStatus.APPROVED,
+        EnumSet.of(KycStatus.SUBMITTED),
+        KycStatus.REJECTED,
+        EnumSet.of(KycStatus.IN_PROGRESS, KycStatus.AWAITING_DOCUMENTS, KycStatus.SUBMITTED),
+        KycStatus.AWAITING_DOCUMENTS,
+        EnumSet.of(KycStatus.IN_PROGRESS, KycStatus.SUBMITTED),
+        KycStatus.FAILED,
+        EnumSet.of(KycStatus.STARTED, KycStatus.IN_PROGRESS, KycStatus.AWAITING_DOCUMENTS, KycStatus.SUBMITTED)
+    );
+
+    private static final Set<KycStatus> COMPLETED_STATUSES = EnumSet.of(KycStatus.APPROVED, KycStatus.REJECTED, KycStatus.FAILED);
+
     private final KycCaseRepository kycCaseRepository;
 
-    public KycCaseService(KycCaseRepository kycCaseRepository) {
+    private final KycDocumentRepository kycDocumentRepository;
+
+    private final KycNotificationRepository kycNotificationRepository;
+
+    private final CustomerKycStatusService customerKycStatusService;
+
+    private final KycFunnelService kycFunnelService;
+
+    private final KycCaseStreamService kycCaseStreamService;
+
+    public KycCaseService(
+        KycCaseRepository kycCaseRepository,
+        KycDocumentRepository kycDocumentRepository,
+        KycNotificationRepository kycNotificationRepository,
+        CustomerKycStatusService customerKycStatusService,
+        KycFunnelService kycFunnelService,
+        KycCaseStreamService kycCaseStreamService
+    ) {
         this.kycCaseRepository = kycCaseRepository;
+        this.kycDocumentRepository = kycDocumentRepository;
+        this.kycNotificationRepository = kycNotificationRepository;
+        this.customerKycStatusService = customerKycStatusService;
+        this.kycFunnelService = kycFunnelService;
+        this.kycCaseStreamService = kycCaseStreamService;
     }
 
     /**
@@ -31,7 +89,7 @@ public class KycCaseService {
      */
     public KycCase save(KycCase kycCase) {
         LOG.debug("Request to save KycCase : {}", kycCase);
-        return kycCaseRepository.save(kycCase);
+        return recorded(kycCaseRepository.save(kycCase));
     }
 
     /**
@@ -42,7 +100,7 @@ public class KycCaseService {
      */
     public KycCase update(KycCase kycCase) {
         LOG.debug("Request to update KycCase : {}", kycCase);
-        return kycCaseRepository.save(kycCase);
+        return recorded(kycCaseRepository.save(kycCase));
     }
 
     /**
@@ -90,7 +148,68 @@ public class KycCaseService {
 
                 return existingKycCase;
             })
-            .map(kycCaseRepository::save);
+            .map(kycCaseRepository::save)
+            .map(this::recorded);
+    }
+
+    private KycCase recorded(KycCase kycCase) {
+        customerKycStatusService.record(kycCase);
+        kycFunnelService.record(kycCase).ifPresent(transition -> kycCaseStreamService.publish(kycCase, transition));
+        return kycCase;
+    }
+
+    /**
+     * Move cases to a review status, as allowed by {@link #REVIEW_TRANSITIONS}.
+     * <p>
+     * The requested cases are locked and read with one query, and the allowed ones changed with one set-based update
+     * guarded by their expected statuses. Cases being changed by another transaction are skipped and reported as
+     * {@link Outcome#CONFLICT}, to be retried, instead of being waited on or overwritten.
+     *
+     * @param ids the ids of the cases.
+     * @param status the review status to move the cases to.
+     * @param reason why the cases are moved, recorded in their history.
+     * @return the outcome for each case, in the order of the ids.
+     */
+    public List<KycCaseTransitionResultDTO> transitionStatus(List<Long> ids, KycStatus status, String reason) {
+        LOG.debug("Request to move KycCases {} to {}", ids, status);
+        Set<KycStatus> sources = REVIEW_TRANSITIONS.get(status);
+        if (sources == null) {
+            throw new IllegalArgumentException("Cases cannot be moved to " + status + " by a review");
+        }
+        Set<Long> requested = new LinkedHashSet<>(ids);
+        Map<Long, KycStatus> current = kycCaseRepository
+            .findStatusesByIdInForUpdate(requested)
+            .stream()
+            .collect(Collectors.toMap(KycCaseRepository.KycCaseCurrentStatus::getId, row -> KycStatus.valueOf(row.getStatus())));
+        Set<Long> existing = current.size() == requested.size()
+            ? Set.of()
+            : Set.copyOf(kycCaseRepository.findIdsByIdIn(requested.stream().filter(id -> !current.containsKey(id)).toList()));
+
+        List<KycCaseTransitionResultDTO> results = new ArrayList<>();
+        List<Long> transitioned = new ArrayList<>();
+        for (Long id : requested) {
+            KycStatus previous = current.get(id);
+            Outcome outcome;
+            if (previous == null) {
+                outcome = existing.contains(id) ? Outcome.CONFLICT : Outcome.NOT_FOUND;
+            } else if (previous == status) {
+                outcome = Outcome.UNCHANGED;
+            } else if (!sources.contains(previous)) {
+                outcome = Outcome.INVALID_TRANSITION;
+            } else {
+                outcome = Outcome.TRANSITIONED;
+                transitioned.add(id);
+            }
+            results.add(new KycCaseTransitionResultDTO(id, outcome, previous, outcome == Outcome.TRANSITIONED ? status : previous));
+        }
+
+        if (!transitioned.isEmpty()) {
+            Instant now = Instant.now();
+            kycCaseRepository.updateStatus(transitioned, sources, status, now, COMPLETED_STATUSES.contains(status) ? now : null);
+            customerKycStatusService.recordStatusChange(transitioned, status, now);
+            kycCaseStreamService.publish(kycFunnelService.recordStatusChange(transitioned, status, now, reason));
+        }
+        return results;
     }
 
     /**
@@ -105,6 +224,30 @@ public class KycCaseService {
         return kycCaseRepository.findById(id);
     }
 
+    /**
+     * Get one kycCase by id, with all its relationships.
+     * <p>
+     * Runs three queries whatever the size of the case: one for the case and its to-one relationships, one for its
+     * documents and one for its notifications. The collections are fetched separately rather than joined, so that
+     * they do not multiply each other's rows.
+     *
+     * @param id the id of the entity.
+     * @return the case aggregate.
+     */
+    @Transactional(readOnly = true)
+    public Optional<KycCaseFullDTO> findFull(Long id) {
+        LOG.debug("Request to get full KycCase : {}", id);
+        return kycCaseRepository
+            .findWithToOneRelationshipsById(id)
+            .map(kycCase ->
+                new KycCaseFullDTO(
+                    kycCase,
+                    kycDocumentRepository.findAllByKycCaseIdOrderByUploadedAtAscIdAsc(id),
+                    kycNotificationRepository.findAllByKycCaseIdOrderBySentAtAscIdAsc(id)
+                )
+            );
+    }
+
     /**
      * Delete the kycCase by id.
      *
@@ -112,6 +255,14 @@ public class KycCaseService {
      */
     public void delete(Long id) {
         LOG.debug("Request to delete KycCase : {}", id);
+        Long customerId = kycCaseRepository
+            .findById(id)
+            .map(KycCase::getCustomer)
+            .map(Customer::getId)
+            .orElse(null);
         kycCaseRepository.deleteById(id);
+        if (customerId != null) {
+            customerKycStatusService.refresh(customerId);
+        }
     }
 }
@@ -0,0 +1,360 @@
+package zw.co.fgr.service;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.topic.ITopic;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import zw.co.fgr.config.ApplicationProperties;
+import zw.co.fgr.domain.KycCase;
+import zw.co.fgr.domain.KycCaseTransition;
+import zw.co.fgr.domain.enumeration.KycStatus;
+import zw.co.fgr.repository.KycCaseRepository;
+import zw.co.fgr.service.dto.KycCaseStatusChangeDTO;
+
+/**
+ * Service streaming the status changes of the {@link KycCase}s to Server-Sent Events subscribers.
+ * <p>
+ * Changes are published as application events by the writers and broadcast once their transaction has committed, so
+ * subscribers never see a change that was rolled back. With the Hazelcast cache provider, they are relayed through a
+ * Hazelcast topic to the subscribers of every node.
+ * <p>
+ * Broadcasting never blocks: each subscriber has a bounded queue, drained by a pool of sender threads. A subscriber whose
+ * queue overflows is disconnected; on reconnection it should read the current state of the cases it follows before
+ * relying on the stream again.
+ * <p>
+ * A send blocks its sender thread until the client reads the event. A send still running after {@code send-timeout} is
+ * detached: its subscriber is disconnected, and the pool gets one more thread until the send returns, so a client that
+ * stopped reading holds its own thread rather than one of the threads serving the others.
+ */
+@Service
+public class KycCaseStreamService implements DisposableBean {
+
+    private static final Logger LOG = LoggerFactory.getLogger(KycCaseStreamService.class);
+
+    public static final String EVENT_NAME = "kyc-case-status";
+
+    static final String TOPIC_NAME = "kyc-case-status-changes";
+
+    private static final Object HEARTBEAT = new Object();
+
+    private static final long IDLE = 0;
+
+    private static final long DETACHED = -1;
+
+    private final KycCaseRepository kycCaseRepository;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final ApplicationProperties.KycCaseStream properties;
+
+    private final ThreadPoolTaskExecutor senders;
+
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+
+    private final Counter overflowCounter;
+
+    private final Counter sendTimeoutCounter;
+
+    private int detachedSenders;
+
+    private final ITopic<KycCaseStatusChangeDTO> topic;
+
+    private final UUID topicListener;
+
+    public KycCaseStreamService(
+        KycCaseRepository kycCaseRepository,
+        ApplicationEventPublisher eventPublisher,
+        ObjectProvider<HazelcastInstance> hazelcastInstance,
+        ApplicationProperties applicationProperties,
+        MeterRegistry meterRegistry
+    ) {
+        this.kycCaseRepository = kycCaseRepository;
+        this.eventPublisher = eventPublisher;
+        this.properties = applicationProperties.getKycCaseStream();
+        this.senders = new ThreadPoolTaskExecutor();
+        this.senders.setCorePoolSize(properties.getSenderThreads());
+        this.senders.setMaxPoolSize(properties.getSenderThreads());
+        this.senders.setThreadNamePrefix("kyc-case-stream-");
+        this.senders.initialize();
+        Gauge.builder("kyc.case.stream.subscribers", subscriptions, Set::size)
+            .description("Subscribers of the KYC case status stream on this node")
+            .register(meterRegistry);
+        this.overflowCounter = Counter.builder("kyc.case.stream.overflows")
+            .description("Subscribers of the KYC case status stream disconnected for falling behind")
+            .register(meterRegistry);
+        this.sendTimeoutCounter = Counter.builder("kyc.case.stream.send.timeouts")
+            .description("Subscribers of the KYC case status stream disconnected for not reading a sent event in time")
+            .register(meterRegistry);
+        HazelcastInstance instance = hazelcastInstance.getIfAvailable();
+        this.topic = instance == null ? null : instance.getTopic(TOPIC_NAME);
+        this.topicListener = topic == null ? null : topic.addMessageListener(message -> broadcast(message.getMessageObject()));
+    }
+
+    /**
+     * Publish the status change of a case, to be streamed once the current transaction commits.
+     *
+     * @param kycCase the changed case.
+     * @param transition the change.
+     */
+    public void publish(KycCase kycCase, KycCaseTransition transition) {
+        Long customerId = kycCase.getCustomer() == null ? null : kycCase.getCustomer().getId();
+        eventPublisher.publishEvent(statusChange(transition, customerId));
+    }
+
+    /**
+     * Publish status changes applied to cases in bulk, to be streamed once the current transaction commits.
+     *
+     * @param transitions the changes.
+     */
+    public void publish(List<KycCaseTransition> transitions) {
+        if (transitions.isEmpty()) {
+            return;
+        }
+        Map<Long, Long> customerIds = new HashMap<>();
+        kycCaseRepository
+            .findCustomersByIdIn(transitions.stream().map(KycCaseTransition::getKycCaseId).collect(Collectors.toSet()))
+            .forEach(kycCase -> customerIds.put(kycCase.getId(), kycCase.getCustomerId()));
+        for (KycCaseTransition transition : transitions) {
+            eventPublisher.publishEvent(statusChange(transition, customerIds.get(transition.getKycCaseId())));
+        }
+    }
+
+    private static KycCaseStatusChangeDTO statusChange(KycCaseTransition transition, Long customerId) {
+        return new KycCaseStatusChangeDTO(
+            transition.getKycCaseId(),
+            customerId,
+            transition.getChannel(),
+            transition.getFromStatus(),
+            transition.getToStatus(),
+            transition.getOccurredAt()
+        );
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatusChange(KycCaseStatusChangeDTO change) {
+        if (topic != null) {
+            topic.publish(change);
+        } else {
+            broadcast(change);
+        }
+    }
+
+    void broadcast(KycCaseStatusChangeDTO change) {
+        for (Subscription subscription : subscriptions) {
+            if (subscription.matches(change)) {
+                subscription.offer(change);
+            }
+        }
+    }
+
+    /**
+     * Subscribe to the status changes matching all the given filters.
+     *
+     * @param kycCaseId the case to follow, or {@code null} for all cases.
+     * @param customerId the customer whose cases to follow, or {@code null} for all customers.
+     * @param statuses the statuses to follow changes to, or {@code null} for all statuses.
+     * @return the emitter of the subscription.
+     */
+    public SseEmitter subscribe(Long kycCaseId, Long customerId, Collection<KycStatus> statuses) {
+        SseEmitter emitter = new SseEmitter(properties.getTimeout().toMillis());
+        Subscription subscription = new Subscription(
+            emitter,
+            kycCaseId,
+            customerId,
+            statuses == null || statuses.isEmpty() ? null : Set.copyOf(statuses)
+        );
+        emitter.onCompletion(subscription::close);
+        emitter.onTimeout(subscription::close);
+        emitter.onError(error -> subscription.close());
+        subscriptions.add(subscription);
+        subscription.offer(HEARTBEAT);
+        return emitter;
+    }
+
+    /**
+     * Detach the sends running for longer than {@code send-timeout}, then send a heartbeat comment to every subscriber.
+     * <p>
+     * This is scheduled to get fired with a fixed delay, {@code application.kyc-case-stream.heartbeat}.
+     */
+    @Scheduled(fixedDelayString = "${application.kyc-case-stream.heartbeat:PT15S}")
+    public void heartbeat() {
+        detachStalledSends(System.currentTimeMillis());
+        subscriptions.forEach(subscription -> subscription.offer(HEARTBEAT));
+    }
+
+    void detachStalledSends(long now) {
+        long startedBefore = now - properties.getSendTimeout().toMillis();
+        subscriptions.forEach(subscription -> subscription.detachIfStartedBefore(startedBefore));
+    }
+
+    /**
+     * Add a thread to the pool for each detached send, which holds its thread until the client reads or the
+     * connection fails, and remove it once the send returns.
+     */
+    private synchronized void resizeSenders(int delta) {
+        detachedSenders += delta;
+        int size = properties.getSenderThreads() + detachedSenders;
+        if (delta > 0) {
+            senders.setMaxPoolSize(size);
+            senders.setCorePoolSize(size);
+        } else {
+            senders.setCorePoolSize(size);
+            senders.setMaxPoolSize(size);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (topic != null) {
+            topic.removeMessageListener(topicListener);
+        }
+        subscriptions.forEach(subscription -> subscription.emitter.complete());
+        senders.shutdown();
+    }
+
+    private final class Subscription {
+
+        private final SseEmitter emitter;
+
+        private final Long kycCaseId;
+
+        private final Long customerId;
+
+        private final Set<KycStatus> statuses;
+
+        private final BlockingQueue<Object> queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        /**
+         * Start time of the running send, {@link #IDLE} between sends, or {@link #DETACHED} once the running send has
+         * timed out.
+         */
+        private final AtomicLong sendStartedAt = new AtomicLong(IDLE);
+
+        private volatile boolean closed;
+
+        private volatile boolean disconnected;
+
+        private Subscription(SseEmitter emitter, Long kycCaseId, Long customerId, Set<KycStatus> statuses) {
+            this.emitter = emitter;
+            this.kycCaseId = kycCaseId;
+            this.customerId = customerId;
+            this.statuses = statuses;
+        }
+
+        private boolean matches(KycCaseStatusChangeDTO change) {
+            return (
+                (kycCaseId == null || kycCaseId.equals(change.getKycCaseId())) &&
+                (customerId == null || customerId.equals(change.getCustomerId())) &&
+                (statuses == null || statuses.contains(change.getStatus()))
+            );
+        }
+
+        private void offer(Object event) {
+            if (closed) {
+                return;
+            }
+            if (!queue.offer(event)) {
+                LOG.warn("KYC case stream subscriber disconnected after falling {} events behind", properties.getQueueCapacity());
+                overflowCounter.increment();
+                disconnect();
+                return;
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            Object event;
+            while (!closed && (event = queue.poll()) != null) {
+                send(event);
+            }
+            if (disconnected) {
+                // Completing waits for a running send, so it is left to the sender rather than to the broadcaster
+                emitter.complete();
+            }
+            draining.set(false);
+            if (!closed && !queue.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+
+        private void send(Object event) {
+            long startedAt = System.currentTimeMillis();
+            sendStartedAt.set(startedAt);
+            try {
+                emitter.send(
+                    event == HEARTBEAT
+                        ? SseEmitter.event().comment("heartbeat")
+                        : SseEmitter.event().name(EVENT_NAME).data(event, MediaType.APPLICATION_JSON)
+                );
+            } catch (IOException | IllegalStateException e) {
+                LOG.debug("KYC case stream subscriber went away: {}", e.getMessage());
+                close();
+            } finally {
+                if (!sendStartedAt.compareAndSet(startedAt, IDLE)) {
+                    resizeSenders(-1);
+                }
+            }
+        }
+
+        private void detachIfStartedBefore(long startedBefore) {
+            long startedAt = sendStartedAt.get();
+            if (startedAt == IDLE || startedAt == DETACHED || startedAt >= startedBefore) {
+                return;
+            }
+            if (sendStartedAt.compareAndSet(startedAt, DETACHED)) {
+                LOG.warn("KYC case stream subscriber disconnected after not reading an event for {}", properties.getSendTimeout());
+                sendTimeoutCounter.increment();
+                resizeSenders(1);
+                disconnect();
+            }
+        }
+
+        private void disconnect() {
+            if (disconnected) {
+                return;
+            }
+            disconnected = true;
+            close();
+            scheduleDrain();
+        }
+
+        private void close() {
+            closed = true;
+            queue.clear();
+            subscriptions.remove(this);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package zw.co.fgr.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.IntFunction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import zw.co.fgr.config.ApplicationProperties;
+import zw.co.fgr.domain.enumeration.KycStatus;
+import zw.co.fgr.domain.enumeration.NotificationType;
+import zw.co.fgr.repository.KycCaseRepository;
+import zw.co.fgr.service.funnel.KycFunnelService;
+
+/**
+ * Service moving stale open {@link zw.co.fgr.domain.KycCase}s to {@link KycStatus#EXPIRED} or {@link KycStatus#TIMEOUT}.
+ * <p>
+ * Overdue cases are claimed by id in bounded chunks with {@code FOR UPDATE SKIP LOCKED} and transitioned with one
+ * set-based update per chunk, each chunk in its own short transaction: cases are never loaded, and the hot
+ * {@code kyc_case} table is never locked for longer than a chunk.
+ */
+@Service
+public class KycCaseSweeperService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(KycCaseSweeperService.class);
+
+    /**
+     * Statuses in which a case is still waiting on the customer.
+     */
+    public static final Set<KycStatus> OPEN_STATUSES = EnumSet.of(KycStatus.STARTED, KycStatus.IN_PROGRESS, KycStatus.AWAITING_DOCUMENTS);
+
+    static final String TIMEOUT_MESSAGE =
+        "Your KYC application has been closed after a period of inactivity. Reply at any time to start a new application.";
+
+    private static final List<String> OPEN_STATUS_NAMES = OPEN_STATUSES.stream().map(KycStatus::name).toList();
+
+    private final KycCaseRepository kycCaseRepository;
+
+    private final KycNotificationService kycNotificationService;
+
+    private final CustomerKycStatusService customerKycStatusService;
+
+    private final KycFunnelService kycFunnelService;
+
+    private final KycCaseStreamService kycCaseStreamService;
+
+    private final ApplicationProperties.KycCaseSweeper properties;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final Counter expiredCounter;
+
+    private final Counter timedOutCounter;
+
+    public KycCaseSweeperService(
+        KycCaseRepository kycCaseRepository,
+        KycNotificationService kycNotificationService,
+        CustomerKycStatusService customerKycStatusService,
+        KycFunnelService kycFunnelService,
+        KycCaseStreamService kycCaseStreamService,
+        ApplicationProperties applicationProperties,
+        PlatformTransactionManager transactionManager,
+        MeterRegistry meterRegistry
+    ) {
+        this.kycCaseRepository = kycCaseRepository;
+        this.kycNotificationService = kycNotificationService;
+        this.customerKycStatusService = customerKycStatusService;
+        this.kycFunnelService = kycFunnelService;
+        this.kycCaseStreamService = kycCaseStreamService;
+        this.properties = applicationProperties.getKycCaseSweeper();
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.expiredCounter = transitionsCounter(meterRegistry, KycStatus.EXPIRED);
+        this.timedOutCounter = transitionsCounter(meterRegistry, KycStatus.TIMEOUT);
+    }
+
+    private static Counter transitionsCounter(MeterRegistry meterRegistry, KycStatus status) {
+        return Counter.builder("kyc.case.sweeper.transitions")
+            .description("Number of KYC cases transitioned by the sweeper.")
+            .tag("status", status.name())
+            .register(meterRegistry);
+    }
+
+    /**
+     * Sweep stale open cases.
+     * <p>
+     * This is scheduled to get fired with a fixed delay, {@code application.kyc-case-sweeper.fixed-delay}.
+     */
+    @Scheduled(
+        initialDelayString = "${application.kyc-case-sweeper.fixed-delay:PT1M}",
+        fixedDelayString = "${application.kyc-case-sweeper.fixed-delay:PT1M}"
+    )
+    public void sweep() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        Instant now = Instant.now();
+        int expired = expireOverdueCases(now);
+        int timedOut = timeOutInactiveCases(now);
+        if (expired > 0 || timedOut > 0) {
+            LOG.info("KYC case sweep: {} expired, {} timed out", expired, timedOut);
+        }
+    }
+
+    /**
+     * Move open cases whose {@code expiresAt} is before {@code now} to {@link KycStatus#EXPIRED}.
+     *
+     * @param now the reference time.
+     * @return the number of cases transitioned.
+     */
+    public int expireOverdueCases(Instant now) {
+        int count = transitionInChunks(KycStatus.EXPIRED, now, limit ->
+            kycCaseRepository.findExpiredIdsForUpdate(OPEN_STATUS_NAMES, now, limit)
+        );
+        expiredCounter.increment(count);
+        return count;
+    }
+
+    /**
+     * Move open cases without activity for longer than the inactivity timeout to {@link KycStatus#TIMEOUT}, and
+     * enqueue a {@link NotificationType#TIMEOUT_WARNING} notification for each of them.
+     *
+     * @param now the reference time.
+     * @return the number of cases transitioned.
+     */
+    public int timeOutInactiveCases(Instant now) {
+        Instant cutoff = now.minus(properties.getInactivityTimeout());
+        int count = transitionInChunks(KycStatus.TIMEOUT, now, limit ->
+            kycCaseRepository.findInactiveIdsForUpdate(OPEN_STATUS_NAMES, cutoff, limit)
+        );
+        timedOutCounter.increment(count);
+        return count;
+    }
+
+    private int transitionInChunks(KycStatus target, Instant now, IntFunction<List<Long>> claim) {
+        int total = 0;
+        for (int chunk = 0; chunk < properties.getMaxChunksPerRun(); chunk++) {
+            Integer transitioned = transactionTemplate.execute(status -> {
+                List<Long> ids = claim.apply(properties.getChunkSize());
+                if (ids.isEmpty()) {
+                    return 0;
+                }
+                kycCaseRepository.updateStatus(ids, OPEN_STATUSES, target, now);
+                customerKycStatusService.recordStatusChange(ids, target, now);
+                kycCaseStreamService.publish(kycFunnelService.recordStatusChange(ids, target, now));
+                if (target == KycStatus.TIMEOUT) {
+                    kycNotificationService.enqueue(NotificationType.TIMEOUT_WARNING, TIMEOUT_MESSAGE, ids);
+                }
+                return ids.size();
+            });
+            total += transitioned == null ? 0 : transitioned;
+            if (transitioned == null || transitioned < properties.getChunkSize()) {
+                break;
+            }
+        }
+        return total;
+    }
+}
@@ -1,14 +1,24 @@
 package zw.co.fgr.service;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.time.Instant;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import zw.co.fgr.config.ApplicationProperties;
 import zw.co.fgr.domain.KycDocument;
 import zw.co.fgr.repository.KycDocumentRepository;
+import zw.co.fgr.service.storage.DocumentStorage;
+import zw.co.fgr.service.storage.StoredContent;
 
 /**
  * Service Implementation for managing {@link zw.co.fgr.domain.KycDocument}.
@@ -21,8 +31,18 @@ public class KycDocumentService {
 
     private final KycDocumentRepository kycDocumentRepository;
 
-    public KycDocumentService(KycDocumentRepository kycDocumentRepository) {
+    private final DocumentStorage documentStorage;
+
+    private final ApplicationProperties.DocumentStorage documentStorageProperties;
+
+    public KycDocumentService(
+        KycDocumentRepository kycDocumentRepository,
+        DocumentStorage documentStorage,
+        ApplicationProperties applicationProperties
+    ) {
         this.kycDocumentRepository = kycDocumentRepository;
+        this.documentStorage = documentStorage;
+        this.documentStorageProperties = applicationProperties.getDocumentStorage();
     }
 
     /**
@@ -36,6 +56,36 @@ public class KycDocumentService {
         return kycDocumentRepository.save(kycDocument);
     }
 
+    /**
+     * Store the contents of a kycDocument, then save it.
+     * <p>
+     * The contents are streamed to the {@link DocumentStorage} with no transaction open, so that slow uploads do not
+     * hold a database connection; {@code storagePath}, {@code fileSize}, {@code checksum} and {@code uploadedAt} are
+     * filled from the stored contents, and {@code expiresAt} defaults to the configured retention.
+     *
+     * @param kycDocument the metadata of the kycDocument.
+     * @param content the contents of the kycDocument; not closed.
+     * @return the persisted entity.
+     * @throws IOException if the contents cannot be stored.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public KycDocument upload(KycDocument kycDocument, InputStream content) throws IOException {
+        LOG.debug("Request to upload KycDocument : {}", kycDocument);
+        ReadableByteChannel source = Channels.newChannel(content);
+        StoredContent stored = documentStorage.store(source);
+        Instant now = Instant.now();
+        kycDocument
+            .storagePath(stored.storagePath())
+            .fileSize(stored.size())
+            .checksum(stored.checksum())
+            .uploadedAt(now)
+            .deleted(false);
+        if (kycDocument.getExpiresAt() == null) {
+            kycDocument.setExpiresAt(now.plus(documentStorageProperties.getRetention()));
+        }
+        return kycDocumentRepository.save(kycDocument);
+    }
+
     /**
      * Update a kycDocument.
      *
@@ -122,6 +172,20 @@ public class KycDocumentService {
         return kycDocumentRepository.findById(id);
     }
 
+    /**
+     * Locate the local file holding the contents of a kycDocument.
+     *
+     * @param kycDocument the kycDocument.
+     * @return the file, or empty if the kycDocument is deleted or its contents are not stored.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Optional<Path> findContent(KycDocument kycDocument) {
+        if (Boolean.TRUE.equals(kycDocument.getDeleted())) {
+            return Optional.empty();
+        }
+        return documentStorage.locate(kycDocument.getStoragePath());
+    }
+
     /**
      * Delete the kycDocument by id.
      *
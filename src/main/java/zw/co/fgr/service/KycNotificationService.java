@@ -1,5 +1,7 @@
 package zw.co.fgr.service;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -8,6 +10,9 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import zw.co.fgr.domain.KycNotification;
+import zw.co.fgr.domain.enumeration.DeliveryStatus;
+import zw.co.fgr.domain.enumeration.NotificationType;
+import zw.co.fgr.repository.KycCaseRepository;
 import zw.co.fgr.repository.KycNotificationRepository;
 
 /**
@@ -21,8 +26,11 @@ public class KycNotificationService {
 
     private final KycNotificationRepository kycNotificationRepository;
 
-    public KycNotificationService(KycNotificationRepository kycNotificationRepository) {
+    private final KycCaseRepository kycCaseRepository;
+
+    public KycNotificationService(KycNotificationRepository kycNotificationRepository, KycCaseRepository kycCaseRepository) {
         this.kycNotificationRepository = kycNotificationRepository;
+        this.kycCaseRepository = kycCaseRepository;
     }
 
     /**
@@ -33,7 +41,7 @@ public class KycNotificationService {
      */
     public KycNotification save(KycNotification kycNotification) {
         LOG.debug("Request to save KycNotification : {}", kycNotification);
-        return kycNotificationRepository.save(kycNotification);
+        return kycNotificationRepository.save(withDeliveryTracking(kycNotification));
     }
 
     /**
@@ -44,7 +52,53 @@ public class KycNotificationService {
      */
     public KycNotification update(KycNotification kycNotification) {
         LOG.debug("Request to update KycNotification : {}", kycNotification);
-        return kycNotificationRepository.save(kycNotification);
+        return kycNotificationRepository.save(withDeliveryTracking(kycNotification));
+    }
+
+    /**
+     * Queue the same notification for many cases at once; the {@link zw.co.fgr.service.notification.KycNotificationDispatcher}
+     * delivers them over the channel of each case. The inserts are JDBC-batched.
+     *
+     * @param notificationType the type of the notifications.
+     * @param message the message to send.
+     * @param kycCaseIds the ids of the cases to notify.
+     * @return the number of notifications queued.
+     */
+    public int enqueue(NotificationType notificationType, String message, Collection<Long> kycCaseIds) {
+        LOG.debug("Request to queue {} KycNotifications for {} cases", notificationType, kycCaseIds.size());
+        Instant now = Instant.now();
+        return kycNotificationRepository
+            .saveAll(
+                kycCaseIds
+                    .stream()
+                    .map(kycCaseId ->
+                        new KycNotification()
+                            .notificationType(notificationType)
+                            .message(message)
+                            .sentAt(now)
+                            .delivered(false)
+                            .deliveryStatus(DeliveryStatus.PENDING)
+                            .attempts(0)
+                            .kycCase(kycCaseRepository.getReferenceById(kycCaseId))
+                    )
+                    .toList()
+            )
+            .size();
+    }
+
+    /**
+     * Notifications created without a delivery status are queued for delivery, unless already marked delivered.
+     */
+    private static KycNotification withDeliveryTracking(KycNotification kycNotification) {
+        if (kycNotification.getDeliveryStatus() == null) {
+            kycNotification.setDeliveryStatus(
+                Boolean.TRUE.equals(kycNotification.getDelivered()) ? DeliveryStatus.DELIVERED : DeliveryStatus.PENDING
+            );
+        }
+        if (kycNotification.getAttempts() == null) {
+            kycNotification.setAttempts(0);
+        }
+        return kycNotification;
     }
 
     /**
@@ -77,6 +131,15 @@ public class KycNotificationService {
                 if (kycNotification.getErrorMessage() != null) {
                     existingKycNotification.setErrorMessage(kycNotification.getErrorMessage());
                 }
+                if (kycNotification.getDeliveryStatus() != null) {
+                    existingKycNotification.setDeliveryStatus(kycNotification.getDeliveryStatus());
+                }
+                if (kycNotification.getAttempts() != null) {
+                    existingKycNotification.setAttempts(kycNotification.getAttempts());
+                }
+                if (kycNotification.getNextAttemptAt() != null) {
+                    existingKycNotification.setNextAttemptAt(kycNotification.getNextAttemptAt());
+                }
 
                 return existingKycNotification;
             })
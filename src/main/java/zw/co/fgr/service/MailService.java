@@ -1,26 +1,28 @@
 package zw.co.fgr.service;
 
-import jakarta.mail.MessagingException;
-import jakarta.mail.internet.MimeMessage;
-import java.nio.charset.StandardCharsets;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.MessageSource;
-import org.springframework.mail.MailException;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.thymeleaf.context.Context;
 import org.thymeleaf.spring6.SpringTemplateEngine;
 import tech.jhipster.config.JHipsterProperties;
 import zw.co.fgr.domain.User;
+import zw.co.fgr.service.mail.MailDispatcher;
+import zw.co.fgr.service.mail.MailMessage;
 
 /**
  * Service for sending emails asynchronously.
  * <p>
- * We use the {@link Async} annotation to send emails asynchronously.
+ * We use the {@link Async} annotation to render emails asynchronously, then hand them to the {@link MailDispatcher},
+ * which sends them in batches and stores those that fail for a later attempt.
+ * <p>
+ * Parsed templates are cached by Thymeleaf when {@code spring.thymeleaf.cache} is enabled, as it is in production;
+ * resolved subjects are cached here per title key and locale.
  */
 @Service
 public class MailService {
@@ -33,30 +35,32 @@ public class MailService {
 
     private final JHipsterProperties jHipsterProperties;
 
-    private final JavaMailSender javaMailSender;
+    private final MailDispatcher mailDispatcher;
 
     private final MessageSource messageSource;
 
     private final SpringTemplateEngine templateEngine;
 
+    private final Map<SubjectKey, String> subjects = new ConcurrentHashMap<>();
+
     public MailService(
         JHipsterProperties jHipsterProperties,
-        JavaMailSender javaMailSender,
+        MailDispatcher mailDispatcher,
         MessageSource messageSource,
         SpringTemplateEngine templateEngine
     ) {
         this.jHipsterProperties = jHipsterProperties;
-        this.javaMailSender = javaMailSender;
+        this.mailDispatcher = mailDispatcher;
         this.messageSource = messageSource;
         this.templateEngine = templateEngine;
     }
 
     @Async
     public void sendEmail(String to, String subject, String content, boolean isMultipart, boolean isHtml) {
-        sendEmailSync(to, subject, content, isMultipart, isHtml);
+        sendEmailSync(to, subject, content, isMultipart, isHtml, false);
     }
 
-    private void sendEmailSync(String to, String subject, String content, boolean isMultipart, boolean isHtml) {
+    private void sendEmailSync(String to, String subject, String content, boolean isMultipart, boolean isHtml, boolean isSensitive) {
         LOG.debug(
             "Send email[multipart '{}' and html '{}'] to '{}' with subject '{}' and content={}",
             isMultipart,
@@ -65,20 +69,7 @@ public class MailService {
             subject,
             content
         );
-
-        // Prepare message using a Spring helper
-        MimeMessage mimeMessage = javaMailSender.createMimeMessage();
-        try {
-            MimeMessageHelper message = new MimeMessageHelper(mimeMessage, isMultipart, StandardCharsets.UTF_8.name());
-            message.setTo(to);
-            message.setFrom(jHipsterProperties.getMail().getFrom());
-            message.setSubject(subject);
-            message.setText(content, isHtml);
-            javaMailSender.send(mimeMessage);
-            LOG.debug("Sent email to User '{}'", to);
-        } catch (MailException | MessagingException e) {
-            LOG.warn("Email could not be sent to user '{}'", to, e);
-        }
+        mailDispatcher.enqueue(new MailMessage(to, subject, content, isMultipart, isHtml, isSensitive));
     }
 
     @Async
@@ -96,8 +87,11 @@ public class MailService {
         context.setVariable(USER, user);
         context.setVariable(BASE_URL, jHipsterProperties.getMail().getBaseUrl());
         String content = templateEngine.process(templateName, context);
-        String subject = messageSource.getMessage(titleKey, null, locale);
-        sendEmailSync(user.getEmail(), subject, content, false, true);
+        String subject = subjects.computeIfAbsent(new SubjectKey(titleKey, locale), key ->
+            messageSource.getMessage(key.titleKey(), null, key.locale())
+        );
+        // Template emails carry the activation or reset key of the user
+        sendEmailSync(user.getEmail(), subject, content, false, true, true);
     }
 
     @Async
@@ -117,4 +111,6 @@ public class MailService {
         LOG.debug("Sending password reset email to '{}'", user.getEmail());
         sendEmailFromTemplateSync(user, "mail/passwordResetEmail", "email.reset.title");
     }
+
+    private record SubjectKey(String titleKey, Locale locale) {}
 }
@@ -0,0 +1,93 @@
+package zw.co.fgr.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * Token bucket per key, e.g. per recipient domain or per notification channel.
+ * <p>
+ * Each key may use up to its rate at once, then is refilled continuously at that rate per minute.
+ *
+ * @param <K> the type of the keys.
+ */
+public class RateLimiter<K> {
+
+    private static final long NANOS_PER_MINUTE = TimeUnit.MINUTES.toNanos(1);
+
+    private final ToIntFunction<K> ratePerMinute;
+
+    private final LongSupplier nanoTime;
+
+    private final Map<K, Bucket> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * @param ratePerMinute the rate of each key, per minute; {@code 0} means unlimited.
+     * @param nanoTime the time source, {@link System#nanoTime()} outside of tests.
+     */
+    public RateLimiter(ToIntFunction<K> ratePerMinute, LongSupplier nanoTime) {
+        this.ratePerMinute = ratePerMinute;
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * Take one token for {@code key}.
+     *
+     * @return {@code false} if {@code key} has used up its rate and the caller should wait.
+     */
+    public boolean tryAcquire(K key) {
+        return tryAcquire(key, 1) == 1;
+    }
+
+    /**
+     * Take up to {@code permits} tokens for {@code key}.
+     *
+     * @return the number of tokens taken, between {@code 0} and {@code permits}.
+     */
+    public int tryAcquire(K key, int permits) {
+        int rate = ratePerMinute.applyAsInt(key);
+        if (rate <= 0) {
+            return permits;
+        }
+        return buckets.computeIfAbsent(key, k -> new Bucket(rate, nanoTime.getAsLong())).tryAcquire(permits, nanoTime.getAsLong());
+    }
+
+    /**
+     * Give back tokens taken by {@link #tryAcquire(Object, int)} but not used.
+     */
+    public void release(K key, int permits) {
+        Bucket bucket = buckets.get(key);
+        if (bucket != null && permits > 0) {
+            bucket.release(permits);
+        }
+    }
+
+    private static final class Bucket {
+
+        private final int capacity;
+
+        private double tokens;
+
+        private long refilledAt;
+
+        private Bucket(int capacity, long now) {
+            this.capacity = capacity;
+            this.tokens = capacity;
+            this.refilledAt = now;
+        }
+
+        private synchronized int tryAcquire(int permits, long now) {
+            tokens = Math.min(capacity, tokens + ((double) (now - refilledAt) * capacity) / NANOS_PER_MINUTE);
+            refilledAt = now;
+            int acquired = (int) Math.min(permits, Math.floor(tokens));
+            tokens -= acquired;
+            return acquired;
+        }
+
+        private synchronized void release(int permits) {
+            tokens = Math.min(capacity, tokens + permits);
+        }
+    }
+}
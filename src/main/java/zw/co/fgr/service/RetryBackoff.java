@@ -0,0 +1,30 @@
+package zw.co.fgr.service;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Capped exponential backoff with jitter, for work retried by the background dispatchers.
+ */
+public final class RetryBackoff {
+
+    private RetryBackoff() {}
+
+    /**
+     * Delay before the attempt following attempt number {@code attempts}: {@code initial} doubled after every attempt,
+     * capped to {@code max}.
+     */
+    public static Duration backoff(int attempts, Duration initial, Duration max) {
+        Duration backoff = initial.multipliedBy(1L << Math.min(Math.max(attempts - 1, 0), 20));
+        return backoff.compareTo(max) > 0 ? max : backoff;
+    }
+
+    /**
+     * {@link #backoff(int, Duration, Duration)} spread over its upper half, so that work failing together is not retried
+     * together.
+     */
+    public static Duration withJitter(int attempts, Duration initial, Duration max) {
+        long half = backoff(attempts, initial, max).toMillis() / 2;
+        return Duration.ofMillis(half + ThreadLocalRandom.current().nextLong(half + 1));
+    }
+}
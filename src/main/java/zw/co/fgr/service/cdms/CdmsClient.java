@@ -0,0 +1,18 @@
+package zw.co.fgr.service.cdms;
+
+/**
+ * Client submitting a KYC case to the CDMS.
+ * <p>
+ * Implementations are called from the {@link CdmsSubmissionDispatcher} worker pool, outside of any transaction, and
+ * report failures through the returned {@link CdmsSubmissionResult} rather than by throwing; an exception is treated as
+ * a retryable failure.
+ */
+public interface CdmsClient {
+    /**
+     * Submit a case to the CDMS.
+     *
+     * @param request the submission to send.
+     * @return the outcome of the attempt.
+     */
+    CdmsSubmissionResult submit(CdmsSubmissionRequest request);
+}
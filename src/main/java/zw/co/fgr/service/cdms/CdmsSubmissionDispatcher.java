@@ -0,0 +1,237 @@
+package zw.co.fgr.service.cdms;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import zw.co.fgr.config.ApplicationProperties;
+import zw.co.fgr.domain.CdmsSubmission;
+import zw.co.fgr.domain.enumeration.SubmissionStatus;
+import zw.co.fgr.repository.CdmsSubmissionRepository;
+import zw.co.fgr.service.RetryBackoff;
+
+/**
+ * Service dispatching {@link SubmissionStatus#PENDING} and due {@link SubmissionStatus#RETRYING}
+ * {@link CdmsSubmission}s to the CDMS.
+ * <p>
+ * The {@code cdms_submission} table is the outbox: a submission saved in the same transaction as the case it submits
+ * is sent once that transaction commits, and never blocks the request that completed the case. Each run claims a
+ * batch of due submissions with {@code FOR UPDATE SKIP LOCKED} and leases them in one short transaction, then calls the
+ * {@link CdmsClient} from a bounded worker pool with no transaction open. The worker finishing the last call of the batch
+ * records the outcomes in one short transaction, so the scheduler thread never waits for the CDMS; the leases keep the
+ * claimed submissions from being claimed again meanwhile, and a run only claims what is left of {@code batch-size} by
+ * the batches still in flight. Failed attempts are retried with capped exponential backoff
+ * until {@code max-attempts} is reached.
+ */
+@Service
+public class CdmsSubmissionDispatcher implements DisposableBean {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CdmsSubmissionDispatcher.class);
+
+    /**
+     * Upper bound of {@link CdmsSubmission#getAttempts()} enforced by the entity.
+     */
+    static final int MAX_ATTEMPTS = 3;
+
+    private static final Set<SubmissionStatus> DUE_STATUSES = EnumSet.of(SubmissionStatus.PENDING, SubmissionStatus.RETRYING);
+
+    private static final List<String> DUE_STATUS_NAMES = DUE_STATUSES.stream().map(SubmissionStatus::name).toList();
+
+    private static final int RESPONSE_CODE_LENGTH = 50;
+
+    private static final int RESPONSE_MESSAGE_LENGTH = 1000;
+
+    private static final int CDMS_CUSTOMER_ID_LENGTH = 100;
+
+    private final CdmsSubmissionRepository cdmsSubmissionRepository;
+
+    private final ObjectProvider<CdmsClient> cdmsClientProvider;
+
+    private final ApplicationProperties.Cdms.Dispatcher properties;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ThreadPoolTaskExecutor workers;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final Counter successCounter;
+
+    private final Counter retryingCounter;
+
+    private final Counter failedCounter;
+
+    public CdmsSubmissionDispatcher(
+        CdmsSubmissionRepository cdmsSubmissionRepository,
+        ObjectProvider<CdmsClient> cdmsClientProvider,
+        ApplicationProperties applicationProperties,
+        PlatformTransactionManager transactionManager,
+        MeterRegistry meterRegistry
+    ) {
+        this.cdmsSubmissionRepository = cdmsSubmissionRepository;
+        this.cdmsClientProvider = cdmsClientProvider;
+        this.properties = applicationProperties.getCdms().getDispatcher();
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.workers = new ThreadPoolTaskExecutor();
+        this.workers.setCorePoolSize(properties.getWorkerThreads());
+        this.workers.setMaxPoolSize(properties.getWorkerThreads());
+        this.workers.setQueueCapacity(properties.getBatchSize());
+        this.workers.setThreadNamePrefix("cdms-dispatcher-");
+        this.workers.setWaitForTasksToCompleteOnShutdown(true);
+        this.workers.setAwaitTerminationSeconds(30);
+        this.workers.initialize();
+        this.successCounter = attemptsCounter(meterRegistry, SubmissionStatus.SUCCESS);
+        this.retryingCounter = attemptsCounter(meterRegistry, SubmissionStatus.RETRYING);
+        this.failedCounter = attemptsCounter(meterRegistry, SubmissionStatus.FAILED);
+    }
+
+    private static Counter attemptsCounter(MeterRegistry meterRegistry, SubmissionStatus status) {
+        return Counter.builder("cdms.submission.attempts")
+            .description("Number of CDMS submission attempts, by resulting status.")
+            .tag("status", status.name())
+            .register(meterRegistry);
+    }
+
+    /**
+     * Dispatch due submissions.
+     * <p>
+     * This is scheduled to get fired with a fixed delay, {@code application.cdms.dispatcher.fixed-delay}.
+     */
+    @Scheduled(
+        initialDelayString = "${application.cdms.dispatcher.fixed-delay:PT10S}",
+        fixedDelayString = "${application.cdms.dispatcher.fixed-delay:PT10S}"
+    )
+    public void dispatch() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        dispatchDue(Instant.now()).whenComplete((dispatched, error) -> {
+            if (error != null) {
+                LOG.error("CDMS dispatch failed", error);
+            } else if (dispatched > 0) {
+                LOG.info("CDMS dispatch: {} submissions attempted", dispatched);
+            }
+        });
+    }
+
+    /**
+     * Claim one batch of submissions due at {@code now} and hand them to the workers, which send them to the CDMS. The
+     * claimed submissions stay leased until their outcomes are saved.
+     *
+     * @param now the reference time.
+     * @return a future of the number of submissions attempted, completed once their outcomes are saved.
+     */
+    public CompletableFuture<Integer> dispatchDue(Instant now) {
+        CdmsClient cdmsClient = cdmsClientProvider.getIfAvailable();
+        if (cdmsClient == null) {
+            LOG.debug("No CDMS client configured, skipping dispatch");
+            return CompletableFuture.completedFuture(0);
+        }
+        int limit = properties.getBatchSize() - inFlight.get();
+        if (limit <= 0) {
+            return CompletableFuture.completedFuture(0);
+        }
+        List<CdmsSubmissionRequest> claimed = claim(now, limit);
+        if (claimed.isEmpty()) {
+            return CompletableFuture.completedFuture(0);
+        }
+        inFlight.addAndGet(claimed.size());
+        List<CompletableFuture<Outcome>> attempts = claimed
+            .stream()
+            .map(request -> CompletableFuture.supplyAsync(() -> attempt(cdmsClient, request), workers))
+            .toList();
+        return CompletableFuture.allOf(attempts.toArray(CompletableFuture[]::new))
+            .thenApply(done -> {
+                record(attempts.stream().map(CompletableFuture::join).toList(), Instant.now());
+                return attempts.size();
+            })
+            .whenComplete((dispatched, error) -> inFlight.addAndGet(-claimed.size()));
+    }
+
+    private List<CdmsSubmissionRequest> claim(Instant now, int limit) {
+        List<CdmsSubmissionRequest> claimed = transactionTemplate.execute(status -> {
+            List<Long> ids = cdmsSubmissionRepository.findDueIdsForUpdate(DUE_STATUS_NAMES, now, limit);
+            if (ids.isEmpty()) {
+                return List.of();
+            }
+            cdmsSubmissionRepository.lease(ids, now.plus(properties.getLease()));
+            return cdmsSubmissionRepository.findAllWithKycCaseByIdIn(ids).stream().map(CdmsSubmissionRequest::of).toList();
+        });
+        return claimed == null ? List.of() : claimed;
+    }
+
+    private static Outcome attempt(CdmsClient cdmsClient, CdmsSubmissionRequest request) {
+        try {
+            return new Outcome(request, cdmsClient.submit(request));
+        } catch (RuntimeException e) {
+            LOG.warn("CDMS submission {} failed: {}", request.submissionRef(), e.getMessage());
+            return new Outcome(request, CdmsSubmissionResult.retryableFailure(null, e.getMessage()));
+        }
+    }
+
+    private void record(List<Outcome> outcomes, Instant now) {
+        Map<Long, CdmsSubmissionResult> byId = outcomes
+            .stream()
+            .collect(Collectors.toMap(outcome -> outcome.request().submissionId(), Outcome::result));
+        transactionTemplate.executeWithoutResult(status ->
+            cdmsSubmissionRepository
+                .findAllById(byId.keySet())
+                .stream()
+                .filter(submission -> DUE_STATUSES.contains(submission.getStatus()))
+                .forEach(submission -> record(submission, byId.get(submission.getId()), now))
+        );
+    }
+
+    private void record(CdmsSubmission submission, CdmsSubmissionResult result, Instant now) {
+        int maxAttempts = Math.min(properties.getMaxAttempts(), MAX_ATTEMPTS);
+        int attempts = Math.min((submission.getAttempts() == null ? 0 : submission.getAttempts()) + 1, MAX_ATTEMPTS);
+        submission
+            .attempts(attempts)
+            .lastAttemptAt(now)
+            .responseCode(truncate(result.responseCode(), RESPONSE_CODE_LENGTH))
+            .responseMessage(truncate(result.responseMessage(), RESPONSE_MESSAGE_LENGTH));
+        if (result.accepted()) {
+            submission
+                .status(SubmissionStatus.SUCCESS)
+                .submittedAt(now)
+                .cdmsCustomerId(truncate(result.cdmsCustomerId(), CDMS_CUSTOMER_ID_LENGTH))
+                .nextRetryAt(null);
+            successCounter.increment();
+        } else if (!result.retryable() || attempts >= maxAttempts) {
+            submission.status(SubmissionStatus.FAILED).nextRetryAt(null);
+            failedCounter.increment();
+            LOG.warn("CDMS submission {} failed after {} attempts: {}", submission.getSubmissionRef(), attempts, result.responseCode());
+        } else {
+            submission
+                .status(SubmissionStatus.RETRYING)
+                .nextRetryAt(now.plus(RetryBackoff.withJitter(attempts, properties.getInitialBackoff(), properties.getMaxBackoff())));
+            retryingCounter.increment();
+        }
+    }
+
+    private static String truncate(String value, int length) {
+        return value == null || value.length() <= length ? value : value.substring(0, length);
+    }
+
+    @Override
+    public void destroy() {
+        workers.shutdown();
+    }
+
+    private record Outcome(CdmsSubmissionRequest request, CdmsSubmissionResult result) {}
+}
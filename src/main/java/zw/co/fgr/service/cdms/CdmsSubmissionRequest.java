@@ -0,0 +1,49 @@
+package zw.co.fgr.service.cdms;
+
+import java.time.LocalDate;
+import zw.co.fgr.domain.CdmsSubmission;
+import zw.co.fgr.domain.Customer;
+import zw.co.fgr.domain.KycCase;
+import zw.co.fgr.domain.enumeration.CustomerType;
+
+/**
+ * Detached snapshot of a {@link CdmsSubmission} and of the case it submits, safe to use outside of a transaction.
+ *
+ * @param submissionId the id of the submission.
+ * @param submissionRef the idempotency reference of the submission.
+ * @param attempt the number of this attempt, starting at 1.
+ */
+public record CdmsSubmissionRequest(
+    Long submissionId,
+    String submissionRef,
+    int attempt,
+    String kycRef,
+    String customerRef,
+    CustomerType customerType,
+    String fullName,
+    LocalDate dateOfBirth,
+    String idNumber,
+    String registrationNumber,
+    String address,
+    String phoneNumber
+) {
+    static CdmsSubmissionRequest of(CdmsSubmission submission) {
+        KycCase kycCase = submission.getKycCase();
+        Customer customer = kycCase == null ? null : kycCase.getCustomer();
+        int attempts = submission.getAttempts() == null ? 0 : submission.getAttempts();
+        return new CdmsSubmissionRequest(
+            submission.getId(),
+            submission.getSubmissionRef(),
+            attempts + 1,
+            kycCase == null ? null : kycCase.getKycRef(),
+            customer == null ? null : customer.getCustomerRef(),
+            customer == null ? null : customer.getCustomerType(),
+            customer == null ? null : customer.getFullName(),
+            customer == null ? null : customer.getDateOfBirth(),
+            customer == null ? null : customer.getIdNumber(),
+            customer == null ? null : customer.getRegistrationNumber(),
+            customer == null ? null : customer.getAddress(),
+            customer == null ? null : customer.getPhoneNumber()
+        );
+    }
+}
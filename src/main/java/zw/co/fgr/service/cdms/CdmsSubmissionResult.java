@@ -0,0 +1,36 @@
+package zw.co.fgr.service.cdms;
+
+/**
+ * Outcome of one attempt to submit a case to the CDMS.
+ *
+ * @param accepted whether the CDMS accepted the submission.
+ * @param retryable whether a rejected submission may succeed on a later attempt.
+ * @param responseCode the code returned by the CDMS, if any.
+ * @param responseMessage the message returned by the CDMS, if any.
+ * @param cdmsCustomerId the CDMS customer id of an accepted submission.
+ */
+public record CdmsSubmissionResult(
+    boolean accepted,
+    boolean retryable,
+    String responseCode,
+    String responseMessage,
+    String cdmsCustomerId
+) {
+    public static CdmsSubmissionResult accepted(String responseCode, String responseMessage, String cdmsCustomerId) {
+        return new CdmsSubmissionResult(true, false, responseCode, responseMessage, cdmsCustomerId);
+    }
+
+    /**
+     * A failure that may go away on its own, e.g. a timeout or an unavailable CDMS.
+     */
+    public static CdmsSubmissionResult retryableFailure(String responseCode, String responseMessage) {
+        return new CdmsSubmissionResult(false, true, responseCode, responseMessage, null);
+    }
+
+    /**
+     * A failure that will not go away by retrying, e.g. a submission the CDMS considers invalid.
+     */
+    public static CdmsSubmissionResult rejected(String responseCode, String responseMessage) {
+        return new CdmsSubmissionResult(false, false, responseCode, responseMessage, null);
+    }
+}
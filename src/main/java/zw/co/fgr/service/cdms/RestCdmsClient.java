@@ -0,0 +1,77 @@
+package zw.co.fgr.service.cdms;
+
+import java.nio.charset.StandardCharsets;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClient;
+import zw.co.fgr.config.ApplicationProperties;
+
+/**
+ * {@link CdmsClient} posting submissions as JSON to {@code application.cdms.base-url}.
+ * <p>
+ * Server errors, {@code 408}, {@code 429} and I/O errors are retryable; any other client error is a rejection.
+ */
+@Component
+@ConditionalOnProperty(prefix = "application.cdms", name = "base-url")
+public class RestCdmsClient implements CdmsClient {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RestCdmsClient.class);
+
+    static final String API_KEY_HEADER = "X-API-Key";
+
+    private final RestClient restClient;
+
+    public RestCdmsClient(RestClient.Builder restClientBuilder, ApplicationProperties applicationProperties) {
+        ApplicationProperties.Cdms properties = applicationProperties.getCdms();
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(properties.getConnectTimeout());
+        requestFactory.setReadTimeout(properties.getReadTimeout());
+        restClientBuilder.baseUrl(properties.getBaseUrl()).requestFactory(requestFactory);
+        if (properties.getApiKey() != null) {
+            restClientBuilder.defaultHeader(API_KEY_HEADER, properties.getApiKey());
+        }
+        this.restClient = restClientBuilder.build();
+    }
+
+    @Override
+    public CdmsSubmissionResult submit(CdmsSubmissionRequest request) {
+        LOG.debug("Request to submit to CDMS : {}", request.submissionRef());
+        try {
+            return restClient
+                .post()
+                .uri("/submissions")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(request)
+                .exchange((clientRequest, clientResponse) -> {
+                    HttpStatusCode status = clientResponse.getStatusCode();
+                    String code = String.valueOf(status.value());
+                    if (status.is2xxSuccessful()) {
+                        CdmsResponse response = clientResponse.bodyTo(CdmsResponse.class);
+                        return response == null
+                            ? CdmsSubmissionResult.accepted(code, null, null)
+                            : CdmsSubmissionResult.accepted(code, response.message(), response.customerId());
+                    }
+                    String message = new String(clientResponse.getBody().readAllBytes(), StandardCharsets.UTF_8);
+                    if (
+                        status.is5xxServerError() ||
+                        status.isSameCodeAs(HttpStatus.REQUEST_TIMEOUT) ||
+                        status.isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS)
+                    ) {
+                        return CdmsSubmissionResult.retryableFailure(code, message);
+                    }
+                    return CdmsSubmissionResult.rejected(code, message);
+                });
+        } catch (ResourceAccessException e) {
+            return CdmsSubmissionResult.retryableFailure(null, e.getMessage());
+        }
+    }
+
+    private record CdmsResponse(String customerId, String message) {}
+}
@@ -0,0 +1,4 @@
+/**
+ * Submission of completed KYC cases to the CDMS.
+ */
+package zw.co.fgr.service.cdms;
@@ -0,0 +1,94 @@
+package zw.co.fgr.service.dto;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * A DTO representing the outcome of importing one row of a bulk customer import.
+ */
+public class CustomerImportResultDTO implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public enum Status {
+        CREATED,
+        INVALID,
+        FAILED,
+    }
+
+    private long row;
+
+    private Status status;
+
+    private String customerRef;
+
+    private Long customerId;
+
+    private List<String> errors;
+
+    public CustomerImportResultDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    public CustomerImportResultDTO(long row, Status status, String customerRef, Long customerId, List<String> errors) {
+        this.row = row;
+        this.status = status;
+        this.customerRef = customerRef;
+        this.customerId = customerId;
+        this.errors = errors;
+    }
+
+    public long getRow() {
+        return row;
+    }
+
+    public void setRow(long row) {
+        this.row = row;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public String getCustomerRef() {
+        return customerRef;
+    }
+
+    public void setCustomerRef(String customerRef) {
+        this.customerRef = customerRef;
+    }
+
+    public Long getCustomerId() {
+        return customerId;
+    }
+
+    public void setCustomerId(Long customerId) {
+        this.customerId = customerId;
+    }
+
+    public List<String> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<String> errors) {
+        this.errors = errors;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "CustomerImportResultDTO{" +
+            "row=" + row +
+            ", status='" + status + "'" +
+            ", customerRef='" + customerRef + "'" +
+            ", customerId=" + customerId +
+            ", errors=" + errors +
+            "}";
+    }
+}
@@ -0,0 +1,137 @@
+package zw.co.fgr.service.dto;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * A DTO representing one row of a bulk customer import, as read from a CSV or NDJSON body.
+ * <p>
+ * Values are kept as raw strings so that an unparseable enum or date is reported against its row
+ * instead of aborting the whole import. The identifier columns are optional.
+ */
+public class CustomerImportRowDTO implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private String customerRef;
+
+    private String customerType;
+
+    private String fullName;
+
+    private String dateOfBirth;
+
+    private String idNumber;
+
+    private String registrationNumber;
+
+    private String address;
+
+    private String phoneNumber;
+
+    private String identifierType;
+
+    private String identifierValue;
+
+    private String channel;
+
+    public String getCustomerRef() {
+        return customerRef;
+    }
+
+    public void setCustomerRef(String customerRef) {
+        this.customerRef = customerRef;
+    }
+
+    public String getCustomerType() {
+        return customerType;
+    }
+
+    public void setCustomerType(String customerType) {
+        this.customerType = customerType;
+    }
+
+    public String getFullName() {
+        return fullName;
+    }
+
+    public void setFullName(String fullName) {
+        this.fullName = fullName;
+    }
+
+    public String getDateOfBirth() {
+        return dateOfBirth;
+    }
+
+    public void setDateOfBirth(String dateOfBirth) {
+        this.dateOfBirth = dateOfBirth;
+    }
+
+    public String getIdNumber() {
+        return idNumber;
+    }
+
+    public void setIdNumber(String idNumber) {
+        this.idNumber = idNumber;
+    }
+
+    public String getRegistrationNumber() {
+        return registrationNumber;
+    }
+
+    public void setRegistrationNumber(String registrationNumber) {
+        this.registrationNumber = registrationNumber;
+    }
+
+    public String getAddress() {
+        return address;
+    }
+
+    public void setAddress(String address) {
+        this.address = address;
+    }
+
+    public String getPhoneNumber() {
+        return phoneNumber;
+    }
+
+    public void setPhoneNumber(String phoneNumber) {
+        this.phoneNumber = phoneNumber;
+    }
+
+    public String getIdentifierType() {
+        return identifierType;
+    }
+
+    public void setIdentifierType(String identifierType) {
+        this.identifierType = identifierType;
+    }
+
+    public String getIdentifierValue() {
+        return identifierValue;
+    }
+
+    public void setIdentifierValue(String identifierValue) {
+        this.identifierValue = identifierValue;
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    public void setChannel(String channel) {
+        this.channel = channel;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "CustomerImportRowDTO{" +
+            "customerRef='" + customerRef + "'" +
+            ", customerType='" + customerType + "'" +
+            ", identifierType='" + identifierType + "'" +
+            ", channel='" + channel + "'" +
+            "}";
+    }
+}
@@ -0,0 +1,662 @@
+package zw.co.fgr.service.dto;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import zw.co.fgr.domain.CdmsSubmission;
+import zw.co.fgr.domain.Customer;
+import zw.co.fgr.domain.KycCase;
+import zw.co.fgr.domain.KycConsent;
+import zw.co.fgr.domain.KycDocument;
+import zw.co.fgr.domain.KycNotification;
+import zw.co.fgr.domain.enumeration.ChannelType;
+import zw.co.fgr.domain.enumeration.CustomerType;
+import zw.co.fgr.domain.enumeration.DocumentType;
+import zw.co.fgr.domain.enumeration.KycStatus;
+import zw.co.fgr.domain.enumeration.NotificationType;
+import zw.co.fgr.domain.enumeration.SubmissionStatus;
+
+/**
+ * A DTO representing a {@link KycCase} with its customer, consent, submission, documents and notifications.
+ */
+public class KycCaseFullDTO implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private Long id;
+
+    private String kycRef;
+
+    private KycStatus status;
+
+    private ChannelType channel;
+
+    private Instant startedAt;
+
+    private Instant lastActivityAt;
+
+    private Instant lastUpdatedAt;
+
+    private Instant completedAt;
+
+    private Instant expiresAt;
+
+    private String validationErrors;
+
+    private String internalNotes;
+
+    private Long customerId;
+
+    private String customerRef;
+
+    private CustomerType customerType;
+
+    private String customerFullName;
+
+    private LocalDate customerDateOfBirth;
+
+    private String customerIdNumber;
+
+    private String customerRegistrationNumber;
+
+    private String customerPhoneNumber;
+
+    private Long consentId;
+
+    private Boolean consented;
+
+    private Instant consentedAt;
+
+    private String consentVersion;
+
+    private Long submissionId;
+
+    private String submissionRef;
+
+    private SubmissionStatus submissionStatus;
+
+    private Integer submissionAttempts;
+
+    private Instant submittedAt;
+
+    private Instant submissionNextRetryAt;
+
+    private String submissionResponseCode;
+
+    private String cdmsCustomerId;
+
+    private List<DocumentDTO> documents;
+
+    private List<NotificationDTO> notifications;
+
+    public KycCaseFullDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    public KycCaseFullDTO(KycCase kycCase, List<KycDocument> documents, List<KycNotification> notifications) {
+        this.id = kycCase.getId();
+        this.kycRef = kycCase.getKycRef();
+        this.status = kycCase.getStatus();
+        this.channel = kycCase.getChannel();
+        this.startedAt = kycCase.getStartedAt();
+        this.lastActivityAt = kycCase.getLastActivityAt();
+        this.lastUpdatedAt = kycCase.getLastUpdatedAt();
+        this.completedAt = kycCase.getCompletedAt();
+        this.expiresAt = kycCase.getExpiresAt();
+        this.validationErrors = kycCase.getValidationErrors();
+        this.internalNotes = kycCase.getInternalNotes();
+        Customer customer = kycCase.getCustomer();
+        if (customer != null) {
+            this.customerId = customer.getId();
+            this.customerRef = customer.getCustomerRef();
+            this.customerType = customer.getCustomerType();
+            this.customerFullName = customer.getFullName();
+            this.customerDateOfBirth = customer.getDateOfBirth();
+            this.customerIdNumber = customer.getIdNumber();
+            this.customerRegistrationNumber = customer.getRegistrationNumber();
+            this.customerPhoneNumber = customer.getPhoneNumber();
+        }
+        KycConsent consent = kycCase.getConsent();
+        if (consent != null) {
+            this.consentId = consent.getId();
+            this.consented = consent.getConsented();
+            this.consentedAt = consent.getConsentedAt();
+            this.consentVersion = consent.getConsentVersion();
+        }
+        CdmsSubmission submission = kycCase.getSubmission();
+        if (submission != null) {
+            this.submissionId = submission.getId();
+            this.submissionRef = submission.getSubmissionRef();
+            this.submissionStatus = submission.getStatus();
+            this.submissionAttempts = submission.getAttempts();
+            this.submittedAt = submission.getSubmittedAt();
+            this.submissionNextRetryAt = submission.getNextRetryAt();
+            this.submissionResponseCode = submission.getResponseCode();
+            this.cdmsCustomerId = submission.getCdmsCustomerId();
+        }
+        this.documents = documents.stream().map(DocumentDTO::new).toList();
+        this.notifications = notifications.stream().map(NotificationDTO::new).toList();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getKycRef() {
+        return kycRef;
+    }
+
+    public void setKycRef(String kycRef) {
+        this.kycRef = kycRef;
+    }
+
+    public KycStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(KycStatus status) {
+        this.status = status;
+    }
+
+    public ChannelType getChannel() {
+        return channel;
+    }
+
+    public void setChannel(ChannelType channel) {
+        this.channel = channel;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(Instant startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public Instant getLastActivityAt() {
+        return lastActivityAt;
+    }
+
+    public void setLastActivityAt(Instant lastActivityAt) {
+        this.lastActivityAt = lastActivityAt;
+    }
+
+    public Instant getLastUpdatedAt() {
+        return lastUpdatedAt;
+    }
+
+    public void setLastUpdatedAt(Instant lastUpdatedAt) {
+        this.lastUpdatedAt = lastUpdatedAt;
+    }
+
+    public Instant getCompletedAt() {
+        return completedAt;
+    }
+
+    public void setCompletedAt(Instant completedAt) {
+        this.completedAt = completedAt;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(Instant expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    public String getValidationErrors() {
+        return validationErrors;
+    }
+
+    public void setValidationErrors(String validationErrors) {
+        this.validationErrors = validationErrors;
+    }
+
+    public String getInternalNotes() {
+        return internalNotes;
+    }
+
+    public void setInternalNotes(String internalNotes) {
+        this.internalNotes = internalNotes;
+    }
+
+    public Long getCustomerId() {
+        return customerId;
+    }
+
+    public void setCustomerId(Long customerId) {
+        this.customerId = customerId;
+    }
+
+    public String getCustomerRef() {
+        return customerRef;
+    }
+
+    public void setCustomerRef(String customerRef) {
+        this.customerRef = customerRef;
+    }
+
+    public CustomerType getCustomerType() {
+        return customerType;
+    }
+
+    public void setCustomerType(CustomerType customerType) {
+        this.customerType = customerType;
+    }
+
+    public String getCustomerFullName() {
+        return customerFullName;
+    }
+
+    public void setCustomerFullName(String customerFullName) {
+        this.customerFullName = customerFullName;
+    }
+
+    public LocalDate getCustomerDateOfBirth() {
+        return customerDateOfBirth;
+    }
+
+    public void setCustomerDateOfBirth(LocalDate customerDateOfBirth) {
+        this.customerDateOfBirth = customerDateOfBirth;
+    }
+
+    public String getCustomerIdNumber() {
+        return customerIdNumber;
+    }
+
+    public void setCustomerIdNumber(String customerIdNumber) {
+        this.customerIdNumber = customerIdNumber;
+    }
+
+    public String getCustomerRegistrationNumber() {
+        return customerRegistrationNumber;
+    }
+
+    public void setCustomerRegistrationNumber(String customerRegistrationNumber) {
+        this.customerRegistrationNumber = customerRegistrationNumber;
+    }
+
+    public String getCustomerPhoneNumber() {
+        return customerPhoneNumber;
+    }
+
+    public void setCustomerPhoneNumber(String customerPhoneNumber) {
+        this.customerPhoneNumber = customerPhoneNumber;
+    }
+
+    public Long getConsentId() {
+        return consentId;
+    }
+
+    public void setConsentId(Long consentId) {
+        this.consentId = consentId;
+    }
+
+    public Boolean getConsented() {
+        return consented;
+    }
+
+    public void setConsented(Boolean consented) {
+        this.consented = consented;
+    }
+
+    public Instant getConsentedAt() {
+        return consentedAt;
+    }
+
+    public void setConsentedAt(Instant consentedAt) {
+        this.consentedAt = consentedAt;
+    }
+
+    public String getConsentVersion() {
+        return consentVersion;
+    }
+
+    public void setConsentVersion(String consentVersion) {
+        this.consentVersion = consentVersion;
+    }
+
+    public Long getSubmissionId() {
+        return submissionId;
+    }
+
+    public void setSubmissionId(Long submissionId) {
+        this.submissionId = submissionId;
+    }
+
+    public String getSubmissionRef() {
+        return submissionRef;
+    }
+
+    public void setSubmissionRef(String submissionRef) {
+        this.submissionRef = submissionRef;
+    }
+
+    public SubmissionStatus getSubmissionStatus() {
+        return submissionStatus;
+    }
+
+    public void setSubmissionStatus(SubmissionStatus submissionStatus) {
+        this.submissionStatus = submissionStatus;
+    }
+
+    public Integer getSubmissionAttempts() {
+        return submissionAttempts;
+    }
+
+    public void setSubmissionAttempts(Integer submissionAttempts) {
+        this.submissionAttempts = submissionAttempts;
+    }
+
+    public Instant getSubmittedAt() {
+        return submittedAt;
+    }
+
+    public void setSubmittedAt(Instant submittedAt) {
+        this.submittedAt = submittedAt;
+    }
+
+    public Instant getSubmissionNextRetryAt() {
+        return submissionNextRetryAt;
+    }
+
+    public void setSubmissionNextRetryAt(Instant submissionNextRetryAt) {
+        this.submissionNextRetryAt = submissionNextRetryAt;
+    }
+
+    public String getSubmissionResponseCode() {
+        return submissionResponseCode;
+    }
+
+    public void setSubmissionResponseCode(String submissionResponseCode) {
+        this.submissionResponseCode = submissionResponseCode;
+    }
+
+    public String getCdmsCustomerId() {
+        return cdmsCustomerId;
+    }
+
+    public void setCdmsCustomerId(String cdmsCustomerId) {
+        this.cdmsCustomerId = cdmsCustomerId;
+    }
+
+    public List<DocumentDTO> getDocuments() {
+        return documents;
+    }
+
+    public void setDocuments(List<DocumentDTO> documents) {
+        this.documents = documents;
+    }
+
+    public List<NotificationDTO> getNotifications() {
+        return notifications;
+    }
+
+    public void setNotifications(List<NotificationDTO> notifications) {
+        this.notifications = notifications;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "KycCaseFullDTO{" +
+            "id=" + id +
+            ", kycRef='" + kycRef + "'" +
+            ", status='" + status + "'" +
+            ", channel='" + channel + "'" +
+            ", customerId=" + customerId +
+            ", consentId=" + consentId +
+            ", submissionId=" + submissionId +
+            ", submissionStatus='" + submissionStatus + "'" +
+            ", documents=" + (documents == null ? 0 : documents.size()) +
+            ", notifications=" + (notifications == null ? 0 : notifications.size()) +
+            "}";
+    }
+
+    /**
+     * A document of the case.
+     */
+    public static class DocumentDTO implements Serializable {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private Long id;
+
+        private DocumentType documentType;
+
+        private String fileName;
+
+        private String mimeType;
+
+        private Long fileSize;
+
+        private Instant uploadedAt;
+
+        private Instant expiresAt;
+
+        private Boolean deleted;
+
+        private String checksum;
+
+        public DocumentDTO() {
+            // Empty constructor needed for Jackson.
+        }
+
+        public DocumentDTO(KycDocument kycDocument) {
+            this.id = kycDocument.getId();
+            this.documentType = kycDocument.getDocumentType();
+            this.fileName = kycDocument.getFileName();
+            this.mimeType = kycDocument.getMimeType();
+            this.fileSize = kycDocument.getFileSize();
+            this.uploadedAt = kycDocument.getUploadedAt();
+            this.expiresAt = kycDocument.getExpiresAt();
+            this.deleted = kycDocument.getDeleted();
+            this.checksum = kycDocument.getChecksum();
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public DocumentType getDocumentType() {
+            return documentType;
+        }
+
+        public void setDocumentType(DocumentType documentType) {
+            this.documentType = documentType;
+        }
+
+        public String getFileName() {
+            return fileName;
+        }
+
+        public void setFileName(String fileName) {
+            this.fileName = fileName;
+        }
+
+        public String getMimeType() {
+            return mimeType;
+        }
+
+        public void setMimeType(String mimeType) {
+            this.mimeType = mimeType;
+        }
+
+        public Long getFileSize() {
+            return fileSize;
+        }
+
+        public void setFileSize(Long fileSize) {
+            this.fileSize = fileSize;
+        }
+
+        public Instant getUploadedAt() {
+            return uploadedAt;
+        }
+
+        public void setUploadedAt(Instant uploadedAt) {
+            this.uploadedAt = uploadedAt;
+        }
+
+        public Instant getExpiresAt() {
+            return expiresAt;
+        }
+
+        public void setExpiresAt(Instant expiresAt) {
+            this.expiresAt = expiresAt;
+        }
+
+        public Boolean getDeleted() {
+            return deleted;
+        }
+
+        public void setDeleted(Boolean deleted) {
+            this.deleted = deleted;
+        }
+
+        public String getChecksum() {
+            return checksum;
+        }
+
+        public void setChecksum(String checksum) {
+            this.checksum = checksum;
+        }
+
+        // prettier-ignore
+        @Override
+        public String toString() {
+            return "DocumentDTO{" +
+                "id=" + id +
+                ", documentType='" + documentType + "'" +
+                ", fileName='" + fileName + "'" +
+                ", mimeType='" + mimeType + "'" +
+                ", fileSize=" + fileSize +
+                ", uploadedAt='" + uploadedAt + "'" +
+                ", expiresAt='" + expiresAt + "'" +
+                ", deleted=" + deleted +
+                ", checksum='" + checksum + "'" +
+                "}";
+        }
+    }
+
+    /**
+     * A notification of the case.
+     */
+    public static class NotificationDTO implements Serializable {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private Long id;
+
+        private NotificationType notificationType;
+
+        private String message;
+
+        private Instant sentAt;
+
+        private Boolean delivered;
+
+        private Instant deliveredAt;
+
+        private String errorMessage;
+
+        public NotificationDTO() {
+            // Empty constructor needed for Jackson.
+        }
+
+        public NotificationDTO(KycNotification kycNotification) {
+            this.id = kycNotification.getId();
+            this.notificationType = kycNotification.getNotificationType();
+            this.message = kycNotification.getMessage();
+            this.sentAt = kycNotification.getSentAt();
+            this.delivered = kycNotification.getDelivered();
+            this.deliveredAt = kycNotification.getDeliveredAt();
+            this.errorMessage = kycNotification.getErrorMessage();
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public NotificationType getNotificationType() {
+            return notificationType;
+        }
+
+        public void setNotificationType(NotificationType notificationType) {
+            this.notificationType = notificationType;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        public void setMessage(String message) {
+            this.message = message;
+        }
+
+        public Instant getSentAt() {
+            return sentAt;
+        }
+
+        public void setSentAt(Instant sentAt) {
+            this.sentAt = sentAt;
+        }
+
+        public Boolean getDelivered() {
+            return delivered;
+        }
+
+        public void setDelivered(Boolean delivered) {
+            this.delivered = delivered;
+        }
+
+        public Instant getDeliveredAt() {
+            return deliveredAt;
+        }
+
+        public void setDeliveredAt(Instant deliveredAt) {
+            this.deliveredAt = deliveredAt;
+        }
+
+        public String getErrorMessage() {
+            return errorMessage;
+        }
+
+        public void setErrorMessage(String errorMessage) {
+            this.errorMessage = errorMessage;
+        }
+
+        // prettier-ignore
+        @Override
+        public String toString() {
+            return "NotificationDTO{" +
+                "id=" + id +
+                ", notificationType='" + notificationType + "'" +
+                ", message='" + message + "'" +
+                ", sentAt='" + sentAt + "'" +
+                ", delivered=" + delivered +
+                ", deliveredAt='" + deliveredAt + "'" +
+                ", errorMessage='" + errorMessage + "'" +
+                "}";
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package zw.co.fgr.service.dto;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.Instant;
+import zw.co.fgr.domain.enumeration.ChannelType;
+import zw.co.fgr.domain.enumeration.KycStatus;
+
+/**
+ * A DTO representing a status change of a {@link zw.co.fgr.domain.KycCase}, as streamed to the subscribers of
+ * {@code /api/kyc-cases/stream}.
+ */
+public class KycCaseStatusChangeDTO implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private Long kycCaseId;
+
+    private Long customerId;
+
+    private ChannelType channel;
+
+    private KycStatus previousStatus;
+
+    private KycStatus status;
+
+    private Instant changedAt;
+
+    public KycCaseStatusChangeDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    public KycCaseStatusChangeDTO(
+        Long kycCaseId,
+        Long customerId,
+        ChannelType channel,
+        KycStatus previousStatus,
+        KycStatus status,
+        Instant changedAt
+    ) {
+        this.kycCaseId = kycCaseId;
+        this.customerId = customerId;
+        this.channel = channel;
+        this.previousStatus = previousStatus;
+        this.status = status;
+        this.changedAt = changedAt;
+    }
+
+    public Long getKycCaseId() {
+        return kycCaseId;
+    }
+
+    public void setKycCaseId(Long kycCaseId) {
+        this.kycCaseId = kycCaseId;
+    }
+
+    public Long getCustomerId() {
+        return customerId;
+    }
+
+    public void setCustomerId(Long customerId) {
+        this.customerId = customerId;
+    }
+
+    public ChannelType getChannel() {
+        return channel;
+    }
+
+    public void setChannel(ChannelType channel) {
+        this.channel = channel;
+    }
+
+    /**
+     * @return the status before the change, {@code null} for a new case.
+     */
+    public KycStatus getPreviousStatus() {
+        return previousStatus;
+    }
+
+    public void setPreviousStatus(KycStatus previousStatus) {
+        this.previousStatus = previousStatus;
+    }
+
+    public KycStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(KycStatus status) {
+        this.status = status;
+    }
+
+    public Instant getChangedAt() {
+        return changedAt;
+    }
+
+    public void setChangedAt(Instant changedAt) {
+        this.changedAt = changedAt;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "KycCaseStatusChangeDTO{" +
+            "kycCaseId=" + getKycCaseId() +
+            ", customerId=" + getCustomerId() +
+            ", channel='" + getChannel() + "'" +
+            ", previousStatus='" + getPreviousStatus() + "'" +
+            ", status='" + getStatus() + "'" +
+            ", changedAt='" + getChangedAt() + "'" +
+            "}";
+    }
+}
@@ -0,0 +1,76 @@
+package zw.co.fgr.service.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.List;
+import zw.co.fgr.domain.enumeration.KycStatus;
+
+/**
+ * A DTO representing a status change requested by a reviewer for several {@link zw.co.fgr.domain.KycCase}s at once.
+ */
+public class KycCaseTransitionRequestDTO implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public static final int MAX_IDS = 500;
+
+    @NotEmpty
+    @Size(max = MAX_IDS)
+    private List<@NotNull Long> ids;
+
+    @NotNull
+    private KycStatus status;
+
+    @NotBlank
+    @Size(max = 500)
+    private String reason;
+
+    public KycCaseTransitionRequestDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    public KycCaseTransitionRequestDTO(List<Long> ids, KycStatus status, String reason) {
+        this.ids = ids;
+        this.status = status;
+        this.reason = reason;
+    }
+
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+
+    public KycStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(KycStatus status) {
+        this.status = status;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    public void setReason(String reason) {
+        this.reason = reason;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "KycCaseTransitionRequestDTO{" +
+            "ids=" + ids +
+            ", status='" + status + "'" +
+            ", reason='" + reason + "'" +
+            "}";
+    }
+}
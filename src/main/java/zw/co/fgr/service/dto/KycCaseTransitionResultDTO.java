@@ -0,0 +1,84 @@
+package zw.co.fgr.service.dto;
+
+import java.io.Serial;
+import java.io.Serializable;
+import zw.co.fgr.domain.enumeration.KycStatus;
+
+/**
+ * A DTO representing the outcome of a bulk status change for one {@link zw.co.fgr.domain.KycCase}.
+ */
+public class KycCaseTransitionResultDTO implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public enum Outcome {
+        TRANSITIONED,
+        UNCHANGED,
+        INVALID_TRANSITION,
+        CONFLICT,
+        NOT_FOUND,
+    }
+
+    private Long kycCaseId;
+
+    private Outcome outcome;
+
+    private KycStatus previousStatus;
+
+    private KycStatus status;
+
+    public KycCaseTransitionResultDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    public KycCaseTransitionResultDTO(Long kycCaseId, Outcome outcome, KycStatus previousStatus, KycStatus status) {
+        this.kycCaseId = kycCaseId;
+        this.outcome = outcome;
+        this.previousStatus = previousStatus;
+        this.status = status;
+    }
+
+    public Long getKycCaseId() {
+        return kycCaseId;
+    }
+
+    public void setKycCaseId(Long kycCaseId) {
+        this.kycCaseId = kycCaseId;
+    }
+
+    public Outcome getOutcome() {
+        return outcome;
+    }
+
+    public void setOutcome(Outcome outcome) {
+        this.outcome = outcome;
+    }
+
+    public KycStatus getPreviousStatus() {
+        return previousStatus;
+    }
+
+    public void setPreviousStatus(KycStatus previousStatus) {
+        this.previousStatus = previousStatus;
+    }
+
+    public KycStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(KycStatus status) {
+        this.status = status;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "KycCaseTransitionResultDTO{" +
+            "kycCaseId=" + kycCaseId +
+            ", outcome='" + outcome + "'" +
+            ", previousStatus='" + previousStatus + "'" +
+            ", status='" + status + "'" +
+            "}";
+    }
+}
@@ -0,0 +1,93 @@
+package zw.co.fgr.service.dto;
+
+import java.io.Serial;
+import java.io.Serializable;
+import zw.co.fgr.domain.enumeration.ChannelType;
+import zw.co.fgr.domain.enumeration.KycStatus;
+
+/**
+ * A DTO representing one stage of the KYC funnel of a channel over a period: the cases that entered a status, those
+ * that left it, and the median time the latter spent in it.
+ */
+public class KycFunnelStageDTO implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private ChannelType channel;
+
+    private KycStatus status;
+
+    private long entered;
+
+    private long exited;
+
+    private Long medianTimeInStatusSeconds;
+
+    public KycFunnelStageDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    public KycFunnelStageDTO(ChannelType channel, KycStatus status, long entered, long exited, Long medianTimeInStatusSeconds) {
+        this.channel = channel;
+        this.status = status;
+        this.entered = entered;
+        this.exited = exited;
+        this.medianTimeInStatusSeconds = medianTimeInStatusSeconds;
+    }
+
+    public ChannelType getChannel() {
+        return channel;
+    }
+
+    public void setChannel(ChannelType channel) {
+        this.channel = channel;
+    }
+
+    public KycStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(KycStatus status) {
+        this.status = status;
+    }
+
+    public long getEntered() {
+        return entered;
+    }
+
+    public void setEntered(long entered) {
+        this.entered = entered;
+    }
+
+    public long getExited() {
+        return exited;
+    }
+
+    public void setExited(long exited) {
+        this.exited = exited;
+    }
+
+    /**
+     * @return the median time spent in the status by the cases that left it, {@code null} when none did.
+     */
+    public Long getMedianTimeInStatusSeconds() {
+        return medianTimeInStatusSeconds;
+    }
+
+    public void setMedianTimeInStatusSeconds(Long medianTimeInStatusSeconds) {
+        this.medianTimeInStatusSeconds = medianTimeInStatusSeconds;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "KycFunnelStageDTO{" +
+            "channel='" + getChannel() + "'" +
+            ", status='" + getStatus() + "'" +
+            ", entered=" + getEntered() +
+            ", exited=" + getExited() +
+            ", medianTimeInStatusSeconds=" + getMedianTimeInStatusSeconds() +
+            "}";
+    }
+}
@@ -0,0 +1,100 @@
+package zw.co.fgr.service.funnel;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Histogram of durations over fixed buckets, from a minute to a month, which can be added up across hours, channels and
+ * nodes. Quantiles are interpolated linearly within their bucket, like Prometheus' {@code histogram_quantile}.
+ * <p>
+ * It is stored as its counts, comma-separated; a stored histogram with fewer counts is padded with zeroes.
+ */
+public final class DurationHistogram {
+
+    /**
+     * Upper bounds of the buckets, the last bucket counts everything longer than the last bound.
+     */
+    public static final List<Duration> BOUNDS = List.of(
+        Duration.ofMinutes(1),
+        Duration.ofMinutes(5),
+        Duration.ofMinutes(15),
+        Duration.ofHours(1),
+        Duration.ofHours(4),
+        Duration.ofHours(12),
+        Duration.ofDays(1),
+        Duration.ofDays(3),
+        Duration.ofDays(7),
+        Duration.ofDays(30)
+    );
+
+    private final long[] counts = new long[BOUNDS.size() + 1];
+
+    public static DurationHistogram parse(String value) {
+        DurationHistogram histogram = new DurationHistogram();
+        if (value == null || value.isBlank()) {
+            return histogram;
+        }
+        String[] counts = value.split(",");
+        if (counts.length > histogram.counts.length) {
+            throw new IllegalArgumentException("Too many counts for a duration histogram: " + value);
+        }
+        for (int i = 0; i < counts.length; i++) {
+            histogram.counts[i] = Long.parseLong(counts[i].trim());
+        }
+        return histogram;
+    }
+
+    public DurationHistogram record(Duration duration) {
+        int bucket = 0;
+        while (bucket < BOUNDS.size() && duration.compareTo(BOUNDS.get(bucket)) > 0) {
+            bucket++;
+        }
+        counts[bucket]++;
+        return this;
+    }
+
+    public DurationHistogram add(DurationHistogram other) {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        return this;
+    }
+
+    public long count() {
+        return Arrays.stream(counts).sum();
+    }
+
+    /**
+     * @param quantile the quantile, between 0 and 1.
+     * @return the estimated duration under which the given share of the recorded durations fall, {@code null} when no
+     * duration was recorded. Durations over the last bound are reported as the last bound.
+     */
+    public Duration quantile(double quantile) {
+        long total = count();
+        if (total == 0) {
+            return null;
+        }
+        double rank = quantile * total;
+        long seen = 0;
+        for (int bucket = 0; bucket < BOUNDS.size(); bucket++) {
+            if (seen + counts[bucket] >= rank && counts[bucket] > 0) {
+                Duration lower = bucket == 0 ? Duration.ZERO : BOUNDS.get(bucket - 1);
+                Duration width = BOUNDS.get(bucket).minus(lower);
+                return lower.plus(width.multipliedBy(Math.round((rank - seen) / counts[bucket] * 1000)).dividedBy(1000));
+            }
+            seen += counts[bucket];
+        }
+        return BOUNDS.get(BOUNDS.size() - 1);
+    }
+
+    public Duration median() {
+        return quantile(0.5);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.stream(counts).mapToObj(Long::toString).collect(Collectors.joining(","));
+    }
+}
@@ -0,0 +1,219 @@
+package zw.co.fgr.service.funnel;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import zw.co.fgr.config.ApplicationProperties;
+import zw.co.fgr.domain.KycCaseTransition;
+import zw.co.fgr.domain.KycFunnelBucket;
+import zw.co.fgr.domain.enumeration.ChannelType;
+import zw.co.fgr.domain.enumeration.KycStatus;
+import zw.co.fgr.repository.KycCaseTransitionRepository;
+import zw.co.fgr.repository.KycFunnelBucketRepository;
+import zw.co.fgr.service.dto.KycFunnelStageDTO;
+
+/**
+ * Service folding the {@link KycCaseTransition}s not aggregated yet into the hourly {@link KycFunnelBucket}s, and
+ * publishing the funnel of the last {@code gauge-window} as gauges.
+ * <p>
+ * Transitions are claimed in bounded chunks with {@code FOR UPDATE SKIP LOCKED}, each chunk in its own transaction
+ * with the buckets it changes locked. Should two nodes create the same new bucket at once, one of them fails on the
+ * unique index and its chunk is claimed again by the next run.
+ * <p>
+ * A rebuild locks the transitions not aggregated yet without skipping any, so it waits for the chunks being aggregated
+ * and keeps the following ones out until the buckets are dropped.
+ */
+@Service
+public class KycFunnelAggregator {
+
+    private static final Logger LOG = LoggerFactory.getLogger(KycFunnelAggregator.class);
+
+    private final KycCaseTransitionRepository kycCaseTransitionRepository;
+
+    private final KycFunnelBucketRepository kycFunnelBucketRepository;
+
+    private final KycFunnelService kycFunnelService;
+
+    private final ApplicationProperties.KycFunnel properties;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private volatile Map<ChannelType, Map<KycStatus, KycFunnelStageDTO>> window = Map.of();
+
+    public KycFunnelAggregator(
+        KycCaseTransitionRepository kycCaseTransitionRepository,
+        KycFunnelBucketRepository kycFunnelBucketRepository,
+        KycFunnelService kycFunnelService,
+        ApplicationProperties applicationProperties,
+        PlatformTransactionManager transactionManager,
+        MeterRegistry meterRegistry
+    ) {
+        this.kycCaseTransitionRepository = kycCaseTransitionRepository;
+        this.kycFunnelBucketRepository = kycFunnelBucketRepository;
+        this.kycFunnelService = kycFunnelService;
+        this.properties = applicationProperties.getKycFunnel();
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        for (ChannelType channel : ChannelType.values()) {
+            for (KycStatus status : KycStatus.values()) {
+                registerGauges(meterRegistry, channel, status);
+            }
+        }
+    }
+
+    private void registerGauges(MeterRegistry meterRegistry, ChannelType channel, KycStatus status) {
+        Gauge.builder("kyc.funnel.entered", this, aggregator -> aggregator.stage(channel, status).getEntered())
+            .description("KYC cases that entered the status over the gauge window")
+            .tag("channel", channel.name())
+            .tag("status", status.name())
+            .register(meterRegistry);
+        Gauge.builder("kyc.funnel.exited", this, aggregator -> aggregator.stage(channel, status).getExited())
+            .description("KYC cases that left the status over the gauge window")
+            .tag("channel", channel.name())
+            .tag("status", status.name())
+            .register(meterRegistry);
+        Gauge.builder("kyc.funnel.time.in.status.median", this, aggregator -> {
+            Long median = aggregator.stage(channel, status).getMedianTimeInStatusSeconds();
+            return median == null ? Double.NaN : median;
+        })
+            .description("Median time spent in the status by the KYC cases that left it over the gauge window")
+            .baseUnit("seconds")
+            .tag("channel", channel.name())
+            .tag("status", status.name())
+            .register(meterRegistry);
+    }
+
+    private KycFunnelStageDTO stage(ChannelType channel, KycStatus status) {
+        KycFunnelStageDTO stage = window.getOrDefault(channel, Map.of()).get(status);
+        return stage != null ? stage : new KycFunnelStageDTO(channel, status, 0, 0, null);
+    }
+
+    /**
+     * Aggregate the new transitions and refresh the gauges.
+     * <p>
+     * This is scheduled to get fired with a fixed delay, {@code application.kyc-funnel.fixed-delay}.
+     */
+    @Scheduled(
+        initialDelayString = "${application.kyc-funnel.fixed-delay:PT1M}",
+        fixedDelayString = "${application.kyc-funnel.fixed-delay:PT1M}"
+    )
+    public void run() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        int aggregated = aggregate();
+        if (aggregated > 0) {
+            LOG.debug("KYC funnel aggregation: {} transitions", aggregated);
+        }
+        refreshGauges(Instant.now());
+    }
+
+    /**
+     * Fold the transitions not aggregated yet into the buckets, up to {@code max-chunks-per-run} chunks.
+     *
+     * @return the number of transitions aggregated.
+     */
+    public int aggregate() {
+        int total = 0;
+        for (int chunk = 0; chunk < properties.getMaxChunksPerRun(); chunk++) {
+            Integer aggregated = transactionTemplate.execute(status -> aggregateChunk());
+            total += aggregated == null ? 0 : aggregated;
+            if (aggregated == null || aggregated < properties.getChunkSize()) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    private int aggregateChunk() {
+        List<Long> ids = kycCaseTransitionRepository.findNotAggregatedIdsForUpdate(properties.getChunkSize());
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        Map<BucketKey, Delta> deltas = new HashMap<>();
+        for (KycCaseTransition transition : kycCaseTransitionRepository.findAllById(ids)) {
+            Instant hour = transition.getOccurredAt().truncatedTo(ChronoUnit.HOURS);
+            deltas.computeIfAbsent(new BucketKey(transition.getChannel(), transition.getToStatus(), hour), key -> new Delta()).entered++;
+            if (transition.getFromStatus() != null) {
+                Delta exit = deltas.computeIfAbsent(new BucketKey(transition.getChannel(), transition.getFromStatus(), hour), key ->
+                    new Delta()
+                );
+                exit.exited++;
+                if (transition.getTimeInFromStatusMs() != null) {
+                    exit.timeInStatus.record(Duration.ofMillis(transition.getTimeInFromStatusMs()));
+                }
+            }
+        }
+        deltas.forEach(this::apply);
+        kycCaseTransitionRepository.markAggregated(ids);
+        return ids.size();
+    }
+
+    private void apply(BucketKey key, Delta delta) {
+        KycFunnelBucket bucket = kycFunnelBucketRepository
+            .findByChannelAndStatusAndBucketStart(key.channel(), key.status(), key.hour())
+            .orElseGet(() ->
+                new KycFunnelBucket()
+                    .channel(key.channel())
+                    .status(key.status())
+                    .bucketStart(key.hour())
+                    .entered(0L)
+                    .exited(0L)
+                    .timeInStatusHistogram(new DurationHistogram().toString())
+            );
+        bucket
+            .entered(bucket.getEntered() + delta.entered)
+            .exited(bucket.getExited() + delta.exited)
+            .timeInStatusHistogram(DurationHistogram.parse(bucket.getTimeInStatusHistogram()).add(delta.timeInStatus).toString());
+        kycFunnelBucketRepository.save(bucket);
+    }
+
+    /**
+     * Recompute the gauges over the {@code gauge-window} ending at {@code now}.
+     *
+     * @param now the end of the window.
+     */
+    public void refreshGauges(Instant now) {
+        Map<ChannelType, Map<KycStatus, KycFunnelStageDTO>> stages = new HashMap<>();
+        for (KycFunnelStageDTO stage : kycFunnelService.report(now.minus(properties.getGaugeWindow()), now)) {
+            stages.computeIfAbsent(stage.getChannel(), channel -> new HashMap<>()).put(stage.getStatus(), stage);
+        }
+        this.window = stages;
+    }
+
+    /**
+     * Drop every bucket and mark every transition as not aggregated, so that the following runs rebuild the buckets
+     * from the whole history.
+     * <p>
+     * The running chunks are waited for, so that none of them adds to the buckets after they are dropped.
+     */
+    public void rebuild() {
+        transactionTemplate.executeWithoutResult(status -> {
+            kycCaseTransitionRepository.lockNotAggregated();
+            kycFunnelBucketRepository.deleteAllInBatch();
+            int transitions = kycCaseTransitionRepository.markAllNotAggregated();
+            LOG.info("KYC funnel rebuild: {} transitions to aggregate again", transitions);
+        });
+    }
+
+    private record BucketKey(ChannelType channel, KycStatus status, Instant hour) {}
+
+    private static final class Delta {
+
+        private long entered;
+
+        private long exited;
+
+        private final DurationHistogram timeInStatus = new DurationHistogram();
+    }
+}
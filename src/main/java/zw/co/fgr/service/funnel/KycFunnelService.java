@@ -0,0 +1,187 @@
+package zw.co.fgr.service.funnel;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import zw.co.fgr.domain.KycCase;
+import zw.co.fgr.domain.KycCaseTransition;
+import zw.co.fgr.domain.KycFunnelBucket;
+import zw.co.fgr.domain.enumeration.ChannelType;
+import zw.co.fgr.domain.enumeration.KycStatus;
+import zw.co.fgr.repository.KycCaseRepository;
+import zw.co.fgr.repository.KycCaseTransitionRepository;
+import zw.co.fgr.repository.KycFunnelBucketRepository;
+import zw.co.fgr.service.dto.KycFunnelStageDTO;
+
+/**
+ * Service recording the status changes of the {@link KycCase}s as {@link KycCaseTransition}s, and reporting the KYC
+ * funnel from the {@link KycFunnelBucket}s they are aggregated into.
+ * <p>
+ * Recording a change costs one indexed read of the last transition of the case and one insert, in the transaction of
+ * the change. Reports only read the hourly buckets of the requested period, never {@code kyc_case}.
+ */
+@Service
+@Transactional
+public class KycFunnelService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(KycFunnelService.class);
+
+    private final KycCaseTransitionRepository kycCaseTransitionRepository;
+
+    private final KycFunnelBucketRepository kycFunnelBucketRepository;
+
+    private final KycCaseRepository kycCaseRepository;
+
+    public KycFunnelService(
+        KycCaseTransitionRepository kycCaseTransitionRepository,
+        KycFunnelBucketRepository kycFunnelBucketRepository,
+        KycCaseRepository kycCaseRepository
+    ) {
+        this.kycCaseTransitionRepository = kycCaseTransitionRepository;
+        this.kycFunnelBucketRepository = kycFunnelBucketRepository;
+        this.kycCaseRepository = kycCaseRepository;
+    }
+
+    /**
+     * Record the status of a created or updated case, when it changed.
+     *
+     * @param kycCase the persisted case.
+     * @return the new transition, empty when the status did not change.
+     */
+    public Optional<KycCaseTransition> record(KycCase kycCase) {
+        KycCaseTransition last = kycCaseTransitionRepository.findFirstByKycCaseIdOrderByOccurredAtDescIdDesc(kycCase.getId()).orElse(null);
+        if (last != null && last.getToStatus() == kycCase.getStatus()) {
+            return Optional.empty();
+        }
+        return Optional.of(
+            kycCaseTransitionRepository.save(transition(kycCase.getId(), kycCase.getChannel(), last, kycCase.getStatus(), Instant.now()))
+        );
+    }
+
+    /**
+     * Record a status change applied to cases in bulk, without loading them.
+     *
+     * @param kycCaseIds the ids of the changed cases.
+     * @param status the new status of the cases.
+     * @param now the time of the change.
+     * @return the new transitions.
+     */
+    public List<KycCaseTransition> recordStatusChange(Collection<Long> kycCaseIds, KycStatus status, Instant now) {
+        return recordStatusChange(kycCaseIds, status, now, null);
+    }
+
+    /**
+     * Record a status change applied to cases in bulk, without loading them.
+     *
+     * @param kycCaseIds the ids of the changed cases.
+     * @param status the new status of the cases.
+     * @param now the time of the change.
+     * @param reason why the status was changed, if given.
+     * @return the new transitions.
+     */
+    public List<KycCaseTransition> recordStatusChange(Collection<Long> kycCaseIds, KycStatus status, Instant now, String reason) {
+        Map<Long, KycCaseTransition> last = kycCaseTransitionRepository
+            .findLastByKycCaseIdIn(kycCaseIds)
+            .stream()
+            .collect(Collectors.toMap(KycCaseTransition::getKycCaseId, Function.identity()));
+        List<KycCaseTransition> transitions = new ArrayList<>();
+        last
+            .values()
+            .stream()
+            .filter(previous -> previous.getToStatus() != status)
+            .forEach(previous -> transitions.add(transition(previous.getKycCaseId(), previous.getChannel(), previous, status, now)));
+        // Cases without history, created before it was recorded or bypassing KycCaseService
+        Set<Long> withoutHistory = kycCaseIds.stream().filter(id -> !last.containsKey(id)).collect(Collectors.toSet());
+        if (!withoutHistory.isEmpty()) {
+            kycCaseRepository
+                .findAllById(withoutHistory)
+                .forEach(kycCase -> transitions.add(transition(kycCase.getId(), kycCase.getChannel(), null, status, now)));
+        }
+        transitions.forEach(transition -> transition.setReason(reason));
+        return kycCaseTransitionRepository.saveAll(transitions);
+    }
+
+    private static KycCaseTransition transition(
+        Long kycCaseId,
+        ChannelType channel,
+        KycCaseTransition previous,
+        KycStatus status,
+        Instant now
+    ) {
+        KycCaseTransition transition = new KycCaseTransition()
+            .kycCaseId(kycCaseId)
+            .channel(channel)
+            .toStatus(status)
+            .occurredAt(now)
+            .aggregated(false);
+        if (previous != null) {
+            transition
+                .fromStatus(previous.getToStatus())
+                .timeInFromStatusMs(Math.max(0, Duration.between(previous.getOccurredAt(), now).toMillis()));
+        }
+        return transition;
+    }
+
+    /**
+     * Get the KYC funnel of every channel over a period, in whole hours.
+     *
+     * @param from the start of the period, rounded down to the hour.
+     * @param to the end of the period, exclusive, rounded up to the hour.
+     * @return one stage per channel and status with transitions in the period, by channel and status.
+     */
+    @Transactional(readOnly = true)
+    public List<KycFunnelStageDTO> report(Instant from, Instant to) {
+        LOG.debug("Request to get the KYC funnel from {} to {}", from, to);
+        Instant start = from.truncatedTo(ChronoUnit.HOURS);
+        Instant end = to.truncatedTo(ChronoUnit.HOURS).equals(to) ? to : to.truncatedTo(ChronoUnit.HOURS).plus(1, ChronoUnit.HOURS);
+        Map<StageKey, Stage> stages = new TreeMap<>(Comparator.comparing(StageKey::channel).thenComparing(StageKey::status));
+        for (KycFunnelBucket bucket : kycFunnelBucketRepository.findAllByBucketStartGreaterThanEqualAndBucketStartLessThan(start, end)) {
+            stages.computeIfAbsent(new StageKey(bucket.getChannel(), bucket.getStatus()), key -> new Stage()).add(bucket);
+        }
+        return stages
+            .entrySet()
+            .stream()
+            .map(entry -> {
+                Duration median = entry.getValue().timeInStatus.median();
+                return new KycFunnelStageDTO(
+                    entry.getKey().channel(),
+                    entry.getKey().status(),
+                    entry.getValue().entered,
+                    entry.getValue().exited,
+                    median == null ? null : median.toSeconds()
+                );
+            })
+            .toList();
+    }
+
+    private record StageKey(ChannelType channel, KycStatus status) {}
+
+    private static final class Stage {
+
+        private long entered;
+
+        private long exited;
+
+        private final DurationHistogram timeInStatus = new DurationHistogram();
+
+        private void add(KycFunnelBucket bucket) {
+            entered += bucket.getEntered();
+            exited += bucket.getExited();
+            timeInStatus.add(DurationHistogram.parse(bucket.getTimeInStatusHistogram()));
+        }
+    }
+}
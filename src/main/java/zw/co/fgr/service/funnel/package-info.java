@@ -0,0 +1,4 @@
+/**
+ * KYC funnel metrics, aggregated incrementally from the status changes of the KYC cases.
+ */
+package zw.co.fgr.service.funnel;
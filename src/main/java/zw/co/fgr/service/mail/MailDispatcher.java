@@ -0,0 +1,355 @@
+package zw.co.fgr.service.mail;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tech.jhipster.config.JHipsterProperties;
+import zw.co.fgr.config.ApplicationProperties;
+import zw.co.fgr.domain.PendingMail;
+import zw.co.fgr.repository.PendingMailRepository;
+import zw.co.fgr.service.RateLimiter;
+import zw.co.fgr.service.RetryBackoff;
+
+/**
+ * Service sending the emails queued by {@link #enqueue(MailMessage)}.
+ * <p>
+ * Each flush drains the queue in batches of {@code batch-size} and hands every batch to the {@link JavaMailSender} at
+ * once, which sends it over a single SMTP connection. Messages to a recipient domain that has used up its rate are
+ * kept in the queue for the next flush. Messages that cannot be sent are stored as {@link PendingMail}s and retried
+ * with capped exponential backoff until {@code retry.max-attempts} is reached; the same happens to messages enqueued
+ * while the queue is full. Given-up messages are purged once {@code retry.retention} has passed.
+ * <p>
+ * {@link MailMessage#sensitive() Sensitive} messages, whose body carries an activation or reset key, are never stored:
+ * they are dropped when they cannot be sent right away, and the user has to request a new key.
+ */
+@Service
+public class MailDispatcher implements DisposableBean {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MailDispatcher.class);
+
+    private static final int SUBJECT_LENGTH = 1000;
+
+    private static final int LAST_ERROR_LENGTH = 1000;
+
+    private final JavaMailSender javaMailSender;
+
+    private final PendingMailRepository pendingMailRepository;
+
+    private final ApplicationProperties.Mail properties;
+
+    private final String from;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final RateLimiter<String> rateLimiter;
+
+    private final BlockingQueue<MailMessage> queue;
+
+    private final Counter sentCounter;
+
+    private final Counter retryingCounter;
+
+    private final Counter failedCounter;
+
+    public MailDispatcher(
+        JavaMailSender javaMailSender,
+        PendingMailRepository pendingMailRepository,
+        ApplicationProperties applicationProperties,
+        JHipsterProperties jHipsterProperties,
+        PlatformTransactionManager transactionManager,
+        MeterRegistry meterRegistry
+    ) {
+        this.javaMailSender = javaMailSender;
+        this.pendingMailRepository = pendingMailRepository;
+        this.properties = applicationProperties.getMail();
+        this.from = jHipsterProperties.getMail().getFrom();
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        Map<String, Integer> domainRates = properties.getDomainRatesPerMinute();
+        this.rateLimiter = new RateLimiter<>(domain -> domainRates.getOrDefault(domain, properties.getRatePerMinute()), System::nanoTime);
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        this.sentCounter = messagesCounter(meterRegistry, "sent");
+        this.retryingCounter = messagesCounter(meterRegistry, "retrying");
+        this.failedCounter = messagesCounter(meterRegistry, "failed");
+        meterRegistry.gauge("mail.queue.size", queue, BlockingQueue::size);
+    }
+
+    private static Counter messagesCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("mail.messages")
+            .description("Number of email delivery attempts, by outcome.")
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+
+    /**
+     * Queue a message for the next flush. When the queue is full, the message is stored for a later attempt instead.
+     *
+     * @param message the message to send.
+     */
+    public void enqueue(MailMessage message) {
+        if (!queue.offer(message)) {
+            LOG.warn("Mail queue is full, storing email to '{}' for a later attempt", message.to());
+            storeForRetry(Map.of(message, "Mail queue full"), Instant.now());
+        }
+    }
+
+    /**
+     * Flush the queue.
+     * <p>
+     * This is scheduled to get fired with a fixed delay, {@code application.mail.fixed-delay}.
+     */
+    @Scheduled(initialDelayString = "${application.mail.fixed-delay:PT1S}", fixedDelayString = "${application.mail.fixed-delay:PT1S}")
+    public void dispatch() {
+        flush();
+    }
+
+    /**
+     * Send every queued message whose recipient domain is within its rate. Concurrent calls wait for each other, so
+     * that once this returns, every message queued before the call has been attempted or deferred.
+     *
+     * @return the number of messages attempted.
+     */
+    public synchronized int flush() {
+        List<MailMessage> deferred = new ArrayList<>();
+        int attempted = 0;
+        List<MailMessage> drained = new ArrayList<>(properties.getBatchSize());
+        while (queue.drainTo(drained, properties.getBatchSize()) > 0) {
+            List<MailMessage> batch = new ArrayList<>(drained.size());
+            for (MailMessage message : drained) {
+                (rateLimiter.tryAcquire(message.domain()) ? batch : deferred).add(message);
+            }
+            drained.clear();
+            if (!batch.isEmpty()) {
+                Map<MailMessage, String> failures = send(batch);
+                sentCounter.increment(batch.size() - failures.size());
+                if (!failures.isEmpty()) {
+                    storeForRetry(failures, Instant.now());
+                }
+                attempted += batch.size();
+            }
+        }
+        deferred.forEach(this::enqueue);
+        return attempted;
+    }
+
+    /**
+     * Retry stored messages.
+     * <p>
+     * This is scheduled to get fired with a fixed delay, {@code application.mail.retry.fixed-delay}.
+     */
+    @Scheduled(
+        initialDelayString = "${application.mail.retry.fixed-delay:PT1M}",
+        fixedDelayString = "${application.mail.retry.fixed-delay:PT1M}"
+    )
+    public void retry() {
+        if (!properties.getRetry().isEnabled()) {
+            return;
+        }
+        Instant now = Instant.now();
+        int retried = retryDue(now);
+        int purged = purgeGivenUp(now);
+        if (retried > 0 || purged > 0) {
+            LOG.info("Mail retry: {} stored emails attempted, {} given-up emails purged", retried, purged);
+        }
+    }
+
+    /**
+     * Delete the stored messages given up on more than {@code retry.retention} before {@code now}.
+     *
+     * @param now the reference time.
+     * @return the number of messages deleted.
+     */
+    public int purgeGivenUp(Instant now) {
+        Integer purged = transactionTemplate.execute(status ->
+            pendingMailRepository.deleteGivenUpBefore(now.minus(properties.getRetry().getRetention()))
+        );
+        return purged == null ? 0 : purged;
+    }
+
+    /**
+     * Claim one batch of stored messages due at {@code now}, send them and record the outcomes. Messages whose
+     * recipient domain has used up its rate stay claimed and are attempted again once their lease has passed.
+     *
+     * @param now the reference time.
+     * @return the number of messages attempted.
+     */
+    public int retryDue(Instant now) {
+        ApplicationProperties.Mail.Retry retry = properties.getRetry();
+        List<PendingMail> claimed = transactionTemplate.execute(status -> {
+            List<Long> ids = pendingMailRepository.findDueIdsForUpdate(now, retry.getBatchSize());
+            if (ids.isEmpty()) {
+                return List.of();
+            }
+            pendingMailRepository.lease(ids, now.plus(retry.getLease()));
+            return pendingMailRepository.findAllById(ids);
+        });
+        if (claimed == null || claimed.isEmpty()) {
+            return 0;
+        }
+        Map<MailMessage, PendingMail> batch = new IdentityHashMap<>();
+        for (PendingMail pendingMail : claimed) {
+            MailMessage message = MailMessage.of(pendingMail);
+            if (rateLimiter.tryAcquire(message.domain())) {
+                batch.put(message, pendingMail);
+            }
+        }
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        Map<MailMessage, String> failures = send(new ArrayList<>(batch.keySet()));
+        Instant attemptedAt = Instant.now();
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Long> sent = new ArrayList<>();
+            batch.forEach((message, pendingMail) -> {
+                if (failures.containsKey(message)) {
+                    pendingMailRepository.save(recordFailure(pendingMail, failures.get(message), attemptedAt));
+                } else {
+                    sent.add(pendingMail.getId());
+                }
+            });
+            pendingMailRepository.deleteAllByIdInBatch(sent);
+            sentCounter.increment(sent.size());
+        });
+        return batch.size();
+    }
+
+    /**
+     * Send {@code messages} over one connection.
+     *
+     * @return the messages that could not be sent, with the reason; messages that could not even be built are logged
+     * and dropped, as retrying them cannot help.
+     */
+    private Map<MailMessage, String> send(List<MailMessage> messages) {
+        Map<MimeMessage, MailMessage> mimeMessages = new LinkedHashMap<>();
+        for (MailMessage message : messages) {
+            try {
+                mimeMessages.put(toMimeMessage(message), message);
+            } catch (MessagingException e) {
+                LOG.warn("Email to '{}' could not be built, dropping it", message.to(), e);
+                failedCounter.increment();
+            }
+        }
+        if (mimeMessages.isEmpty()) {
+            return Map.of();
+        }
+        Map<MailMessage, String> failures = new IdentityHashMap<>();
+        try {
+            javaMailSender.send(mimeMessages.keySet().toArray(MimeMessage[]::new));
+            LOG.debug("Sent {} emails", mimeMessages.size());
+        } catch (MailSendException e) {
+            // the sender reports the messages that failed, or none if it could not send at all
+            Map<Object, Exception> failedMessages = e.getFailedMessages();
+            if (failedMessages == null || failedMessages.isEmpty()) {
+                mimeMessages.values().forEach(message -> failures.put(message, e.getMessage()));
+            } else {
+                failedMessages.forEach((mimeMessage, cause) -> {
+                    MailMessage message = mimeMessages.get(mimeMessage);
+                    if (message != null) {
+                        failures.put(message, cause.getMessage());
+                    }
+                });
+            }
+        } catch (MailException e) {
+            mimeMessages.values().forEach(message -> failures.put(message, e.getMessage()));
+        }
+        failures.forEach((message, error) -> LOG.warn("Email could not be sent to user '{}': {}", message.to(), error));
+        return failures;
+    }
+
+    private MimeMessage toMimeMessage(MailMessage message) throws MessagingException {
+        MimeMessage mimeMessage = javaMailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, message.multipart(), StandardCharsets.UTF_8.name());
+        helper.setTo(message.to());
+        helper.setFrom(from);
+        helper.setSubject(message.subject());
+        helper.setText(message.content(), message.html());
+        return mimeMessage;
+    }
+
+    private void storeForRetry(Map<MailMessage, String> errors, Instant now) {
+        Map<MailMessage, String> stored = new IdentityHashMap<>();
+        errors.forEach((message, error) -> {
+            if (message.sensitive()) {
+                LOG.warn("Email to '{}' carries a key and is not stored, dropping it: {}", message.to(), error);
+                failedCounter.increment();
+            } else {
+                stored.put(message, error);
+            }
+        });
+        if (stored.isEmpty()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status ->
+            stored.forEach((message, error) ->
+                pendingMailRepository.save(
+                    recordFailure(
+                        new PendingMail()
+                            .recipient(message.to())
+                            .subject(truncate(message.subject(), SUBJECT_LENGTH))
+                            .content(message.content())
+                            .multipart(message.multipart())
+                            .html(message.html())
+                            .attempts(0)
+                            .createdAt(now),
+                        error,
+                        now
+                    )
+                )
+            )
+        );
+    }
+
+    private PendingMail recordFailure(PendingMail pendingMail, String error, Instant now) {
+        int attempts = pendingMail.getAttempts() + 1;
+        pendingMail.attempts(attempts).lastAttemptAt(now).lastError(truncate(error, LAST_ERROR_LENGTH));
+        ApplicationProperties.Mail.Retry retry = properties.getRetry();
+        if (attempts >= retry.getMaxAttempts()) {
+            pendingMail.nextAttemptAt(null);
+            failedCounter.increment();
+            LOG.warn("Email to '{}' given up after {} attempts: {}", pendingMail.getRecipient(), attempts, error);
+        } else {
+            pendingMail.nextAttemptAt(now.plus(RetryBackoff.withJitter(attempts, retry.getInitialBackoff(), retry.getMaxBackoff())));
+            retryingCounter.increment();
+        }
+        return pendingMail;
+    }
+
+    private static String truncate(String value, int length) {
+        return value == null || value.length() <= length ? value : value.substring(0, length);
+    }
+
+    /**
+     * Flush what is left in the queue, so that no message is lost on shutdown; whatever cannot be sent now is stored.
+     */
+    @Override
+    public synchronized void destroy() {
+        flush();
+        List<MailMessage> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            Map<MailMessage, String> errors = new IdentityHashMap<>();
+            remaining.forEach(message -> errors.put(message, "Rate limited at shutdown"));
+            storeForRetry(errors, Instant.now());
+        }
+    }
+}
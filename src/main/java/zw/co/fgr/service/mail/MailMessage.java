@@ -0,0 +1,39 @@
+package zw.co.fgr.service.mail;
+
+import java.util.Locale;
+import zw.co.fgr.domain.PendingMail;
+
+/**
+ * An email waiting to be sent.
+ *
+ * @param to the recipient address.
+ * @param subject the subject.
+ * @param content the body, plain text or HTML.
+ * @param multipart whether the body is sent as a multipart message.
+ * @param html whether the body is HTML.
+ * @param sensitive whether the body carries a secret, such as an activation or reset key; such a message is never
+ * stored, so it is dropped when it cannot be sent right away.
+ */
+public record MailMessage(String to, String subject, String content, boolean multipart, boolean html, boolean sensitive) {
+    public MailMessage(String to, String subject, String content, boolean multipart, boolean html) {
+        this(to, subject, content, multipart, html, false);
+    }
+
+    static MailMessage of(PendingMail pendingMail) {
+        return new MailMessage(
+            pendingMail.getRecipient(),
+            pendingMail.getSubject(),
+            pendingMail.getContent(),
+            Boolean.TRUE.equals(pendingMail.getMultipart()),
+            Boolean.TRUE.equals(pendingMail.getHtml())
+        );
+    }
+
+    /**
+     * The domain of the recipient, lower-cased; the whole address if it has none.
+     */
+    String domain() {
+        int at = to.lastIndexOf('@');
+        return (at < 0 ? to : to.substring(at + 1)).toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Queued, batched and rate-limited delivery of emails.
+ */
+package zw.co.fgr.service.mail;
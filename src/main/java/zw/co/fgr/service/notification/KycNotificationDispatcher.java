@@ -0,0 +1,240 @@
+package zw.co.fgr.service.notification;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import zw.co.fgr.config.ApplicationProperties;
+import zw.co.fgr.domain.KycNotification;
+import zw.co.fgr.domain.enumeration.ChannelType;
+import zw.co.fgr.domain.enumeration.DeliveryStatus;
+import zw.co.fgr.repository.KycNotificationRepository;
+import zw.co.fgr.service.RateLimiter;
+import zw.co.fgr.service.RetryBackoff;
+
+/**
+ * Service delivering {@link DeliveryStatus#PENDING} and due {@link DeliveryStatus#RETRYING} {@link KycNotification}s
+ * through the {@link NotificationSender} of their case's {@link ChannelType}.
+ * <p>
+ * Each run claims, for every channel with a sender, a batch of due notifications with {@code FOR UPDATE SKIP LOCKED}
+ * and leases them in one short transaction. The batch size is bounded by the channel's rate limit. Notifications are
+ * then sent from a worker pool of the channel's own size, with no transaction open, so that a slow channel cannot hold
+ * up the others, nor the scheduler thread, which returns as soon as the notifications are handed to the workers. Once
+ * the last attempt of a run completes, all its outcomes are saved in a single transaction, where the updates are
+ * JDBC-batched. Failed
+ * attempts are retried with capped exponential backoff. After {@code max-attempts}, or on a non-retryable failure, a
+ * notification is moved to {@link DeliveryStatus#DEAD_LETTER}.
+ */
+@Service
+public class KycNotificationDispatcher implements DisposableBean {
+
+    private static final Logger LOG = LoggerFactory.getLogger(KycNotificationDispatcher.class);
+
+    private static final Set<DeliveryStatus> DUE_STATUSES = EnumSet.of(DeliveryStatus.PENDING, DeliveryStatus.RETRYING);
+
+    private static final List<String> DUE_STATUS_NAMES = DUE_STATUSES.stream().map(DeliveryStatus::name).toList();
+
+    private static final int ERROR_MESSAGE_LENGTH = 500;
+
+    private final KycNotificationRepository kycNotificationRepository;
+
+    private final ApplicationProperties.Notifications properties;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<ChannelType, NotificationSender> senders = new EnumMap<>(ChannelType.class);
+
+    private final Map<ChannelType, ThreadPoolTaskExecutor> workers = new EnumMap<>(ChannelType.class);
+
+    private final RateLimiter<ChannelType> rateLimiter;
+
+    public KycNotificationDispatcher(
+        KycNotificationRepository kycNotificationRepository,
+        ObjectProvider<NotificationSender> senders,
+        ApplicationProperties applicationProperties,
+        PlatformTransactionManager transactionManager,
+        MeterRegistry meterRegistry
+    ) {
+        this.kycNotificationRepository = kycNotificationRepository;
+        this.properties = applicationProperties.getNotifications();
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.rateLimiter = new RateLimiter<>(this::ratePerMinute, System::nanoTime);
+        senders.orderedStream().forEach(sender -> {
+            if (this.senders.putIfAbsent(sender.getChannel(), sender) != null) {
+                throw new IllegalStateException("More than one notification sender for channel " + sender.getChannel());
+            }
+            this.workers.put(sender.getChannel(), newWorkers(sender.getChannel()));
+        });
+    }
+
+    private ThreadPoolTaskExecutor newWorkers(ChannelType channel) {
+        int concurrency = concurrency(channel);
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(properties.getBatchSize());
+        executor.setThreadNamePrefix("notification-" + channel.name().toLowerCase(Locale.ROOT) + "-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    private int concurrency(ChannelType channel) {
+        ApplicationProperties.Notifications.Channel overrides = properties.getChannels().get(channel);
+        return overrides != null && overrides.getConcurrency() != null ? overrides.getConcurrency() : properties.getConcurrency();
+    }
+
+    private int ratePerMinute(ChannelType channel) {
+        ApplicationProperties.Notifications.Channel overrides = properties.getChannels().get(channel);
+        return overrides != null && overrides.getRatePerMinute() != null ? overrides.getRatePerMinute() : properties.getRatePerMinute();
+    }
+
+    /**
+     * Dispatch due notifications.
+     * <p>
+     * This is scheduled to get fired with a fixed delay, {@code application.notifications.fixed-delay}.
+     */
+    @Scheduled(
+        initialDelayString = "${application.notifications.fixed-delay:PT5S}",
+        fixedDelayString = "${application.notifications.fixed-delay:PT5S}"
+    )
+    public void dispatch() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        dispatchDue(Instant.now()).whenComplete((dispatched, error) -> {
+            if (error != null) {
+                LOG.error("Notification dispatch failed", error);
+            } else if (dispatched > 0) {
+                LOG.info("Notification dispatch: {} notifications attempted", dispatched);
+            }
+        });
+    }
+
+    /**
+     * Claim one batch of notifications due at {@code now} per channel and hand them to the workers of their channel.
+     * The claimed notifications stay leased until their outcomes are saved.
+     *
+     * @param now the reference time.
+     * @return a future of the number of notifications attempted, completed once their outcomes are saved.
+     */
+    public CompletableFuture<Integer> dispatchDue(Instant now) {
+        List<CompletableFuture<Outcome>> attempts = new ArrayList<>();
+        senders.forEach((channel, sender) -> {
+            int permits = rateLimiter.tryAcquire(channel, properties.getBatchSize());
+            if (permits == 0) {
+                return;
+            }
+            List<NotificationRequest> claimed = claim(channel, now, permits);
+            rateLimiter.release(channel, permits - claimed.size());
+            for (NotificationRequest request : claimed) {
+                attempts.add(CompletableFuture.supplyAsync(() -> attempt(sender, request), workers.get(channel)));
+            }
+        });
+        if (attempts.isEmpty()) {
+            return CompletableFuture.completedFuture(0);
+        }
+        return CompletableFuture.allOf(attempts.toArray(CompletableFuture[]::new)).thenApply(done -> {
+            record(attempts.stream().map(CompletableFuture::join).toList(), Instant.now());
+            return attempts.size();
+        });
+    }
+
+    private List<NotificationRequest> claim(ChannelType channel, Instant now, int limit) {
+        List<NotificationRequest> claimed = transactionTemplate.execute(status -> {
+            List<Long> ids = kycNotificationRepository.findDueIdsForUpdate(DUE_STATUS_NAMES, channel.name(), now, limit);
+            if (ids.isEmpty()) {
+                return List.of();
+            }
+            kycNotificationRepository.lease(ids, now.plus(properties.getLease()));
+            return kycNotificationRepository.findAllWithKycCaseByIdIn(ids).stream().map(NotificationRequest::of).toList();
+        });
+        return claimed == null ? List.of() : claimed;
+    }
+
+    private static Outcome attempt(NotificationSender sender, NotificationRequest request) {
+        try {
+            return new Outcome(request, sender.send(request));
+        } catch (RuntimeException e) {
+            LOG.warn("Notification {} on {} failed: {}", request.notificationId(), request.channel(), e.getMessage());
+            return new Outcome(request, NotificationDeliveryResult.retryableFailure(e.getMessage()));
+        }
+    }
+
+    private void record(List<Outcome> outcomes, Instant now) {
+        Map<Long, Outcome> byId = outcomes
+            .stream()
+            .collect(Collectors.toMap(outcome -> outcome.request().notificationId(), Function.identity()));
+        transactionTemplate.executeWithoutResult(status ->
+            kycNotificationRepository
+                .findAllById(byId.keySet())
+                .stream()
+                .filter(notification -> DUE_STATUSES.contains(notification.getDeliveryStatus()))
+                .forEach(notification -> record(notification, byId.get(notification.getId()), now))
+        );
+    }
+
+    private void record(KycNotification notification, Outcome outcome, Instant now) {
+        NotificationDeliveryResult result = outcome.result();
+        int attempts = outcome.request().attempt();
+        notification.attempts(attempts);
+        DeliveryStatus status;
+        if (result.delivered()) {
+            status = DeliveryStatus.DELIVERED;
+            notification.delivered(true).deliveredAt(now).errorMessage(null).nextAttemptAt(null);
+        } else if (!result.retryable() || attempts >= properties.getMaxAttempts()) {
+            status = DeliveryStatus.DEAD_LETTER;
+            notification.delivered(false).errorMessage(truncate(result.errorMessage(), ERROR_MESSAGE_LENGTH)).nextAttemptAt(null);
+            LOG.warn("Notification {} dead-lettered after {} attempts: {}", notification.getId(), attempts, result.errorMessage());
+        } else {
+            status = DeliveryStatus.RETRYING;
+            notification
+                .delivered(false)
+                .errorMessage(truncate(result.errorMessage(), ERROR_MESSAGE_LENGTH))
+                .nextAttemptAt(now.plus(RetryBackoff.withJitter(attempts, properties.getInitialBackoff(), properties.getMaxBackoff())));
+        }
+        notification.deliveryStatus(status);
+        deliveriesCounter(outcome.request().channel(), status).increment();
+    }
+
+    private Counter deliveriesCounter(ChannelType channel, DeliveryStatus status) {
+        return Counter.builder("kyc.notification.deliveries")
+            .description("Number of notification delivery attempts, by channel and resulting status.")
+            .tag("channel", String.valueOf(channel))
+            .tag("status", status.name())
+            .register(meterRegistry);
+    }
+
+    private static String truncate(String value, int length) {
+        return value == null || value.length() <= length ? value : value.substring(0, length);
+    }
+
+    @Override
+    public void destroy() {
+        workers.values().forEach(ThreadPoolTaskExecutor::shutdown);
+    }
+
+    private record Outcome(NotificationRequest request, NotificationDeliveryResult result) {}
+}
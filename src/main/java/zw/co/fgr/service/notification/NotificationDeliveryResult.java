@@ -0,0 +1,28 @@
+package zw.co.fgr.service.notification;
+
+/**
+ * Outcome of one attempt to deliver a notification.
+ *
+ * @param delivered whether the notification was delivered.
+ * @param retryable whether an undelivered notification may be delivered on a later attempt.
+ * @param errorMessage why the notification was not delivered, if it was not.
+ */
+public record NotificationDeliveryResult(boolean delivered, boolean retryable, String errorMessage) {
+    public static NotificationDeliveryResult success() {
+        return new NotificationDeliveryResult(true, false, null);
+    }
+
+    /**
+     * A failure that may go away on its own, e.g. a timeout or an unavailable gateway.
+     */
+    public static NotificationDeliveryResult retryableFailure(String errorMessage) {
+        return new NotificationDeliveryResult(false, true, errorMessage);
+    }
+
+    /**
+     * A failure that will not go away by retrying, e.g. an unknown recipient.
+     */
+    public static NotificationDeliveryResult rejected(String errorMessage) {
+        return new NotificationDeliveryResult(false, false, errorMessage);
+    }
+}
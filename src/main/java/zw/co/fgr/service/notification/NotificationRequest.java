@@ -0,0 +1,40 @@
+package zw.co.fgr.service.notification;
+
+import zw.co.fgr.domain.Customer;
+import zw.co.fgr.domain.KycCase;
+import zw.co.fgr.domain.KycNotification;
+import zw.co.fgr.domain.enumeration.ChannelType;
+import zw.co.fgr.domain.enumeration.NotificationType;
+
+/**
+ * Detached snapshot of a {@link KycNotification} and of its recipient, safe to use outside of a transaction.
+ *
+ * @param notificationId the id of the notification.
+ * @param attempt the number of this attempt, starting at 1.
+ */
+public record NotificationRequest(
+    Long notificationId,
+    int attempt,
+    ChannelType channel,
+    NotificationType notificationType,
+    String message,
+    String kycRef,
+    String customerRef,
+    String phoneNumber
+) {
+    static NotificationRequest of(KycNotification notification) {
+        KycCase kycCase = notification.getKycCase();
+        Customer customer = kycCase == null ? null : kycCase.getCustomer();
+        int attempts = notification.getAttempts() == null ? 0 : notification.getAttempts();
+        return new NotificationRequest(
+            notification.getId(),
+            attempts + 1,
+            kycCase == null ? null : kycCase.getChannel(),
+            notification.getNotificationType(),
+            notification.getMessage(),
+            kycCase == null ? null : kycCase.getKycRef(),
+            customer == null ? null : customer.getCustomerRef(),
+            customer == null ? null : customer.getPhoneNumber()
+        );
+    }
+}
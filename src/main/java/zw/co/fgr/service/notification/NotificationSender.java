@@ -0,0 +1,26 @@
+package zw.co.fgr.service.notification;
+
+import zw.co.fgr.domain.enumeration.ChannelType;
+
+/**
+ * Sender delivering notifications over one {@link ChannelType}.
+ * <p>
+ * Every bean implementing this interface is picked up by the {@link KycNotificationDispatcher}; notifications of
+ * channels without a sender stay pending. Implementations are called from the worker pool of their channel, outside
+ * of any transaction, and report failures through the returned {@link NotificationDeliveryResult} rather than by
+ * throwing; an exception is treated as a retryable failure.
+ */
+public interface NotificationSender {
+    /**
+     * @return the channel this sender delivers over.
+     */
+    ChannelType getChannel();
+
+    /**
+     * Deliver one notification.
+     *
+     * @param request the notification to deliver.
+     * @return the outcome of the attempt.
+     */
+    NotificationDeliveryResult send(NotificationRequest request);
+}
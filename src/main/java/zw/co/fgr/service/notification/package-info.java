@@ -0,0 +1,4 @@
+/**
+ * Delivery of KYC notifications to customers over the channel of their case.
+ */
+package zw.co.fgr.service.notification;
@@ -0,0 +1,31 @@
+package zw.co.fgr.service.storage;
+
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Content-addressed store for document contents.
+ * <p>
+ * Contents are addressed by their SHA-256 digest, so storing the same bytes twice returns the same
+ * {@link StoredContent#storagePath()} and keeps a single copy.
+ */
+public interface DocumentStorage {
+    /**
+     * Store the contents read from {@code source} until end of stream, without holding them in memory.
+     *
+     * @param source the contents to store; not closed.
+     * @return the address, digest and size of the stored contents.
+     * @throws IOException if the contents cannot be read or written.
+     */
+    StoredContent store(ReadableByteChannel source) throws IOException;
+
+    /**
+     * Locate the local file holding stored contents, so that they can be sent without being copied through the heap.
+     *
+     * @param storagePath the address of the contents, as returned by {@link #store(ReadableByteChannel)}.
+     * @return the file holding the contents, or empty if there is none.
+     */
+    Optional<Path> locate(String storagePath);
+}
@@ -0,0 +1,114 @@
+package zw.co.fgr.service.storage;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import zw.co.fgr.config.ApplicationProperties;
+
+/**
+ * {@link DocumentStorage} on the local file system, under {@code application.document-storage.root-directory}.
+ * <p>
+ * Contents are streamed through a fixed-size buffer into a temporary file while their digest is computed, then moved
+ * to {@code ab/cd/abcd...} after their SHA-256 digest; if that file already exists the temporary one is dropped.
+ */
+@Component
+public class FileSystemDocumentStorage implements DocumentStorage {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FileSystemDocumentStorage.class);
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final String INCOMING_DIRECTORY = ".incoming";
+
+    private final Path root;
+
+    private final Path incoming;
+
+    public FileSystemDocumentStorage(ApplicationProperties applicationProperties) {
+        this(Path.of(applicationProperties.getDocumentStorage().getRootDirectory()));
+    }
+
+    FileSystemDocumentStorage(Path root) {
+        this.root = root.toAbsolutePath().normalize();
+        // Kept under the root so that the final move stays on the same file store, and is atomic.
+        this.incoming = this.root.resolve(INCOMING_DIRECTORY);
+        try {
+            Files.createDirectories(incoming);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create document storage directory " + incoming, e);
+        }
+    }
+
+    @Override
+    public StoredContent store(ReadableByteChannel source) throws IOException {
+        MessageDigest digest = sha256();
+        Path temporary = Files.createTempFile(incoming, "upload-", ".tmp");
+        try {
+            long size = 0;
+            try (FileChannel target = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+                while (source.read(buffer) >= 0) {
+                    buffer.flip();
+                    digest.update(buffer.array(), buffer.arrayOffset(), buffer.limit());
+                    while (buffer.hasRemaining()) {
+                        size += target.write(buffer);
+                    }
+                    buffer.clear();
+                }
+                target.force(false);
+            }
+            String checksum = HexFormat.of().formatHex(digest.digest());
+            String storagePath = checksum.substring(0, 2) + "/" + checksum.substring(2, 4) + "/" + checksum;
+            Path stored = root.resolve(storagePath);
+            if (Files.exists(stored)) {
+                LOG.debug("Document contents {} already stored", checksum);
+                return new StoredContent(storagePath, checksum, size, true);
+            }
+            Files.createDirectories(stored.getParent());
+            try {
+                Files.move(temporary, stored, StandardCopyOption.ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException e) {
+                // Stored concurrently by another upload of the same contents.
+                return new StoredContent(storagePath, checksum, size, true);
+            }
+            return new StoredContent(storagePath, checksum, size, false);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    @Override
+    public Optional<Path> locate(String storagePath) {
+        if (storagePath == null) {
+            return Optional.empty();
+        }
+        Path file = root.resolve(storagePath).normalize();
+        // storagePath is editable metadata: never serve anything outside of the root, nor in-flight uploads.
+        if (!file.startsWith(root) || file.startsWith(incoming) || !Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        return Optional.of(file);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
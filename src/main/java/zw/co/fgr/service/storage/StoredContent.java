@@ -0,0 +1,11 @@
+package zw.co.fgr.service.storage;
+
+/**
+ * Contents held by a {@link DocumentStorage}.
+ *
+ * @param storagePath the address of the contents in the storage.
+ * @param checksum the lower-case hex SHA-256 digest of the contents.
+ * @param size the size of the contents, in bytes.
+ * @param deduplicated whether identical contents were already stored.
+ */
+public record StoredContent(String storagePath, String checksum, long size, boolean deduplicated) {}
@@ -0,0 +1,4 @@
+/**
+ * Storage of KYC document contents.
+ */
+package zw.co.fgr.service.storage;
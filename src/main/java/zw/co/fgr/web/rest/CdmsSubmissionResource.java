@@ -5,6 +5,7 @@ import jakarta.validation.constraints.NotNull;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import org.slf4j.Logger;
@@ -154,6 +155,33 @@ public class CdmsSubmissionResource {
         return ResponseEntity.ok().body(entityList);
     }
 
+    /**
+     * {@code GET  /cdms-submissions?fields=} : get the given fields of all the cdmsSubmissions.
+     * <p>
+     * Only the requested columns are read and no entity is loaded, so grids do not pay for columns they do not show,
+     * such as {@code @Lob} ones. To-one relationships are selected as {@code <relationship>Id}.
+     *
+     * @param fields the fields to return.
+     * @param criteria the criteria which the requested entities should match.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of field maps in body,
+     * or with status {@code 400 (Bad Request)} if a field cannot be selected.
+     */
+    @GetMapping(value = "", params = "fields")
+    public ResponseEntity<List<Map<String, Object>>> getAllCdmsSubmissionFields(
+        CdmsSubmissionCriteria criteria,
+        @RequestParam("fields") List<String> fields
+    ) {
+        LOG.debug("REST request to get fields {} of CdmsSubmissions by criteria: {}", fields, criteria);
+
+        List<Map<String, Object>> entityList;
+        try {
+            entityList = cdmsSubmissionQueryService.findByCriteria(criteria, fields);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestAlertException("Invalid fields", ENTITY_NAME, "fieldsinvalid");
+        }
+        return ResponseEntity.ok().body(entityList);
+    }
+
     /**
      * {@code GET  /cdms-submissions/count} : count all the cdmsSubmissions.
      *
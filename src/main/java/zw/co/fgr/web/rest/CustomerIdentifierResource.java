@@ -5,6 +5,7 @@ import jakarta.validation.constraints.NotNull;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import org.slf4j.Logger;
@@ -19,9 +20,13 @@ import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
 import tech.jhipster.web.util.PaginationUtil;
 import tech.jhipster.web.util.ResponseUtil;
+import zw.co.fgr.domain.Customer;
 import zw.co.fgr.domain.CustomerIdentifier;
+import zw.co.fgr.domain.enumeration.ChannelType;
+import zw.co.fgr.domain.enumeration.IdentifierType;
 import zw.co.fgr.repository.CustomerIdentifierRepository;
 import zw.co.fgr.service.CustomerIdentifierQueryService;
+import zw.co.fgr.service.CustomerIdentifierResolutionService;
 import zw.co.fgr.service.CustomerIdentifierService;
 import zw.co.fgr.service.criteria.CustomerIdentifierCriteria;
 import zw.co.fgr.web.rest.errors.BadRequestAlertException;
@@ -46,14 +51,18 @@ public class CustomerIdentifierResource {
 
     private final CustomerIdentifierQueryService customerIdentifierQueryService;
 
+    private final CustomerIdentifierResolutionService customerIdentifierResolutionService;
+
     public CustomerIdentifierResource(
         CustomerIdentifierService customerIdentifierService,
         CustomerIdentifierRepository customerIdentifierRepository,
-        CustomerIdentifierQueryService customerIdentifierQueryService
+        CustomerIdentifierQueryService customerIdentifierQueryService,
+        CustomerIdentifierResolutionService customerIdentifierResolutionService
     ) {
         this.customerIdentifierService = customerIdentifierService;
         this.customerIdentifierRepository = customerIdentifierRepository;
         this.customerIdentifierQueryService = customerIdentifierQueryService;
+        this.customerIdentifierResolutionService = customerIdentifierResolutionService;
     }
 
     /**
@@ -164,6 +173,36 @@ public class CustomerIdentifierResource {
         return ResponseEntity.ok().headers(headers).body(page.getContent());
     }
 
+    /**
+     * {@code GET  /customer-identifiers?fields=} : get the given fields of all the customerIdentifiers.
+     * <p>
+     * Only the requested columns are read and no entity is loaded, so grids do not pay for columns they do not show,
+     * such as {@code @Lob} ones. To-one relationships are selected as {@code <relationship>Id}.
+     *
+     * @param fields the fields to return.
+     * @param pageable the pagination information.
+     * @param criteria the criteria which the requested entities should match.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of field maps in body,
+     * or with status {@code 400 (Bad Request)} if a field cannot be selected.
+     */
+    @GetMapping(value = "", params = "fields")
+    public ResponseEntity<List<Map<String, Object>>> getAllCustomerIdentifierFields(
+        CustomerIdentifierCriteria criteria,
+        @RequestParam("fields") List<String> fields,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+    ) {
+        LOG.debug("REST request to get fields {} of CustomerIdentifiers by criteria: {}", fields, criteria);
+
+        Page<Map<String, Object>> page;
+        try {
+            page = customerIdentifierQueryService.findByCriteria(criteria, fields, pageable);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestAlertException("Invalid fields", ENTITY_NAME, "fieldsinvalid");
+        }
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
     /**
      * {@code GET  /customer-identifiers/count} : count all the customerIdentifiers.
      *
@@ -176,6 +215,24 @@ public class CustomerIdentifierResource {
         return ResponseEntity.ok().body(customerIdentifierQueryService.countByCriteria(criteria));
     }
 
+    /**
+     * {@code GET  /customer-identifiers/resolve} : resolve the customer owning an identifier on a channel.
+     *
+     * @param identifierType the type of the identifier.
+     * @param channel the channel the identifier was received on.
+     * @param value the raw identifier value.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the customer, or with status {@code 404 (Not Found)}.
+     */
+    @GetMapping("/resolve")
+    public ResponseEntity<Customer> resolveCustomer(
+        @RequestParam("identifierType") IdentifierType identifierType,
+        @RequestParam("channel") ChannelType channel,
+        @RequestParam("value") String value
+    ) {
+        LOG.debug("REST request to resolve Customer by {} on {}", identifierType, channel);
+        return ResponseUtil.wrapOrNotFound(customerIdentifierResolutionService.resolveCustomer(identifierType, channel, value));
+    }
+
     /**
      * {@code GET  /customer-identifiers/:id} : get the "id" customerIdentifier.
      *
@@ -1,10 +1,17 @@
 package zw.co.fgr.web.rest;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import org.slf4j.Logger;
@@ -12,19 +19,29 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
 import tech.jhipster.web.util.PaginationUtil;
 import tech.jhipster.web.util.ResponseUtil;
 import zw.co.fgr.domain.Customer;
+import zw.co.fgr.domain.CustomerKycStatus;
 import zw.co.fgr.repository.CustomerRepository;
+import zw.co.fgr.service.CustomerImportService;
+import zw.co.fgr.service.CustomerKycStatusService;
 import zw.co.fgr.service.CustomerQueryService;
 import zw.co.fgr.service.CustomerService;
+import zw.co.fgr.service.KeysetCursors;
 import zw.co.fgr.service.criteria.CustomerCriteria;
+import zw.co.fgr.service.dto.CustomerImportResultDTO;
 import zw.co.fgr.web.rest.errors.BadRequestAlertException;
+import zw.co.fgr.web.util.KeysetPaginationUtil;
 
 /**
  * REST controller for managing {@link zw.co.fgr.domain.Customer}.
@@ -46,14 +63,26 @@ public class CustomerResource {
 
     private final CustomerQueryService customerQueryService;
 
+    private final CustomerImportService customerImportService;
+
+    private final CustomerKycStatusService customerKycStatusService;
+
+    private final ObjectWriter importResultWriter;
+
     public CustomerResource(
         CustomerService customerService,
         CustomerRepository customerRepository,
-        CustomerQueryService customerQueryService
+        CustomerQueryService customerQueryService,
+        CustomerImportService customerImportService,
+        CustomerKycStatusService customerKycStatusService,
+        ObjectMapper objectMapper
     ) {
         this.customerService = customerService;
         this.customerRepository = customerRepository;
         this.customerQueryService = customerQueryService;
+        this.customerImportService = customerImportService;
+        this.customerKycStatusService = customerKycStatusService;
+        this.importResultWriter = objectMapper.writerFor(CustomerImportResultDTO.class);
     }
 
     /**
@@ -75,6 +104,42 @@ public class CustomerResource {
             .body(customer);
     }
 
+    /**
+     * {@code POST  /customers/import} : Bulk import customers from a CSV (with a header line) or NDJSON body.
+     * <p>
+     * The body is streamed and persisted in chunks; the response is an NDJSON stream with one result per row,
+     * written as each chunk is committed.
+     *
+     * @param contentType the content type of the body, {@code text/csv} or {@code application/x-ndjson}.
+     * @param input the body to import.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the per-row import results in body.
+     */
+    @PostMapping(value = "/import", consumes = { "text/csv", "application/x-ndjson" }, produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> importCustomers(
+        @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+        InputStream input
+    ) {
+        LOG.debug("REST request to import Customers from {}", contentType);
+        CustomerImportService.Format format = MediaType.parseMediaType("text/csv").includes(contentType)
+            ? CustomerImportService.Format.CSV
+            : CustomerImportService.Format.NDJSON;
+        StreamingResponseBody body = output ->
+            customerImportService.importCustomers(input, format, results -> writeImportResults(output, results));
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    private void writeImportResults(OutputStream output, List<CustomerImportResultDTO> results) {
+        try {
+            for (CustomerImportResultDTO result : results) {
+                output.write(importResultWriter.writeValueAsBytes(result));
+                output.write('\n');
+            }
+            output.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     /**
      * {@code PUT  /customers/:id} : Updates an existing customer.
      *
@@ -146,23 +211,74 @@ public class CustomerResource {
 
     /**
      * {@code GET  /customers} : get all the customers.
+     * <p>
+     * When a {@code cursor} parameter is given (empty for the first window) keyset pagination is used instead of
+     * offset pagination: customers are ordered by {@link CustomerQueryService#KEYSET_PROPERTIES}, no total count is computed
+     * and the continuation token of the next window is returned in the {@code X-Next-Cursor} header.
      *
      * @param pageable the pagination information.
+     * @param cursor the optional continuation token enabling keyset pagination.
      * @param criteria the criteria which the requested entities should match.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of customers in body.
      */
     @GetMapping("")
     public ResponseEntity<List<Customer>> getAllCustomers(
         CustomerCriteria criteria,
-        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable,
+        @RequestParam(value = KeysetPaginationUtil.CURSOR_PARAMETER, required = false) String cursor
     ) {
         LOG.debug("REST request to get Customers by criteria: {}", criteria);
 
+        if (cursor != null) {
+            ScrollPosition position;
+            try {
+                position = KeysetCursors.decode(cursor, CustomerQueryService.KEYSET_PROPERTIES);
+            } catch (IllegalArgumentException e) {
+                throw new BadRequestAlertException("Invalid cursor", ENTITY_NAME, "cursorinvalid");
+            }
+            Window<Customer> window = customerQueryService.findByCriteria(criteria, position, pageable.getPageSize());
+            HttpHeaders headers = KeysetPaginationUtil.generateKeysetPaginationHttpHeaders(
+                ServletUriComponentsBuilder.fromCurrentRequest(),
+                KeysetCursors.nextCursor(window)
+            );
+            return ResponseEntity.ok().headers(headers).body(window.getContent());
+        }
+
         Page<Customer> page = customerQueryService.findByCriteria(criteria, pageable);
         HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
         return ResponseEntity.ok().headers(headers).body(page.getContent());
     }
 
+    /**
+     * {@code GET  /customers?fields=} : get the given fields of all the customers.
+     * <p>
+     * Only the requested columns are read and no entity is loaded, so grids do not pay for columns they do not show,
+     * such as {@code @Lob} ones. To-one relationships are selected as {@code <relationship>Id}.
+     *
+     * @param fields the fields to return.
+     * @param pageable the pagination information.
+     * @param criteria the criteria which the requested entities should match.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of field maps in body,
+     * or with status {@code 400 (Bad Request)} if a field cannot be selected.
+     */
+    @GetMapping(value = "", params = "fields")
+    public ResponseEntity<List<Map<String, Object>>> getAllCustomerFields(
+        CustomerCriteria criteria,
+        @RequestParam("fields") List<String> fields,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+    ) {
+        LOG.debug("REST request to get fields {} of Customers by criteria: {}", fields, criteria);
+
+        Page<Map<String, Object>> page;
+        try {
+            page = customerQueryService.findByCriteria(criteria, fields, pageable);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestAlertException("Invalid fields", ENTITY_NAME, "fieldsinvalid");
+        }
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
     /**
      * {@code GET  /customers/count} : count all the customers.
      *
@@ -188,6 +304,21 @@ public class CustomerResource {
         return ResponseUtil.wrapOrNotFound(customer);
     }
 
+    /**
+     * {@code GET  /customers/:id/kyc-status} : get the KYC status of the "id" customer, from their latest case.
+     * <p>
+     * A primary key read of a single row, usually served from the second-level cache, meant to be called on every
+     * transaction of a customer.
+     *
+     * @param id the id of the customer.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the KYC status, or with status {@code 404 (Not Found)} if the customer has no case.
+     */
+    @GetMapping("/{id}/kyc-status")
+    public ResponseEntity<CustomerKycStatus> getCustomerKycStatus(@PathVariable("id") Long id) {
+        LOG.debug("REST request to get the KYC status of Customer : {}", id);
+        return ResponseUtil.wrapOrNotFound(customerKycStatusService.findOne(id));
+    }
+
     /**
      * {@code DELETE  /customers/:id} : delete the "id" customer.
      *
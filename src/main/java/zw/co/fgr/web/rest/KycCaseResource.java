@@ -5,26 +5,40 @@ import jakarta.validation.constraints.NotNull;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
 import tech.jhipster.web.util.PaginationUtil;
 import tech.jhipster.web.util.ResponseUtil;
 import zw.co.fgr.domain.KycCase;
+import zw.co.fgr.domain.enumeration.KycStatus;
 import zw.co.fgr.repository.KycCaseRepository;
+import zw.co.fgr.service.KeysetCursors;
 import zw.co.fgr.service.KycCaseQueryService;
 import zw.co.fgr.service.KycCaseService;
+import zw.co.fgr.service.KycCaseStreamService;
 import zw.co.fgr.service.criteria.KycCaseCriteria;
+import zw.co.fgr.service.dto.KycCaseFullDTO;
+import zw.co.fgr.service.dto.KycCaseTransitionRequestDTO;
+import zw.co.fgr.service.dto.KycCaseTransitionResultDTO;
 import zw.co.fgr.web.rest.errors.BadRequestAlertException;
+import zw.co.fgr.web.util.KeysetPaginationUtil;
 
 /**
  * REST controller for managing {@link zw.co.fgr.domain.KycCase}.
@@ -46,10 +60,18 @@ public class KycCaseResource {
 
     private final KycCaseQueryService kycCaseQueryService;
 
-    public KycCaseResource(KycCaseService kycCaseService, KycCaseRepository kycCaseRepository, KycCaseQueryService kycCaseQueryService) {
+    private final KycCaseStreamService kycCaseStreamService;
+
+    public KycCaseResource(
+        KycCaseService kycCaseService,
+        KycCaseRepository kycCaseRepository,
+        KycCaseQueryService kycCaseQueryService,
+        KycCaseStreamService kycCaseStreamService
+    ) {
         this.kycCaseService = kycCaseService;
         this.kycCaseRepository = kycCaseRepository;
         this.kycCaseQueryService = kycCaseQueryService;
+        this.kycCaseStreamService = kycCaseStreamService;
     }
 
     /**
@@ -140,25 +162,92 @@ public class KycCaseResource {
         );
     }
 
+    /**
+     * {@code POST  /kyc-cases/transitions} : Move several kycCases to a review status at once.
+     *
+     * @param request the ids of the kycCases, the status to move them to and the reason.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the outcome for each kycCase,
+     * or with status {@code 400 (Bad Request)} if the request is not valid or the status cannot be set by a review.
+     */
+    @PostMapping("/transitions")
+    public ResponseEntity<List<KycCaseTransitionResultDTO>> transitionKycCases(@Valid @RequestBody KycCaseTransitionRequestDTO request) {
+        LOG.debug("REST request to transition KycCases : {}", request);
+        if (!KycCaseService.REVIEW_TRANSITIONS.containsKey(request.getStatus())) {
+            throw new BadRequestAlertException("Cases cannot be moved to this status by a review", ENTITY_NAME, "invalidtransition");
+        }
+        return ResponseEntity.ok(kycCaseService.transitionStatus(request.getIds(), request.getStatus(), request.getReason()));
+    }
+
     /**
      * {@code GET  /kyc-cases} : get all the kycCases.
+     * <p>
+     * When a {@code cursor} parameter is given (empty for the first window) keyset pagination is used instead of
+     * offset pagination: kycCases are ordered by {@link KycCaseQueryService#KEYSET_PROPERTIES}, no total count is computed
+     * and the continuation token of the next window is returned in the {@code X-Next-Cursor} header.
      *
      * @param pageable the pagination information.
+     * @param cursor the optional continuation token enabling keyset pagination.
      * @param criteria the criteria which the requested entities should match.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of kycCases in body.
      */
     @GetMapping("")
     public ResponseEntity<List<KycCase>> getAllKycCases(
         KycCaseCriteria criteria,
-        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable,
+        @RequestParam(value = KeysetPaginationUtil.CURSOR_PARAMETER, required = false) String cursor
     ) {
         LOG.debug("REST request to get KycCases by criteria: {}", criteria);
 
+        if (cursor != null) {
+            ScrollPosition position;
+            try {
+                position = KeysetCursors.decode(cursor, KycCaseQueryService.KEYSET_PROPERTIES);
+            } catch (IllegalArgumentException e) {
+                throw new BadRequestAlertException("Invalid cursor", ENTITY_NAME, "cursorinvalid");
+            }
+            Window<KycCase> window = kycCaseQueryService.findByCriteria(criteria, position, pageable.getPageSize());
+            HttpHeaders headers = KeysetPaginationUtil.generateKeysetPaginationHttpHeaders(
+                ServletUriComponentsBuilder.fromCurrentRequest(),
+                KeysetCursors.nextCursor(window)
+            );
+            return ResponseEntity.ok().headers(headers).body(window.getContent());
+        }
+
         Page<KycCase> page = kycCaseQueryService.findByCriteria(criteria, pageable);
         HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
         return ResponseEntity.ok().headers(headers).body(page.getContent());
     }
 
+    /**
+     * {@code GET  /kyc-cases?fields=} : get the given fields of all the kycCases.
+     * <p>
+     * Only the requested columns are read and no entity is loaded, so grids do not pay for columns they do not show,
+     * such as {@code @Lob} ones. To-one relationships are selected as {@code <relationship>Id}.
+     *
+     * @param fields the fields to return.
+     * @param pageable the pagination information.
+     * @param criteria the criteria which the requested entities should match.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of field maps in body,
+     * or with status {@code 400 (Bad Request)} if a field cannot be selected.
+     */
+    @GetMapping(value = "", params = "fields")
+    public ResponseEntity<List<Map<String, Object>>> getAllKycCaseFields(
+        KycCaseCriteria criteria,
+        @RequestParam("fields") List<String> fields,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+    ) {
+        LOG.debug("REST request to get fields {} of KycCases by criteria: {}", fields, criteria);
+
+        Page<Map<String, Object>> page;
+        try {
+            page = kycCaseQueryService.findByCriteria(criteria, fields, pageable);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestAlertException("Invalid fields", ENTITY_NAME, "fieldsinvalid");
+        }
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
     /**
      * {@code GET  /kyc-cases/count} : count all the kycCases.
      *
@@ -171,6 +260,26 @@ public class KycCaseResource {
         return ResponseEntity.ok().body(kycCaseQueryService.countByCriteria(criteria));
     }
 
+    /**
+     * {@code GET  /kyc-cases/stream} : stream the status changes of the kycCases as Server-Sent Events, instead of polling
+     * them. Every filter given must match; following the kycCases of every customer requires an admin.
+     *
+     * @param kycCaseId the id of the kycCase to follow.
+     * @param customerId the id of the customer whose kycCases to follow.
+     * @param statuses the statuses to follow changes to.
+     * @return the {@code text/event-stream} of {@value KycCaseStreamService#EVENT_NAME} events.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasAnyAuthority('ROLE_ADMIN') or #kycCaseId != null or #customerId != null")
+    public SseEmitter streamKycCaseStatusChanges(
+        @RequestParam(name = "kycCaseId", required = false) Long kycCaseId,
+        @RequestParam(name = "customerId", required = false) Long customerId,
+        @RequestParam(name = "status", required = false) Set<KycStatus> statuses
+    ) {
+        LOG.debug("REST request to stream KycCase status changes : {}, {}, {}", kycCaseId, customerId, statuses);
+        return kycCaseStreamService.subscribe(kycCaseId, customerId, statuses);
+    }
+
     /**
      * {@code GET  /kyc-cases/:id} : get the "id" kycCase.
      *
@@ -184,6 +293,19 @@ public class KycCaseResource {
         return ResponseUtil.wrapOrNotFound(kycCase);
     }
 
+    /**
+     * {@code GET  /kyc-cases/:id/full} : get the "id" kycCase with its customer, consent, submission, documents and notifications.
+     *
+     * @param id the id of the kycCase to retrieve.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the kycCase aggregate, or with status {@code 404 (Not Found)}.
+     */
+    @GetMapping("/{id}/full")
+    public ResponseEntity<KycCaseFullDTO> getFullKycCase(@PathVariable("id") Long id) {
+        LOG.debug("REST request to get full KycCase : {}", id);
+        Optional<KycCaseFullDTO> kycCase = kycCaseService.findFull(id);
+        return ResponseUtil.wrapOrNotFound(kycCase);
+    }
+
     /**
      * {@code DELETE  /kyc-cases/:id} : delete the "id" kycCase.
      *
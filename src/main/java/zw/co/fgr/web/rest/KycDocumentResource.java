@@ -1,9 +1,16 @@
 package zw.co.fgr.web.rest;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Instant;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -12,17 +19,28 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
 import tech.jhipster.web.util.PaginationUtil;
 import tech.jhipster.web.util.ResponseUtil;
 import zw.co.fgr.domain.KycDocument;
+import zw.co.fgr.domain.enumeration.DocumentType;
+import zw.co.fgr.repository.KycCaseRepository;
 import zw.co.fgr.repository.KycDocumentRepository;
 import zw.co.fgr.service.KycDocumentService;
 import zw.co.fgr.web.rest.errors.BadRequestAlertException;
+import zw.co.fgr.web.util.FileContentResponseUtil;
 
 /**
  * REST controller for managing {@link zw.co.fgr.domain.KycDocument}.
@@ -42,9 +60,16 @@ public class KycDocumentResource {
 
     private final KycDocumentRepository kycDocumentRepository;
 
-    public KycDocumentResource(KycDocumentService kycDocumentService, KycDocumentRepository kycDocumentRepository) {
+    private final KycCaseRepository kycCaseRepository;
+
+    public KycDocumentResource(
+        KycDocumentService kycDocumentService,
+        KycDocumentRepository kycDocumentRepository,
+        KycCaseRepository kycCaseRepository
+    ) {
         this.kycDocumentService = kycDocumentService;
         this.kycDocumentRepository = kycDocumentRepository;
+        this.kycCaseRepository = kycCaseRepository;
     }
 
     /**
@@ -66,6 +91,45 @@ public class KycDocumentResource {
             .body(kycDocument);
     }
 
+    /**
+     * {@code POST  /kyc-documents/upload} : Upload the contents of a new kycDocument.
+     * <p>
+     * The contents are streamed to the document storage and addressed by their SHA-256 digest, which is returned as
+     * the {@code checksum}; identical contents are stored once.
+     *
+     * @param file the contents of the kycDocument.
+     * @param documentType the type of the kycDocument.
+     * @param kycCaseId the id of the kycCase the kycDocument belongs to.
+     * @param expiresAt when the kycDocument expires; defaults to the configured retention.
+     * @return the {@link ResponseEntity} with status {@code 201 (Created)} and with body the new kycDocument, or with status {@code 400 (Bad Request)} if the kycCase does not exist.
+     * @throws URISyntaxException if the Location URI syntax is incorrect.
+     * @throws IOException if the contents cannot be stored.
+     */
+    @PostMapping(value = "/upload", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<KycDocument> uploadKycDocument(
+        @RequestParam("file") MultipartFile file,
+        @RequestParam("documentType") DocumentType documentType,
+        @RequestParam("kycCaseId") Long kycCaseId,
+        @RequestParam(value = "expiresAt", required = false) Instant expiresAt
+    ) throws URISyntaxException, IOException {
+        LOG.debug("REST request to upload KycDocument : {}, {}, {}", file.getOriginalFilename(), documentType, kycCaseId);
+        if (!kycCaseRepository.existsById(kycCaseId)) {
+            throw new BadRequestAlertException("KycCase not found", ENTITY_NAME, "kyccasenotfound");
+        }
+        KycDocument kycDocument = new KycDocument()
+            .documentType(documentType)
+            .fileName(Objects.requireNonNullElse(file.getOriginalFilename(), file.getName()))
+            .mimeType(Objects.requireNonNullElse(file.getContentType(), MediaType.APPLICATION_OCTET_STREAM_VALUE))
+            .expiresAt(expiresAt)
+            .kycCase(kycCaseRepository.getReferenceById(kycCaseId));
+        try (InputStream content = file.getInputStream()) {
+            kycDocument = kycDocumentService.upload(kycDocument, content);
+        }
+        return ResponseEntity.created(new URI("/api/kyc-documents/" + kycDocument.getId()))
+            .headers(HeaderUtil.createEntityCreationAlert(applicationName, true, ENTITY_NAME, kycDocument.getId().toString()))
+            .body(kycDocument);
+    }
+
     /**
      * {@code PUT  /kyc-documents/:id} : Updates an existing kycDocument.
      *
@@ -162,6 +226,48 @@ public class KycDocumentResource {
         return ResponseUtil.wrapOrNotFound(kycDocument);
     }
 
+    /**
+     * {@code GET  /kyc-documents/:id/content} : get the contents of the "id" kycDocument.
+     * <p>
+     * The contents are sent straight from the document storage, with single byte range support. The {@code checksum}
+     * is the {@code ETag}, so a matching {@code If-None-Match} is answered with {@code 304 (Not Modified)} and no body.
+     *
+     * @param id the id of the kycDocument whose contents to retrieve.
+     * @param request the current request.
+     * @param response the current response.
+     * @throws IOException if the contents cannot be read.
+     */
+    @GetMapping("/{id}/content")
+    public void getKycDocumentContent(@PathVariable("id") Long id, HttpServletRequest request, HttpServletResponse response)
+        throws IOException {
+        LOG.debug("REST request to get KycDocument content : {}", id);
+        KycDocument kycDocument = kycDocumentService.findOne(id).orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+        Path content = kycDocumentService
+            .findContent(kycDocument)
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+
+        String etag = kycDocument.getChecksum() == null ? null : "\"" + kycDocument.getChecksum() + "\"";
+        if (etag != null && new ServletWebRequest(request, response).checkNotModified(etag)) {
+            return;
+        }
+        // Always revalidated, so that a deleted document is no longer served; unchanged contents cost a 304.
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().cachePrivate().getHeaderValue());
+        response.setContentType(contentType(kycDocument));
+        response.setHeader(
+            HttpHeaders.CONTENT_DISPOSITION,
+            ContentDisposition.inline().filename(kycDocument.getFileName(), StandardCharsets.UTF_8).build().toString()
+        );
+        FileContentResponseUtil.writeContent(request, response, content, etag);
+    }
+
+    private static String contentType(KycDocument kycDocument) {
+        try {
+            return MediaType.parseMediaType(kycDocument.getMimeType()).toString();
+        } catch (InvalidMediaTypeException e) {
+            return MediaType.APPLICATION_OCTET_STREAM_VALUE;
+        }
+    }
+
     /**
      * {@code DELETE  /kyc-documents/:id} : delete the "id" kycDocument.
      *
@@ -0,0 +1,73 @@
+package zw.co.fgr.web.rest;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import zw.co.fgr.service.dto.KycFunnelStageDTO;
+import zw.co.fgr.service.funnel.KycFunnelAggregator;
+import zw.co.fgr.service.funnel.KycFunnelService;
+import zw.co.fgr.web.rest.errors.BadRequestAlertException;
+
+/**
+ * REST controller for the KYC funnel metrics.
+ */
+@RestController
+@RequestMapping("/api/kyc-funnel")
+public class KycFunnelResource {
+
+    private static final Logger LOG = LoggerFactory.getLogger(KycFunnelResource.class);
+
+    private static final String ENTITY_NAME = "kycFunnel";
+
+    private static final Duration DEFAULT_PERIOD = Duration.ofHours(24);
+
+    private final KycFunnelService kycFunnelService;
+
+    private final KycFunnelAggregator kycFunnelAggregator;
+
+    public KycFunnelResource(KycFunnelService kycFunnelService, KycFunnelAggregator kycFunnelAggregator) {
+        this.kycFunnelService = kycFunnelService;
+        this.kycFunnelAggregator = kycFunnelAggregator;
+    }
+
+    /**
+     * {@code GET  /kyc-funnel} : get the KYC funnel of every channel over a period, in whole hours.
+     *
+     * @param from the start of the period, 24 hours before its end by default.
+     * @param to the end of the period, now by default.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the stages of the funnel in body, or with status {@code 400 (Bad Request)} if the period is empty.
+     */
+    @GetMapping("")
+    public ResponseEntity<List<KycFunnelStageDTO>> getKycFunnel(
+        @RequestParam(name = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+        @RequestParam(name = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to
+    ) {
+        LOG.debug("REST request to get the KYC funnel from {} to {}", from, to);
+        Instant end = to != null ? to : Instant.now();
+        Instant start = from != null ? from : end.minus(DEFAULT_PERIOD);
+        if (!start.isBefore(end)) {
+            throw new BadRequestAlertException("The period must start before it ends", ENTITY_NAME, "periodempty");
+        }
+        return ResponseEntity.ok(kycFunnelService.report(start, end));
+    }
+
+    /**
+     * {@code POST  /kyc-funnel/rebuild} : rebuild the KYC funnel from the whole history of the cases, over the
+     * following aggregation runs.
+     *
+     * @return the {@link ResponseEntity} with status {@code 202 (Accepted)}.
+     */
+    @PostMapping("/rebuild")
+    @PreAuthorize("hasAnyAuthority('ROLE_ADMIN')")
+    public ResponseEntity<Void> rebuildKycFunnel() {
+        LOG.debug("REST request to rebuild the KYC funnel");
+        kycFunnelAggregator.rebuild();
+        return ResponseEntity.accepted().build();
+    }
+}
@@ -0,0 +1,116 @@
+package zw.co.fgr.web.util;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Utility class for sending files, with single byte range support.
+ * <p>
+ * When the servlet container supports it, the file is handed over to the container with the Tomcat
+ * {@code org.apache.tomcat.sendfile.*} request attributes and sent with {@code sendfile}; otherwise it is copied with
+ * {@link FileChannel#transferTo}. Either way, the contents never transit the JVM heap as a whole.
+ */
+public final class FileContentResponseUtil {
+
+    static final String SENDFILE_SUPPORTED_ATTRIBUTE = "org.apache.tomcat.sendfile.support";
+
+    static final String SENDFILE_FILENAME_ATTRIBUTE = "org.apache.tomcat.sendfile.filename";
+
+    static final String SENDFILE_START_ATTRIBUTE = "org.apache.tomcat.sendfile.start";
+
+    static final String SENDFILE_END_ATTRIBUTE = "org.apache.tomcat.sendfile.end";
+
+    private FileContentResponseUtil() {}
+
+    /**
+     * Write a file, or the byte range of it requested by a {@code Range} header, to the response.
+     * <p>
+     * A single satisfiable range is answered with {@code 206 (Partial Content)}, an unsatisfiable one with
+     * {@code 416 (Range Not Satisfiable)}; several ranges, a malformed header or an {@code If-Range} that does not
+     * match {@code etag} are ignored and the whole file is sent. Headers other than the ones describing the body must
+     * be set beforehand.
+     *
+     * @param request the current request.
+     * @param response the current response.
+     * @param file the file to send.
+     * @param etag the entity tag of the file, compared with {@code If-Range}; may be {@code null}.
+     * @throws IOException if the file cannot be read or the response written.
+     */
+    public static void writeContent(HttpServletRequest request, HttpServletResponse response, Path file, String etag) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long length = channel.size();
+            long start = 0;
+            long end = length - 1;
+            response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+            HttpRange range = requestedRange(request, etag);
+            if (range != null) {
+                if (length == 0 || !isSatisfiable(range, length)) {
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                    response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                    return;
+                }
+                start = range.getRangeStart(length);
+                end = range.getRangeEnd(length);
+                response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+            response.setContentLengthLong(end - start + 1);
+            if (HttpMethod.HEAD.matches(request.getMethod()) || length == 0) {
+                return;
+            }
+
+            if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED_ATTRIBUTE))) {
+                request.setAttribute(SENDFILE_FILENAME_ATTRIBUTE, file.toAbsolutePath().toString());
+                request.setAttribute(SENDFILE_START_ATTRIBUTE, start);
+                request.setAttribute(SENDFILE_END_ATTRIBUTE, end + 1);
+                return;
+            }
+            WritableByteChannel target = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            while (position <= end) {
+                long transferred = channel.transferTo(position, end + 1 - position, target);
+                if (transferred <= 0) {
+                    throw new IOException("File " + file + " was truncated while being sent");
+                }
+                position += transferred;
+            }
+        }
+    }
+
+    private static HttpRange requestedRange(HttpServletRequest request, String etag) {
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader == null) {
+            return null;
+        }
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !ifRange.equals(etag)) {
+            return null;
+        }
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+            return ranges.size() == 1 ? ranges.get(0) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static boolean isSatisfiable(HttpRange range, long length) {
+        try {
+            return range.getRangeStart(length) <= range.getRangeEnd(length);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
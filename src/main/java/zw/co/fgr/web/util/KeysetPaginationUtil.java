@@ -0,0 +1,36 @@
+package zw.co.fgr.web.util;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Utility class for handling keyset (cursor) pagination.
+ * <p>
+ * The counterpart of {@link tech.jhipster.web.util.PaginationUtil} for cursor based listings: it exposes the
+ * continuation token in an {@code X-Next-Cursor} header and a {@code rel="next"} link, and never a total count.
+ */
+public final class KeysetPaginationUtil {
+
+    public static final String HEADER_X_NEXT_CURSOR = "X-Next-Cursor";
+
+    public static final String CURSOR_PARAMETER = "cursor";
+
+    private KeysetPaginationUtil() {}
+
+    /**
+     * Generate pagination headers for a keyset window.
+     *
+     * @param uriBuilder the builder of the current request URI.
+     * @param nextCursor the continuation token, or {@code null} if this is the last window.
+     * @return http header.
+     */
+    public static HttpHeaders generateKeysetPaginationHttpHeaders(UriComponentsBuilder uriBuilder, String nextCursor) {
+        HttpHeaders headers = new HttpHeaders();
+        if (nextCursor != null) {
+            headers.add(HEADER_X_NEXT_CURSOR, nextCursor);
+            String next = uriBuilder.replaceQueryParam(CURSOR_PARAMETER, nextCursor).replaceQueryParam("page").toUriString();
+            headers.add(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+        }
+        return headers;
+    }
+}
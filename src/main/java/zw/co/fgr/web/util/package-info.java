@@ -0,0 +1,4 @@
+/**
+ * Web utilities.
+ */
+package zw.co.fgr.web.util;
@@ -0,0 +1,103 @@
+package zw.co.fgr.aop.timing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TimingAspectTest {
+
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void recordsEveryCallPerClassAndMethod() throws Throwable {
+        TimingAspect aspect = new TimingAspect(meterRegistry, 1, Duration.ofSeconds(1));
+        ProceedingJoinPoint joinPoint = joinPoint(new TestService(), TestService.class.getMethod("find"));
+        when(joinPoint.proceed()).thenReturn("result");
+
+        assertThat(aspect.time(joinPoint)).isEqualTo("result");
+        assertThat(aspect.time(joinPoint)).isEqualTo("result");
+
+        assertThat(
+            meterRegistry
+                .get(TimingAspect.METER_NAME)
+                .tag("class", "TestService")
+                .tag("method", "find")
+                .tag("exception", "none")
+                .timer()
+                .count()
+        ).isEqualTo(2);
+    }
+
+    @Test
+    void tagsFailuresWithTheExceptionType() throws Throwable {
+        TimingAspect aspect = new TimingAspect(meterRegistry, 1, Duration.ofSeconds(1));
+        ProceedingJoinPoint joinPoint = joinPoint(new TestService(), TestService.class.getMethod("find"));
+        when(joinPoint.proceed()).thenThrow(new IllegalStateException("boom"));
+
+        assertThatThrownBy(() -> aspect.time(joinPoint)).isInstanceOf(IllegalStateException.class);
+
+        assertThat(meterRegistry.get(TimingAspect.METER_NAME).tag("exception", "IllegalStateException").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void recordsNothingWhenNotSampled() throws Throwable {
+        TimingAspect aspect = new TimingAspect(meterRegistry, 0, Duration.ZERO);
+        ProceedingJoinPoint joinPoint = joinPoint(new TestService(), TestService.class.getMethod("find"));
+        when(joinPoint.proceed()).thenReturn("result");
+
+        assertThat(aspect.time(joinPoint)).isEqualTo("result");
+
+        assertThat(meterRegistry.find(TimingAspect.METER_NAME).timer()).isNull();
+    }
+
+    @Test
+    void namesJdkProxiesAfterTheirApplicationInterface() throws Throwable {
+        TimingAspect aspect = new TimingAspect(meterRegistry, 1, Duration.ZERO);
+        Class<?>[] interfaces = { TestRepository.class };
+        Object repository = Proxy.newProxyInstance(getClass().getClassLoader(), interfaces, (proxy, method, args) -> null);
+        ProceedingJoinPoint joinPoint = joinPoint(repository, TestRepository.class.getMethod("findById"));
+
+        aspect.time(joinPoint);
+
+        assertThat(
+            meterRegistry.get(TimingAspect.METER_NAME).tag("class", "TestRepository").tag("method", "findById").timer().count()
+        ).isEqualTo(1);
+    }
+
+    private static ProceedingJoinPoint joinPoint(Object target, Method method) {
+        MethodSignature signature = mock(MethodSignature.class);
+        when(signature.getMethod()).thenReturn(method);
+        when(signature.getName()).thenReturn(method.getName());
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(joinPoint.getThis()).thenReturn(target);
+        return joinPoint;
+    }
+
+    static class TestService {
+
+        public String find() {
+            return "result";
+        }
+    }
+
+    interface TestRepository {
+        Object findById();
+    }
+}
@@ -0,0 +1,98 @@
+package zw.co.fgr.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.net.URI;
+import java.time.Duration;
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import org.ehcache.config.CacheRuntimeConfiguration;
+import org.ehcache.config.ResourceType;
+import org.ehcache.core.config.DefaultConfiguration;
+import org.ehcache.jsr107.Eh107Configuration;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tech.jhipster.config.JHipsterProperties;
+import zw.co.fgr.domain.Customer;
+
+class CacheConfigurationTest {
+
+    private final JHipsterProperties jHipsterProperties = new JHipsterProperties();
+
+    private final ApplicationProperties applicationProperties = new ApplicationProperties();
+
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void setup() {
+        jHipsterProperties.getCache().getEhcache().setMaxEntries(100);
+        EhcacheCachingProvider provider = (EhcacheCachingProvider) Caching.getCachingProvider(EhcacheCachingProvider.class.getName());
+        cacheManager = provider.getCacheManager(URI.create("urn:test:cache"), new DefaultConfiguration(getClass().getClassLoader()));
+    }
+
+    @AfterEach
+    void cleanup() {
+        cacheManager.close();
+    }
+
+    @Test
+    void fallsBackToTheJHipsterDefaults() {
+        Cache<Object, Object> cache = create("zw.co.fgr.domain.Authority");
+
+        CacheRuntimeConfiguration<?, ?> configuration = runtimeConfiguration(cache);
+        assertThat(configuration.getResourcePools().getResourceTypeSet()).containsExactly(ResourceType.Core.HEAP);
+        assertThat(configuration.getResourcePools().getPoolForResource(ResourceType.Core.HEAP).getSize()).isEqualTo(100);
+    }
+
+    @Test
+    void sizesRegionsWithAnOffHeapTier() {
+        ApplicationProperties.Cache.Region region = new ApplicationProperties.Cache.Region();
+        region.setHeapEntries(10L);
+        region.setOffHeapMb(1L);
+        region.setTimeToIdle(Duration.ofMinutes(5));
+        applicationProperties.getCache().getRegions().put("Customer", region);
+        Cache<Object, Object> cache = create(Customer.class.getName());
+
+        CacheRuntimeConfiguration<?, ?> configuration = runtimeConfiguration(cache);
+        assertThat(configuration.getResourcePools().getPoolForResource(ResourceType.Core.HEAP).getSize()).isEqualTo(10);
+        assertThat(configuration.getResourcePools().getResourceTypeSet()).contains(ResourceType.Core.OFFHEAP);
+        for (long id = 0; id < 50; id++) {
+            cache.put(id, new Customer().id(id).customerRef("C-" + id));
+        }
+        assertThat(((Customer) cache.get(0L)).getCustomerRef()).isEqualTo("C-0");
+    }
+
+    @Test
+    void keysRegionsOfCollectionsByTheirRole() {
+        ApplicationProperties.Cache.Region region = new ApplicationProperties.Cache.Region();
+        region.setHeapEntries(7L);
+        applicationProperties.getCache().getRegions().put("Customer.kycCases", region);
+
+        Cache<Object, Object> cache = create(Customer.class.getName() + ".kycCases");
+
+        assertThat(runtimeConfiguration(cache).getResourcePools().getPoolForResource(ResourceType.Core.HEAP).getSize()).isEqualTo(7);
+    }
+
+    @Test
+    void rejectsADiskTierWithoutDirectory() {
+        ApplicationProperties.Cache.Region region = new ApplicationProperties.Cache.Region();
+        region.setDiskMb(10L);
+        applicationProperties.getCache().getRegions().put("Customer", region);
+
+        assertThatThrownBy(() -> create(Customer.class.getName())).isInstanceOf(IllegalStateException.class);
+    }
+
+    private Cache<Object, Object> create(String cacheName) {
+        CacheConfiguration cacheConfiguration = new CacheConfiguration(jHipsterProperties, applicationProperties);
+        return cacheManager.createCache(cacheName, cacheConfiguration.regionConfiguration(cacheName));
+    }
+
+    private static CacheRuntimeConfiguration<?, ?> runtimeConfiguration(Cache<Object, Object> cache) {
+        Eh107Configuration<?, ?> configuration = cache.getConfiguration(Eh107Configuration.class);
+        return configuration.unwrap(CacheRuntimeConfiguration.class);
+    }
+}
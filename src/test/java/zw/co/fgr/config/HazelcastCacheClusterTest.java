@@ -0,0 +1,109 @@
+package zw.co.fgr.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hazelcast.config.CacheConfig;
+import com.hazelcast.config.Config;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import java.util.List;
+import java.util.UUID;
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import tech.jhipster.config.JHipsterProperties;
+import zw.co.fgr.domain.KycCase;
+import zw.co.fgr.domain.enumeration.KycStatus;
+
+class HazelcastCacheClusterTest {
+
+    private static final String REGION = KycCase.class.getName();
+
+    private static final ApplicationProperties applicationProperties = new ApplicationProperties();
+
+    private static HazelcastInstance first;
+
+    private static HazelcastInstance second;
+
+    private static CacheManager firstCacheManager;
+
+    private static CacheManager secondCacheManager;
+
+    @BeforeAll
+    static void startCluster() {
+        ApplicationProperties.Cache cache = applicationProperties.getCache();
+        cache.setProvider(ApplicationProperties.Cache.Provider.HAZELCAST);
+        cache.getHazelcast().setClusterName("test-" + UUID.randomUUID());
+        cache.getHazelcast().setPort(15701);
+        cache.getHazelcast().setMembers(List.of("127.0.0.1:15701", "127.0.0.1:15702"));
+        ApplicationProperties.Cache.Region region = new ApplicationProperties.Cache.Region();
+        region.setHeapEntries(500L);
+        cache.getRegions().put("KycCase", region);
+        first = Hazelcast.newHazelcastInstance(member());
+        second = Hazelcast.newHazelcastInstance(member());
+        firstCacheManager = CacheConfiguration.hazelcastCacheManager(first);
+        secondCacheManager = CacheConfiguration.hazelcastCacheManager(second);
+        cacheConfiguration().cacheManagerCustomizer().customize(firstCacheManager);
+        cacheConfiguration().cacheManagerCustomizer().customize(secondCacheManager);
+    }
+
+    @AfterAll
+    static void stopCluster() {
+        firstCacheManager.close();
+        secondCacheManager.close();
+        second.shutdown();
+        first.shutdown();
+    }
+
+    @Test
+    void formsOneCluster() {
+        assertThat(first.getCluster().getMembers()).hasSize(2);
+        assertThat(firstCacheManager).isNotSameAs(secondCacheManager);
+    }
+
+    @Test
+    void sharesWritesBetweenMembers() {
+        Cache<Object, Object> onFirst = firstCacheManager.getCache(REGION);
+        Cache<Object, Object> onSecond = secondCacheManager.getCache(REGION);
+
+        onFirst.put(1L, new KycCase().id(1L).kycRef("KYC-1").status(KycStatus.SUBMITTED));
+        assertThat(((KycCase) onSecond.get(1L)).getStatus()).isEqualTo(KycStatus.SUBMITTED);
+
+        onSecond.put(1L, new KycCase().id(1L).kycRef("KYC-1").status(KycStatus.APPROVED));
+        assertThat(((KycCase) onFirst.get(1L)).getStatus()).isEqualTo(KycStatus.APPROVED);
+
+        onSecond.remove(1L);
+        assertThat(onFirst.get(1L)).isNull();
+    }
+
+    @Test
+    void keepsSharedEntriesWhenAMemberCreatesItsCaches() {
+        firstCacheManager.getCache(REGION).put(2L, new KycCase().id(2L).kycRef("KYC-2"));
+
+        cacheConfiguration().cacheManagerCustomizer().customize(secondCacheManager);
+
+        assertThat(secondCacheManager.getCache(REGION).get(2L)).isNotNull();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void sizesRegionsPerMember() {
+        CacheConfig<Object, Object> configuration = firstCacheManager.getCache(REGION).getConfiguration(CacheConfig.class);
+
+        assertThat(configuration.getEvictionConfig().getSize()).isEqualTo(500);
+        assertThat(configuration.getBackupCount()).isEqualTo(1);
+    }
+
+    private static CacheConfiguration cacheConfiguration() {
+        return new CacheConfiguration(new JHipsterProperties(), applicationProperties);
+    }
+
+    private static Config member() {
+        Config config = CacheConfiguration.hazelcastConfig(applicationProperties.getCache().getHazelcast());
+        config.getNetworkConfig().getInterfaces().setEnabled(true).addInterface("127.0.0.1");
+        config.setProperty("hazelcast.logging.type", "none");
+        return config;
+    }
+}
@@ -0,0 +1,40 @@
+package zw.co.fgr.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.system.JavaVersion;
+import org.springframework.mock.env.MockEnvironment;
+
+class ThreadingConfigurationTest {
+
+    @Test
+    void usesPlatformThreadsByDefault() {
+        assertThat(ThreadingConfiguration.threading(new MockEnvironment())).isEqualTo("platform");
+    }
+
+    @Test
+    void usesVirtualThreadsWhenEnabledOnJava21() {
+        MockEnvironment environment = new MockEnvironment().withProperty("spring.threads.virtual.enabled", "true");
+
+        assertThat(ThreadingConfiguration.threading(environment)).isEqualTo(
+            JavaVersion.getJavaVersion().isEqualOrNewerThan(JavaVersion.TWENTY_ONE) ? "virtual" : "platform"
+        );
+    }
+
+    @Test
+    void tagsOnlyExecutorAndSchedulerMeters() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        registry.config().meterFilter(ThreadingConfiguration.threadingMeterFilter("virtual"));
+
+        registry.counter("executor.completed", "name", "taskExecutor");
+        registry.counter("tasks.scheduled.execution", "code.function", "sweep");
+        registry.counter("http.server.requests");
+
+        assertThat(registry.get("executor.completed").counter().getId().getTag("threading")).isEqualTo("virtual");
+        assertThat(registry.get("tasks.scheduled.execution").counter().getId().getTag("threading")).isEqualTo("virtual");
+        assertThat(registry.get("http.server.requests").counter().getId().getTag("threading")).isNull();
+    }
+}
@@ -0,0 +1,26 @@
+package zw.co.fgr.domain.enumeration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class IdentifierTypeTest {
+
+    @Test
+    void normalizePhoneNumberKeepsDigitsOnly() {
+        assertThat(IdentifierType.PHONE_NUMBER.normalize("+263 (77) 123-4567")).isEqualTo("263771234567");
+        assertThat(IdentifierType.PHONE_NUMBER.normalize("263771234567")).isEqualTo("263771234567");
+    }
+
+    @Test
+    void normalizeEmailAndUsernameIsCaseInsensitive() {
+        assertThat(IdentifierType.EMAIL.normalize(" Miner@Example.COM ")).isEqualTo("miner@example.com");
+        assertThat(IdentifierType.USERNAME.normalize("GoldAgent")).isEqualTo("goldagent");
+    }
+
+    @Test
+    void normalizeDocumentNumberRemovesSeparators() {
+        assertThat(IdentifierType.NATIONAL_ID.normalize("63-123456 a42")).isEqualTo("63123456A42");
+        assertThat(IdentifierType.PASSPORT.normalize("fn 123456")).isEqualTo("FN123456");
+    }
+}
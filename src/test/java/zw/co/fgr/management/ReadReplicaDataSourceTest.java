@@ -0,0 +1,115 @@
+package zw.co.fgr.management;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import zw.co.fgr.config.ApplicationProperties;
+
+class ReadReplicaDataSourceTest {
+
+    private final ApplicationProperties.ReadReplicas properties = new ApplicationProperties.ReadReplicas();
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final DataSource primary = dataSource(null);
+
+    @Test
+    void usesThePrimaryUntilTheReplicasAreChecked() throws SQLException {
+        ReadReplicaDataSource dataSource = readReplicaDataSource(dataSource(0L));
+
+        assertThat(dataSource.getConnection()).isSameAs(primary.getConnection());
+        assertThat(dataSource.health().getStatus()).isEqualTo(ReadReplicaDataSource.DEGRADED);
+    }
+
+    @Test
+    void spreadsReadsOverTheReplicasInRotation() throws SQLException {
+        DataSource first = dataSource(0L);
+        DataSource second = dataSource(2L);
+        ReadReplicaDataSource dataSource = readReplicaDataSource(first, second);
+
+        dataSource.checkLag();
+
+        assertThat(dataSource.getConnection()).isSameAs(first.getConnection());
+        assertThat(dataSource.getConnection()).isSameAs(second.getConnection());
+        assertThat(dataSource.getConnection()).isSameAs(first.getConnection());
+        assertThat(dataSource.health().getStatus()).isEqualTo(Status.UP);
+        assertThat(meterRegistry.get(ReadReplicaDataSource.LAG_METER_NAME).tag("replica", "replica-2").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    void takesLaggingReplicasOutOfRotation() throws SQLException {
+        DataSource lagging = dataSource(30L);
+        DataSource current = dataSource(1L);
+        ReadReplicaDataSource dataSource = readReplicaDataSource(lagging, current);
+
+        dataSource.checkLag();
+
+        assertThat(dataSource.getConnection()).isSameAs(current.getConnection());
+        assertThat(dataSource.getConnection()).isSameAs(current.getConnection());
+        Health health = dataSource.health();
+        assertThat(health.getStatus()).isEqualTo(ReadReplicaDataSource.DEGRADED);
+        assertThat(health.getDetails()).containsKey("replica-1");
+        assertThat(meterRegistry.get(ReadReplicaDataSource.ROUTING_METER_NAME).tag("target", "replica-2").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void fallsBackToThePrimaryWhenReplicationIsStopped() throws SQLException {
+        ReadReplicaDataSource dataSource = readReplicaDataSource(dataSource(null));
+
+        dataSource.checkLag();
+
+        assertThat(dataSource.getConnection()).isSameAs(primary.getConnection());
+        assertThat(meterRegistry.get(ReadReplicaDataSource.ROUTING_METER_NAME).tag("target", "primary").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void takesUnreachableReplicasOutOfRotation() throws SQLException {
+        DataSource unreachable = mock(DataSource.class);
+        when(unreachable.getConnection()).thenThrow(new SQLException("Connection refused"));
+        ReadReplicaDataSource dataSource = readReplicaDataSource(unreachable);
+
+        dataSource.checkLag();
+
+        assertThat(dataSource.getConnection()).isSameAs(primary.getConnection());
+        assertThat(dataSource.health().getDetails().get("replica-1")).asString().contains("Connection refused");
+    }
+
+    private ReadReplicaDataSource readReplicaDataSource(DataSource... replicas) {
+        Map<String, DataSource> byName = new LinkedHashMap<>();
+        for (int i = 0; i < replicas.length; i++) {
+            byName.put("replica-" + (i + 1), replicas[i]);
+        }
+        return new ReadReplicaDataSource(primary, byName, properties, meterRegistry);
+    }
+
+    private DataSource dataSource(Long lagSeconds) {
+        try {
+            ResultSet resultSet = mock(ResultSet.class);
+            when(resultSet.next()).thenReturn(true);
+            when(resultSet.getLong(properties.getLagColumn())).thenReturn(lagSeconds == null ? 0 : lagSeconds);
+            when(resultSet.wasNull()).thenReturn(lagSeconds == null);
+            Statement statement = mock(Statement.class);
+            when(statement.executeQuery(properties.getLagQuery())).thenReturn(resultSet);
+            Connection connection = mock(Connection.class);
+            when(connection.createStatement()).thenReturn(statement);
+            DataSource dataSource = mock(DataSource.class);
+            when(dataSource.getConnection()).thenReturn(connection);
+            return dataSource;
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package zw.co.fgr.management;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+class RequestStatisticsInterceptorTest {
+
+    private MeterRegistry meterRegistry;
+
+    private RequestStatisticsInterceptor interceptor;
+
+    private final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/kyc-cases");
+
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        interceptor = new RequestStatisticsInterceptor(meterRegistry, RequestStatisticsInterceptorTest.class.getPackageName(), 2);
+    }
+
+    @AfterEach
+    void cleanup() {
+        RequestStatistics.stop();
+    }
+
+    @Test
+    void publishesStatisticsPerHandlerMethod() throws Exception {
+        HandlerMethod handler = handler(new TestController());
+
+        interceptor.preHandle(request, response, handler);
+        RequestStatistics statistics = RequestStatistics.current();
+        statistics.statementPrepared();
+        statistics.statementPrepared();
+        statistics.statementPrepared();
+        statistics.entityLoaded();
+        statistics.collectionFetched();
+        statistics.cacheHit();
+        statistics.cacheMissed();
+        statistics.queryExecuted(5);
+        interceptor.afterCompletion(request, response, handler, null);
+
+        assertThat(summary(RequestStatisticsInterceptor.STATEMENTS_METER_NAME).totalAmount()).isEqualTo(3);
+        assertThat(summary(RequestStatisticsInterceptor.ENTITY_LOADS_METER_NAME).totalAmount()).isEqualTo(1);
+        assertThat(summary(RequestStatisticsInterceptor.COLLECTION_FETCHES_METER_NAME).totalAmount()).isEqualTo(1);
+        assertThat(summary(RequestStatisticsInterceptor.CACHE_HITS_METER_NAME).totalAmount()).isEqualTo(1);
+        assertThat(summary(RequestStatisticsInterceptor.CACHE_MISSES_METER_NAME).totalAmount()).isEqualTo(1);
+        assertThat(
+            meterRegistry
+                .get(RequestStatisticsInterceptor.QUERY_TIME_METER_NAME)
+                .tag("class", "TestController")
+                .tag("method", "handle")
+                .timer()
+                .totalTime(TimeUnit.MILLISECONDS)
+        ).isEqualTo(5);
+    }
+
+    @Test
+    void collectsOnlyDuringRequests() throws Exception {
+        HandlerMethod handler = handler(new TestController());
+
+        assertThat(RequestStatistics.current()).isNull();
+        interceptor.preHandle(request, response, handler);
+        assertThat(RequestStatistics.current()).isNotNull();
+        interceptor.afterCompletion(request, response, handler, null);
+        assertThat(RequestStatistics.current()).isNull();
+
+        assertThat(summary(RequestStatisticsInterceptor.STATEMENTS_METER_NAME).count()).isEqualTo(1);
+    }
+
+    @Test
+    void ignoresHandlersOutsideOfPackage() throws Exception {
+        HandlerMethod handler = new HandlerMethod(new Object(), Object.class.getMethod("toString"));
+
+        interceptor.preHandle(request, response, handler);
+        assertThat(RequestStatistics.current()).isNull();
+        interceptor.afterCompletion(request, response, handler, null);
+
+        assertThat(meterRegistry.find(RequestStatisticsInterceptor.STATEMENTS_METER_NAME).summary()).isNull();
+    }
+
+    @Test
+    void stopsCollectingWhenHandlingContinuesAsynchronously() throws Exception {
+        HandlerMethod handler = handler(new TestController());
+
+        interceptor.preHandle(request, response, handler);
+        interceptor.afterConcurrentHandlingStarted(request, response, handler);
+
+        assertThat(RequestStatistics.current()).isNull();
+        assertThat(meterRegistry.find(RequestStatisticsInterceptor.STATEMENTS_METER_NAME).summary()).isNull();
+    }
+
+    private DistributionSummary summary(String name) {
+        return meterRegistry.get(name).tag("class", "TestController").tag("method", "handle").summary();
+    }
+
+    private static HandlerMethod handler(TestController controller) throws NoSuchMethodException {
+        return new HandlerMethod(controller, TestController.class.getMethod("handle"));
+    }
+
+    public static class TestController {
+
+        public String handle() {
+            return "ok";
+        }
+    }
+}
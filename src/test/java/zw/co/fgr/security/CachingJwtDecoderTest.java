@@ -0,0 +1,76 @@
+package zw.co.fgr.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+class CachingJwtDecoderTest {
+
+    private static final Instant NOW = Instant.parse("2026-10-17T10:00:00Z");
+
+    private final JwtDecoder delegate = mock(JwtDecoder.class);
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private final CachingJwtDecoder decoder = new CachingJwtDecoder(delegate, 2, Clock.fixed(NOW, ZoneOffset.UTC), nanos::get);
+
+    @Test
+    void decodesEachTokenOnce() {
+        Jwt jwt = jwt(NOW.plusSeconds(60));
+        when(delegate.decode("token")).thenReturn(jwt);
+
+        assertThat(decoder.decode("token")).isSameAs(jwt);
+        assertThat(decoder.decode(new String("token"))).isSameAs(jwt);
+
+        verify(delegate, times(1)).decode("token");
+    }
+
+    @Test
+    void forgetsTokensWhenTheyExpire() {
+        when(delegate.decode("token")).thenReturn(jwt(NOW.plusSeconds(60)));
+        decoder.decode("token");
+
+        nanos.addAndGet(Duration.ofSeconds(61).toNanos());
+        decoder.decode("token");
+
+        verify(delegate, times(2)).decode("token");
+    }
+
+    @Test
+    void neverCachesRejectedTokens() {
+        when(delegate.decode("token")).thenThrow(new BadJwtException("Malformed token"));
+
+        assertThatThrownBy(() -> decoder.decode("token")).isInstanceOf(BadJwtException.class);
+        assertThatThrownBy(() -> decoder.decode("token")).isInstanceOf(BadJwtException.class);
+
+        verify(delegate, times(2)).decode("token");
+        assertThat(decoder.size()).isZero();
+    }
+
+    @Test
+    void neverCachesTokensWithoutExpiry() {
+        when(delegate.decode("token")).thenReturn(jwt(null));
+
+        decoder.decode("token");
+        decoder.decode("token");
+
+        verify(delegate, times(2)).decode("token");
+    }
+
+    private static Jwt jwt(Instant expiresAt) {
+        return Jwt.withTokenValue("token").header("alg", "HS512").subject("user").issuedAt(NOW).expiresAt(expiresAt).build();
+    }
+}
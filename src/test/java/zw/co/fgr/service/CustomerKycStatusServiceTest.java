@@ -0,0 +1,104 @@
+package zw.co.fgr.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import zw.co.fgr.domain.Customer;
+import zw.co.fgr.domain.CustomerKycStatus;
+import zw.co.fgr.domain.KycCase;
+import zw.co.fgr.domain.enumeration.KycStatus;
+import zw.co.fgr.repository.CustomerKycStatusRepository;
+import zw.co.fgr.repository.KycCaseRepository;
+
+class CustomerKycStatusServiceTest {
+
+    private static final Instant STARTED_AT = Instant.parse("2026-10-17T10:00:00Z");
+
+    private final CustomerKycStatusRepository customerKycStatusRepository = mock(CustomerKycStatusRepository.class);
+
+    private final KycCaseRepository kycCaseRepository = mock(KycCaseRepository.class);
+
+    private final CustomerKycStatusService service = new CustomerKycStatusService(customerKycStatusRepository, kycCaseRepository);
+
+    @Test
+    void createsTheStatusOfTheFirstCase() {
+        KycCase kycCase = kycCase(1L, 10L, STARTED_AT, KycStatus.APPROVED).completedAt(STARTED_AT.plusSeconds(60));
+
+        service.record(kycCase);
+
+        ArgumentCaptor<CustomerKycStatus> saved = ArgumentCaptor.forClass(CustomerKycStatus.class);
+        verify(customerKycStatusRepository).save(saved.capture());
+        assertThat(saved.getValue().getCustomerId()).isEqualTo(1L);
+        assertThat(saved.getValue().getKycCaseId()).isEqualTo(10L);
+        assertThat(saved.getValue().getStatus()).isEqualTo(KycStatus.APPROVED);
+        assertThat(saved.getValue().getApprovedAt()).isEqualTo(STARTED_AT.plusSeconds(60));
+    }
+
+    @Test
+    void laterCasesReplaceTheStatus() {
+        CustomerKycStatus snapshot = snapshot(1L, kycCase(1L, 10L, STARTED_AT, KycStatus.APPROVED));
+
+        service.record(kycCase(1L, 20L, STARTED_AT.plusSeconds(60), KycStatus.STARTED));
+
+        assertThat(snapshot.getKycCaseId()).isEqualTo(20L);
+        assertThat(snapshot.getStatus()).isEqualTo(KycStatus.STARTED);
+        assertThat(snapshot.getApprovedAt()).isNull();
+    }
+
+    @Test
+    void earlierCasesLeaveTheStatusAlone() {
+        CustomerKycStatus snapshot = snapshot(1L, kycCase(1L, 20L, STARTED_AT, KycStatus.IN_PROGRESS));
+
+        service.record(kycCase(1L, 10L, STARTED_AT.minusSeconds(60), KycStatus.REJECTED));
+
+        assertThat(snapshot.getKycCaseId()).isEqualTo(20L);
+        assertThat(snapshot.getStatus()).isEqualTo(KycStatus.IN_PROGRESS);
+        verify(customerKycStatusRepository, never()).save(any());
+    }
+
+    @Test
+    void casesMovedToAnotherCustomerRefreshTheirFormerCustomer() {
+        CustomerKycStatus former = snapshot(2L, kycCase(2L, 10L, STARTED_AT, KycStatus.STARTED));
+        when(customerKycStatusRepository.findAllByKycCaseIdIn(List.of(10L))).thenReturn(List.of(former));
+        when(kycCaseRepository.findFirstByCustomerIdOrderByStartedAtDescIdDesc(2L)).thenReturn(Optional.empty());
+
+        service.record(kycCase(1L, 10L, STARTED_AT, KycStatus.STARTED));
+
+        verify(customerKycStatusRepository).delete(former);
+    }
+
+    @Test
+    void bulkStatusChangesFollowTheirCases() {
+        CustomerKycStatus snapshot = snapshot(1L, kycCase(1L, 10L, STARTED_AT, KycStatus.STARTED));
+        when(customerKycStatusRepository.findAllByKycCaseIdIn(List.of(10L, 11L))).thenReturn(List.of(snapshot));
+
+        service.recordStatusChange(List.of(10L, 11L), KycStatus.EXPIRED, STARTED_AT.plusSeconds(60));
+
+        assertThat(snapshot.getStatus()).isEqualTo(KycStatus.EXPIRED);
+        assertThat(snapshot.getUpdatedAt()).isEqualTo(STARTED_AT.plusSeconds(60));
+    }
+
+    private CustomerKycStatus snapshot(Long customerId, KycCase kycCase) {
+        CustomerKycStatus snapshot = new CustomerKycStatus().customerId(customerId).latestCase(kycCase, STARTED_AT);
+        when(customerKycStatusRepository.findByCustomerIdForUpdate(customerId)).thenReturn(Optional.of(snapshot));
+        return snapshot;
+    }
+
+    private static KycCase kycCase(Long customerId, Long id, Instant startedAt, KycStatus status) {
+        return new KycCase()
+            .id(id)
+            .kycRef(String.format("FGR20261017-%03d", id))
+            .status(status)
+            .startedAt(startedAt)
+            .customer(new Customer().id(customerId));
+    }
+}
@@ -0,0 +1,54 @@
+package zw.co.fgr.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+
+class KeysetCursorsTest {
+
+    private static final List<String> PROPERTIES = List.of("lastActivityAt", "id");
+
+    @Test
+    void blankCursorStartsAtTheBeginning() {
+        assertThat(KeysetCursors.decode("", PROPERTIES)).isEqualTo(ScrollPosition.keyset());
+        assertThat(KeysetCursors.decode(null, PROPERTIES)).isEqualTo(ScrollPosition.keyset());
+    }
+
+    @Test
+    void nextCursorRoundTrips() {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("lastActivityAt", Instant.parse("2026-10-17T08:15:30.123456Z"));
+        keys.put("id", 1501L);
+        Window<String> window = Window.from(List.of("a", "b"), index -> ScrollPosition.forward(keys), true);
+
+        String cursor = KeysetCursors.nextCursor(window);
+
+        KeysetScrollPosition position = (KeysetScrollPosition) KeysetCursors.decode(cursor, PROPERTIES);
+        assertThat(position.getKeys()).containsExactlyEntriesOf(keys);
+        assertThat(position.scrollsForward()).isTrue();
+    }
+
+    @Test
+    void lastWindowHasNoNextCursor() {
+        Window<String> window = Window.from(List.of("a"), index -> ScrollPosition.forward(Map.of("id", 1L)), false);
+
+        assertThat(KeysetCursors.nextCursor(window)).isNull();
+    }
+
+    @Test
+    void cursorOfAnotherOrderingIsRejected() {
+        Window<String> window = Window.from(List.of("a"), index -> ScrollPosition.forward(Map.of("id", 1L)), true);
+        String cursor = KeysetCursors.nextCursor(window);
+
+        assertThatIllegalArgumentException().isThrownBy(() -> KeysetCursors.decode(cursor, PROPERTIES));
+        assertThatIllegalArgumentException().isThrownBy(() -> KeysetCursors.decode("%%%", PROPERTIES));
+    }
+}
@@ -0,0 +1,122 @@
+package zw.co.fgr.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import zw.co.fgr.domain.enumeration.KycStatus;
+import zw.co.fgr.repository.KycCaseRepository;
+import zw.co.fgr.repository.KycDocumentRepository;
+import zw.co.fgr.repository.KycNotificationRepository;
+import zw.co.fgr.service.dto.KycCaseTransitionResultDTO;
+import zw.co.fgr.service.dto.KycCaseTransitionResultDTO.Outcome;
+import zw.co.fgr.service.funnel.KycFunnelService;
+
+class KycCaseServiceTest {
+
+    private final KycCaseRepository kycCaseRepository = mock(KycCaseRepository.class);
+
+    private final CustomerKycStatusService customerKycStatusService = mock(CustomerKycStatusService.class);
+
+    private final KycFunnelService kycFunnelService = mock(KycFunnelService.class);
+
+    private final KycCaseStreamService kycCaseStreamService = mock(KycCaseStreamService.class);
+
+    private final KycCaseService service = new KycCaseService(
+        kycCaseRepository,
+        mock(KycDocumentRepository.class),
+        mock(KycNotificationRepository.class),
+        customerKycStatusService,
+        kycFunnelService,
+        kycCaseStreamService
+    );
+
+    @Test
+    void transitionsAllowedCasesInOneUpdate() {
+        when(kycCaseRepository.findStatusesByIdInForUpdate(any())).thenReturn(
+            List.of(
+                status(1L, KycStatus.SUBMITTED),
+                status(2L, KycStatus.STARTED),
+                status(3L, KycStatus.APPROVED),
+                status(4L, KycStatus.SUBMITTED)
+            )
+        );
+        when(kycCaseRepository.findIdsByIdIn(List.of(5L, 6L))).thenReturn(List.of(5L));
+
+        List<Long> ids = List.of(1L, 2L, 3L, 4L, 5L, 6L, 1L);
+        List<KycCaseTransitionResultDTO> results = service.transitionStatus(ids, KycStatus.APPROVED, "Verified");
+
+        assertThat(results).extracting(KycCaseTransitionResultDTO::getKycCaseId).containsExactly(1L, 2L, 3L, 4L, 5L, 6L);
+        assertThat(results)
+            .extracting(KycCaseTransitionResultDTO::getOutcome)
+            .containsExactly(
+                Outcome.TRANSITIONED,
+                Outcome.INVALID_TRANSITION,
+                Outcome.UNCHANGED,
+                Outcome.TRANSITIONED,
+                Outcome.CONFLICT,
+                Outcome.NOT_FOUND
+            );
+        assertThat(results.get(0).getPreviousStatus()).isEqualTo(KycStatus.SUBMITTED);
+        assertThat(results.get(0).getStatus()).isEqualTo(KycStatus.APPROVED);
+        assertThat(results.get(1).getStatus()).isEqualTo(KycStatus.STARTED);
+        verify(kycCaseRepository).updateStatus(
+            eq(List.of(1L, 4L)),
+            eq(KycCaseService.REVIEW_TRANSITIONS.get(KycStatus.APPROVED)),
+            eq(KycStatus.APPROVED),
+            any(Instant.class),
+            any(Instant.class)
+        );
+        verify(customerKycStatusService).recordStatusChange(eq(List.of(1L, 4L)), eq(KycStatus.APPROVED), any());
+        verify(kycFunnelService).recordStatusChange(eq(List.of(1L, 4L)), eq(KycStatus.APPROVED), any(), eq("Verified"));
+    }
+
+    @Test
+    void leavesTheCompletionDateOfOpenStatusesAlone() {
+        when(kycCaseRepository.findStatusesByIdInForUpdate(any())).thenReturn(List.of(status(1L, KycStatus.SUBMITTED)));
+
+        service.transitionStatus(List.of(1L), KycStatus.AWAITING_DOCUMENTS, "Blurred ID document");
+
+        verify(kycCaseRepository).updateStatus(eq(List.of(1L)), any(), eq(KycStatus.AWAITING_DOCUMENTS), any(Instant.class), eq(null));
+    }
+
+    @Test
+    void skipsTheUpdateWhenNothingTransitions() {
+        when(kycCaseRepository.findStatusesByIdInForUpdate(any())).thenReturn(List.of(status(1L, KycStatus.REJECTED)));
+
+        assertThat(service.transitionStatus(List.of(1L), KycStatus.APPROVED, "Verified"))
+            .extracting(KycCaseTransitionResultDTO::getOutcome)
+            .containsExactly(Outcome.INVALID_TRANSITION);
+        verify(kycCaseRepository, never()).updateStatus(any(), any(), any(), any(), any());
+        verify(kycCaseStreamService, never()).publish(any());
+    }
+
+    @Test
+    void rejectsNonReviewStatuses() {
+        assertThatThrownBy(() -> service.transitionStatus(List.of(1L), KycStatus.EXPIRED, "Too late")).isInstanceOf(
+            IllegalArgumentException.class
+        );
+    }
+
+    private static KycCaseRepository.KycCaseCurrentStatus status(Long id, KycStatus status) {
+        return new KycCaseRepository.KycCaseCurrentStatus() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getStatus() {
+                return status.name();
+            }
+        };
+    }
+}
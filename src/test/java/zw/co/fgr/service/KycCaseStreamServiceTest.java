@@ -0,0 +1,110 @@
+package zw.co.fgr.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.hazelcast.core.HazelcastInstance;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import zw.co.fgr.config.ApplicationProperties;
+import zw.co.fgr.domain.KycCaseTransition;
+import zw.co.fgr.domain.enumeration.ChannelType;
+import zw.co.fgr.domain.enumeration.KycStatus;
+import zw.co.fgr.repository.KycCaseRepository;
+import zw.co.fgr.service.dto.KycCaseStatusChangeDTO;
+
+class KycCaseStreamServiceTest {
+
+    private static final Instant NOW = Instant.parse("2026-10-17T10:00:00Z");
+
+    private final KycCaseRepository kycCaseRepository = mock(KycCaseRepository.class);
+
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private KycCaseStreamService service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        ObjectProvider<HazelcastInstance> hazelcastInstance = mock(ObjectProvider.class);
+        service = new KycCaseStreamService(kycCaseRepository, eventPublisher, hazelcastInstance, new ApplicationProperties(), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.destroy();
+    }
+
+    @Test
+    void publishesBulkChangesWithTheirCustomers() {
+        when(kycCaseRepository.findCustomersByIdIn(any())).thenReturn(List.of(customer(1L, 10L), customer(2L, null)));
+
+        service.publish(List.of(transition(1L), transition(2L)));
+
+        ArgumentCaptor<KycCaseStatusChangeDTO> changes = ArgumentCaptor.forClass(KycCaseStatusChangeDTO.class);
+        verify(eventPublisher, times(2)).publishEvent(changes.capture());
+        assertThat(changes.getAllValues()).extracting(KycCaseStatusChangeDTO::getKycCaseId).containsExactly(1L, 2L);
+        assertThat(changes.getAllValues()).extracting(KycCaseStatusChangeDTO::getCustomerId).containsExactly(10L, null);
+        assertThat(changes.getAllValues()).allSatisfy(change -> {
+            assertThat(change.getPreviousStatus()).isEqualTo(KycStatus.SUBMITTED);
+            assertThat(change.getStatus()).isEqualTo(KycStatus.EXPIRED);
+            assertThat(change.getChangedAt()).isEqualTo(NOW);
+        });
+    }
+
+    @Test
+    void publishesNothingWithoutChanges() {
+        service.publish(List.of());
+
+        verifyNoInteractions(kycCaseRepository, eventPublisher);
+    }
+
+    @Test
+    void countsSubscribers() {
+        service.subscribe(1L, null, Set.of(KycStatus.APPROVED));
+        service.subscribe(null, 10L, null);
+        service.broadcast(new KycCaseStatusChangeDTO(1L, 10L, ChannelType.WEB, KycStatus.SUBMITTED, KycStatus.APPROVED, NOW));
+
+        assertThat(meterRegistry.get("kyc.case.stream.subscribers").gauge().value()).isEqualTo(2);
+        assertThat(meterRegistry.get("kyc.case.stream.overflows").counter().count()).isZero();
+    }
+
+    private static KycCaseTransition transition(Long kycCaseId) {
+        return new KycCaseTransition()
+            .kycCaseId(kycCaseId)
+            .channel(ChannelType.WEB)
+            .fromStatus(KycStatus.SUBMITTED)
+            .toStatus(KycStatus.EXPIRED)
+            .occurredAt(NOW);
+    }
+
+    private static KycCaseRepository.KycCaseCustomer customer(Long id, Long customerId) {
+        return new KycCaseRepository.KycCaseCustomer() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getCustomerId() {
+                return customerId;
+            }
+        };
+    }
+}
@@ -0,0 +1,99 @@
+package zw.co.fgr.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.persistence.EntityManager;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+import zw.co.fgr.IntegrationTest;
+import zw.co.fgr.domain.KycCase;
+import zw.co.fgr.domain.KycNotification;
+import zw.co.fgr.domain.enumeration.ChannelType;
+import zw.co.fgr.domain.enumeration.KycStatus;
+import zw.co.fgr.domain.enumeration.NotificationType;
+import zw.co.fgr.repository.KycCaseRepository;
+import zw.co.fgr.web.rest.TestUtil;
+
+/**
+ * Integration tests for {@link KycCaseSweeperService}.
+ */
+@IntegrationTest
+@Transactional
+class KycCaseSweeperServiceIT {
+
+    private static final Instant NOW = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+
+    @Autowired
+    private KycCaseSweeperService kycCaseSweeperService;
+
+    @Autowired
+    private KycCaseRepository kycCaseRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    private KycCase overdue;
+
+    private KycCase inactive;
+
+    private KycCase active;
+
+    private KycCase approved;
+
+    @BeforeEach
+    void init() {
+        overdue = kycCaseRepository.save(createKycCase("FGR20261017-001", KycStatus.IN_PROGRESS, NOW, NOW.minusSeconds(60)));
+        inactive = kycCaseRepository.save(
+            createKycCase("FGR20261017-002", KycStatus.AWAITING_DOCUMENTS, NOW.minus(4, ChronoUnit.DAYS), null)
+        );
+        active = kycCaseRepository.save(createKycCase("FGR20261017-003", KycStatus.STARTED, NOW, NOW.plus(1, ChronoUnit.DAYS)));
+        approved = kycCaseRepository.save(
+            createKycCase("FGR20261017-004", KycStatus.APPROVED, NOW.minus(4, ChronoUnit.DAYS), NOW.minusSeconds(60))
+        );
+        em.flush();
+    }
+
+    @Test
+    void expireOverdueCases() {
+        assertThat(kycCaseSweeperService.expireOverdueCases(NOW)).isGreaterThanOrEqualTo(1);
+        em.clear();
+
+        assertThat(kycCaseRepository.findById(overdue.getId()).orElseThrow().getStatus()).isEqualTo(KycStatus.EXPIRED);
+        assertThat(kycCaseRepository.findById(active.getId()).orElseThrow().getStatus()).isEqualTo(KycStatus.STARTED);
+        assertThat(kycCaseRepository.findById(approved.getId()).orElseThrow().getStatus()).isEqualTo(KycStatus.APPROVED);
+    }
+
+    @Test
+    void timeOutInactiveCasesAndEnqueueWarnings() {
+        assertThat(kycCaseSweeperService.timeOutInactiveCases(NOW)).isGreaterThanOrEqualTo(1);
+        em.clear();
+
+        assertThat(kycCaseRepository.findById(inactive.getId()).orElseThrow().getStatus()).isEqualTo(KycStatus.TIMEOUT);
+        assertThat(kycCaseRepository.findById(active.getId()).orElseThrow().getStatus()).isEqualTo(KycStatus.STARTED);
+        assertThat(kycCaseRepository.findById(approved.getId()).orElseThrow().getStatus()).isEqualTo(KycStatus.APPROVED);
+
+        List<KycNotification> notifications = TestUtil.findAll(em, KycNotification.class)
+            .stream()
+            .filter(notification -> notification.getKycCase() != null)
+            .filter(notification -> inactive.getId().equals(notification.getKycCase().getId()))
+            .toList();
+        assertThat(notifications).hasSize(1);
+        assertThat(notifications.get(0).getNotificationType()).isEqualTo(NotificationType.TIMEOUT_WARNING);
+        assertThat(notifications.get(0).getDelivered()).isFalse();
+    }
+
+    private static KycCase createKycCase(String kycRef, KycStatus status, Instant lastActivityAt, Instant expiresAt) {
+        return new KycCase()
+            .kycRef(kycRef)
+            .status(status)
+            .channel(ChannelType.WHATSAPP)
+            .startedAt(lastActivityAt)
+            .lastActivityAt(lastActivityAt)
+            .expiresAt(expiresAt);
+    }
+}
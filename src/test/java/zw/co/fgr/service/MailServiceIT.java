@@ -30,6 +30,8 @@ import tech.jhipster.config.JHipsterProperties;
 import zw.co.fgr.IntegrationTest;
 import zw.co.fgr.config.Constants;
 import zw.co.fgr.domain.User;
+import zw.co.fgr.repository.PendingMailRepository;
+import zw.co.fgr.service.mail.MailDispatcher;
 
 /**
  * Integration tests for {@link MailService}.
@@ -52,22 +54,29 @@ class MailServiceIT {
     private JavaMailSender javaMailSender;
 
     @Captor
-    private ArgumentCaptor<MimeMessage> messageCaptor;
+    private ArgumentCaptor<MimeMessage[]> messageCaptor;
 
     @Autowired
     private MailService mailService;
 
+    @Autowired
+    private MailDispatcher mailDispatcher;
+
+    @Autowired
+    private PendingMailRepository pendingMailRepository;
+
     @BeforeEach
     void setup() {
-        doNothing().when(javaMailSender).send(any(MimeMessage.class));
+        doNothing().when(javaMailSender).send(any(MimeMessage[].class));
         when(javaMailSender.createMimeMessage()).thenReturn(new MimeMessage((Session) null));
     }
 
     @Test
     void testSendEmail() throws Exception {
         mailService.sendEmail("john.doe@example.com", "testSubject", "testContent", false, false);
+        mailDispatcher.flush();
         verify(javaMailSender).send(messageCaptor.capture());
-        MimeMessage message = messageCaptor.getValue();
+        MimeMessage message = messageCaptor.getValue()[0];
         assertThat(message.getSubject()).isEqualTo("testSubject");
         assertThat(message.getAllRecipients()[0]).hasToString("john.doe@example.com");
         assertThat(message.getFrom()[0]).hasToString(jHipsterProperties.getMail().getFrom());
@@ -79,8 +88,9 @@ class MailServiceIT {
     @Test
     void testSendHtmlEmail() throws Exception {
         mailService.sendEmail("john.doe@example.com", "testSubject", "testContent", false, true);
+        mailDispatcher.flush();
         verify(javaMailSender).send(messageCaptor.capture());
-        MimeMessage message = messageCaptor.getValue();
+        MimeMessage message = messageCaptor.getValue()[0];
         assertThat(message.getSubject()).isEqualTo("testSubject");
         assertThat(message.getAllRecipients()[0]).hasToString("john.doe@example.com");
         assertThat(message.getFrom()[0]).hasToString(jHipsterProperties.getMail().getFrom());
@@ -92,8 +102,9 @@ class MailServiceIT {
     @Test
     void testSendMultipartEmail() throws Exception {
         mailService.sendEmail("john.doe@example.com", "testSubject", "testContent", true, false);
+        mailDispatcher.flush();
         verify(javaMailSender).send(messageCaptor.capture());
-        MimeMessage message = messageCaptor.getValue();
+        MimeMessage message = messageCaptor.getValue()[0];
         MimeMultipart mp = (MimeMultipart) message.getContent();
         MimeBodyPart part = (MimeBodyPart) ((MimeMultipart) mp.getBodyPart(0).getContent()).getBodyPart(0);
         ByteArrayOutputStream aos = new ByteArrayOutputStream();
@@ -109,8 +120,9 @@ class MailServiceIT {
     @Test
     void testSendMultipartHtmlEmail() throws Exception {
         mailService.sendEmail("john.doe@example.com", "testSubject", "testContent", true, true);
+        mailDispatcher.flush();
         verify(javaMailSender).send(messageCaptor.capture());
-        MimeMessage message = messageCaptor.getValue();
+        MimeMessage message = messageCaptor.getValue()[0];
         MimeMultipart mp = (MimeMultipart) message.getContent();
         MimeBodyPart part = (MimeBodyPart) ((MimeMultipart) mp.getBodyPart(0).getContent()).getBodyPart(0);
         ByteArrayOutputStream aos = new ByteArrayOutputStream();
@@ -130,8 +142,9 @@ class MailServiceIT {
         user.setLogin("john");
         user.setEmail("john.doe@example.com");
         mailService.sendEmailFromTemplate(user, "mail/testEmail", "email.test.title");
+        mailDispatcher.flush();
         verify(javaMailSender).send(messageCaptor.capture());
-        MimeMessage message = messageCaptor.getValue();
+        MimeMessage message = messageCaptor.getValue()[0];
         assertThat(message.getSubject()).isEqualTo("test title");
         assertThat(message.getAllRecipients()[0]).hasToString(user.getEmail());
         assertThat(message.getFrom()[0]).hasToString(jHipsterProperties.getMail().getFrom());
@@ -146,8 +159,9 @@ class MailServiceIT {
         user.setLogin("john");
         user.setEmail("john.doe@example.com");
         mailService.sendActivationEmail(user);
+        mailDispatcher.flush();
         verify(javaMailSender).send(messageCaptor.capture());
-        MimeMessage message = messageCaptor.getValue();
+        MimeMessage message = messageCaptor.getValue()[0];
         assertThat(message.getAllRecipients()[0]).hasToString(user.getEmail());
         assertThat(message.getFrom()[0]).hasToString(jHipsterProperties.getMail().getFrom());
         assertThat(message.getContent().toString()).isNotEmpty();
@@ -161,8 +175,9 @@ class MailServiceIT {
         user.setLogin("john");
         user.setEmail("john.doe@example.com");
         mailService.sendCreationEmail(user);
+        mailDispatcher.flush();
         verify(javaMailSender).send(messageCaptor.capture());
-        MimeMessage message = messageCaptor.getValue();
+        MimeMessage message = messageCaptor.getValue()[0];
         assertThat(message.getAllRecipients()[0]).hasToString(user.getEmail());
         assertThat(message.getFrom()[0]).hasToString(jHipsterProperties.getMail().getFrom());
         assertThat(message.getContent().toString()).isNotEmpty();
@@ -176,8 +191,9 @@ class MailServiceIT {
         user.setLogin("john");
         user.setEmail("john.doe@example.com");
         mailService.sendPasswordResetMail(user);
+        mailDispatcher.flush();
         verify(javaMailSender).send(messageCaptor.capture());
-        MimeMessage message = messageCaptor.getValue();
+        MimeMessage message = messageCaptor.getValue()[0];
         assertThat(message.getAllRecipients()[0]).hasToString(user.getEmail());
         assertThat(message.getFrom()[0]).hasToString(jHipsterProperties.getMail().getFrom());
         assertThat(message.getContent().toString()).isNotEmpty();
@@ -186,12 +202,26 @@ class MailServiceIT {
 
     @Test
     void testSendEmailWithException() {
-        doThrow(MailSendException.class).when(javaMailSender).send(any(MimeMessage.class));
+        doThrow(new MailSendException("Connection refused")).when(javaMailSender).send(any(MimeMessage[].class));
         try {
             mailService.sendEmail("john.doe@example.com", "testSubject", "testContent", false, false);
+            mailDispatcher.flush();
         } catch (Exception e) {
             fail("Exception shouldn't have been thrown");
         }
+        try {
+            assertThat(pendingMailRepository.findAll())
+                .filteredOn(pendingMail -> "john.doe@example.com".equals(pendingMail.getRecipient()))
+                .singleElement()
+                .satisfies(pendingMail -> {
+                    assertThat(pendingMail.getSubject()).isEqualTo("testSubject");
+                    assertThat(pendingMail.getAttempts()).isEqualTo(1);
+                    assertThat(pendingMail.getLastError()).isEqualTo("Connection refused");
+                    assertThat(pendingMail.getNextAttemptAt()).isNotNull();
+                });
+        } finally {
+            pendingMailRepository.deleteAll();
+        }
     }
 
     @Test
@@ -202,8 +232,9 @@ class MailServiceIT {
         for (String langKey : languages) {
             user.setLangKey(langKey);
             mailService.sendEmailFromTemplate(user, "mail/testEmail", "email.test.title");
+            mailDispatcher.flush();
             verify(javaMailSender, atLeastOnce()).send(messageCaptor.capture());
-            MimeMessage message = messageCaptor.getValue();
+            MimeMessage message = messageCaptor.getValue()[0];
 
             String propertyFilePath = "i18n/messages_" + getMessageSourceSuffixForLanguage(langKey) + ".properties";
             URL resource = this.getClass().getClassLoader().getResource(propertyFilePath);
@@ -0,0 +1,69 @@
+package zw.co.fgr.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class RateLimiterTest {
+
+    private final AtomicLong nanoTime = new AtomicLong();
+
+    @Test
+    void allowsTheRateAtOnceThenRefills() {
+        RateLimiter<String> rateLimiter = new RateLimiter<>(key -> 2, nanoTime::get);
+
+        assertThat(rateLimiter.tryAcquire("example.com")).isTrue();
+        assertThat(rateLimiter.tryAcquire("example.com")).isTrue();
+        assertThat(rateLimiter.tryAcquire("example.com")).isFalse();
+
+        nanoTime.addAndGet(Duration.ofSeconds(30).toNanos());
+        assertThat(rateLimiter.tryAcquire("example.com")).isTrue();
+        assertThat(rateLimiter.tryAcquire("example.com")).isFalse();
+    }
+
+    @Test
+    void limitsEachKeyOnItsOwn() {
+        Map<String, Integer> rates = Map.of("example.com", 1, "example.org", 2);
+        RateLimiter<String> rateLimiter = new RateLimiter<>(rates::get, nanoTime::get);
+
+        assertThat(rateLimiter.tryAcquire("example.com")).isTrue();
+        assertThat(rateLimiter.tryAcquire("example.com")).isFalse();
+        assertThat(rateLimiter.tryAcquire("example.org")).isTrue();
+        assertThat(rateLimiter.tryAcquire("example.org")).isTrue();
+        assertThat(rateLimiter.tryAcquire("example.org")).isFalse();
+    }
+
+    @Test
+    void grantsAsManyPermitsAsAvailable() {
+        RateLimiter<String> rateLimiter = new RateLimiter<>(key -> 60, nanoTime::get);
+
+        assertThat(rateLimiter.tryAcquire("whatsapp", 50)).isEqualTo(50);
+        assertThat(rateLimiter.tryAcquire("whatsapp", 50)).isEqualTo(10);
+        assertThat(rateLimiter.tryAcquire("whatsapp", 50)).isZero();
+
+        nanoTime.addAndGet(Duration.ofSeconds(5).toNanos());
+        assertThat(rateLimiter.tryAcquire("whatsapp", 50)).isEqualTo(5);
+    }
+
+    @Test
+    void takesBackReleasedPermits() {
+        RateLimiter<String> rateLimiter = new RateLimiter<>(key -> 60, nanoTime::get);
+
+        assertThat(rateLimiter.tryAcquire("whatsapp", 50)).isEqualTo(50);
+        rateLimiter.release("whatsapp", 45);
+        assertThat(rateLimiter.tryAcquire("whatsapp", 100)).isEqualTo(55);
+    }
+
+    @Test
+    void zeroMeansUnlimited() {
+        RateLimiter<String> rateLimiter = new RateLimiter<>(key -> 0, nanoTime::get);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(rateLimiter.tryAcquire("example.com")).isTrue();
+        }
+        assertThat(rateLimiter.tryAcquire("example.com", 1000)).isEqualTo(1000);
+    }
+}
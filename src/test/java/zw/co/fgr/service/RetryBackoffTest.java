@@ -0,0 +1,33 @@
+package zw.co.fgr.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class RetryBackoffTest {
+
+    private static final Duration INITIAL = Duration.ofMinutes(1);
+
+    private static final Duration MAX = Duration.ofMinutes(10);
+
+    @Test
+    void backoffDoublesAfterEveryAttempt() {
+        assertThat(RetryBackoff.backoff(1, INITIAL, MAX)).isEqualTo(Duration.ofMinutes(1));
+        assertThat(RetryBackoff.backoff(2, INITIAL, MAX)).isEqualTo(Duration.ofMinutes(2));
+        assertThat(RetryBackoff.backoff(3, INITIAL, MAX)).isEqualTo(Duration.ofMinutes(4));
+    }
+
+    @Test
+    void backoffIsCapped() {
+        assertThat(RetryBackoff.backoff(5, INITIAL, MAX)).isEqualTo(MAX);
+        assertThat(RetryBackoff.backoff(Integer.MAX_VALUE, INITIAL, MAX)).isEqualTo(MAX);
+    }
+
+    @Test
+    void jitterStaysInTheUpperHalf() {
+        for (int i = 0; i < 100; i++) {
+            assertThat(RetryBackoff.withJitter(2, INITIAL, MAX)).isBetween(Duration.ofMinutes(1), Duration.ofMinutes(2));
+        }
+    }
+}
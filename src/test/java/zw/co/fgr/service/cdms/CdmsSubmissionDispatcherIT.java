@@ -0,0 +1,151 @@
+package zw.co.fgr.service.cdms;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import zw.co.fgr.IntegrationTest;
+import zw.co.fgr.domain.CdmsSubmission;
+import zw.co.fgr.domain.enumeration.SubmissionStatus;
+import zw.co.fgr.repository.CdmsSubmissionRepository;
+
+/**
+ * Integration tests for {@link CdmsSubmissionDispatcher}, against a local stub {@link CdmsClient}.
+ * <p>
+ * Not transactional: the dispatcher claims and records submissions in its own transactions, on its own threads.
+ */
+@IntegrationTest
+class CdmsSubmissionDispatcherIT {
+
+    @Autowired
+    private CdmsSubmissionDispatcher cdmsSubmissionDispatcher;
+
+    @Autowired
+    private CdmsSubmissionRepository cdmsSubmissionRepository;
+
+    @Autowired
+    private StubCdmsClient stubCdmsClient;
+
+    private final List<CdmsSubmission> submissions = new ArrayList<>();
+
+    @TestConfiguration
+    static class StubCdmsClientConfiguration {
+
+        @Bean
+        StubCdmsClient stubCdmsClient() {
+            return new StubCdmsClient();
+        }
+    }
+
+    /**
+     * Answers according to the prefix of the submission reference.
+     */
+    static class StubCdmsClient implements CdmsClient {
+
+        private final Map<String, Integer> calls = new ConcurrentHashMap<>();
+
+        @Override
+        public CdmsSubmissionResult submit(CdmsSubmissionRequest request) {
+            calls.merge(request.submissionRef(), 1, Integer::sum);
+            if (request.submissionRef().startsWith("OK")) {
+                return CdmsSubmissionResult.accepted("200", "Accepted", "CDMS-" + request.submissionRef());
+            }
+            if (request.submissionRef().startsWith("BAD")) {
+                return CdmsSubmissionResult.rejected("422", "Invalid submission");
+            }
+            if (request.submissionRef().startsWith("BOOM")) {
+                throw new IllegalStateException("Connection reset");
+            }
+            return CdmsSubmissionResult.retryableFailure("503", "Service unavailable");
+        }
+    }
+
+    @BeforeEach
+    void init() {
+        stubCdmsClient.calls.clear();
+    }
+
+    @AfterEach
+    void cleanup() {
+        cdmsSubmissionRepository.deleteAll(submissions);
+        submissions.clear();
+    }
+
+    @Test
+    void dispatchRecordsEachOutcome() {
+        Instant now = Instant.now();
+        CdmsSubmission accepted = save("OK-1", SubmissionStatus.PENDING, 0, null);
+        CdmsSubmission rejected = save("BAD-1", SubmissionStatus.PENDING, 0, null);
+        CdmsSubmission unavailable = save("DOWN-1", SubmissionStatus.RETRYING, 1, now.minusSeconds(1));
+        CdmsSubmission exhausted = save("DOWN-2", SubmissionStatus.RETRYING, 2, now.minusSeconds(1));
+        CdmsSubmission crashed = save("BOOM-1", SubmissionStatus.PENDING, 0, null);
+
+        assertThat(cdmsSubmissionDispatcher.dispatchDue(now).join()).isGreaterThanOrEqualTo(5);
+
+        CdmsSubmission success = reload(accepted);
+        assertThat(success.getStatus()).isEqualTo(SubmissionStatus.SUCCESS);
+        assertThat(success.getAttempts()).isEqualTo(1);
+        assertThat(success.getCdmsCustomerId()).isEqualTo("CDMS-OK-1");
+        assertThat(success.getSubmittedAt()).isNotNull();
+        assertThat(success.getNextRetryAt()).isNull();
+
+        assertThat(reload(rejected).getStatus()).isEqualTo(SubmissionStatus.FAILED);
+        assertThat(reload(rejected).getResponseCode()).isEqualTo("422");
+
+        CdmsSubmission retrying = reload(unavailable);
+        assertThat(retrying.getStatus()).isEqualTo(SubmissionStatus.RETRYING);
+        assertThat(retrying.getAttempts()).isEqualTo(2);
+        assertThat(retrying.getNextRetryAt()).isAfter(now);
+
+        assertThat(reload(exhausted).getStatus()).isEqualTo(SubmissionStatus.FAILED);
+        assertThat(reload(exhausted).getAttempts()).isEqualTo(3);
+
+        assertThat(reload(crashed).getStatus()).isEqualTo(SubmissionStatus.RETRYING);
+        assertThat(reload(crashed).getAttempts()).isEqualTo(1);
+    }
+
+    @Test
+    void dispatchSkipsSubmissionsNotYetDue() {
+        Instant now = Instant.now();
+        CdmsSubmission later = save("OK-2", SubmissionStatus.RETRYING, 1, now.plusSeconds(600));
+        CdmsSubmission done = save("OK-3", SubmissionStatus.SUCCESS, 1, null);
+
+        cdmsSubmissionDispatcher.dispatchDue(now).join();
+
+        assertThat(stubCdmsClient.calls).doesNotContainKeys("OK-2", "OK-3");
+        assertThat(reload(later).getStatus()).isEqualTo(SubmissionStatus.RETRYING);
+        assertThat(reload(done).getAttempts()).isEqualTo(1);
+    }
+
+    @Test
+    void claimedSubmissionsAreLeased() {
+        Instant now = Instant.now();
+        save("DOWN-3", SubmissionStatus.PENDING, 0, null);
+
+        cdmsSubmissionDispatcher.dispatchDue(now).join();
+        cdmsSubmissionDispatcher.dispatchDue(now).join();
+
+        assertThat(stubCdmsClient.calls).containsEntry("DOWN-3", 1);
+    }
+
+    private CdmsSubmission save(String submissionRef, SubmissionStatus status, int attempts, Instant nextRetryAt) {
+        CdmsSubmission submission = cdmsSubmissionRepository.save(
+            new CdmsSubmission().submissionRef(submissionRef).status(status).attempts(attempts).nextRetryAt(nextRetryAt)
+        );
+        submissions.add(submission);
+        return submission;
+    }
+
+    private CdmsSubmission reload(CdmsSubmission submission) {
+        return cdmsSubmissionRepository.findById(submission.getId()).orElseThrow();
+    }
+}
@@ -0,0 +1,49 @@
+package zw.co.fgr.service.funnel;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class DurationHistogramTest {
+
+    @Test
+    void hasNoMedianWhenEmpty() {
+        assertThat(new DurationHistogram().median()).isNull();
+    }
+
+    @Test
+    void interpolatesTheMedianWithinItsBucket() {
+        DurationHistogram histogram = new DurationHistogram()
+            .record(Duration.ofSeconds(30))
+            .record(Duration.ofMinutes(20))
+            .record(Duration.ofMinutes(30))
+            .record(Duration.ofDays(2));
+
+        // the 2nd of 4 durations is the 1st of 2 in the 15 minutes to 1 hour bucket
+        assertThat(histogram.median()).isEqualTo(Duration.ofMinutes(15).plus(Duration.ofMinutes(45).dividedBy(2)));
+    }
+
+    @Test
+    void reportsDurationsOverTheLastBoundAsTheLastBound() {
+        DurationHistogram histogram = new DurationHistogram().record(Duration.ofDays(90));
+
+        assertThat(histogram.median()).isEqualTo(Duration.ofDays(30));
+    }
+
+    @Test
+    void addsUpStoredHistograms() {
+        DurationHistogram stored = new DurationHistogram().record(Duration.ofMinutes(1)).record(Duration.ofDays(40));
+
+        DurationHistogram sum = DurationHistogram.parse(stored.toString()).add(DurationHistogram.parse("0,2"));
+
+        assertThat(sum.count()).isEqualTo(4);
+        assertThat(sum.toString()).isEqualTo("1,2,0,0,0,0,0,0,0,0,1");
+    }
+
+    @Test
+    void rejectsUnknownBuckets() {
+        assertThatThrownBy(() -> DurationHistogram.parse("0,0,0,0,0,0,0,0,0,0,0,0")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,154 @@
+package zw.co.fgr.service.funnel;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.transaction.PlatformTransactionManager;
+import zw.co.fgr.config.ApplicationProperties;
+import zw.co.fgr.domain.KycCaseTransition;
+import zw.co.fgr.domain.KycFunnelBucket;
+import zw.co.fgr.domain.enumeration.ChannelType;
+import zw.co.fgr.domain.enumeration.KycStatus;
+import zw.co.fgr.repository.KycCaseRepository;
+import zw.co.fgr.repository.KycCaseTransitionRepository;
+import zw.co.fgr.repository.KycFunnelBucketRepository;
+
+class KycFunnelAggregatorTest {
+
+    private static final Instant HOUR = Instant.parse("2026-10-17T10:00:00Z");
+
+    private final KycCaseTransitionRepository kycCaseTransitionRepository = mock(KycCaseTransitionRepository.class);
+
+    private final KycFunnelBucketRepository kycFunnelBucketRepository = mock(KycFunnelBucketRepository.class);
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final List<KycFunnelBucket> buckets = new ArrayList<>();
+
+    private KycFunnelAggregator aggregator;
+
+    @BeforeEach
+    void setUp() {
+        when(kycFunnelBucketRepository.save(any())).thenAnswer(invocation -> {
+            KycFunnelBucket bucket = invocation.getArgument(0);
+            if (!buckets.contains(bucket)) {
+                buckets.add(bucket.id((long) buckets.size() + 1));
+            }
+            return bucket;
+        });
+        when(kycFunnelBucketRepository.findAllByBucketStartGreaterThanEqualAndBucketStartLessThan(any(), any())).thenReturn(buckets);
+        aggregator = new KycFunnelAggregator(
+            kycCaseTransitionRepository,
+            kycFunnelBucketRepository,
+            new KycFunnelService(kycCaseTransitionRepository, kycFunnelBucketRepository, mock(KycCaseRepository.class)),
+            new ApplicationProperties(),
+            mock(PlatformTransactionManager.class),
+            meterRegistry
+        );
+    }
+
+    @Test
+    void foldsTransitionsIntoHourlyBuckets() {
+        claim(
+            transition(1L, null, KycStatus.STARTED, HOUR.plusSeconds(60), null),
+            transition(2L, KycStatus.STARTED, KycStatus.SUBMITTED, HOUR.plusSeconds(120), Duration.ofMinutes(10)),
+            transition(3L, KycStatus.STARTED, KycStatus.SUBMITTED, HOUR.plusSeconds(180), Duration.ofMinutes(30))
+        );
+
+        assertThat(aggregator.aggregate()).isEqualTo(3);
+
+        assertThat(bucket(KycStatus.STARTED).getEntered()).isEqualTo(1);
+        assertThat(bucket(KycStatus.STARTED).getExited()).isEqualTo(2);
+        assertThat(DurationHistogram.parse(bucket(KycStatus.STARTED).getTimeInStatusHistogram()).count()).isEqualTo(2);
+        assertThat(bucket(KycStatus.SUBMITTED).getEntered()).isEqualTo(2);
+        assertThat(bucket(KycStatus.SUBMITTED).getExited()).isZero();
+        verify(kycCaseTransitionRepository).markAggregated(List.of(1L, 2L, 3L));
+    }
+
+    @Test
+    void addsToExistingBuckets() {
+        KycFunnelBucket existing = new KycFunnelBucket()
+            .id(1L)
+            .channel(ChannelType.WHATSAPP)
+            .status(KycStatus.SUBMITTED)
+            .bucketStart(HOUR)
+            .entered(5L)
+            .exited(0L)
+            .timeInStatusHistogram("");
+        buckets.add(existing);
+        when(kycFunnelBucketRepository.findByChannelAndStatusAndBucketStart(ChannelType.WHATSAPP, KycStatus.SUBMITTED, HOUR)).thenReturn(
+            Optional.of(existing)
+        );
+        claim(transition(1L, null, KycStatus.SUBMITTED, HOUR.plusSeconds(60), null));
+
+        aggregator.aggregate();
+
+        assertThat(existing.getEntered()).isEqualTo(6);
+    }
+
+    @Test
+    void publishesTheFunnelAsGauges() {
+        claim(
+            transition(1L, KycStatus.STARTED, KycStatus.SUBMITTED, HOUR.plusSeconds(60), Duration.ofSeconds(30)),
+            transition(2L, KycStatus.STARTED, KycStatus.SUBMITTED, HOUR.plusSeconds(60), Duration.ofSeconds(30))
+        );
+        aggregator.aggregate();
+
+        aggregator.refreshGauges(HOUR.plusSeconds(3600));
+
+        assertThat(gauge("kyc.funnel.entered", KycStatus.SUBMITTED)).isEqualTo(2);
+        assertThat(gauge("kyc.funnel.time.in.status.median", KycStatus.STARTED)).isEqualTo(30);
+        assertThat(gauge("kyc.funnel.time.in.status.median", KycStatus.APPROVED)).isNaN();
+    }
+
+    @Test
+    void rebuildWaitsForTheRunningChunksBeforeDroppingTheBuckets() {
+        aggregator.rebuild();
+
+        InOrder order = inOrder(kycCaseTransitionRepository, kycFunnelBucketRepository);
+        order.verify(kycCaseTransitionRepository).lockNotAggregated();
+        order.verify(kycFunnelBucketRepository).deleteAllInBatch();
+        order.verify(kycCaseTransitionRepository).markAllNotAggregated();
+    }
+
+    private void claim(KycCaseTransition... transitions) {
+        List<Long> ids = Arrays.stream(transitions).map(KycCaseTransition::getId).toList();
+        when(kycCaseTransitionRepository.findNotAggregatedIdsForUpdate(1000)).thenReturn(ids, List.of());
+        when(kycCaseTransitionRepository.findAllById(ids)).thenReturn(List.of(transitions));
+    }
+
+    private KycFunnelBucket bucket(KycStatus status) {
+        return buckets.stream().filter(bucket -> bucket.getStatus() == status).findFirst().orElseThrow();
+    }
+
+    private double gauge(String name, KycStatus status) {
+        return meterRegistry.get(name).tag("channel", ChannelType.WHATSAPP.name()).tag("status", status.name()).gauge().value();
+    }
+
+    private static KycCaseTransition transition(Long id, KycStatus from, KycStatus to, Instant occurredAt, Duration timeInFromStatus) {
+        return new KycCaseTransition()
+            .id(id)
+            .kycCaseId(id)
+            .channel(ChannelType.WHATSAPP)
+            .fromStatus(from)
+            .toStatus(to)
+            .occurredAt(occurredAt)
+            .timeInFromStatusMs(timeInFromStatus == null ? null : timeInFromStatus.toMillis())
+            .aggregated(false);
+    }
+}
@@ -0,0 +1,177 @@
+package zw.co.fgr.service.mail;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.transaction.PlatformTransactionManager;
+import tech.jhipster.config.JHipsterProperties;
+import zw.co.fgr.config.ApplicationProperties;
+import zw.co.fgr.domain.PendingMail;
+import zw.co.fgr.repository.PendingMailRepository;
+
+class MailDispatcherTest {
+
+    private SmtpStub smtpStub;
+
+    private final PendingMailRepository pendingMailRepository = mock(PendingMailRepository.class);
+
+    private final ApplicationProperties applicationProperties = new ApplicationProperties();
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setup() throws Exception {
+        smtpStub = new SmtpStub("bounce@example.com");
+        when(pendingMailRepository.save(any(PendingMail.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @AfterEach
+    void cleanup() throws Exception {
+        smtpStub.close();
+    }
+
+    @Test
+    void sendsABatchOverOneConnection() {
+        MailDispatcher dispatcher = dispatcher();
+        dispatcher.enqueue(message("john@example.com"));
+        dispatcher.enqueue(message("jane@example.org"));
+        dispatcher.enqueue(message("joe@example.net"));
+
+        assertThat(dispatcher.flush()).isEqualTo(3);
+
+        assertThat(smtpStub.getRecipients()).containsExactly("john@example.com", "jane@example.org", "joe@example.net");
+        assertThat(smtpStub.getConnections()).isEqualTo(1);
+        assertThat(meterRegistry.get("mail.messages").tag("outcome", "sent").counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    void storesFailedMessagesForRetry() {
+        MailDispatcher dispatcher = dispatcher();
+        dispatcher.enqueue(message("john@example.com"));
+        dispatcher.enqueue(message("bounce@example.com"));
+
+        dispatcher.flush();
+
+        assertThat(smtpStub.getRecipients()).containsExactly("john@example.com");
+        ArgumentCaptor<PendingMail> pendingMail = ArgumentCaptor.forClass(PendingMail.class);
+        verify(pendingMailRepository).save(pendingMail.capture());
+        assertThat(pendingMail.getValue().getRecipient()).isEqualTo("bounce@example.com");
+        assertThat(pendingMail.getValue().getAttempts()).isEqualTo(1);
+        assertThat(pendingMail.getValue().getLastError()).isNotBlank();
+        assertThat(pendingMail.getValue().getNextAttemptAt()).isAfter(pendingMail.getValue().getLastAttemptAt());
+    }
+
+    @Test
+    void defersMessagesOverTheDomainRate() {
+        applicationProperties.getMail().setRatePerMinute(1);
+        MailDispatcher dispatcher = dispatcher();
+        dispatcher.enqueue(message("john@example.com"));
+        dispatcher.enqueue(message("jane@example.com"));
+
+        assertThat(dispatcher.flush()).isEqualTo(1);
+        assertThat(dispatcher.flush()).isZero();
+
+        assertThat(smtpStub.getRecipients()).containsExactly("john@example.com");
+        verify(pendingMailRepository, never()).save(any(PendingMail.class));
+    }
+
+    @Test
+    void storesMessagesWhenTheQueueIsFull() {
+        applicationProperties.getMail().setQueueCapacity(1);
+        MailDispatcher dispatcher = dispatcher();
+        dispatcher.enqueue(message("john@example.com"));
+        dispatcher.enqueue(message("jane@example.com"));
+
+        ArgumentCaptor<PendingMail> pendingMail = ArgumentCaptor.forClass(PendingMail.class);
+        verify(pendingMailRepository).save(pendingMail.capture());
+        assertThat(pendingMail.getValue().getRecipient()).isEqualTo("jane@example.com");
+        assertThat(pendingMail.getValue().getNextAttemptAt()).isNotNull();
+    }
+
+    @Test
+    void retriesStoredMessagesAndGivesUpAfterMaxAttempts() {
+        applicationProperties.getMail().getRetry().setMaxAttempts(2);
+        PendingMail sendable = pendingMail(1L, "john@example.com");
+        PendingMail bouncing = pendingMail(2L, "bounce@example.com");
+        when(pendingMailRepository.findDueIdsForUpdate(any(Instant.class), anyInt())).thenReturn(List.of(1L, 2L));
+        when(pendingMailRepository.findAllById(anyCollection())).thenReturn(List.of(sendable, bouncing));
+        MailDispatcher dispatcher = dispatcher();
+
+        assertThat(dispatcher.retryDue(Instant.now())).isEqualTo(2);
+
+        assertThat(smtpStub.getRecipients()).containsExactly("john@example.com");
+        verify(pendingMailRepository).deleteAllByIdInBatch(List.of(1L));
+        verify(pendingMailRepository).save(bouncing);
+        assertThat(bouncing.getAttempts()).isEqualTo(2);
+        assertThat(bouncing.getNextAttemptAt()).isNull();
+        assertThat(meterRegistry.get("mail.messages").tag("outcome", "failed").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void dropsSensitiveMessagesInsteadOfStoringThem() {
+        MailDispatcher dispatcher = dispatcher();
+        dispatcher.enqueue(new MailMessage("bounce@example.com", "subject", "reset key", false, true, true));
+
+        dispatcher.flush();
+
+        verify(pendingMailRepository, never()).save(any(PendingMail.class));
+        assertThat(meterRegistry.get("mail.messages").tag("outcome", "failed").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void purgesGivenUpMessagesAfterTheRetention() {
+        applicationProperties.getMail().getRetry().setRetention(Duration.ofDays(7));
+        Instant now = Instant.now();
+        when(pendingMailRepository.deleteGivenUpBefore(now.minus(Duration.ofDays(7)))).thenReturn(3);
+
+        assertThat(dispatcher().purgeGivenUp(now)).isEqualTo(3);
+    }
+
+    private MailDispatcher dispatcher() {
+        JavaMailSenderImpl javaMailSender = new JavaMailSenderImpl();
+        javaMailSender.setHost(SmtpStub.HOST);
+        javaMailSender.setPort(smtpStub.getPort());
+        JHipsterProperties jHipsterProperties = new JHipsterProperties();
+        jHipsterProperties.getMail().setFrom("test@localhost");
+        return new MailDispatcher(
+            javaMailSender,
+            pendingMailRepository,
+            applicationProperties,
+            jHipsterProperties,
+            mock(PlatformTransactionManager.class),
+            meterRegistry
+        );
+    }
+
+    private static MailMessage message(String to) {
+        return new MailMessage(to, "subject", "content", false, false);
+    }
+
+    private static PendingMail pendingMail(Long id, String to) {
+        return new PendingMail()
+            .id(id)
+            .recipient(to)
+            .subject("subject")
+            .content("content")
+            .multipart(false)
+            .html(false)
+            .attempts(1)
+            .createdAt(Instant.now());
+    }
+}
@@ -0,0 +1,100 @@
+package zw.co.fgr.service.mail;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Minimal SMTP server accepting every message except those to {@code rejectedRecipients}, recording the recipients of
+ * the messages it accepted and the number of connections it served.
+ */
+class SmtpStub implements AutoCloseable {
+
+    static final String HOST = "127.0.0.1";
+
+    private final ServerSocket serverSocket;
+
+    private final Set<String> rejectedRecipients;
+
+    private final AtomicInteger connections = new AtomicInteger();
+
+    private final List<String> recipients = new CopyOnWriteArrayList<>();
+
+    SmtpStub(String... rejectedRecipients) throws IOException {
+        this.serverSocket = new ServerSocket(0, 50, InetAddress.getByName(HOST));
+        this.rejectedRecipients = Set.of(rejectedRecipients);
+        Thread acceptor = new Thread(this::accept, "smtp-stub");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    int getConnections() {
+        return connections.get();
+    }
+
+    List<String> getRecipients() {
+        return recipients;
+    }
+
+    private void accept() {
+        while (!serverSocket.isClosed()) {
+            try (Socket socket = serverSocket.accept()) {
+                connections.incrementAndGet();
+                converse(socket);
+            } catch (IOException e) {
+                // closed
+            }
+        }
+    }
+
+    private void converse(Socket socket) throws IOException {
+        BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+        PrintWriter out = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.US_ASCII);
+        reply(out, "220 localhost SMTP stub");
+        String recipient = null;
+        String line;
+        while ((line = in.readLine()) != null) {
+            String command = line.toUpperCase(Locale.ROOT);
+            if (command.startsWith("RCPT TO:")) {
+                recipient = line.substring(line.indexOf('<') + 1, line.indexOf('>'));
+                reply(out, rejectedRecipients.contains(recipient) ? "550 mailbox unavailable" : "250 OK");
+            } else if (command.equals("DATA")) {
+                reply(out, "354 end with <CRLF>.<CRLF>");
+                while (!".".equals(in.readLine())) {
+                    // skip the content
+                }
+                recipients.add(recipient);
+                reply(out, "250 OK");
+            } else if (command.equals("QUIT")) {
+                reply(out, "221 bye");
+                return;
+            } else {
+                reply(out, "250 OK");
+            }
+        }
+    }
+
+    private static void reply(PrintWriter out, String reply) {
+        out.print(reply + "\r\n");
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+    }
+}
@@ -0,0 +1,218 @@
+package zw.co.fgr.service.notification;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.PlatformTransactionManager;
+import zw.co.fgr.config.ApplicationProperties;
+import zw.co.fgr.domain.Customer;
+import zw.co.fgr.domain.KycCase;
+import zw.co.fgr.domain.KycNotification;
+import zw.co.fgr.domain.enumeration.ChannelType;
+import zw.co.fgr.domain.enumeration.DeliveryStatus;
+import zw.co.fgr.domain.enumeration.NotificationType;
+import zw.co.fgr.repository.KycNotificationRepository;
+
+class KycNotificationDispatcherTest {
+
+    private final KycNotificationRepository kycNotificationRepository = mock(KycNotificationRepository.class);
+
+    private final ApplicationProperties applicationProperties = new ApplicationProperties();
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private KycNotificationDispatcher dispatcher;
+
+    @AfterEach
+    void cleanup() {
+        if (dispatcher != null) {
+            dispatcher.destroy();
+        }
+    }
+
+    @Test
+    void recordsDeliveredRetryingAndDeadLetteredNotifications() {
+        List<KycNotification> notifications = due(ChannelType.WHATSAPP, 3);
+        notifications.get(2).attempts(applicationProperties.getNotifications().getMaxAttempts() - 1);
+        dispatcher = dispatcher(
+            sender(ChannelType.WHATSAPP, request ->
+                request.notificationId() == 1L
+                    ? NotificationDeliveryResult.success()
+                    : NotificationDeliveryResult.retryableFailure("gateway unavailable")
+            )
+        );
+
+        assertThat(dispatcher.dispatchDue(Instant.now()).join()).isEqualTo(3);
+
+        assertThat(notifications.get(0).getDeliveryStatus()).isEqualTo(DeliveryStatus.DELIVERED);
+        assertThat(notifications.get(0).getDelivered()).isTrue();
+        assertThat(notifications.get(0).getDeliveredAt()).isNotNull();
+        assertThat(notifications.get(0).getAttempts()).isEqualTo(1);
+        assertThat(notifications.get(1).getDeliveryStatus()).isEqualTo(DeliveryStatus.RETRYING);
+        assertThat(notifications.get(1).getErrorMessage()).isEqualTo("gateway unavailable");
+        assertThat(notifications.get(1).getNextAttemptAt()).isAfter(Instant.now());
+        assertThat(notifications.get(2).getDeliveryStatus()).isEqualTo(DeliveryStatus.DEAD_LETTER);
+        assertThat(notifications.get(2).getNextAttemptAt()).isNull();
+        assertThat(deliveries(ChannelType.WHATSAPP, DeliveryStatus.DELIVERED)).isEqualTo(1);
+        assertThat(deliveries(ChannelType.WHATSAPP, DeliveryStatus.RETRYING)).isEqualTo(1);
+        assertThat(deliveries(ChannelType.WHATSAPP, DeliveryStatus.DEAD_LETTER)).isEqualTo(1);
+    }
+
+    @Test
+    void deadLettersRejectedNotificationsAndRetriesExceptions() {
+        List<KycNotification> notifications = due(ChannelType.USSD, 2);
+        dispatcher = dispatcher(
+            sender(ChannelType.USSD, request -> {
+                if (request.notificationId() == 1L) {
+                    return NotificationDeliveryResult.rejected("unknown subscriber");
+                }
+                throw new IllegalStateException("timeout");
+            })
+        );
+
+        dispatcher.dispatchDue(Instant.now()).join();
+
+        assertThat(notifications.get(0).getDeliveryStatus()).isEqualTo(DeliveryStatus.DEAD_LETTER);
+        assertThat(notifications.get(0).getErrorMessage()).isEqualTo("unknown subscriber");
+        assertThat(notifications.get(1).getDeliveryStatus()).isEqualTo(DeliveryStatus.RETRYING);
+        assertThat(notifications.get(1).getErrorMessage()).isEqualTo("timeout");
+    }
+
+    @Test
+    void boundsConcurrencyPerChannel() {
+        applicationProperties.getNotifications().setConcurrency(2);
+        due(ChannelType.WEB, 8);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        dispatcher = dispatcher(
+            sender(ChannelType.WEB, request -> {
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(20);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                inFlight.decrementAndGet();
+                return NotificationDeliveryResult.success();
+            })
+        );
+
+        assertThat(dispatcher.dispatchDue(Instant.now()).join()).isEqualTo(8);
+
+        assertThat(maxInFlight.get()).isEqualTo(2);
+    }
+
+    @Test
+    void claimsNoMoreThanTheChannelRate() {
+        ApplicationProperties.Notifications.Channel whatsapp = new ApplicationProperties.Notifications.Channel();
+        whatsapp.setRatePerMinute(3);
+        applicationProperties.getNotifications().getChannels().put(ChannelType.WHATSAPP, whatsapp);
+        due(ChannelType.WHATSAPP, 3);
+        dispatcher = dispatcher(sender(ChannelType.WHATSAPP, request -> NotificationDeliveryResult.success()));
+
+        dispatcher.dispatchDue(Instant.now()).join();
+        dispatcher.dispatchDue(Instant.now()).join();
+
+        verify(kycNotificationRepository).findDueIdsForUpdate(anyCollection(), eq("WHATSAPP"), any(Instant.class), eq(3));
+    }
+
+    @Test
+    void leavesChannelsWithoutSenderAlone() {
+        dispatcher = dispatcher(sender(ChannelType.WHATSAPP, request -> NotificationDeliveryResult.success()));
+
+        assertThat(dispatcher.dispatchDue(Instant.now()).join()).isZero();
+
+        verify(kycNotificationRepository, never()).findDueIdsForUpdate(anyCollection(), eq("USSD"), any(Instant.class), anyInt());
+    }
+
+    @Test
+    void rejectsTwoSendersForOneChannel() {
+        assertThatThrownBy(() ->
+            dispatcher(
+                sender(ChannelType.IOS, request -> NotificationDeliveryResult.success()),
+                sender(ChannelType.IOS, request -> NotificationDeliveryResult.success())
+            )
+        ).isInstanceOf(IllegalStateException.class);
+    }
+
+    private List<KycNotification> due(ChannelType channel, int count) {
+        List<Long> ids = LongStream.rangeClosed(1, count).boxed().toList();
+        Customer customer = new Customer().customerRef("C-1").phoneNumber("263771234567");
+        KycCase kycCase = new KycCase().kycRef("KYC-1").channel(channel).customer(customer);
+        List<KycNotification> notifications = ids
+            .stream()
+            .map(id ->
+                new KycNotification()
+                    .id(id)
+                    .notificationType(NotificationType.WELCOME)
+                    .message("Welcome")
+                    .sentAt(Instant.now())
+                    .delivered(false)
+                    .deliveryStatus(DeliveryStatus.PENDING)
+                    .attempts(0)
+                    .kycCase(kycCase)
+            )
+            .toList();
+        when(kycNotificationRepository.findDueIdsForUpdate(anyCollection(), eq(channel.name()), any(Instant.class), anyInt())).thenReturn(
+            ids
+        );
+        when(kycNotificationRepository.findAllWithKycCaseByIdIn(ids)).thenReturn(notifications);
+        when(kycNotificationRepository.findAllById(anyCollection())).thenReturn(notifications);
+        return notifications;
+    }
+
+    private double deliveries(ChannelType channel, DeliveryStatus status) {
+        return meterRegistry
+            .get("kyc.notification.deliveries")
+            .tag("channel", channel.name())
+            .tag("status", status.name())
+            .counter()
+            .count();
+    }
+
+    @SuppressWarnings("unchecked")
+    private KycNotificationDispatcher dispatcher(NotificationSender... senders) {
+        ObjectProvider<NotificationSender> provider = mock(ObjectProvider.class);
+        when(provider.orderedStream()).thenAnswer(invocation -> Arrays.stream(senders));
+        return new KycNotificationDispatcher(
+            kycNotificationRepository,
+            provider,
+            applicationProperties,
+            mock(PlatformTransactionManager.class),
+            meterRegistry
+        );
+    }
+
+    private static NotificationSender sender(ChannelType channel, Function<NotificationRequest, NotificationDeliveryResult> send) {
+        return new NotificationSender() {
+            @Override
+            public ChannelType getChannel() {
+                return channel;
+            }
+
+            @Override
+            public NotificationDeliveryResult send(NotificationRequest request) {
+                return send.apply(request);
+            }
+        };
+    }
+}
@@ -0,0 +1,90 @@
+package zw.co.fgr.service.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Random;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FileSystemDocumentStorageTest {
+
+    @TempDir
+    private Path root;
+
+    private FileSystemDocumentStorage storage;
+
+    @BeforeEach
+    void setUp() {
+        storage = new FileSystemDocumentStorage(root);
+    }
+
+    @Test
+    void storesContentsUnderTheirDigest() throws Exception {
+        byte[] content = new byte[200_000];
+        new Random(42).nextBytes(content);
+        String checksum = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+
+        StoredContent stored = store(content);
+
+        assertThat(stored.checksum()).isEqualTo(checksum);
+        assertThat(stored.size()).isEqualTo(content.length);
+        assertThat(stored.storagePath()).isEqualTo(checksum.substring(0, 2) + "/" + checksum.substring(2, 4) + "/" + checksum);
+        assertThat(stored.deduplicated()).isFalse();
+        assertThat(Files.readAllBytes(root.resolve(stored.storagePath()))).isEqualTo(content);
+    }
+
+    @Test
+    void deduplicatesIdenticalContents() throws Exception {
+        byte[] content = "ID scan".getBytes(StandardCharsets.UTF_8);
+
+        StoredContent first = store(content);
+        StoredContent second = store(content);
+
+        assertThat(second.storagePath()).isEqualTo(first.storagePath());
+        assertThat(second.deduplicated()).isTrue();
+        try (Stream<Path> incoming = Files.list(root.resolve(".incoming"))) {
+            assertThat(incoming).isEmpty();
+        }
+    }
+
+    @Test
+    void storesEmptyContents() throws Exception {
+        StoredContent stored = store(new byte[0]);
+
+        assertThat(stored.size()).isZero();
+        assertThat(stored.checksum()).isEqualTo("e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855");
+    }
+
+    @Test
+    void locatesStoredContents() throws Exception {
+        StoredContent stored = store("proof of address".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(storage.locate(stored.storagePath())).contains(root.resolve(stored.storagePath()));
+        assertThat(storage.locate("00/00/0000")).isEmpty();
+        assertThat(storage.locate(null)).isEmpty();
+    }
+
+    @Test
+    void neverLocatesOutsideOfTheRoot() throws Exception {
+        Path outside = Files.writeString(root.resolveSibling(root.getFileName() + "-secret"), "secret");
+        try {
+            assertThat(storage.locate("../" + outside.getFileName())).isEmpty();
+            assertThat(storage.locate(outside.toString())).isEmpty();
+        } finally {
+            Files.delete(outside);
+        }
+    }
+
+    private StoredContent store(byte[] content) throws Exception {
+        return storage.store(Channels.newChannel(new ByteArrayInputStream(content)));
+    }
+}
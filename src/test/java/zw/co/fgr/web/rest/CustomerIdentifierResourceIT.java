@@ -270,6 +270,12 @@ class CustomerIdentifierResourceIT {
             .andExpect(jsonPath("$.[*].verifiedAt").value(hasItem(DEFAULT_VERIFIED_AT.toString())));
     }
 
+    @Test
+    @Transactional
+    void getAllCustomerIdentifierFieldsWithHiddenField() throws Exception {
+        restCustomerIdentifierMockMvc.perform(get(ENTITY_API_URL + "?fields=id,normalizedValue")).andExpect(status().isBadRequest());
+    }
+
     @Test
     @Transactional
     void getCustomerIdentifier() throws Exception {
@@ -856,6 +862,81 @@ class CustomerIdentifierResourceIT {
         assertSameRepositoryCount(databaseSizeBeforeUpdate);
     }
 
+    @Test
+    @Transactional
+    void resolveCustomerByNormalizedIdentifier() throws Exception {
+        // Initialize the database
+        Customer customer = CustomerResourceIT.createEntity();
+        em.persist(customer);
+        em.flush();
+        customerIdentifier.identifierValue("+263 77-123 4567").setCustomer(customer);
+        insertedCustomerIdentifier = customerIdentifierRepository.saveAndFlush(customerIdentifier);
+
+        // Resolve the customer from a differently formatted value
+        restCustomerIdentifierMockMvc
+            .perform(
+                get(ENTITY_API_URL + "/resolve")
+                    .param("identifierType", DEFAULT_IDENTIFIER_TYPE.toString())
+                    .param("channel", DEFAULT_CHANNEL.toString())
+                    .param("value", "263771234567")
+            )
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.id").value(customer.getId().intValue()));
+
+        // The same value on another channel is a different identifier
+        restCustomerIdentifierMockMvc
+            .perform(
+                get(ENTITY_API_URL + "/resolve")
+                    .param("identifierType", DEFAULT_IDENTIFIER_TYPE.toString())
+                    .param("channel", UPDATED_CHANNEL.toString())
+                    .param("value", "263771234567")
+            )
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @Transactional
+    void resolveCustomerAfterIdentifierUpdate() throws Exception {
+        // Initialize the database
+        Customer customer = CustomerResourceIT.createEntity();
+        em.persist(customer);
+        em.flush();
+        customerIdentifier.setCustomer(customer);
+        insertedCustomerIdentifier = customerIdentifierRepository.saveAndFlush(customerIdentifier);
+
+        restCustomerIdentifierMockMvc
+            .perform(
+                get(ENTITY_API_URL + "/resolve")
+                    .param("identifierType", DEFAULT_IDENTIFIER_TYPE.toString())
+                    .param("channel", DEFAULT_CHANNEL.toString())
+                    .param("value", DEFAULT_IDENTIFIER_VALUE)
+            )
+            .andExpect(status().isOk());
+
+        // Move the identifier to another channel, the cached resolution must be evicted
+        CustomerIdentifier partialUpdatedCustomerIdentifier = new CustomerIdentifier();
+        partialUpdatedCustomerIdentifier.setId(customerIdentifier.getId());
+        partialUpdatedCustomerIdentifier.channel(UPDATED_CHANNEL);
+
+        restCustomerIdentifierMockMvc
+            .perform(
+                patch(ENTITY_API_URL_ID, partialUpdatedCustomerIdentifier.getId())
+                    .contentType("application/merge-patch+json")
+                    .content(om.writeValueAsBytes(partialUpdatedCustomerIdentifier))
+            )
+            .andExpect(status().isOk());
+
+        restCustomerIdentifierMockMvc
+            .perform(
+                get(ENTITY_API_URL + "/resolve")
+                    .param("identifierType", DEFAULT_IDENTIFIER_TYPE.toString())
+                    .param("channel", DEFAULT_CHANNEL.toString())
+                    .param("value", DEFAULT_IDENTIFIER_VALUE)
+            )
+            .andExpect(status().isNotFound());
+    }
+
     @Test
     @Transactional
     void deleteCustomerIdentifier() throws Exception {
@@ -13,6 +13,8 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicLong;
 import org.junit.jupiter.api.AfterEach;
@@ -23,11 +25,17 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 import zw.co.fgr.IntegrationTest;
 import zw.co.fgr.domain.Customer;
+import zw.co.fgr.domain.KycCase;
 import zw.co.fgr.domain.enumeration.CustomerType;
+import zw.co.fgr.domain.enumeration.KycStatus;
+import zw.co.fgr.repository.CustomerIdentifierRepository;
 import zw.co.fgr.repository.CustomerRepository;
+import zw.co.fgr.service.KycCaseService;
+import zw.co.fgr.service.dto.CustomerImportResultDTO;
 
 /**
  * Integration tests for the {@link CustomerResource} REST controller.
@@ -80,6 +88,12 @@ class CustomerResourceIT {
     @Autowired
     private CustomerRepository customerRepository;
 
+    @Autowired
+    private CustomerIdentifierRepository customerIdentifierRepository;
+
+    @Autowired
+    private KycCaseService kycCaseService;
+
     @Autowired
     private EntityManager em;
 
@@ -864,6 +878,52 @@ class CustomerResourceIT {
         restCustomerMockMvc.perform(get(ENTITY_API_URL_ID, Long.MAX_VALUE)).andExpect(status().isNotFound());
     }
 
+    @Test
+    @Transactional
+    void getCustomerKycStatus() throws Exception {
+        // Initialize the database, the rollback of the test transaction removes the cases
+        customerRepository.saveAndFlush(customer);
+        Instant startedAt = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        KycCase first = kycCaseService.save(
+            KycCaseResourceIT.createEntity().kycRef("FGR20261017-101").startedAt(startedAt).customer(customer)
+        );
+        KycCase latest = kycCaseService.save(
+            KycCaseResourceIT.createEntity().kycRef("FGR20261017-102").startedAt(startedAt.plusSeconds(60)).customer(customer)
+        );
+        kycCaseService.partialUpdate(new KycCase().id(latest.getId()).status(KycStatus.APPROVED).completedAt(startedAt.plusSeconds(120)));
+        kycCaseService.partialUpdate(new KycCase().id(first.getId()).status(KycStatus.REJECTED));
+        em.flush();
+
+        // Get the KYC status of the customer
+        restCustomerMockMvc
+            .perform(get(ENTITY_API_URL_ID + "/kyc-status", customer.getId()))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.customerId").value(customer.getId().intValue()))
+            .andExpect(jsonPath("$.kycCaseId").value(latest.getId().intValue()))
+            .andExpect(jsonPath("$.kycRef").value("FGR20261017-102"))
+            .andExpect(jsonPath("$.status").value(KycStatus.APPROVED.toString()))
+            .andExpect(jsonPath("$.approvedAt").value(startedAt.plusSeconds(120).toString()));
+
+        // Deleting the latest case falls back to the previous one
+        kycCaseService.delete(latest.getId());
+        em.flush();
+        restCustomerMockMvc
+            .perform(get(ENTITY_API_URL_ID + "/kyc-status", customer.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.kycRef").value("FGR20261017-101"))
+            .andExpect(jsonPath("$.status").value(KycStatus.REJECTED.toString()))
+            .andExpect(jsonPath("$.approvedAt").isEmpty());
+    }
+
+    @Test
+    @Transactional
+    void getNonExistingCustomerKycStatus() throws Exception {
+        insertedCustomer = customerRepository.saveAndFlush(customer);
+
+        restCustomerMockMvc.perform(get(ENTITY_API_URL_ID + "/kyc-status", customer.getId())).andExpect(status().isNotFound());
+    }
+
     @Test
     @Transactional
     void putExistingCustomer() throws Exception {
@@ -1075,6 +1135,90 @@ class CustomerResourceIT {
         assertSameRepositoryCount(databaseSizeBeforeUpdate);
     }
 
+    @Test
+    void importCustomersFromCsv() throws Exception {
+        long databaseSizeBeforeImport = getRepositoryCount();
+        String csv =
+            "customerRef,customerType,fullName,dateOfBirth,identifierType,identifierValue,channel\n" +
+            "FGR-CUST-90000001,INDIVIDUAL,Tendai Moyo,1985-02-11,PHONE_NUMBER,+263 77 100 0001,WHATSAPP\n" +
+            "NOT-A-REF,INDIVIDUAL,Invalid Reference,,,,\n" +
+            "FGR-CUST-90000002,company,Mine Co,not-a-date,,,\n" +
+            "FGR-CUST-90000003,COMPANY,Mine Co,,,,\n";
+
+        List<CustomerImportResultDTO> results = performImport("text/csv", csv);
+
+        assertThat(results).extracting(CustomerImportResultDTO::getRow).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(results)
+            .extracting(CustomerImportResultDTO::getStatus)
+            .containsExactly(
+                CustomerImportResultDTO.Status.CREATED,
+                CustomerImportResultDTO.Status.INVALID,
+                CustomerImportResultDTO.Status.INVALID,
+                CustomerImportResultDTO.Status.CREATED
+            );
+        assertThat(results.get(1).getErrors()).anyMatch(error -> error.startsWith("customerRef"));
+        assertThat(results.get(2).getErrors()).anyMatch(error -> error.startsWith("dateOfBirth"));
+        assertThat(getRepositoryCount()).isEqualTo(databaseSizeBeforeImport + 2);
+
+        deleteImportedCustomers(results);
+    }
+
+    @Test
+    void importCustomersFromNdjsonReportsDuplicates() throws Exception {
+        long databaseSizeBeforeImport = getRepositoryCount();
+        String ndjson =
+            "{\"customerRef\":\"FGR-CUST-90000011\",\"customerType\":\"INDIVIDUAL\",\"fullName\":\"Rudo Ncube\"}\n" +
+            "{\"customerRef\":\"FGR-CUST-90000011\",\"customerType\":\"INDIVIDUAL\",\"fullName\":\"Rudo Ncube\"}\n" +
+            "{ not json\n" +
+            "{\"customerRef\":\"FGR-CUST-90000012\",\"customerType\":\"INDIVIDUAL\",\"fullName\":\"Farai Dube\"}\n";
+
+        List<CustomerImportResultDTO> results = performImport("application/x-ndjson", ndjson);
+
+        assertThat(results)
+            .extracting(CustomerImportResultDTO::getStatus)
+            .containsExactly(
+                CustomerImportResultDTO.Status.CREATED,
+                CustomerImportResultDTO.Status.FAILED,
+                CustomerImportResultDTO.Status.INVALID,
+                CustomerImportResultDTO.Status.CREATED
+            );
+        assertThat(results.get(1).getErrors()).containsExactly("duplicate customerRef");
+        assertThat(getRepositoryCount()).isEqualTo(databaseSizeBeforeImport + 2);
+
+        deleteImportedCustomers(results);
+    }
+
+    private List<CustomerImportResultDTO> performImport(String contentType, String body) throws Exception {
+        MvcResult mvcResult = restCustomerMockMvc
+            .perform(post(ENTITY_API_URL + "/import").contentType(contentType).content(body))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        String response = restCustomerMockMvc
+            .perform(asyncDispatch(mvcResult))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+        List<CustomerImportResultDTO> results = new ArrayList<>();
+        for (String line : response.split("\n")) {
+            results.add(om.readValue(line, CustomerImportResultDTO.class));
+        }
+        return results;
+    }
+
+    private void deleteImportedCustomers(List<CustomerImportResultDTO> results) {
+        List<Long> customerIds = results.stream().map(CustomerImportResultDTO::getCustomerId).filter(id -> id != null).toList();
+        customerIdentifierRepository.deleteAll(
+            customerIdentifierRepository
+                .findAll()
+                .stream()
+                .filter(customerIdentifier -> customerIdentifier.getCustomer() != null)
+                .filter(customerIdentifier -> customerIds.contains(customerIdentifier.getCustomer().getId()))
+                .toList()
+        );
+        customerRepository.deleteAllById(customerIds);
+    }
+
     @Test
     @Transactional
     void deleteCustomer() throws Exception {
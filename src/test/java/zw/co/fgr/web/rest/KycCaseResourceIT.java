@@ -11,8 +11,11 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.EntityManager;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicLong;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -27,9 +30,13 @@ import zw.co.fgr.domain.CdmsSubmission;
 import zw.co.fgr.domain.Customer;
 import zw.co.fgr.domain.KycCase;
 import zw.co.fgr.domain.KycConsent;
+import zw.co.fgr.domain.KycDocument;
+import zw.co.fgr.domain.KycNotification;
 import zw.co.fgr.domain.enumeration.ChannelType;
 import zw.co.fgr.domain.enumeration.KycStatus;
 import zw.co.fgr.repository.KycCaseRepository;
+import zw.co.fgr.service.dto.KycCaseTransitionRequestDTO;
+import zw.co.fgr.web.util.KeysetPaginationUtil;
 
 /**
  * Integration tests for the {@link KycCaseResource} REST controller.
@@ -287,6 +294,41 @@ class KycCaseResourceIT {
             .andExpect(jsonPath("$.[*].internalNotes").value(hasItem(DEFAULT_INTERNAL_NOTES)));
     }
 
+    @Test
+    @Transactional
+    void getAllKycCasesWithCursor() throws Exception {
+        // Initialize the database
+        insertedKycCase = kycCaseRepository.saveAndFlush(kycCase);
+        KycCase otherKycCase = kycCaseRepository.saveAndFlush(createUpdatedEntity());
+        String filter = "kycRef.in=" + DEFAULT_KYC_REF + "," + UPDATED_KYC_REF + "&size=1";
+
+        // The first window is ordered by lastActivityAt and carries a continuation token
+        String nextCursor = restKycCaseMockMvc
+            .perform(get(ENTITY_API_URL + "?cursor=&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist("X-Total-Count"))
+            .andExpect(header().exists(KeysetPaginationUtil.HEADER_X_NEXT_CURSOR))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(kycCase.getId().intValue())))
+            .andReturn()
+            .getResponse()
+            .getHeader(KeysetPaginationUtil.HEADER_X_NEXT_CURSOR);
+
+        // The last window has no continuation token
+        restKycCaseMockMvc
+            .perform(get(ENTITY_API_URL + "?cursor=" + nextCursor + "&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist(KeysetPaginationUtil.HEADER_X_NEXT_CURSOR))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(otherKycCase.getId().intValue())));
+
+        kycCaseRepository.delete(otherKycCase);
+    }
+
+    @Test
+    @Transactional
+    void getAllKycCasesWithInvalidCursor() throws Exception {
+        restKycCaseMockMvc.perform(get(ENTITY_API_URL + "?cursor=not-a-cursor")).andExpect(status().isBadRequest());
+    }
+
     @Test
     @Transactional
     void getKycCase() throws Exception {
@@ -311,6 +353,134 @@ class KycCaseResourceIT {
             .andExpect(jsonPath("$.internalNotes").value(DEFAULT_INTERNAL_NOTES));
     }
 
+    @Test
+    @Transactional
+    void getAllKycCaseFields() throws Exception {
+        // Initialize the database
+        Customer customer = CustomerResourceIT.createEntity();
+        em.persist(customer);
+        insertedKycCase = kycCaseRepository.saveAndFlush(kycCase.customer(customer));
+
+        // Get the selected fields of all the kycCaseList
+        restKycCaseMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&fields=id,kycRef,status,customerId&id.equals=" + kycCase.getId()))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(header().string("X-Total-Count", "1"))
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("$[0].id").value(kycCase.getId().intValue()))
+            .andExpect(jsonPath("$[0].kycRef").value(DEFAULT_KYC_REF))
+            .andExpect(jsonPath("$[0].status").value(DEFAULT_STATUS.toString()))
+            .andExpect(jsonPath("$[0].customerId").value(customer.getId().intValue()))
+            .andExpect(jsonPath("$[0].internalNotes").doesNotExist())
+            .andExpect(jsonPath("$[0].validationErrors").doesNotExist());
+    }
+
+    @Test
+    @Transactional
+    void getAllKycCaseFieldsWithInvalidField() throws Exception {
+        restKycCaseMockMvc.perform(get(ENTITY_API_URL + "?fields=id,kycDocuments")).andExpect(status().isBadRequest());
+        restKycCaseMockMvc.perform(get(ENTITY_API_URL + "?fields=id,unknown")).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @Transactional
+    void getFullKycCase() throws Exception {
+        // Initialize the database
+        Customer customer = CustomerResourceIT.createEntity();
+        em.persist(customer);
+        KycConsent consent = KycConsentResourceIT.createEntity();
+        em.persist(consent);
+        CdmsSubmission submission = CdmsSubmissionResourceIT.createEntity();
+        em.persist(submission);
+        insertedKycCase = kycCaseRepository.saveAndFlush(kycCase.customer(customer).consent(consent).submission(submission));
+        KycDocument firstDocument = KycDocumentResourceIT.createEntity().kycCase(kycCase);
+        em.persist(firstDocument);
+        KycDocument secondDocument = KycDocumentResourceIT.createEntity().kycCase(kycCase);
+        em.persist(secondDocument);
+        KycNotification notification = KycNotificationResourceIT.createEntity().kycCase(kycCase);
+        em.persist(notification);
+        em.flush();
+        em.clear();
+
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        boolean statisticsEnabled = statistics.isStatisticsEnabled();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        try {
+            // Get the kycCase aggregate
+            restKycCaseMockMvc
+                .perform(get(ENTITY_API_URL_ID + "/full", kycCase.getId()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+                .andExpect(jsonPath("$.id").value(kycCase.getId().intValue()))
+                .andExpect(jsonPath("$.kycRef").value(DEFAULT_KYC_REF))
+                .andExpect(jsonPath("$.status").value(DEFAULT_STATUS.toString()))
+                .andExpect(jsonPath("$.customerId").value(customer.getId().intValue()))
+                .andExpect(jsonPath("$.customerRef").value(customer.getCustomerRef()))
+                .andExpect(jsonPath("$.consentId").value(consent.getId().intValue()))
+                .andExpect(jsonPath("$.submissionId").value(submission.getId().intValue()))
+                .andExpect(jsonPath("$.submissionRef").value(submission.getSubmissionRef()))
+                .andExpect(jsonPath("$.documents.length()").value(2))
+                .andExpect(jsonPath("$.documents[*].id").value(hasItem(firstDocument.getId().intValue())))
+                .andExpect(jsonPath("$.documents[*].id").value(hasItem(secondDocument.getId().intValue())))
+                .andExpect(jsonPath("$.notifications.length()").value(1))
+                .andExpect(jsonPath("$.notifications[0].id").value(notification.getId().intValue()));
+
+            // The case with its to-one relationships, its documents and its notifications
+            assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+        } finally {
+            statistics.setStatisticsEnabled(statisticsEnabled);
+        }
+    }
+
+    @Test
+    @Transactional
+    void getNonExistingFullKycCase() throws Exception {
+        restKycCaseMockMvc.perform(get(ENTITY_API_URL_ID + "/full", Long.MAX_VALUE)).andExpect(status().isNotFound());
+    }
+
+    @Test
+    @Transactional
+    void transitionKycCases() throws Exception {
+        // Initialize the database
+        insertedKycCase = kycCaseRepository.saveAndFlush(kycCase.status(KycStatus.SUBMITTED).completedAt(null));
+        KycCase started = kycCaseRepository.saveAndFlush(createEntity().kycRef(UPDATED_KYC_REF).status(KycStatus.STARTED));
+        KycCaseTransitionRequestDTO request = new KycCaseTransitionRequestDTO(
+            List.of(kycCase.getId(), started.getId(), Long.MAX_VALUE),
+            KycStatus.APPROVED,
+            "Documents verified"
+        );
+
+        restKycCaseMockMvc
+            .perform(post(ENTITY_API_URL + "/transitions").contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(request)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(3))
+            .andExpect(jsonPath("$[0].kycCaseId").value(kycCase.getId().intValue()))
+            .andExpect(jsonPath("$[0].outcome").value("TRANSITIONED"))
+            .andExpect(jsonPath("$[0].previousStatus").value(KycStatus.SUBMITTED.toString()))
+            .andExpect(jsonPath("$[0].status").value(KycStatus.APPROVED.toString()))
+            .andExpect(jsonPath("$[1].outcome").value("INVALID_TRANSITION"))
+            .andExpect(jsonPath("$[1].status").value(KycStatus.STARTED.toString()))
+            .andExpect(jsonPath("$[2].outcome").value("NOT_FOUND"));
+
+        em.clear();
+        KycCase approved = kycCaseRepository.findById(kycCase.getId()).orElseThrow();
+        assertThat(approved.getStatus()).isEqualTo(KycStatus.APPROVED);
+        assertThat(approved.getCompletedAt()).isNotNull();
+        assertThat(kycCaseRepository.findById(started.getId()).orElseThrow().getStatus()).isEqualTo(KycStatus.STARTED);
+    }
+
+    @Test
+    @Transactional
+    void transitionKycCasesToNonReviewStatus() throws Exception {
+        KycCaseTransitionRequestDTO request = new KycCaseTransitionRequestDTO(List.of(1L), KycStatus.EXPIRED, "Too late");
+
+        restKycCaseMockMvc
+            .perform(post(ENTITY_API_URL + "/transitions").contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(request)))
+            .andExpect(status().isBadRequest());
+    }
+
     @Test
     @Transactional
     void getKycCasesByIdFiltering() throws Exception {
@@ -944,6 +1114,16 @@ class KycCaseResourceIT {
         assertDecrementedRepositoryCount(databaseSizeBeforeDelete);
     }
 
+    @Test
+    void streamKycCaseStatusChangesOfEveryCustomerRequiresAnAdmin() throws Exception {
+        restKycCaseMockMvc.perform(get(ENTITY_API_URL + "/stream")).andExpect(status().isForbidden());
+    }
+
+    @Test
+    void streamKycCaseStatusChangesOfACustomer() throws Exception {
+        restKycCaseMockMvc.perform(get(ENTITY_API_URL + "/stream").param("customerId", "1")).andExpect(request().asyncStarted());
+    }
+
     protected long getRepositoryCount() {
         return kycCaseRepository.count();
     }
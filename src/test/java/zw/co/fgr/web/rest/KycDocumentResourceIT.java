@@ -9,8 +9,13 @@ import static zw.co.fgr.web.rest.TestUtil.createUpdateProxyForBean;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.EntityManager;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.HexFormat;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicLong;
 import org.junit.jupiter.api.AfterEach;
@@ -18,13 +23,18 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 import zw.co.fgr.IntegrationTest;
+import zw.co.fgr.config.ApplicationProperties;
+import zw.co.fgr.domain.KycCase;
 import zw.co.fgr.domain.KycDocument;
 import zw.co.fgr.domain.enumeration.DocumentType;
+import zw.co.fgr.repository.KycCaseRepository;
 import zw.co.fgr.repository.KycDocumentRepository;
 
 /**
@@ -80,6 +90,12 @@ class KycDocumentResourceIT {
     @Autowired
     private KycDocumentRepository kycDocumentRepository;
 
+    @Autowired
+    private KycCaseRepository kycCaseRepository;
+
+    @Autowired
+    private ApplicationProperties applicationProperties;
+
     @Autowired
     private EntityManager em;
 
@@ -167,6 +183,122 @@ class KycDocumentResourceIT {
         insertedKycDocument = returnedKycDocument;
     }
 
+    @Test
+    void uploadKycDocument() throws Exception {
+        // Not transactional: the upload saves the kycDocument in its own transaction
+        KycCase kycCase = kycCaseRepository.saveAndFlush(KycCaseResourceIT.createEntity());
+        byte[] content = new byte[256 * 1024];
+        random.nextBytes(content);
+        MockMultipartFile file = new MockMultipartFile("file", "selfie.jpg", "image/jpeg", content);
+        String checksum = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+
+        KycDocument first = null;
+        KycDocument second = null;
+        try {
+            first = upload(file, kycCase);
+            second = upload(file, kycCase);
+
+            assertThat(first.getChecksum()).isEqualTo(checksum);
+            assertThat(first.getFileSize()).isEqualTo(content.length);
+            assertThat(first.getFileName()).isEqualTo("selfie.jpg");
+            assertThat(first.getMimeType()).isEqualTo("image/jpeg");
+            assertThat(first.getStoragePath()).endsWith(checksum);
+            assertThat(first.getExpiresAt()).isAfter(first.getUploadedAt());
+            assertThat(getPersistedKycDocument(first).getChecksum()).isEqualTo(checksum);
+            Path stored = Path.of(applicationProperties.getDocumentStorage().getRootDirectory()).resolve(first.getStoragePath());
+            assertThat(Files.readAllBytes(stored)).isEqualTo(content);
+
+            // Identical contents are stored once
+            assertThat(second.getId()).isNotEqualTo(first.getId());
+            assertThat(second.getStoragePath()).isEqualTo(first.getStoragePath());
+        } finally {
+            if (first != null) {
+                kycDocumentRepository.deleteById(first.getId());
+            }
+            if (second != null) {
+                kycDocumentRepository.deleteById(second.getId());
+            }
+            kycCaseRepository.delete(kycCase);
+        }
+    }
+
+    @Test
+    void getKycDocumentContent() throws Exception {
+        KycCase kycCase = kycCaseRepository.saveAndFlush(KycCaseResourceIT.createEntity());
+        byte[] content = "%PDF-1.7 proof of address".getBytes(StandardCharsets.US_ASCII);
+        KycDocument uploaded = null;
+        try {
+            uploaded = upload(new MockMultipartFile("file", "address.pdf", "application/pdf", content), kycCase);
+            String etag = "\"" + uploaded.getChecksum() + "\"";
+
+            restKycDocumentMockMvc
+                .perform(get(ENTITY_API_URL_ID + "/content", uploaded.getId()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/pdf"))
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(content().bytes(content));
+
+            restKycDocumentMockMvc
+                .perform(get(ENTITY_API_URL_ID + "/content", uploaded.getId()).header(HttpHeaders.RANGE, "bytes=0-7"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 0-7/" + content.length))
+                .andExpect(content().string("%PDF-1.7"));
+
+            restKycDocumentMockMvc
+                .perform(get(ENTITY_API_URL_ID + "/content", uploaded.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+        } finally {
+            if (uploaded != null) {
+                kycDocumentRepository.deleteById(uploaded.getId());
+            }
+            kycCaseRepository.delete(kycCase);
+        }
+    }
+
+    @Test
+    @Transactional
+    void getContentOfKycDocumentWithoutStoredContent() throws Exception {
+        insertedKycDocument = kycDocumentRepository.saveAndFlush(kycDocument.storagePath("../../../etc/passwd"));
+
+        restKycDocumentMockMvc.perform(get(ENTITY_API_URL_ID + "/content", kycDocument.getId())).andExpect(status().isNotFound());
+    }
+
+    @Test
+    void uploadKycDocumentWithUnknownKycCase() throws Exception {
+        long databaseSizeBeforeCreate = getRepositoryCount();
+        MockMultipartFile file = new MockMultipartFile("file", "id.pdf", "application/pdf", new byte[] { 1, 2, 3 });
+
+        restKycDocumentMockMvc
+            .perform(
+                multipart(ENTITY_API_URL + "/upload")
+                    .file(file)
+                    .param("documentType", DocumentType.NATIONAL_ID.name())
+                    .param("kycCaseId", String.valueOf(longCount.incrementAndGet()))
+            )
+            .andExpect(status().isBadRequest());
+
+        assertSameRepositoryCount(databaseSizeBeforeCreate);
+    }
+
+    private KycDocument upload(MockMultipartFile file, KycCase kycCase) throws Exception {
+        return om.readValue(
+            restKycDocumentMockMvc
+                .perform(
+                    multipart(ENTITY_API_URL + "/upload")
+                        .file(file)
+                        .param("documentType", DocumentType.SELFIE.name())
+                        .param("kycCaseId", kycCase.getId().toString())
+                )
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString(),
+            KycDocument.class
+        );
+    }
+
     @Test
     @Transactional
     void createKycDocumentWithExistingId() throws Exception {
@@ -0,0 +1,69 @@
+package zw.co.fgr.web.rest;
+
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+import zw.co.fgr.IntegrationTest;
+import zw.co.fgr.domain.KycCase;
+import zw.co.fgr.domain.enumeration.KycStatus;
+import zw.co.fgr.service.KycCaseService;
+import zw.co.fgr.service.funnel.KycFunnelAggregator;
+
+/**
+ * Integration tests for the {@link KycFunnelResource} REST controller.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+@WithMockUser
+class KycFunnelResourceIT {
+
+    private static final String ENTITY_API_URL = "/api/kyc-funnel";
+
+    private static final String STAGE = "$[?(@.channel == '%s' && @.status == '%s')]";
+
+    @Autowired
+    private KycCaseService kycCaseService;
+
+    @Autowired
+    private KycFunnelAggregator kycFunnelAggregator;
+
+    @Autowired
+    private MockMvc restKycFunnelMockMvc;
+
+    @Test
+    @Transactional
+    void getKycFunnel() throws Exception {
+        KycCase kycCase = kycCaseService.save(KycCaseResourceIT.createEntity().kycRef("FGR20261017-201").status(KycStatus.STARTED));
+        kycCaseService.partialUpdate(new KycCase().id(kycCase.getId()).status(KycStatus.SUBMITTED));
+        kycFunnelAggregator.aggregate();
+
+        restKycFunnelMockMvc
+            .perform(get(ENTITY_API_URL + "?from={from}", Instant.now().minusSeconds(3600).toString()))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath(STAGE + ".exited", kycCase.getChannel(), KycStatus.STARTED).value(hasItem(greaterThanOrEqualTo(1))))
+            .andExpect(jsonPath(STAGE + ".entered", kycCase.getChannel(), KycStatus.SUBMITTED).value(hasItem(greaterThanOrEqualTo(1))));
+    }
+
+    @Test
+    void getKycFunnelOfAnEmptyPeriod() throws Exception {
+        restKycFunnelMockMvc
+            .perform(get(ENTITY_API_URL + "?from={from}&to={from}", "2026-10-17T10:00:00Z", "2026-10-17T10:00:00Z"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void rebuildKycFunnelRequiresAnAdmin() throws Exception {
+        restKycFunnelMockMvc.perform(post(ENTITY_API_URL + "/rebuild")).andExpect(status().isForbidden());
+    }
+}
@@ -0,0 +1,470 @@
+package zw.co.fgr.web.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static zw.co.fgr.security.SecurityUtils.AUTHORITIES_CLAIM;
+import static zw.co.fgr.security.SecurityUtils.JWT_ALGORITHM;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.RestClient;
+import zw.co.fgr.FgrKnowYourCustomerApp;
+import zw.co.fgr.config.AsyncSyncConfiguration;
+import zw.co.fgr.config.EmbeddedSQL;
+import zw.co.fgr.config.JacksonConfiguration;
+import zw.co.fgr.domain.Customer;
+import zw.co.fgr.domain.KycCase;
+import zw.co.fgr.domain.KycConsent;
+import zw.co.fgr.domain.KycDocument;
+import zw.co.fgr.domain.enumeration.ChannelType;
+import zw.co.fgr.domain.enumeration.CustomerType;
+import zw.co.fgr.domain.enumeration.DocumentType;
+import zw.co.fgr.domain.enumeration.KycStatus;
+import zw.co.fgr.repository.CustomerKycStatusRepository;
+import zw.co.fgr.repository.CustomerRepository;
+import zw.co.fgr.repository.KycCaseRepository;
+import zw.co.fgr.repository.KycConsentRepository;
+import zw.co.fgr.repository.KycDocumentRepository;
+import zw.co.fgr.security.AuthoritiesConstants;
+
+/**
+ * Load test driving the {@link CustomerResource}, {@link KycConsentResource}, {@link KycCaseResource} and
+ * {@link KycDocumentResource} REST controllers over HTTP with concurrent WhatsApp and USSD onboarding sessions.
+ * <p>
+ * Disabled unless the {@code loadtest} system property is {@code true}; run it with {@code ./mvnw -Ploadtest,-webapp verify}.
+ * The load can be tuned with the {@code loadtest.sessions}, {@code loadtest.warmup-sessions}, {@code loadtest.concurrency},
+ * {@code loadtest.ussd-percent}, {@code loadtest.document-size} and {@code loadtest.seed} system properties.
+ * <p>
+ * Reports session throughput, p50/p99 latency per step, Hikari connection acquisition and Hibernate statement counts.
+ */
+@SpringBootTest(
+    classes = { FgrKnowYourCustomerApp.class, JacksonConfiguration.class, AsyncSyncConfiguration.class },
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT
+)
+@EmbeddedSQL
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+class KycOnboardingLoadIT {
+
+    private static final Logger LOG = LoggerFactory.getLogger(KycOnboardingLoadIT.class);
+
+    private static final int SESSIONS = Integer.getInteger("loadtest.sessions", 500);
+
+    private static final int WARMUP_SESSIONS = Integer.getInteger("loadtest.warmup-sessions", 50);
+
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 16);
+
+    private static final int USSD_PERCENT = Integer.getInteger("loadtest.ussd-percent", 30);
+
+    private static final int DOCUMENT_SIZE = Integer.getInteger("loadtest.document-size", 256 * 1024);
+
+    private static final long SEED = Long.getLong("loadtest.seed", 42L);
+
+    private static final MediaType MERGE_PATCH_JSON = MediaType.valueOf("application/merge-patch+json");
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private RestClient.Builder restClientBuilder;
+
+    @Autowired
+    private JwtEncoder jwtEncoder;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private CustomerKycStatusRepository customerKycStatusRepository;
+
+    @Autowired
+    private KycConsentRepository kycConsentRepository;
+
+    @Autowired
+    private KycCaseRepository kycCaseRepository;
+
+    @Autowired
+    private KycDocumentRepository kycDocumentRepository;
+
+    private RestClient restClient;
+
+    private Statistics statistics;
+
+    private boolean statisticsEnabled;
+
+    private final SimpleMeterRegistry latencies = new SimpleMeterRegistry();
+
+    private final AtomicInteger failures = new AtomicInteger();
+
+    private final Queue<Long> customerIds = new ConcurrentLinkedQueue<>();
+
+    private final Queue<Long> kycConsentIds = new ConcurrentLinkedQueue<>();
+
+    private final Queue<Long> kycCaseIds = new ConcurrentLinkedQueue<>();
+
+    private final Queue<Long> kycDocumentIds = new ConcurrentLinkedQueue<>();
+
+    private byte[] documentContent;
+
+    private long runId;
+
+    @BeforeEach
+    void setUp() {
+        restClient = restClientBuilder
+            .baseUrl("http://localhost:" + port)
+            .defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + createToken())
+            .build();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statisticsEnabled = statistics.isStatisticsEnabled();
+        statistics.setStatisticsEnabled(true);
+        documentContent = new byte[DOCUMENT_SIZE];
+        new SplittableRandom(SEED).nextBytes(documentContent);
+        // References are unique, so each run uses its own range to stay clear of rows left behind by aborted runs
+        runId = Instant.now().getEpochSecond() % 100;
+    }
+
+    @AfterEach
+    void cleanup() {
+        statistics.setStatisticsEnabled(statisticsEnabled);
+        kycDocumentRepository.deleteAllByIdInBatch(new ArrayList<>(kycDocumentIds));
+        kycCaseRepository.deleteAllByIdInBatch(new ArrayList<>(kycCaseIds));
+        kycConsentRepository.deleteAllByIdInBatch(new ArrayList<>(kycConsentIds));
+        // Batch deletes bypass KycCaseService, so the status snapshots have to go before their customers
+        customerKycStatusRepository.deleteAllByIdInBatch(new ArrayList<>(customerIds));
+        customerRepository.deleteAllByIdInBatch(new ArrayList<>(customerIds));
+    }
+
+    @Test
+    void onboardingSessions() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENCY);
+        try {
+            runSessions(executor, 0, WARMUP_SESSIONS);
+            latencies.clear();
+            statistics.clear();
+            AcquireSnapshot acquireBefore = AcquireSnapshot.of(meterRegistry);
+
+            long start = System.nanoTime();
+            runSessions(executor, WARMUP_SESSIONS, SESSIONS);
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+            report(elapsed, acquireBefore, AcquireSnapshot.of(meterRegistry));
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(failures).as("failed onboarding sessions").hasValue(0);
+    }
+
+    private void runSessions(ExecutorService executor, int first, int count) throws Exception {
+        List<Future<?>> sessions = new ArrayList<>(count);
+        for (int session = first; session < first + count; session++) {
+            int number = session;
+            sessions.add(executor.submit(() -> runSession(number)));
+        }
+        for (Future<?> session : sessions) {
+            session.get(10, TimeUnit.MINUTES);
+        }
+    }
+
+    private void runSession(int session) {
+        SplittableRandom random = new SplittableRandom(SEED + session);
+        ChannelType channel = random.nextInt(100) < USSD_PERCENT ? ChannelType.USSD : ChannelType.WHATSAPP;
+        long start = System.nanoTime();
+        try {
+            onboard(session, channel);
+            sessionTimer(channel).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        } catch (RuntimeException e) {
+            failures.incrementAndGet();
+            LOG.warn("Onboarding session {} over {} failed: {}", session, channel, e.getMessage());
+        }
+    }
+
+    /**
+     * One onboarding session as the channel gateways drive it: register the customer, record the consent, open the case,
+     * collect documents where the channel supports it, move the case on and read it back to answer the customer.
+     */
+    private void onboard(int session, ChannelType channel) {
+        Instant now = Instant.now();
+        Customer customer = step("createCustomer", () ->
+            restClient
+                .post()
+                .uri("/api/customers")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(
+                    new Customer()
+                        .customerRef(String.format("FGR-CUST-%02d%06d", runId, session))
+                        .customerType(CustomerType.INDIVIDUAL)
+                        .fullName("Load Test " + session)
+                        .dateOfBirth(LocalDate.of(1990, 1, 1))
+                        .idNumber("63-" + session + "A00")
+                        .phoneNumber("+26377" + String.format("%07d", session))
+                        .createdAt(now)
+                )
+                .retrieve()
+                .body(Customer.class)
+        );
+        customerIds.add(customer.getId());
+
+        KycConsent consent = step("createConsent", () ->
+            restClient
+                .post()
+                .uri("/api/kyc-consents")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(
+                    new KycConsent()
+                        .consentText("I consent to FGR processing my personal data for KYC.")
+                        .consented(true)
+                        .consentedAt(now)
+                        .channel(channel)
+                        .consentVersion("v1")
+                )
+                .retrieve()
+                .body(KycConsent.class)
+        );
+        kycConsentIds.add(consent.getId());
+
+        KycCase kycCase = step("createKycCase", () ->
+            restClient
+                .post()
+                .uri("/api/kyc-cases")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(
+                    new KycCase()
+                        .kycRef(String.format("FGR%02d%06d-%03d", runId, session / 1000, session % 1000))
+                        .status(KycStatus.STARTED)
+                        .channel(channel)
+                        .startedAt(now)
+                        .lastActivityAt(now)
+                        .expiresAt(now.plus(30, ChronoUnit.DAYS))
+                        .customer(customer)
+                        .consent(consent)
+                )
+                .retrieve()
+                .body(KycCase.class)
+        );
+        kycCaseIds.add(kycCase.getId());
+
+        KycStatus nextStatus = KycStatus.AWAITING_DOCUMENTS;
+        if (channel == ChannelType.WHATSAPP) {
+            upload(kycCase, DocumentType.NATIONAL_ID, session);
+            upload(kycCase, DocumentType.SELFIE, session);
+            nextStatus = KycStatus.SUBMITTED;
+        }
+
+        Map<String, Object> patch = Map.of("id", kycCase.getId(), "status", nextStatus, "lastActivityAt", Instant.now());
+        step("updateKycCaseStatus", () ->
+            restClient
+                .patch()
+                .uri("/api/kyc-cases/{id}", kycCase.getId())
+                .contentType(MERGE_PATCH_JSON)
+                .body(patch)
+                .retrieve()
+                .toBodilessEntity()
+        );
+
+        step("getKycCaseFull", () -> restClient.get().uri("/api/kyc-cases/{id}/full", kycCase.getId()).retrieve().toBodilessEntity());
+    }
+
+    private void upload(KycCase kycCase, DocumentType documentType, int session) {
+        // Contents are made unique per document so that the storage cannot deduplicate them
+        byte[] content = documentContent.clone();
+        for (int i = 0; i < Integer.BYTES; i++) {
+            content[i] = (byte) (session >>> (8 * i));
+        }
+        content[Integer.BYTES] = (byte) documentType.ordinal();
+
+        MultiValueMap<String, Object> parts = new LinkedMultiValueMap<>();
+        parts.add(
+            "file",
+            new ByteArrayResource(content) {
+                @Override
+                public String getFilename() {
+                    return documentType.name() + ".jpg";
+                }
+            }
+        );
+        parts.add("documentType", documentType.name());
+        parts.add("kycCaseId", kycCase.getId().toString());
+
+        KycDocument kycDocument = step("uploadKycDocument", () ->
+            restClient
+                .post()
+                .uri("/api/kyc-documents/upload")
+                .contentType(MediaType.MULTIPART_FORM_DATA)
+                .body(parts)
+                .retrieve()
+                .body(KycDocument.class)
+        );
+        kycDocumentIds.add(kycDocument.getId());
+    }
+
+    private <T> T step(String name, Supplier<T> request) {
+        Timer.Sample sample = Timer.start();
+        T result = request.get();
+        sample.stop(timer("loadtest.step", "step", name));
+        return result;
+    }
+
+    private Timer sessionTimer(ChannelType channel) {
+        return timer("loadtest.session", "channel", channel.name());
+    }
+
+    private Timer timer(String name, String tag, String value) {
+        return Timer.builder(name)
+            .tag(tag, value)
+            .publishPercentiles(0.5, 0.99)
+            // keep every sample of the run instead of the default two minute window
+            .distributionStatisticExpiry(Duration.ofDays(1))
+            .distributionStatisticBufferLength(1)
+            .register(latencies);
+    }
+
+    private void report(Duration elapsed, AcquireSnapshot acquireBefore, AcquireSnapshot acquireAfter) {
+        long completed = latencies.find("loadtest.session").timers().stream().mapToLong(Timer::count).sum();
+        double seconds = elapsed.toNanos() / 1e9;
+        long requests = latencies.find("loadtest.step").timers().stream().mapToLong(Timer::count).sum();
+
+        StringBuilder report = new StringBuilder("\n=== KYC onboarding load test ===\n");
+        report.append(
+            String.format(
+                "sessions: %d completed, %d failed, concurrency %d, ussd %d%%, document size %d bytes%n",
+                completed,
+                failures.get(),
+                CONCURRENCY,
+                USSD_PERCENT,
+                DOCUMENT_SIZE
+            )
+        );
+        report.append(
+            String.format("throughput: %.1f sessions/s, %.1f requests/s over %.1f s%n", completed / seconds, requests / seconds, seconds)
+        );
+
+        report.append(String.format("%-28s %8s %10s %10s %10s%n", "latency (ms)", "count", "p50", "p99", "max"));
+        latencies
+            .find("loadtest.session")
+            .timers()
+            .forEach(timer -> appendLatency(report, "session " + timer.getId().getTag("channel"), timer));
+        latencies.find("loadtest.step").timers().forEach(timer -> appendLatency(report, timer.getId().getTag("step"), timer));
+
+        long acquisitions = acquireAfter.count() - acquireBefore.count();
+        report.append(
+            String.format(
+                "hikari: pool size %s, %d acquisitions, mean wait %.3f ms, max wait %.3f ms, %d timeouts%n",
+                maximumPoolSize(),
+                acquisitions,
+                acquisitions == 0 ? 0.0 : (acquireAfter.totalMillis() - acquireBefore.totalMillis()) / acquisitions,
+                acquireAfter.maxMillis(),
+                (long) (acquireAfter.timeouts() - acquireBefore.timeouts())
+            )
+        );
+        report.append(
+            String.format(
+                "hibernate: %d statements (%.1f per session), %d entity loads, %d entity inserts, %d second-level cache hits / %d misses%n",
+                statistics.getPrepareStatementCount(),
+                completed == 0 ? 0.0 : (double) statistics.getPrepareStatementCount() / completed,
+                statistics.getEntityLoadCount(),
+                statistics.getEntityInsertCount(),
+                statistics.getSecondLevelCacheHitCount(),
+                statistics.getSecondLevelCacheMissCount()
+            )
+        );
+        LOG.info(report.toString());
+    }
+
+    private static void appendLatency(StringBuilder report, String name, Timer timer) {
+        double p50 = 0;
+        double p99 = 0;
+        for (ValueAtPercentile percentile : timer.takeSnapshot().percentileValues()) {
+            if (percentile.percentile() == 0.5) {
+                p50 = percentile.value(TimeUnit.MILLISECONDS);
+            } else if (percentile.percentile() == 0.99) {
+                p99 = percentile.value(TimeUnit.MILLISECONDS);
+            }
+        }
+        report.append(String.format("%-28s %8d %10.2f %10.2f %10.2f%n", name, timer.count(), p50, p99, timer.max(TimeUnit.MILLISECONDS)));
+    }
+
+    private String maximumPoolSize() {
+        try {
+            return String.valueOf(dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize());
+        } catch (SQLException e) {
+            return "n/a";
+        }
+    }
+
+    private String createToken() {
+        Instant now = Instant.now();
+        JwtClaimsSet claims = JwtClaimsSet.builder()
+            .issuedAt(now)
+            .expiresAt(now.plus(1, ChronoUnit.DAYS))
+            .subject("loadtest")
+            .claim(AUTHORITIES_CLAIM, List.of(AuthoritiesConstants.USER))
+            .build();
+        return jwtEncoder.encode(JwtEncoderParameters.from(JwsHeader.with(JWT_ALGORITHM).build(), claims)).getTokenValue();
+    }
+
+    /**
+     * Cumulative Hikari connection acquisition metrics, taken around the measured part of the run.
+     */
+    private record AcquireSnapshot(long count, double totalMillis, double maxMillis, double timeouts) {
+        static AcquireSnapshot of(MeterRegistry registry) {
+            Timer acquire = registry.find("hikaricp.connections.acquire").timer();
+            Counter timeouts = registry.find("hikaricp.connections.timeout").counter();
+            return new AcquireSnapshot(
+                acquire == null ? 0 : acquire.count(),
+                acquire == null ? 0 : acquire.totalTime(TimeUnit.MILLISECONDS),
+                acquire == null ? 0 : acquire.max(TimeUnit.MILLISECONDS),
+                timeouts == null ? 0 : timeouts.count()
+            );
+        }
+    }
+}
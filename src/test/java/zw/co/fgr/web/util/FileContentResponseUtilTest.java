@@ -0,0 +1,116 @@
+package zw.co.fgr.web.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class FileContentResponseUtilTest {
+
+    private static final String CONTENT = "0123456789abcdefghij";
+
+    private static final String ETAG = "\"abc\"";
+
+    @TempDir
+    private Path directory;
+
+    private Path file;
+
+    private MockHttpServletRequest request;
+
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        file = Files.writeString(directory.resolve("content.txt"), CONTENT, StandardCharsets.US_ASCII);
+        request = new MockHttpServletRequest("GET", "/content");
+        response = new MockHttpServletResponse();
+    }
+
+    @Test
+    void writesWholeFile() throws Exception {
+        FileContentResponseUtil.writeContent(request, response, file, ETAG);
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.getContentLengthLong()).isEqualTo(CONTENT.length());
+        assertThat(response.getHeader(HttpHeaders.ACCEPT_RANGES)).isEqualTo("bytes");
+        assertThat(response.getContentAsString()).isEqualTo(CONTENT);
+    }
+
+    @Test
+    void writesRequestedRange() throws Exception {
+        request.addHeader(HttpHeaders.RANGE, "bytes=5-9");
+
+        FileContentResponseUtil.writeContent(request, response, file, ETAG);
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.PARTIAL_CONTENT.value());
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 5-9/20");
+        assertThat(response.getContentLengthLong()).isEqualTo(5);
+        assertThat(response.getContentAsString()).isEqualTo("56789");
+    }
+
+    @Test
+    void writesSuffixRange() throws Exception {
+        request.addHeader(HttpHeaders.RANGE, "bytes=-3");
+
+        FileContentResponseUtil.writeContent(request, response, file, ETAG);
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.PARTIAL_CONTENT.value());
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 17-19/20");
+        assertThat(response.getContentAsString()).isEqualTo("hij");
+    }
+
+    @Test
+    void rejectsUnsatisfiableRange() throws Exception {
+        request.addHeader(HttpHeaders.RANGE, "bytes=20-");
+
+        FileContentResponseUtil.writeContent(request, response, file, ETAG);
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */20");
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void ignoresRangeWhenIfRangeDoesNotMatch() throws Exception {
+        request.addHeader(HttpHeaders.RANGE, "bytes=5-9");
+        request.addHeader(HttpHeaders.IF_RANGE, "\"other\"");
+
+        FileContentResponseUtil.writeContent(request, response, file, ETAG);
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.getContentAsString()).isEqualTo(CONTENT);
+    }
+
+    @Test
+    void ignoresMultipleRanges() throws Exception {
+        request.addHeader(HttpHeaders.RANGE, "bytes=0-1,5-6");
+
+        FileContentResponseUtil.writeContent(request, response, file, ETAG);
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.getContentAsString()).isEqualTo(CONTENT);
+    }
+
+    @Test
+    void handsFileOverToContainerWhenSendfileIsSupported() throws Exception {
+        request.setAttribute(FileContentResponseUtil.SENDFILE_SUPPORTED_ATTRIBUTE, Boolean.TRUE);
+        request.addHeader(HttpHeaders.RANGE, "bytes=5-9");
+
+        FileContentResponseUtil.writeContent(request, response, file, ETAG);
+
+        assertThat(request.getAttribute(FileContentResponseUtil.SENDFILE_FILENAME_ATTRIBUTE)).isEqualTo(file.toAbsolutePath().toString());
+        assertThat(request.getAttribute(FileContentResponseUtil.SENDFILE_START_ATTRIBUTE)).isEqualTo(5L);
+        assertThat(request.getAttribute(FileContentResponseUtil.SENDFILE_END_ATTRIBUTE)).isEqualTo(10L);
+        assertThat(response.getContentLengthLong()).isEqualTo(5);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+}